@@ -37,6 +37,46 @@ public class Environment {
     return getVariable("ECS_TLR_FEATURE_ENABLED", false);
   }
 
+  public static int getRequestQueueCacheTtlSeconds() {
+    return getVariable("REQUEST_QUEUE_CACHE_TTL_SECONDS", 0);
+  }
+
+  public static int getRequestQueueCacheCapacity() {
+    return getVariable("REQUEST_QUEUE_CACHE_CAPACITY", 1000);
+  }
+
+  public static int getAllowedServicePointsCacheTtlSeconds() {
+    return getVariable("ALLOWED_SERVICE_POINTS_CACHE_TTL_SECONDS", 0);
+  }
+
+  public static int getItemsInTransitReportCacheTtlSeconds() {
+    return getVariable("ITEMS_IN_TRANSIT_REPORT_CACHE_TTL_SECONDS", 0);
+  }
+
+  public static int getPagePrefetchDepth() {
+    return getVariable("PAGE_PREFETCH_DEPTH", 1);
+  }
+
+  public static int getBackgroundJobMaxConcurrency() {
+    return getVariable("BACKGROUND_JOB_MAX_CONCURRENCY", 20);
+  }
+
+  public static int getBackgroundJobMaxActionsPerSecond() {
+    return getVariable("BACKGROUND_JOB_MAX_ACTIONS_PER_SECOND", 0);
+  }
+
+  public static int getScheduledJobLeaseDurationSeconds() {
+    return getVariable("SCHEDULED_JOB_LEASE_DURATION_SECONDS", 120);
+  }
+
+  public static int getScheduledNoticesRunTimeBudgetSeconds() {
+    return getVariable("SCHEDULED_NOTICES_RUN_TIME_BUDGET_SECONDS", 0);
+  }
+
+  public static int getScheduledAnonymizationRunTimeBudgetSeconds() {
+    return getVariable("SCHEDULED_ANONYMIZATION_RUN_TIME_BUDGET_SECONDS", 0);
+  }
+
   private static int getVariable(String key, int defaultValue) {
     final var variable = getVar(key);
 
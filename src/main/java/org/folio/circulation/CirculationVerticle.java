@@ -54,6 +54,8 @@ import org.folio.circulation.resources.foruseatlocation.HoldByBarcodeResource;
 import org.folio.circulation.resources.foruseatlocation.PickupByBarcodeResource;
 import org.folio.circulation.resources.handlers.FeeFineBalanceChangedHandlerResource;
 import org.folio.circulation.resources.handlers.LoanRelatedFeeFineClosedHandlerResource;
+import org.folio.circulation.resources.renewal.RenewAllDryRunResource;
+import org.folio.circulation.resources.renewal.RenewAllResource;
 import org.folio.circulation.resources.renewal.RenewByBarcodeResource;
 import org.folio.circulation.resources.renewal.RenewByIdResource;
 import org.folio.circulation.support.logging.LogHelper;
@@ -103,6 +105,10 @@ public class CirculationVerticle extends AbstractVerticle {
 
     new RenewByBarcodeResource(client).register(router);
     new RenewByIdResource(client).register(router);
+    var renewAllResource = new RenewAllResource(client);
+    renewAllResource.register(router);
+    new RenewAllDryRunResource("/circulation/renew-all-dry-run", client, renewAllResource)
+      .register(router);
     new HoldByBarcodeResource(client).register(router);
     new PickupByBarcodeResource(client).register(router);
     new AllowedServicePointsResource(client).register(router);
@@ -0,0 +1,191 @@
+package org.folio.circulation.domain;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static lombok.AccessLevel.PRIVATE;
+import static org.apache.commons.lang3.StringUtils.removeStart;
+import static org.folio.circulation.domain.CirculationSetting.ID_FIELD;
+import static org.folio.circulation.domain.CirculationSetting.NAME_FIELD;
+import static org.folio.circulation.domain.CirculationSetting.VALUE_FIELD;
+import static org.folio.circulation.support.json.JsonPropertyFetcher.getArrayProperty;
+import static org.folio.circulation.support.json.JsonPropertyFetcher.getDateTimeProperty;
+import static org.folio.circulation.support.json.JsonPropertyFetcher.getIntegerProperty;
+import static org.folio.circulation.support.json.JsonPropertyFetcher.getObjectProperty;
+import static org.folio.circulation.support.json.JsonPropertyFetcher.getProperty;
+import static org.folio.circulation.support.json.JsonPropertyWriter.write;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Progress of a scheduled job which processes records in pages sorted by id. A pass over
+ * the records goes on over as many runs of the job as needed, each run continuing after
+ * the last processed id. The ids of records whose page failed are kept so that they are
+ * processed again by the next run.
+ *
+ * The checkpoint is stored as a circulation setting with an id derived from the name
+ * of the job, so that there is a single checkpoint per tenant and job
+ */
+@Getter
+@ToString
+@AllArgsConstructor(access = PRIVATE)
+public class JobCheckpoint {
+  // limits the size of the stored checkpoint when many records keep failing
+  public static final int MAX_FAILED_RECORD_IDS = 1000;
+
+  private static final String NAME_PREFIX = "jobCheckpoint.";
+  private static final String JOB_NAME_FIELD = "jobName";
+  private static final String STATUS_FIELD = "status";
+  private static final String LAST_PROCESSED_ID_FIELD = "lastProcessedId";
+  private static final String STARTED_DATE_FIELD = "startedDate";
+  private static final String UPDATED_DATE_FIELD = "updatedDate";
+  private static final String PROCESSED_COUNT_FIELD = "processedCount";
+  private static final String FAILED_COUNT_FIELD = "failedCount";
+  private static final String FAILED_RECORD_IDS_FIELD = "failedRecordIds";
+  private static final String LAST_ERROR_FIELD = "lastError";
+
+  public enum Status {
+    IN_PROGRESS,
+    COMPLETED
+  }
+
+  private final String id;
+  private final String jobName;
+  private final Status status;
+  private final String lastProcessedId;
+  private final ZonedDateTime startedDate;
+  private final ZonedDateTime updatedDate;
+  private final int processedCount;
+  private final int failedCount;
+  private final List<String> failedRecordIds;
+  private final String lastError;
+
+  /**
+   * Starts the first pass of the job
+   */
+  public static JobCheckpoint start(String jobName, ZonedDateTime now) {
+    return new JobCheckpoint(idOf(jobName), jobName, Status.IN_PROGRESS, null, now, now, 0, 0,
+      List.of(), null);
+  }
+
+  public static JobCheckpoint from(JsonObject representation) {
+    final JsonObject value = getObjectProperty(representation, VALUE_FIELD);
+    final JsonArray failedIds = getArrayProperty(value, FAILED_RECORD_IDS_FIELD);
+    final String status = getProperty(value, STATUS_FIELD);
+
+    return new JobCheckpoint(getProperty(representation, ID_FIELD),
+      removeStart(getProperty(representation, NAME_FIELD), NAME_PREFIX),
+      status == null ? Status.IN_PROGRESS : Status.valueOf(status),
+      getProperty(value, LAST_PROCESSED_ID_FIELD),
+      getDateTimeProperty(value, STARTED_DATE_FIELD),
+      getDateTimeProperty(value, UPDATED_DATE_FIELD),
+      getIntegerProperty(value, PROCESSED_COUNT_FIELD, 0),
+      getIntegerProperty(value, FAILED_COUNT_FIELD, 0),
+      failedIds.stream().map(String.class::cast).toList(),
+      getProperty(value, LAST_ERROR_FIELD));
+  }
+
+  public static String idOf(String jobName) {
+    return UUID.nameUUIDFromBytes((NAME_PREFIX + jobName).getBytes(UTF_8)).toString();
+  }
+
+  public boolean isCompleted() {
+    return status == Status.COMPLETED;
+  }
+
+  /**
+   * Starts a new pass from the first record, records which failed during the previous
+   * pass are still to be processed again
+   */
+  public JobCheckpoint startNextPass(ZonedDateTime now) {
+    return new JobCheckpoint(id, jobName, Status.IN_PROGRESS, null, now, now, 0, 0,
+      failedRecordIds, null);
+  }
+
+  public JobCheckpoint pageProcessed(String lastIdOfPage, int recordCount,
+    ZonedDateTime now) {
+
+    return new JobCheckpoint(id, jobName, status, lastIdOfPage, startedDate, now,
+      processedCount + recordCount, failedCount, failedRecordIds, lastError);
+  }
+
+  /**
+   * The page is not processed again by this pass, its records are instead added to
+   * the failed records
+   */
+  public JobCheckpoint pageFailed(String lastIdOfPage, Collection<String> recordIds,
+    String error, ZonedDateTime now) {
+
+    final Set<String> failedIds = new LinkedHashSet<>(failedRecordIds);
+    recordIds.stream()
+      .limit(Math.max(MAX_FAILED_RECORD_IDS - failedIds.size(), 0))
+      .forEach(failedIds::add);
+
+    return new JobCheckpoint(id, jobName, status, lastIdOfPage, startedDate, now,
+      processedCount, failedCount + recordIds.size(), List.copyOf(failedIds), error);
+  }
+
+  /**
+   * Failed records have been processed again, records which no longer need processing
+   * are also removed from the failed records
+   *
+   * @param processedRecordCount number of the records which still needed processing
+   */
+  public JobCheckpoint failedRecordsRetried(Collection<String> recordIds,
+    int processedRecordCount, ZonedDateTime now) {
+
+    final List<String> remainingIds = new ArrayList<>(failedRecordIds);
+    remainingIds.removeAll(recordIds);
+
+    return new JobCheckpoint(id, jobName, status, lastProcessedId, startedDate, now,
+      processedCount + processedRecordCount, failedCount, List.copyOf(remainingIds),
+      lastError);
+  }
+
+  public JobCheckpoint failed(String error, ZonedDateTime now) {
+    return new JobCheckpoint(id, jobName, status, lastProcessedId, startedDate, now,
+      processedCount, failedCount, failedRecordIds, error);
+  }
+
+  public JobCheckpoint completed(ZonedDateTime now) {
+    return new JobCheckpoint(id, jobName, Status.COMPLETED, lastProcessedId, startedDate, now,
+      processedCount, failedCount, failedRecordIds, lastError);
+  }
+
+  /**
+   * @return progress of the job as presented by its status endpoint
+   */
+  public JsonObject asStatusJson() {
+    final JsonObject value = new JsonObject();
+    write(value, JOB_NAME_FIELD, jobName);
+    write(value, STATUS_FIELD, status.name());
+    write(value, LAST_PROCESSED_ID_FIELD, lastProcessedId);
+    write(value, STARTED_DATE_FIELD, startedDate);
+    write(value, UPDATED_DATE_FIELD, updatedDate);
+    write(value, PROCESSED_COUNT_FIELD, processedCount);
+    write(value, FAILED_COUNT_FIELD, failedCount);
+    write(value, FAILED_RECORD_IDS_FIELD, failedRecordIds);
+    write(value, LAST_ERROR_FIELD, lastError);
+
+    return value;
+  }
+
+  public JsonObject asJson() {
+    final JsonObject representation = new JsonObject();
+    write(representation, ID_FIELD, id);
+    write(representation, NAME_FIELD, NAME_PREFIX + jobName);
+    write(representation, VALUE_FIELD, asStatusJson());
+
+    return representation;
+  }
+}
@@ -13,10 +13,12 @@ import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 
@@ -29,6 +31,7 @@ public class RequestQueue {
 
   private List<Request> requests;
   private final List<UpdatedRequestPair> updatedRequests;
+  private final Set<String> requestsWithoutRelatedRecords = new HashSet<>();
 
   public static RequestQueue requestQueueOf(Request... requests) {
     return new RequestQueue(asList(requests));
@@ -46,10 +49,29 @@ public class RequestQueue {
       ));
   }
 
+  /**
+   * Creates a queue of requests fetched without their related records (items, users,
+   * loans etc.), these are fetched only for the requests which are acted upon
+   */
+  public static RequestQueue withoutRelatedRecords(Collection<Request> requests) {
+    final RequestQueue queue = new RequestQueue(requests);
+
+    requests.stream()
+      .map(Request::getId)
+      .filter(Objects::nonNull)
+      .forEach(queue.requestsWithoutRelatedRecords::add);
+
+    return queue;
+  }
+
   public RequestQueue filter(Predicate<Request> predicate) {
-    return new RequestQueue(requests.stream()
+    final RequestQueue filtered = new RequestQueue(requests.stream()
       .filter(predicate)
       .toList());
+
+    filtered.requestsWithoutRelatedRecords.addAll(requestsWithoutRelatedRecords);
+
+    return filtered;
   }
 
   Request getHighestPriorityFulfillableRequest() {
@@ -184,6 +206,15 @@ public class RequestQueue {
       .collect(toList());
   }
 
+  public boolean hasRelatedRecords(Request request) {
+    return !requestsWithoutRelatedRecords.contains(request.getId());
+  }
+
+  public void replaceRequestWithRelatedRecords(Request requestWithRelatedRecords) {
+    replaceRequest(requestWithRelatedRecords);
+    requestsWithoutRelatedRecords.remove(requestWithRelatedRecords.getId());
+  }
+
   @Override
   public String toString() {
     return format("RequestQueue(%s)",
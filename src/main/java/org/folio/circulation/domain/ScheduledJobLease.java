@@ -0,0 +1,98 @@
+package org.folio.circulation.domain;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static lombok.AccessLevel.PRIVATE;
+import static org.apache.commons.lang3.StringUtils.removeStart;
+import static org.folio.circulation.domain.CirculationSetting.ID_FIELD;
+import static org.folio.circulation.domain.CirculationSetting.NAME_FIELD;
+import static org.folio.circulation.domain.CirculationSetting.VALUE_FIELD;
+import static org.folio.circulation.support.json.JsonPropertyFetcher.getDateTimeProperty;
+import static org.folio.circulation.support.json.JsonPropertyFetcher.getIntegerProperty;
+import static org.folio.circulation.support.json.JsonPropertyFetcher.getObjectProperty;
+import static org.folio.circulation.support.json.JsonPropertyFetcher.getProperty;
+import static org.folio.circulation.support.json.JsonPropertyWriter.write;
+import static org.folio.circulation.support.utils.DateTimeUtil.isAfterMillis;
+
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+import io.vertx.core.json.JsonObject;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Lease held by a run of a scheduled job, only the owner of an unexpired lease may run
+ * the job. The lease is stored as a circulation setting with an id derived from the name
+ * of the job, so that there is a single lease per tenant and job
+ *
+ * The version of the stored setting is sent back when the lease is updated, so that
+ * storage refuses the update when the lease has been changed since it was read
+ */
+@Getter
+@ToString
+@AllArgsConstructor(access = PRIVATE)
+public class ScheduledJobLease {
+  private static final String NAME_PREFIX = "scheduledJobLease.";
+  private static final String OWNER_ID_FIELD = "ownerId";
+  private static final String EXPIRES_AT_FIELD = "expiresAt";
+  private static final String VERSION_FIELD = "_version";
+
+  private final String id;
+  private final String jobName;
+  private final String ownerId;
+  private final ZonedDateTime expiresAt;
+  private final Integer version;
+
+  public static ScheduledJobLease create(String jobName, String ownerId,
+    ZonedDateTime expiresAt) {
+
+    return new ScheduledJobLease(idOf(jobName), jobName, ownerId, expiresAt, null);
+  }
+
+  public static ScheduledJobLease from(JsonObject representation) {
+    final JsonObject value = getObjectProperty(representation, VALUE_FIELD);
+
+    return new ScheduledJobLease(getProperty(representation, ID_FIELD),
+      removeStart(getProperty(representation, NAME_FIELD), NAME_PREFIX),
+      getProperty(value, OWNER_ID_FIELD), getDateTimeProperty(value, EXPIRES_AT_FIELD),
+      getIntegerProperty(representation, VERSION_FIELD, null));
+  }
+
+  public static String idOf(String jobName) {
+    return UUID.nameUUIDFromBytes((NAME_PREFIX + jobName).getBytes(UTF_8)).toString();
+  }
+
+  public ScheduledJobLease extendUntil(ZonedDateTime newExpiresAt) {
+    return new ScheduledJobLease(id, jobName, ownerId, newExpiresAt, version);
+  }
+
+  /**
+   * @return the lease held by another owner, based upon the version of this lease
+   */
+  public ScheduledJobLease takeOver(String newOwnerId, ZonedDateTime newExpiresAt) {
+    return new ScheduledJobLease(id, jobName, newOwnerId, newExpiresAt, version);
+  }
+
+  public boolean isOwnedBy(String possibleOwnerId) {
+    return ownerId != null && ownerId.equals(possibleOwnerId);
+  }
+
+  public boolean hasExpired(ZonedDateTime now) {
+    return expiresAt == null || !isAfterMillis(expiresAt, now);
+  }
+
+  public JsonObject asJson() {
+    final JsonObject value = new JsonObject();
+    write(value, OWNER_ID_FIELD, ownerId);
+    write(value, EXPIRES_AT_FIELD, expiresAt);
+
+    final JsonObject representation = new JsonObject();
+    write(representation, ID_FIELD, id);
+    write(representation, NAME_FIELD, NAME_PREFIX + jobName);
+    write(representation, VALUE_FIELD, value);
+    write(representation, VERSION_FIELD, version);
+
+    return representation;
+  }
+}
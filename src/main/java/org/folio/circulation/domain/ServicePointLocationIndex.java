@@ -0,0 +1,96 @@
+package org.folio.circulation.domain;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Location hierarchy (locations, libraries, campuses and institutions) of the locations
+ * served by a service point, used to find how close an item is to the service point
+ * without scanning the locations for every item
+ */
+public class ServicePointLocationIndex {
+  public static final int SAME_LOCATION = 0;
+  public static final int SAME_LIBRARY = 1;
+  public static final int SAME_CAMPUS = 2;
+  public static final int SAME_INSTITUTION = 3;
+  public static final int UNRELATED = 4;
+
+  private final Set<String> locationIds;
+  private final Set<String> libraryIds;
+  private final Set<String> campusIds;
+  private final Set<String> institutionIds;
+
+  public ServicePointLocationIndex(Collection<Location> servedLocations) {
+    locationIds = idsOf(servedLocations, Location::getId);
+    libraryIds = idsOf(servedLocations, Location::getLibraryId);
+    campusIds = idsOf(servedLocations, Location::getCampusId);
+    institutionIds = idsOf(servedLocations, Location::getInstitutionId);
+  }
+
+  public int distanceTo(Location location) {
+    if (location == null) {
+      return UNRELATED;
+    }
+
+    if (contains(locationIds, location.getId())) {
+      return SAME_LOCATION;
+    }
+
+    if (contains(libraryIds, location.getLibraryId())) {
+      return SAME_LIBRARY;
+    }
+
+    if (contains(campusIds, location.getCampusId())) {
+      return SAME_CAMPUS;
+    }
+
+    if (contains(institutionIds, location.getInstitutionId())) {
+      return SAME_INSTITUTION;
+    }
+
+    return UNRELATED;
+  }
+
+  /**
+   * @return the first item at the closest location, the first item when none
+   * of the items is related to the locations served by the service point
+   */
+  public Optional<Item> closestItem(List<Item> items) {
+    Item closestItem = null;
+    int closestDistance = Integer.MAX_VALUE;
+
+    for (Item item : items) {
+      final int distance = distanceTo(item.getLocation());
+
+      if (distance < closestDistance) {
+        closestItem = item;
+        closestDistance = distance;
+
+        if (distance == SAME_LOCATION) {
+          break;
+        }
+      }
+    }
+
+    return Optional.ofNullable(closestItem);
+  }
+
+  private static boolean contains(Set<String> ids, String id) {
+    return id != null && ids.contains(id);
+  }
+
+  private static Set<String> idsOf(Collection<Location> locations,
+    Function<Location, String> idExtractor) {
+
+    return locations.stream()
+      .filter(Objects::nonNull)
+      .map(idExtractor)
+      .filter(Objects::nonNull)
+      .collect(Collectors.toUnmodifiableSet());
+  }
+}
@@ -0,0 +1,106 @@
+package org.folio.circulation.domain.anonymization;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.folio.circulation.support.results.Result.emptyAsync;
+import static org.folio.circulation.support.results.Result.ofAsync;
+
+import java.lang.invoke.MethodHandles;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.circulation.domain.Loan;
+import org.folio.circulation.domain.MultipleRecords;
+import org.folio.circulation.domain.anonymization.service.AnonymizationCheckersService;
+import org.folio.circulation.infrastructure.storage.feesandfines.AccountRepository;
+import org.folio.circulation.infrastructure.storage.loans.LoanRepository;
+import org.folio.circulation.services.ResumableJobRunner;
+import org.folio.circulation.support.results.Result;
+
+/**
+ * Anonymizes the closed loans of the whole tenant page by page, rather than checking
+ * a fixed number of loans fetched at once. The accounts of the loans are fetched for each
+ * page and the loans of the page which can be anonymized are anonymized before the next
+ * page is fetched.
+ *
+ * A run goes on until its time budget is used up, the next run carries on after the last
+ * loan that has been checked, so that loans which cannot be anonymized yet are not checked
+ * again on every run
+ */
+public class StreamingLoanAnonymizationService {
+  public static final String JOB_NAME = "scheduled-anonymize-processing";
+
+  private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+
+  private final AnonymizationCheckersService anonymizationCheckersService;
+  private final LoanAnonymizationService pageAnonymizationService;
+  private final LoanRepository loanRepository;
+  private final AccountRepository accountRepository;
+  private final ResumableJobRunner<Loan> jobRunner;
+
+  /**
+   * @param pageAnonymizationService anonymizes the loans of a page
+   */
+  public StreamingLoanAnonymizationService(
+    AnonymizationCheckersService anonymizationCheckersService,
+    LoanAnonymizationService pageAnonymizationService, LoanRepository loanRepository,
+    AccountRepository accountRepository, ResumableJobRunner<Loan> jobRunner) {
+
+    this.anonymizationCheckersService = anonymizationCheckersService;
+    this.pageAnonymizationService = pageAnonymizationService;
+    this.loanRepository = loanRepository;
+    this.accountRepository = accountRepository;
+    this.jobRunner = jobRunner;
+  }
+
+  /**
+   * @return the loans anonymized by this run, loans which could not be anonymized
+   * are not collected
+   */
+  public CompletableFuture<Result<LoanAnonymizationRecords>> anonymizeLoans(
+    Duration timeBudget) {
+
+    log.info("anonymizeLoans:: anonymizing loans page by page for up to {} seconds",
+      timeBudget.toSeconds());
+
+    if (anonymizationCheckersService.neverAnonymizeLoans()) {
+      log.info("anonymizeLoans:: loan anonymization is disabled");
+      return completedFuture(Result.of(LoanAnonymizationRecords::new));
+    }
+
+    final long deadline = System.nanoTime() + timeBudget.toNanos();
+    // pages are anonymized one after another
+    final List<String> anonymizedLoanIds = new ArrayList<>();
+
+    return loanRepository.loansToAnonymizeQuery()
+      .after(query -> jobRunner.run(JOB_NAME, query,
+        loans -> anonymizePage(loans, anonymizedLoanIds),
+        () -> System.nanoTime() - deadline < 0))
+      .thenApply(r -> r.map(ignored -> {
+        log.info("anonymizeLoans:: {} loans anonymized", anonymizedLoanIds.size());
+        return new LoanAnonymizationRecords().withAnonymizedLoans(anonymizedLoanIds);
+      }));
+  }
+
+  private CompletableFuture<Result<Void>> anonymizePage(MultipleRecords<Loan> loans,
+    List<String> anonymizedLoanIds) {
+
+    if (loans.isEmpty()) {
+      return emptyAsync();
+    }
+
+    return accountRepository.findAccountsForLoans(loans)
+      .thenCompose(r -> r.after(loansWithAccounts -> pageAnonymizationService.anonymizeLoans(
+        () -> ofAsync(loansWithAccounts.getRecords()))))
+      .thenApply(r -> r.map(records -> {
+        log.info("anonymizePage:: {} out of {} loans anonymized",
+          records.getAnonymizedLoanIds().size(), loans.size());
+
+        return anonymizedLoanIds.addAll(records.getAnonymizedLoanIds());
+      }))
+      .thenApply(Result::mapEmpty);
+  }
+}
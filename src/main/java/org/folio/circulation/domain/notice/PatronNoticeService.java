@@ -5,14 +5,30 @@ import java.lang.invoke.MethodHandles;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.apache.commons.collections4.ListUtils.partition;
 import static org.folio.HttpStatus.HTTP_OK;
+import static org.folio.circulation.support.AsyncCoordinationUtil.allResultsOf;
+import static org.folio.circulation.support.results.CommonFailures.failedDueToServerError;
+import static org.folio.circulation.support.results.Result.failed;
+import static org.folio.circulation.support.results.Result.succeeded;
 
+import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
 import org.folio.circulation.domain.representations.logs.NoticeLogContext;
 import org.folio.circulation.services.EventPublisher;
 import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.CollectionResourceClient;
+import org.folio.circulation.support.HttpFailure;
+import org.folio.circulation.support.ServerErrorFailure;
 import org.folio.circulation.support.http.client.Response;
 import org.folio.circulation.support.http.client.ResponseInterpreter;
 import org.folio.circulation.support.logging.PatronNoticeLogHelper;
@@ -21,11 +37,22 @@ import org.folio.circulation.support.results.Result;
 public abstract class PatronNoticeService {
   private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
 
+  private static final int MAX_NOTICES_PER_BATCH = 50;
+  private static final String PATRON_NOTICES = "patronNotices";
+  private static final String RESULTS = "results";
+  private static final String STATUS_CODE = "statusCode";
+  private static final String MESSAGE = "message";
+  // responses meaning that the notification module does not provide the batch endpoint
+  private static final Set<Integer> BATCH_NOT_SUPPORTED_STATUS_CODES = Set.of(404, 405, 501);
+
   private final CollectionResourceClient patronNoticeClient;
+  private final CollectionResourceClient patronNoticeBatchClient;
   private final EventPublisher eventPublisher;
+  private final AtomicBoolean batchSendingNotSupported = new AtomicBoolean();
 
   protected PatronNoticeService(Clients clients) {
     this.patronNoticeClient = clients.patronNoticeClient();
+    this.patronNoticeBatchClient = clients.patronNoticeBatchClient();
     this.eventPublisher = new EventPublisher(clients);
   }
 
@@ -38,11 +65,129 @@ public abstract class PatronNoticeService {
 
     log.debug("sendNotice:: posting notice to patron notice client");
     return patronNoticeClient.post(JsonObject.mapFrom(patronNotice))
-      .thenApply(r ->  new ResponseInterpreter<Response>().on(200, r).flatMap(r))
+      .thenApply(PatronNoticeService::interpretResponse)
       .whenComplete((r, t) -> logResult(patronNotice, noticeLogContext, r, t))
       .thenApply(r -> r.map(ignored -> null));
   }
 
+  /**
+   * Sends the notices in batches rather than one by one. When the notification module
+   * does not provide the batch endpoint, the notices are sent one by one. When a batch
+   * fails as a whole, each of its notices fails with a {@link BatchNotSentFailure}
+   *
+   * @return the result of sending each notice, in the same order as the notices
+   */
+  public CompletableFuture<List<Result<Void>>> sendNotices(List<NoticeToSend> notices) {
+    log.info("sendNotices:: sending {} notices", notices.size());
+
+    CompletableFuture<List<Result<Void>>> sentNotices = completedFuture(new ArrayList<>());
+
+    for (List<NoticeToSend> batch : partition(notices, MAX_NOTICES_PER_BATCH)) {
+      sentNotices = sentNotices.thenCompose(results -> sendBatch(batch)
+        .thenApply(batchResults -> {
+          results.addAll(batchResults);
+          return results;
+        }));
+    }
+
+    return sentNotices;
+  }
+
+  private CompletableFuture<List<Result<Void>>> sendBatch(List<NoticeToSend> batch) {
+    if (batchSendingNotSupported.get()) {
+      return sendOneByOne(batch);
+    }
+
+    final JsonObject representation = new JsonObject().put(PATRON_NOTICES,
+      new JsonArray(batch.stream()
+        .map(notice -> JsonObject.mapFrom(notice.patronNotice()))
+        .toList()));
+
+    return patronNoticeBatchClient.post(representation)
+      .exceptionally(throwable -> failedDueToServerError(throwable))
+      .thenCompose(r -> {
+        if (r.succeeded() && BATCH_NOT_SUPPORTED_STATUS_CODES.contains(r.value().getStatusCode())) {
+          log.warn("sendBatch:: notices cannot be sent in batches, sending them one by one, " +
+            "response: {}", r.value().getStatusCode());
+          batchSendingNotSupported.set(true);
+
+          return sendOneByOne(batch);
+        }
+
+        final Result<List<Result<Response>>> responses = interpretResponse(r)
+          .next(response -> toNoticeResponses(response, batch.size()));
+
+        if (responses.failed()) {
+          // some of the notices may have been sent, sending them again could send them twice
+          log.warn("sendBatch:: failed to send batch of {} notices: {}", batch.size(),
+            responses.cause());
+
+          return completedFuture(batchNotSent(batch, responses.cause()));
+        }
+
+        return completedFuture(mapBatchResults(batch, responses.value()));
+      });
+  }
+
+  private CompletableFuture<List<Result<Void>>> sendOneByOne(List<NoticeToSend> notices) {
+    return allResultsOf(notices, notice -> sendNotice(notice.patronNotice(),
+        notice.noticeLogContext())
+      .exceptionally(throwable -> failedDueToServerError(throwable)));
+  }
+
+  private static List<Result<Void>> batchNotSent(List<NoticeToSend> batch,
+    HttpFailure cause) {
+
+    final Result<Void> notSent = failed(new BatchNotSentFailure(cause));
+
+    return batch.stream()
+      .map(notice -> notSent)
+      .toList();
+  }
+
+  private List<Result<Void>> mapBatchResults(List<NoticeToSend> batch,
+    List<Result<Response>> responses) {
+
+    return IntStream.range(0, batch.size())
+      .mapToObj(index -> {
+        final NoticeToSend notice = batch.get(index);
+        final Result<Response> response = responses.get(index);
+
+        logResult(notice.patronNotice(), notice.noticeLogContext(), response, null);
+
+        return response.<Void>map(ignored -> null);
+      })
+      .toList();
+  }
+
+  /**
+   * The response to a batch lists the status code and, for notices which could not be sent,
+   * the error message of each notice in the same order as the notices were sent
+   */
+  private static Result<List<Result<Response>>> toNoticeResponses(Response batchResponse,
+    int numberOfNotices) {
+
+    final JsonArray results = batchResponse.getJson().getJsonArray(RESULTS);
+
+    if (results == null || results.size() != numberOfNotices) {
+      log.warn("toNoticeResponses:: unexpected response to sending {} notices: {}",
+        numberOfNotices, batchResponse.getBody());
+
+      return failedDueToServerError(String.format(
+        "Unexpected response to sending %d patron notices in a batch", numberOfNotices));
+    }
+
+    return succeeded(IntStream.range(0, results.size())
+      .mapToObj(results::getJsonObject)
+      .map(result -> interpretResponse(succeeded(new Response(
+        result.getInteger(STATUS_CODE, 500), result.getString(MESSAGE, ""), "text/plain"))))
+      .toList());
+  }
+
+  private static Result<Response> interpretResponse(Result<Response> response) {
+    return new ResponseInterpreter<Response>().on(200, response).flatMap(response);
+  }
+
   private CompletableFuture<Result<Void>> logResult(PatronNotice patronNotice,
     NoticeLogContext noticeLogContext, Result<Response> result, Throwable throwable) {
 
@@ -51,4 +196,15 @@ public abstract class PatronNoticeService {
     return eventPublisher.publishNoticeLogEvent(noticeLogContext, result, throwable);
   }
 
+  public record NoticeToSend(PatronNotice patronNotice, NoticeLogContext noticeLogContext) { }
+
+  /**
+   * The batch the notice was sent in failed as a whole, so it is not known whether
+   * the notice was sent
+   */
+  static final class BatchNotSentFailure extends ServerErrorFailure {
+    BatchNotSentFailure(HttpFailure cause) {
+      super(String.format("Batch of patron notices could not be sent: %s", cause));
+    }
+  }
 }
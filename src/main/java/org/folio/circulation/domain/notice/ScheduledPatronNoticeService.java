@@ -1,15 +1,27 @@
 package org.folio.circulation.domain.notice;
 
+import static org.folio.circulation.support.results.Result.succeeded;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.folio.circulation.domain.notice.schedule.ScheduledNoticeConfig;
 import org.folio.circulation.domain.representations.logs.NoticeLogContext;
 import org.folio.circulation.support.Clients;
+import org.folio.circulation.support.HttpFailure;
 import org.folio.circulation.support.results.Result;
 
 import io.vertx.core.json.JsonObject;
 
 public class ScheduledPatronNoticeService extends PatronNoticeService {
+  private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+
+  private final List<QueuedNotice> queuedNotices = new ArrayList<>();
 
   public ScheduledPatronNoticeService(Clients clients) {
     super(clients);
@@ -20,4 +32,56 @@ public class ScheduledPatronNoticeService extends PatronNoticeService {
 
     return sendNotice(new PatronNotice(recipientId, context, noticeConfig), noticeLogContext);
   }
+
+  /**
+   * Queues the notice to be sent together with the other queued notices,
+   * see {@link #sendQueuedNotices()}
+   *
+   * @param onFailure called with the failure when the notice could not be sent
+   * @param onNotSent called when it is not known whether the notice was sent, because the
+   * batch it was sent in failed as a whole
+   */
+  public synchronized void queueNotice(ScheduledNoticeConfig noticeConfig, String recipientId,
+    JsonObject context, NoticeLogContext noticeLogContext, Consumer<HttpFailure> onFailure,
+    Runnable onNotSent) {
+
+    queuedNotices.add(new QueuedNotice(new NoticeToSend(
+      new PatronNotice(recipientId, context, noticeConfig), noticeLogContext), onFailure,
+      onNotSent));
+  }
+
+  /**
+   * Sends the notices queued so far in batches, notices queued while they are being sent
+   * are left for the next call
+   */
+  public CompletableFuture<Result<Void>> sendQueuedNotices() {
+    final List<QueuedNotice> notices;
+
+    synchronized (this) {
+      notices = List.copyOf(queuedNotices);
+      queuedNotices.clear();
+    }
+
+    log.info("sendQueuedNotices:: sending {} queued notices", notices.size());
+
+    return sendNotices(notices.stream().map(QueuedNotice::notice).toList())
+      .thenApply(results -> {
+        for (int index = 0; index < results.size(); index++) {
+          final HttpFailure failure = results.get(index).failed()
+            ? results.get(index).cause()
+            : null;
+
+          if (failure instanceof BatchNotSentFailure) {
+            notices.get(index).onNotSent().run();
+          } else if (failure != null) {
+            notices.get(index).onFailure().accept(failure);
+          }
+        }
+
+        return succeeded(null);
+      });
+  }
+
+  private record QueuedNotice(NoticeToSend notice, Consumer<HttpFailure> onFailure,
+    Runnable onNotSent) { }
 }
@@ -6,6 +6,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toSet;
 import static org.folio.circulation.domain.notice.TemplateContextUtil.createFeeFineChargeAndActionNoticeContext;
 import static org.folio.circulation.domain.notice.TemplateContextUtil.createFeeFineChargeNoticeContext;
 import static org.folio.circulation.support.results.Result.ofAsync;
@@ -14,8 +15,16 @@ import static org.folio.circulation.support.utils.ClockUtil.getZonedDateTime;
 import static org.folio.circulation.support.utils.DateTimeUtil.isBeforeMillis;
 
 import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
+import org.folio.circulation.domain.Account;
+import org.folio.circulation.domain.FeeFineAction;
 import org.folio.circulation.domain.Loan;
 import org.folio.circulation.domain.policy.Period;
 import org.folio.circulation.domain.representations.logs.NoticeLogContext;
@@ -54,11 +63,108 @@ public class FeeFineScheduledNoticeHandler extends ScheduledNoticeHandler {
       .thenCompose(r -> r.after(this::fetchPatronNoticePolicyIdForLoan));
   }
 
+  @Override
+  protected CompletableFuture<Collection<ScheduledNoticeContext>> preloadData(
+    Collection<ScheduledNoticeContext> contexts) {
+
+    return super.preloadData(contexts)
+      .thenCompose(preloaded -> preload("fee/fine records", preloaded,
+        this::preloadFeeFineRecords));
+  }
+
+  private CompletableFuture<Result<Collection<ScheduledNoticeContext>>> preloadFeeFineRecords(
+    Collection<ScheduledNoticeContext> contexts) {
+
+    final Set<String> actionIds = contexts.stream()
+      .map(context -> context.getNotice().getFeeFineActionId())
+      .filter(Objects::nonNull)
+      .collect(toSet());
+
+    return actionRepository.findByIds(actionIds)
+      .thenApply(mapResult(actions -> actions.toMap(FeeFineAction::getId)))
+      .thenApply(mapResult(actions -> withPreloaded(contexts,
+        context -> actions.get(context.getNotice().getFeeFineActionId()),
+        ScheduledNoticeContext::withCurrentAction)))
+      .thenCompose(r -> r.after(this::preloadAccounts))
+      .thenCompose(r -> r.after(this::preloadChargeActions))
+      .thenCompose(r -> r.after(this::preloadLoans));
+  }
+
+  private CompletableFuture<Result<Collection<ScheduledNoticeContext>>> preloadAccounts(
+    Collection<ScheduledNoticeContext> contexts) {
+
+    final Set<String> accountIds = contexts.stream()
+      .map(ScheduledNoticeContext::getCurrentAction)
+      .filter(Objects::nonNull)
+      .map(FeeFineAction::getAccountId)
+      .filter(Objects::nonNull)
+      .collect(toSet());
+
+    return accountRepository.findByIds(accountIds)
+      .thenApply(mapResult(accounts -> accounts.toMap(Account::getId)))
+      .thenApply(mapResult(accounts -> withPreloaded(contexts,
+        context -> context.getCurrentAction() == null
+          ? null
+          : accounts.get(context.getCurrentAction().getAccountId()),
+        ScheduledNoticeContext::withAccount)));
+  }
+
+  private CompletableFuture<Result<Collection<ScheduledNoticeContext>>> preloadChargeActions(
+    Collection<ScheduledNoticeContext> contexts) {
+
+    final List<Account> accounts = contexts.stream()
+      .map(ScheduledNoticeContext::getAccount)
+      .filter(Objects::nonNull)
+      .toList();
+
+    return actionRepository.findChargeActionsForAccounts(accounts)
+      .thenApply(mapResult(chargeActions -> withPreloaded(contexts,
+        context -> context.getAccount() == null
+          ? null
+          : chargeActions.get(context.getAccount().getId()),
+        ScheduledNoticeContext::withChargeAction)));
+  }
+
+  private CompletableFuture<Result<Collection<ScheduledNoticeContext>>> preloadLoans(
+    Collection<ScheduledNoticeContext> contexts) {
+
+    final Set<String> loanIds = contexts.stream()
+      .map(ScheduledNoticeContext::getAccount)
+      .filter(Objects::nonNull)
+      .map(Account::getLoanId)
+      .filter(Objects::nonNull)
+      .collect(toSet());
+
+    return fetchLoansWithRelatedRecords(loanIds, loanPolicyRepository)
+      .thenApply(mapResult(loans -> withPreloaded(contexts,
+        context -> context.getAccount() == null
+          ? null
+          : loans.get(context.getAccount().getLoanId()),
+        ScheduledNoticeContext::withLoan)));
+  }
+
+  private static <T> Collection<ScheduledNoticeContext> withPreloaded(
+    Collection<ScheduledNoticeContext> contexts,
+    Function<ScheduledNoticeContext, T> preloadedRecord,
+    BiFunction<ScheduledNoticeContext, T, ScheduledNoticeContext> withRecord) {
+
+    return contexts.stream()
+      .map(context -> {
+        final T record = preloadedRecord.apply(context);
+        return record == null ? context : withRecord.apply(context, record);
+      })
+      .toList();
+  }
+
   private CompletableFuture<Result<ScheduledNoticeContext>> fetchAction(
     ScheduledNoticeContext context) {
 
     log.info("fetchAction:: fetching fee/fine action {}", context.getNotice()::getFeeFineActionId);
 
+    if (context.getCurrentAction() != null) {
+      return ofAsync(context);
+    }
+
     return actionRepository.findById(context.getNotice().getFeeFineActionId())
       .thenApply(mapResult(context::withCurrentAction));
   }
@@ -68,6 +174,10 @@ public class FeeFineScheduledNoticeHandler extends ScheduledNoticeHandler {
 
     log.debug("fetchAccount:: fetching account for action");
 
+    if (context.getAccount() != null) {
+      return ofAsync(context);
+    }
+
     return accountRepository.findAccountForAction(context.getCurrentAction())
       .thenApply(mapResult(context::withAccount));
   }
@@ -77,6 +187,10 @@ public class FeeFineScheduledNoticeHandler extends ScheduledNoticeHandler {
 
     log.info("fetchChargeAction:: fetching charge action for account {}", context.getAccount()::getId);
 
+    if (context.getChargeAction() != null) {
+      return ofAsync(context);
+    }
+
     return actionRepository.findChargeActionForAccount(context.getAccount())
       .thenApply(mapResult(context::withChargeAction));
   }
@@ -90,6 +204,12 @@ public class FeeFineScheduledNoticeHandler extends ScheduledNoticeHandler {
       return ofAsync(() -> context);
     }
 
+    if (context.getLoan() != null) {
+      return loanRepository.fetchLatestPatronInfoAddedComment(context.getLoan())
+        .thenApply(mapResult(context::withLoan))
+        .thenApply(r -> r.next(this::failWhenLoanIsIncomplete));
+    }
+
     // this also fetches user and item
     return loanRepository.findLoanForAccount(context.getAccount())
       .thenCompose(r -> r.after(loanRepository::fetchLatestPatronInfoAddedComment))
@@ -105,7 +225,7 @@ public class FeeFineScheduledNoticeHandler extends ScheduledNoticeHandler {
 
     return isNoticeIrrelevant(context) || !notice.getConfiguration().isRecurring()
       ? deleteNoticeAsIrrelevant(notice)
-      : scheduledNoticesRepository.update(getNextRecurringNotice(notice));
+      : saveNotice(getNextRecurringNotice(notice));
   }
 
   @Override
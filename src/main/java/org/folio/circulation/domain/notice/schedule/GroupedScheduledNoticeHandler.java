@@ -1,17 +1,20 @@
 package org.folio.circulation.domain.notice.schedule;
 
 import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.function.Function.identity;
 import static java.util.function.Predicate.not;
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
 import static org.folio.circulation.domain.notice.TemplateContextUtil.createGroupedNoticeContext;
 import static org.folio.circulation.support.AsyncCoordinationUtil.allOf;
 import static org.folio.circulation.support.AsyncCoordinationUtil.allResultsOf;
+import static org.folio.circulation.support.ConcurrencyLimit.forBackgroundJobs;
 import static org.folio.circulation.support.results.Result.ofAsync;
 import static org.folio.circulation.support.results.Result.succeeded;
-import static org.folio.circulation.support.results.ResultBinding.mapResult;
 
 import java.lang.invoke.MethodHandles;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 import org.apache.logging.log4j.LogManager;
@@ -21,6 +24,7 @@ import org.folio.circulation.domain.notice.ScheduledPatronNoticeService;
 import org.folio.circulation.domain.representations.logs.NoticeLogContext;
 import org.folio.circulation.domain.representations.logs.NoticeLogContextItem;
 import org.folio.circulation.support.Clients;
+import org.folio.circulation.support.ConcurrencyLimit;
 import org.folio.circulation.support.HttpFailure;
 import org.folio.circulation.support.results.Result;
 
@@ -33,6 +37,7 @@ public abstract class GroupedScheduledNoticeHandler {
   private final ScheduledNoticeHandler singleNoticeHandler;
   private final ScheduledPatronNoticeService patronNoticeService;
   private final String groupToken;
+  private final ConcurrencyLimit concurrencyLimit = forBackgroundJobs();
 
   protected GroupedScheduledNoticeHandler(Clients clients,
     ScheduledNoticeHandler singleNoticeHandler, String groupToken) {
@@ -48,16 +53,28 @@ public abstract class GroupedScheduledNoticeHandler {
     log.info("handleNotices:: processing {} group(s) of scheduled notices ({} notices total)",
       noticeGroups.size(), noticeGroups.stream().mapToInt(List::size).sum());
 
-    return allOf(noticeGroups, this::handleNoticeGroup);
+    final List<ScheduledNoticeContext> contexts = noticeGroups.stream()
+      .flatMap(List::stream)
+      .map(ScheduledNoticeContext::new)
+      .toList();
+
+    return singleNoticeHandler.preloadData(contexts)
+      .thenApply(preloaded -> preloaded.stream()
+        .collect(toMap(context -> context.getNotice().getId(), identity(),
+          (first, second) -> first)))
+      .thenCompose(preloaded -> allOf(noticeGroups, concurrencyLimit,
+        notices -> handleNoticeGroup(notices, preloaded)))
+      .thenCompose(handled -> patronNoticeService.sendQueuedNotices()
+        .thenCompose(sent -> singleNoticeHandler.writeNoticeChanges())
+        .thenApply(written -> written.next(notUsed -> handled)));
   }
 
   private CompletableFuture<Result<List<ScheduledNotice>>> handleNoticeGroup(
-    List<ScheduledNotice> notices) {
+    List<ScheduledNotice> notices, Map<String, ScheduledNoticeContext> preloadedContexts) {
 
     log.debug("handleNoticeGroup:: processing group of {} scheduled notices", notices.size());
 
-    //TODO: user and template are the same for all notices in the group, so they can be fetched only once
-    return allResultsOf(notices, this::buildContext)
+    return allResultsOf(notices, notice -> buildContext(notice, preloadedContexts))
       .thenCompose(this::discardContextBuildingFailures)
       .thenCompose(r -> r.after(this::sendGroupedNotice))
       .thenCompose(r -> r.after(this::updateGroupedNotice))
@@ -65,10 +82,13 @@ public abstract class GroupedScheduledNoticeHandler {
       .exceptionally(t -> handleException(t, notices));
   }
 
-  private CompletableFuture<Result<ScheduledNoticeContext>> buildContext(ScheduledNotice notice) {
+  private CompletableFuture<Result<ScheduledNoticeContext>> buildContext(ScheduledNotice notice,
+    Map<String, ScheduledNoticeContext> preloadedContexts) {
+
     log.debug("buildContext:: building context for notice {}", notice);
 
-    return ofAsync(() -> new ScheduledNoticeContext(notice))
+    return ofAsync(() -> preloadedContexts.getOrDefault(notice.getId(),
+        new ScheduledNoticeContext(notice)))
       .thenCompose(r -> r.after(singleNoticeHandler::fetchData))
       .thenApply(r -> r.map(this::buildNoticeContextJson))
       .thenApply(r -> r.map(this::buildNoticeLogContextItem))
@@ -147,15 +167,26 @@ public abstract class GroupedScheduledNoticeHandler {
       .map(ScheduledNoticeContext::getNoticeContext)
       .collect(toList());
 
-    log.info("sendGroupedNotice:: attempting to send a grouped notice for {} scheduled notices",
+    log.info("sendGroupedNotice:: queueing a grouped notice for {} scheduled notices",
       relevantContexts.size());
 
-    return patronNoticeService.sendNotice(
-        contextSample.getNotice().getConfiguration(),
-        user.getId(),
-        createGroupedNoticeContext(user, groupToken, noticeContexts),
-        buildNoticeLogContext(relevantContexts, user))
-      .thenApply(mapResult(v -> contexts));
+    // when the grouped notice cannot be sent, the notices of the group are left unchanged
+    patronNoticeService.queueNotice(
+      contextSample.getNotice().getConfiguration(),
+      user.getId(),
+      createGroupedNoticeContext(user, groupToken, noticeContexts),
+      buildNoticeLogContext(relevantContexts, user),
+      failure -> discardNoticeChanges(contexts, failure.toString()),
+      () -> discardNoticeChanges(contexts, "batch of notices could not be sent"));
+
+    return completedFuture(succeeded(contexts));
+  }
+
+  private void discardNoticeChanges(List<ScheduledNoticeContext> contexts, String reason) {
+    log.error("discardNoticeChanges:: failed to send grouped notice for {} notices: {}",
+      contexts.size(), reason);
+
+    contexts.forEach(context -> singleNoticeHandler.discardNoticeChange(context.getNotice()));
   }
 
   private static NoticeLogContext buildNoticeLogContext(List<ScheduledNoticeContext> contexts,
@@ -6,6 +6,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toSet;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 import static org.folio.circulation.domain.FeeFine.lostItemFeeTypes;
 import static org.folio.circulation.domain.ItemStatus.CLAIMED_RETURNED;
@@ -23,10 +24,13 @@ import static org.folio.circulation.support.utils.DateTimeUtil.isBeforeMillis;
 
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
 import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.folio.circulation.domain.ItemStatus;
 import org.folio.circulation.domain.Loan;
 import org.folio.circulation.domain.representations.logs.NoticeLogContext;
@@ -66,6 +70,34 @@ public class LoanScheduledNoticeHandler extends ScheduledNoticeHandler {
       .thenCompose(r -> r.after(this::fetchPatronNoticePolicyIdForLoan));
   }
 
+  @Override
+  protected CompletableFuture<Collection<ScheduledNoticeContext>> preloadData(
+    Collection<ScheduledNoticeContext> contexts) {
+
+    return super.preloadData(contexts)
+      .thenCompose(preloaded -> preload("loans", preloaded, this::preloadLoans));
+  }
+
+  private CompletableFuture<Result<Collection<ScheduledNoticeContext>>> preloadLoans(
+    Collection<ScheduledNoticeContext> contexts) {
+
+    final Set<String> loanIds = contexts.stream()
+      .map(context -> context.getNotice().getLoanId())
+      .filter(StringUtils::isNotEmpty)
+      .collect(toSet());
+
+    return fetchLoansWithRelatedRecords(loanIds, loanPolicyRepository)
+      .thenApply(mapResult(loans -> contexts.stream()
+        .map(context -> withPreloadedLoan(context, loans.get(context.getNotice().getLoanId())))
+        .toList()));
+  }
+
+  private static ScheduledNoticeContext withPreloadedLoan(ScheduledNoticeContext context,
+    Loan loan) {
+
+    return loan == null ? context : context.withLoan(loan);
+  }
+
   protected Result<ScheduledNoticeContext> failWhenNoticeHasNoLoanId(ScheduledNoticeContext context) {
     String loanId = context.getNotice().getLoanId();
     log.debug("failWhenNoticeHasNoLoanId:: validating loan ID {}", loanId);
@@ -129,7 +161,7 @@ public class LoanScheduledNoticeHandler extends ScheduledNoticeHandler {
 
     log.info("updateNotice:: updating recurring notice {} with next run time {}",
       nextRecurringNotice.getId(), nextRecurringNotice.getNextRunTime());
-    return scheduledNoticesRepository.update(nextRecurringNotice);
+    return saveNotice(nextRecurringNotice);
   }
 
   protected CompletableFuture<Result<ScheduledNoticeContext>> fetchLoan(
@@ -137,6 +169,14 @@ public class LoanScheduledNoticeHandler extends ScheduledNoticeHandler {
 
     log.info("fetchLoan:: fetching loan {} for scheduled notice", context.getNotice().getLoanId());
 
+    if (context.getLoan() != null) {
+      log.debug("fetchLoan:: loan {} has been fetched in advance", context.getLoan()::getId);
+
+      return loanRepository.fetchLatestPatronInfoAddedComment(context.getLoan())
+        .thenApply(mapResult(context::withLoan))
+        .thenApply(r -> r.next(this::failWhenLoanIsIncomplete));
+    }
+
     // Also fetches user, item and item-related records (holdings, instance, location, etc.)
     return loanRepository.getById(context.getNotice().getLoanId())
       .thenCompose(r -> r.after(loanRepository::fetchLatestPatronInfoAddedComment))
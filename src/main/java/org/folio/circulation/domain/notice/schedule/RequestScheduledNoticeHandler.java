@@ -2,6 +2,8 @@ package org.folio.circulation.domain.notice.schedule;
 
 import static java.util.Collections.singletonList;
 import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
 import static org.folio.circulation.domain.notice.NoticeTiming.UPON_AT;
 import static org.folio.circulation.domain.notice.TemplateContextUtil.createRequestNoticeContext;
 import static org.folio.circulation.domain.notice.schedule.TriggeringEvent.HOLD_EXPIRATION;
@@ -13,11 +15,20 @@ import static org.folio.circulation.support.utils.DateTimeUtil.isBeforeMillis;
 
 import java.lang.invoke.MethodHandles;
 import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.folio.circulation.domain.MultipleRecords;
 import org.folio.circulation.domain.Request;
+import org.folio.circulation.domain.User;
 import org.folio.circulation.domain.notice.NoticeTiming;
 import org.folio.circulation.domain.representations.logs.NoticeLogContext;
 import org.folio.circulation.domain.representations.logs.NoticeLogContextItem;
@@ -33,6 +44,8 @@ import io.vertx.core.json.JsonObject;
 public abstract class RequestScheduledNoticeHandler extends ScheduledNoticeHandler {
   private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
   protected final RequestRepository requestRepository;
+  // requests whose related records have been fetched for all the notices at once
+  private final Set<String> preloadedRequestIds = ConcurrentHashMap.newKeySet();
 
   protected RequestScheduledNoticeHandler(Clients clients,
     LoanRepository loanRepository, RequestRepository requestRepository) {
@@ -41,6 +54,62 @@ public abstract class RequestScheduledNoticeHandler extends ScheduledNoticeHandl
     this.requestRepository = requestRepository;
   }
 
+  @Override
+  protected CompletableFuture<Collection<ScheduledNoticeContext>> preloadData(
+    Collection<ScheduledNoticeContext> contexts) {
+
+    return super.preloadData(contexts)
+      .thenCompose(preloaded -> preload("request related records", preloaded,
+        this::preloadRequestRelatedRecords));
+  }
+
+  private CompletableFuture<Result<Collection<ScheduledNoticeContext>>> preloadRequestRelatedRecords(
+    Collection<ScheduledNoticeContext> contexts) {
+
+    final Collection<Request> requests = contexts.stream()
+      .map(ScheduledNoticeContext::getRequest)
+      .filter(Objects::nonNull)
+      .collect(toMap(Request::getId, identity(), (first, second) -> first))
+      .values();
+
+    return requestRepository.fetchRelatedRecords(new MultipleRecords<>(requests, requests.size()))
+      .thenCompose(r -> r.after(this::setAddressTypeNames))
+      .thenApply(mapResult(fetched -> fetched.toMap(Request::getId)))
+      .thenApply(mapResult(fetched -> contexts.stream()
+        .map(context -> withPreloadedRequest(context, fetched))
+        .toList()));
+  }
+
+  private CompletableFuture<Result<MultipleRecords<Request>>> setAddressTypeNames(
+    MultipleRecords<Request> requests) {
+
+    final List<User> users = requests.getRecords().stream()
+      .flatMap(request -> Stream.of(request.getRequester(), request.getProxy()))
+      .filter(Objects::nonNull)
+      .toList();
+
+    return userRepository.setAddressTypeNames(users)
+      .thenApply(mapResult(notUsed -> requests));
+  }
+
+  private ScheduledNoticeContext withPreloadedRequest(ScheduledNoticeContext context,
+    Map<String, Request> requests) {
+
+    if (context.getRequest() == null) {
+      return context;
+    }
+
+    final Request request = requests.get(context.getRequest().getId());
+
+    if (request == null) {
+      return context;
+    }
+
+    preloadedRequestIds.add(request.getId());
+
+    return context.withRequest(request);
+  }
+
   @Override
   protected boolean isNoticeIrrelevant(ScheduledNoticeContext context) {
     log.info("isNoticeIrrelevant:: checking if notice {} is irrelevant for request {}",
@@ -82,7 +151,7 @@ public abstract class RequestScheduledNoticeHandler extends ScheduledNoticeHandl
     } else {
       log.info("updateNotice:: updating recurring notice {} with next run time {}",
         nextRecurringNotice.getId(), nextRecurringNotice.getNextRunTime());
-      return scheduledNoticesRepository.update(nextRecurringNotice);
+      return saveNotice(nextRecurringNotice);
     }
   }
 
@@ -189,7 +258,12 @@ public abstract class RequestScheduledNoticeHandler extends ScheduledNoticeHandl
         new RecordNotFoundFailure("request", context.getNotice().getRequestId())));
     }
 
-    return requestRepository.fetchRelatedRecords(context.getRequest())
+    final CompletableFuture<Result<Request>> requestWithRelatedRecords =
+      preloadedRequestIds.contains(context.getRequest().getId())
+        ? ofAsync(context.getRequest())
+        : requestRepository.fetchRelatedRecords(context.getRequest());
+
+    return requestWithRelatedRecords
       .thenCompose(r -> r.after(this::fetchLatestPatronInfoAddedComment))
       .thenApply(mapResult(context::withRequest))
       .thenApply(r -> r.next(this::failWhenRequestHasNoUser));
@@ -107,7 +107,8 @@ public class ScheduledDigitalReminderHandler extends LoanScheduledNoticeHandler
     return ofAsync(context)
       .thenCompose(r -> r.after(this::persistAccount))
       .thenCompose(r -> r.after(this::createFeeFineAction))
-      .thenCompose(r -> r.after(this::sendNotice))
+      // the loan is only updated once the reminder has been sent
+      .thenCompose(r -> r.after(this::sendNoticeImmediately))
       .thenCompose(r -> r.after(this::updateLoan))
       .thenCompose(r -> r.after(this::updateNotice));
   }
@@ -282,7 +283,7 @@ public class ScheduledDigitalReminderHandler extends LoanScheduledNoticeHandler
     } else {
       log.info("updateNotice:: scheduling next reminder for notice {}", context.getNotice().getId());
       return findNextRuntimeAndBuildNotice(context, nextReminder)
-        .thenCompose(scheduledNoticeResult -> scheduledNoticesRepository.update(scheduledNoticeResult.value()));
+        .thenCompose(scheduledNoticeResult -> saveNotice(scheduledNoticeResult.value()));
     }
   }
 
@@ -0,0 +1,74 @@
+package org.folio.circulation.domain.notice.schedule;
+
+import static org.folio.circulation.support.results.Result.ofAsync;
+import static org.folio.circulation.support.results.ResultBinding.mapResult;
+
+import java.lang.invoke.MethodHandles;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.circulation.infrastructure.storage.notices.ScheduledNoticesRepository;
+import org.folio.circulation.support.results.Result;
+
+/**
+ * Collects the updates and deletes of scheduled notices while the notices are being handled,
+ * so that they are written to storage in batches once all of them have been handled
+ * rather than one by one. The last change of a notice is the one written
+ */
+final class ScheduledNoticeChanges {
+  private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+
+  private final ScheduledNoticesRepository scheduledNoticesRepository;
+  private final Map<String, ScheduledNotice> updatedNotices = new LinkedHashMap<>();
+  private final Map<String, ScheduledNotice> deletedNotices = new LinkedHashMap<>();
+
+  ScheduledNoticeChanges(ScheduledNoticesRepository scheduledNoticesRepository) {
+    this.scheduledNoticesRepository = scheduledNoticesRepository;
+  }
+
+  synchronized CompletableFuture<Result<ScheduledNotice>> update(ScheduledNotice notice) {
+    deletedNotices.remove(notice.getId());
+    updatedNotices.put(notice.getId(), notice);
+
+    return ofAsync(notice);
+  }
+
+  synchronized CompletableFuture<Result<ScheduledNotice>> delete(ScheduledNotice notice) {
+    updatedNotices.remove(notice.getId());
+    deletedNotices.put(notice.getId(), notice);
+
+    return ofAsync(notice);
+  }
+
+  synchronized void discard(ScheduledNotice notice) {
+    updatedNotices.remove(notice.getId());
+    deletedNotices.remove(notice.getId());
+  }
+
+  /**
+   * Writes the changes collected so far, changes collected while they are being written
+   * are left for the next write
+   */
+  CompletableFuture<Result<Void>> write() {
+    final List<ScheduledNotice> noticesToUpdate;
+    final List<ScheduledNotice> noticesToDelete;
+
+    synchronized (this) {
+      noticesToUpdate = List.copyOf(updatedNotices.values());
+      noticesToDelete = List.copyOf(deletedNotices.values());
+      updatedNotices.clear();
+      deletedNotices.clear();
+    }
+
+    log.info("write:: updating {} and deleting {} scheduled notices", noticesToUpdate.size(),
+      noticesToDelete.size());
+
+    return scheduledNoticesRepository.deleteAll(noticesToDelete)
+      .thenCompose(r -> r.after(deleted -> scheduledNoticesRepository.updateAll(noticesToUpdate)))
+      .thenApply(mapResult(updated -> null));
+  }
+}
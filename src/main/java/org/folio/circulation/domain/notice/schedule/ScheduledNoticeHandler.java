@@ -1,7 +1,11 @@
 package org.folio.circulation.domain.notice.schedule;
 
 import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.function.Predicate.not;
+import static java.util.stream.Collectors.toSet;
 import static org.folio.circulation.support.AsyncCoordinationUtil.allOf;
+import static org.folio.circulation.support.ConcurrencyLimit.forBackgroundJobs;
+import static org.folio.circulation.support.fetching.RecordFetching.findWithMultipleCqlIndexValues;
 import static org.folio.circulation.support.http.ResponseMapping.forwardOnFailure;
 import static org.folio.circulation.support.results.Result.failed;
 import static org.folio.circulation.support.results.Result.ofAsync;
@@ -11,24 +15,32 @@ import static org.folio.circulation.support.results.ResultBinding.mapResult;
 import java.lang.invoke.MethodHandles;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.folio.circulation.domain.ItemRelatedRecord;
+import org.folio.circulation.domain.Loan;
 import org.folio.circulation.domain.UserRelatedRecord;
 import org.folio.circulation.domain.notice.ScheduledPatronNoticeService;
 import org.folio.circulation.domain.representations.logs.NoticeLogContext;
 import org.folio.circulation.domain.representations.logs.NoticeLogContextItem;
 import org.folio.circulation.infrastructure.storage.feesandfines.AccountRepository;
+import org.folio.circulation.infrastructure.storage.loans.LoanPolicyRepository;
 import org.folio.circulation.infrastructure.storage.loans.LoanRepository;
 import org.folio.circulation.infrastructure.storage.notices.PatronNoticePolicyRepository;
 import org.folio.circulation.infrastructure.storage.notices.ScheduledNoticesRepository;
+import org.folio.circulation.infrastructure.storage.users.UserRepository;
 import org.folio.circulation.rules.CirculationRuleMatch;
 import org.folio.circulation.services.EventPublisher;
 import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.CollectionResourceClient;
+import org.folio.circulation.support.ConcurrencyLimit;
 import org.folio.circulation.support.HttpFailure;
 import org.folio.circulation.support.RecordNotFoundFailure;
 import org.folio.circulation.support.http.client.ResponseInterpreter;
@@ -44,17 +56,24 @@ public abstract class ScheduledNoticeHandler {
   protected final AccountRepository accountRepository;
   protected final PatronNoticePolicyRepository patronNoticePolicyRepository;
   protected final CollectionResourceClient templateNoticesClient;
+  protected final UserRepository userRepository;
   private final ScheduledPatronNoticeService patronNoticeService;
   private final EventPublisher eventPublisher;
+  private final ConcurrencyLimit concurrencyLimit = forBackgroundJobs();
+  private final ScheduledNoticeChanges noticeChanges;
+  // templates which are known to exist, so that each of them is only fetched once
+  private final Set<String> existingTemplateIds = ConcurrentHashMap.newKeySet();
 
   protected ScheduledNoticeHandler(Clients clients, LoanRepository loanRepository) {
     this.scheduledNoticesRepository = ScheduledNoticesRepository.using(clients);
+    this.noticeChanges = new ScheduledNoticeChanges(scheduledNoticesRepository);
     this.loanRepository = loanRepository;
     this.accountRepository = new AccountRepository(clients);
     this.patronNoticePolicyRepository = new PatronNoticePolicyRepository(clients);
     this.templateNoticesClient = clients.noticeTemplatesClient();
     this.patronNoticeService = new ScheduledPatronNoticeService(clients);
     this.eventPublisher = new EventPublisher(clients);
+    this.userRepository = new UserRepository(clients);
   }
 
   public CompletableFuture<Result<List<ScheduledNotice>>> handleContexts(
@@ -62,7 +81,12 @@ public abstract class ScheduledNoticeHandler {
 
     log.debug("handleContexts:: handling {} notice contexts", contexts.size());
 
-    return allOf(contexts, this::handleContext);
+    return preloadData(contexts)
+      .thenCompose(preloadedContexts -> allOf(preloadedContexts, concurrencyLimit,
+        this::handleContext))
+      .thenCompose(handled -> patronNoticeService.sendQueuedNotices()
+        .thenCompose(sent -> writeNoticeChanges())
+        .thenApply(written -> written.next(notUsed -> handled)));
   }
 
   public CompletableFuture<Result<List<ScheduledNotice>>> handleNotices(
@@ -70,12 +94,82 @@ public abstract class ScheduledNoticeHandler {
 
     log.debug("handleNotices:: handling {} scheduled notices", scheduledNotices.size());
 
-    return allOf(scheduledNotices, this::handleNotice);
+    return handleContexts(scheduledNotices.stream()
+      .map(ScheduledNoticeContext::new)
+      .toList());
   }
 
-  private CompletableFuture<Result<ScheduledNotice>> handleNotice(ScheduledNotice notice) {
-    log.debug("handleNotice:: processing scheduled notice {}", notice::getId);
-    return handleContext(new ScheduledNoticeContext(notice));
+  /**
+   * Fetches the records needed for sending all the notices at once, before the notices
+   * are handled one by one. Records which have not been fetched in advance, e.g. because
+   * fetching them failed, are fetched for each notice as before
+   *
+   * @return contexts with the records fetched in advance
+   */
+  protected CompletableFuture<Collection<ScheduledNoticeContext>> preloadData(
+    Collection<ScheduledNoticeContext> contexts) {
+
+    return preload("templates", contexts, this::preloadTemplates);
+  }
+
+  protected CompletableFuture<Collection<ScheduledNoticeContext>> preload(String records,
+    Collection<ScheduledNoticeContext> contexts,
+    Function<Collection<ScheduledNoticeContext>,
+      CompletableFuture<Result<Collection<ScheduledNoticeContext>>>> preloader) {
+
+    if (contexts.isEmpty()) {
+      return completedFuture(contexts);
+    }
+
+    log.debug("preload:: fetching {} for {} notices", records, contexts.size());
+
+    return ofAsync(contexts)
+      .thenCompose(r -> r.after(preloader))
+      .<Collection<ScheduledNoticeContext>>handle((result, throwable) -> {
+        if (throwable == null && result.succeeded()) {
+          return result.value();
+        }
+
+        log.warn("preload:: failed to fetch {} in advance, fetching them for each notice: {}",
+          records, throwable != null ? throwable : result.cause());
+
+        return contexts;
+      });
+  }
+
+  private CompletableFuture<Result<Collection<ScheduledNoticeContext>>> preloadTemplates(
+    Collection<ScheduledNoticeContext> contexts) {
+
+    final Set<String> templateIds = contexts.stream()
+      .map(context -> context.getNotice().getConfiguration().getTemplateId())
+      .filter(Objects::nonNull)
+      .filter(not(existingTemplateIds::contains))
+      .collect(toSet());
+
+    return findWithMultipleCqlIndexValues(templateNoticesClient, "templates",
+        template -> template.getString("id"))
+      .findByIds(templateIds)
+      .thenApply(mapResult(templates -> {
+        existingTemplateIds.addAll(templates.getRecords());
+        return contexts;
+      }));
+  }
+
+  /**
+   * Fetches the loans with their items, users and loan policies at once
+   *
+   * @return loans by ID
+   */
+  protected CompletableFuture<Result<Map<String, Loan>>> fetchLoansWithRelatedRecords(
+    Collection<String> loanIds, LoanPolicyRepository loanPolicyRepository) {
+
+    return loanRepository.findByIds(loanIds)
+      .thenCompose(r -> r.after(userRepository::findUsersForLoans))
+      .thenCompose(r -> r.after(loans -> userRepository.setAddressTypeNames(
+          loans.toKeys(Loan::getUser))
+        .thenApply(mapResult(users -> loans))))
+      .thenCompose(r -> r.after(loanPolicyRepository::findLoanPoliciesForLoans))
+      .thenApply(mapResult(loans -> loans.toMap(Loan::getId)));
   }
 
   protected CompletableFuture<Result<ScheduledNotice>> handleContext(ScheduledNoticeContext context) {
@@ -154,7 +248,31 @@ public abstract class ScheduledNoticeHandler {
 
     log.info("deleteNotice:: deleting scheduled notice {}. Reason: {}", notice::getId, () -> reason);
 
-    return scheduledNoticesRepository.delete(notice);
+    return noticeChanges.delete(notice);
+  }
+
+  /**
+   * The notice is written to storage together with the changes of the other notices,
+   * see {@link #writeNoticeChanges()}
+   */
+  protected CompletableFuture<Result<ScheduledNotice>> saveNotice(ScheduledNotice notice) {
+    log.info("saveNotice:: saving scheduled notice {}", notice::getId);
+
+    return noticeChanges.update(notice);
+  }
+
+  /**
+   * Writes the updates and deletes of the notices handled so far to storage in batches
+   */
+  CompletableFuture<Result<Void>> writeNoticeChanges() {
+    return noticeChanges.write();
+  }
+
+  /**
+   * Leaves the notice unchanged in storage, as if it had not been handled
+   */
+  void discardNoticeChange(ScheduledNotice notice) {
+    noticeChanges.discard(notice);
   }
 
   protected CompletableFuture<Result<ScheduledNotice>> deleteNoticeAsIrrelevant(
@@ -194,15 +312,44 @@ public abstract class ScheduledNoticeHandler {
       : succeeded(null);
   }
 
+  /**
+   * Queues the notice to be sent together with the other notices once all of them have been
+   * handled. A notice which cannot be sent is deleted, as it would be if it was sent at once.
+   * When the batch it is sent in fails as a whole, the notice is left unchanged to be sent
+   * by the next run
+   */
   protected CompletableFuture<Result<ScheduledNoticeContext>> sendNotice(
     ScheduledNoticeContext context) {
 
-    log.info("sendNotice:: sending notice for scheduled notice {}", context.getNotice().getId());
+    log.info("sendNotice:: queueing notice for scheduled notice {}", context.getNotice().getId());
     if (isNoticeIrrelevant(context)) {
       log.info("sendNotice:: notice is irrelevant, skipping send");
       return ofAsync(() -> context);
     }
 
+    final ScheduledNotice notice = context.getNotice();
+
+    patronNoticeService.queueNotice(
+      notice.getConfiguration(),
+      notice.getRecipientUserId(),
+      buildNoticeContextJson(context),
+      buildNoticeLogContext(context),
+      failure -> deleteNotice(notice, failure.toString()),
+      () -> discardNoticeChange(notice));
+
+    return ofAsync(context);
+  }
+
+  protected CompletableFuture<Result<ScheduledNoticeContext>> sendNoticeImmediately(
+    ScheduledNoticeContext context) {
+
+    log.info("sendNoticeImmediately:: sending notice for scheduled notice {}",
+      context.getNotice().getId());
+    if (isNoticeIrrelevant(context)) {
+      log.info("sendNoticeImmediately:: notice is irrelevant, skipping send");
+      return ofAsync(() -> context);
+    }
+
     return patronNoticeService.sendNotice(
       context.getNotice().getConfiguration(),
       context.getNotice().getRecipientUserId(),
@@ -210,7 +357,7 @@ public abstract class ScheduledNoticeHandler {
       buildNoticeLogContext(context))
       .thenApply(r -> {
         if (r.succeeded()) {
-          log.info("sendNotice:: successfully sent notice {}", context.getNotice().getId());
+          log.info("sendNoticeImmediately:: successfully sent notice {}", context.getNotice().getId());
         }
         return r.map(v -> context);
       });
@@ -260,9 +407,17 @@ public abstract class ScheduledNoticeHandler {
       .on(200, succeeded(context))
       .otherwise(forwardOnFailure());
 
+    if (existingTemplateIds.contains(templateId)) {
+      return ofAsync(() -> context);
+    }
+
     // no need to save the template, we only fetch it in order to fail if it does not exist
     return templateNoticesClient.get(templateId)
-      .thenApply(responseInterpreter::flatMap);
+      .thenApply(responseInterpreter::flatMap)
+      .thenApply(r -> r.map(fetched -> {
+        existingTemplateIds.add(templateId);
+        return fetched;
+      }));
   }
 
   protected CompletableFuture<Result<ScheduledNotice>> handleResult(Result<ScheduledNotice> result,
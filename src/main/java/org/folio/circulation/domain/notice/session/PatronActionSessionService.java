@@ -5,6 +5,7 @@ import static java.util.concurrent.CompletableFuture.completedFuture;
 import static java.util.stream.Collectors.groupingBy;
 import static org.folio.circulation.domain.notice.TemplateContextUtil.createLoanNoticeContextWithoutUser;
 import static org.folio.circulation.support.AsyncCoordinationUtil.allOf;
+import static org.folio.circulation.support.ConcurrencyLimit.forBackgroundJobs;
 import static org.folio.circulation.support.http.client.PageLimit.limit;
 import static org.folio.circulation.support.results.AsynchronousResultBindings.safelyInitialise;
 import static org.folio.circulation.support.results.Result.of;
@@ -34,6 +35,7 @@ import org.folio.circulation.domain.validation.ProxyRelationshipValidator;
 import org.folio.circulation.infrastructure.storage.sessions.PatronActionSessionRepository;
 import org.folio.circulation.services.EventPublisher;
 import org.folio.circulation.support.Clients;
+import org.folio.circulation.support.ConcurrencyLimit;
 import org.folio.circulation.support.http.client.PageLimit;
 import org.folio.circulation.support.results.Result;
 import lombok.AllArgsConstructor;
@@ -53,6 +55,7 @@ public class PatronActionSessionService {
   private final PatronActionSessionRepository patronActionSessionRepository;
   private final ImmediatePatronNoticeService patronNoticeService;
   private final ProxyRelationshipValidator proxyRelationshipValidator;
+  private final ConcurrencyLimit concurrencyLimit = forBackgroundJobs();
   protected final EventPublisher eventPublisher;
 
   public static PatronActionSessionService using(Clients clients,
@@ -183,7 +186,7 @@ public class PatronActionSessionService {
       .collect(groupingBy(PatronSessionRecord::getPatronId))
       .values();
 
-    return allOf(groupedSessions, this::processSessions)
+    return allOf(groupedSessions, concurrencyLimit, this::processSessions)
       .thenApply(mapResult(v -> null));
   }
 
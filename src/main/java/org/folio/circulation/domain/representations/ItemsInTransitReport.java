@@ -37,26 +37,29 @@ public class ItemsInTransitReport {
 
   private final ItemsInTransitReportContext reportContext;
 
-  public JsonObject build() {
-    log.debug("build:: ");
-    List<JsonObject> reportEntries = reportContext.getItems().values().stream()
-      .sorted(sortByCheckinServicePointComparator())
+  /**
+   * @return entries for all items of the report context, in no particular order
+   */
+  public List<JsonObject> buildEntries() {
+    log.debug("buildEntries:: ");
+    return reportContext.getItems().values().stream()
       .map(this::buildEntry)
       .collect(toList());
+  }
 
+  public static JsonObject toJson(List<JsonObject> reportEntries, String nextCursor) {
     JsonObject result = new JsonObject()
       .put("items", new JsonArray(reportEntries))
       .put("totalRecords", reportEntries.size());
-    log.debug("build:: result {}", result);
+
+    write(result, "nextCursor", nextCursor);
     return result;
   }
 
-  private Comparator<Item> sortByCheckinServicePointComparator() {
-    log.debug("sortByCheckinServicePointComparator:: ");
-    return comparing(item -> ofNullable(reportContext.getLoans().get(item.getItemId()))
-      .map(Loan::getCheckInServicePointId)
-      .map(id -> reportContext.getServicePoints().get(id))
-      .map(ServicePoint::getName)
+  public static Comparator<JsonObject> byCheckInServicePointName() {
+    return comparing(entry -> ofNullable(entry.getJsonObject("loan"))
+      .map(loan -> loan.getJsonObject("checkInServicePoint"))
+      .map(servicePoint -> servicePoint.getString("name"))
       .orElse(null), Comparator.nullsLast(String::compareTo));
   }
 
@@ -9,6 +9,8 @@ import org.folio.circulation.domain.CheckOutLock;
 import org.folio.circulation.domain.LoanAndRelatedRecords;
 import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.CollectionResourceClient;
+import org.folio.circulation.support.KeyedAsyncLock;
+import org.folio.circulation.support.http.server.WebContext;
 import org.folio.circulation.support.http.client.Response;
 import org.folio.circulation.support.http.client.ResponseInterpreter;
 import org.folio.circulation.support.results.Result;
@@ -21,12 +23,44 @@ import static org.folio.circulation.support.http.ResponseMapping.mapUsingJson;
 
 public class CheckOutLockRepository {
   private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+  /** serializes check-outs of the same patron of a tenant within this module instance */
+  private static final KeyedAsyncLock localLocks = new KeyedAsyncLock();
+
   private final CollectionResourceClient checkOutLockClient;
   private final Vertx vertx;
+  private final String tenantId;
 
   public CheckOutLockRepository(Clients clients, RoutingContext routingContext) {
     this.checkOutLockClient = clients.checkOutLockClient();
     this.vertx = routingContext.vertx();
+    this.tenantId = new WebContext(routingContext).getTenantId();
+  }
+
+  /**
+   * Acquires the in-process lock for the patron before the storage lock is created,
+   * concurrent check-outs for the same patron within this instance wait here instead of
+   * polling the storage, the storage lock then only guards against other instances
+   */
+  public CompletableFuture<KeyedAsyncLock.Permit> acquireLocalLock(LoanAndRelatedRecords records) {
+    final var configuration = records.getCheckoutLockConfiguration();
+    final long timeout = Math.max((long) configuration.getNoOfRetryAttempts()
+      * configuration.getRetryInterval(), configuration.getLockTtl());
+
+    log.debug("acquireLocalLock:: acquiring local lock for userId {} with timeout {}",
+      records.getUserId(), timeout);
+
+    // patrons of different tenants can have the same id and should not wait for each other
+    return localLocks.acquire(tenantId + ":" + records.getUserId(), timeout)
+      .whenComplete((permit, error) -> {
+        final KeyedAsyncLock.Metrics metrics = localLocks.getMetrics();
+        if (error != null) {
+          log.warn("acquireLocalLock:: failed to acquire local lock for userId {}, metrics: {}",
+            records.getUserId(), metrics);
+        } else {
+          log.debug("acquireLocalLock:: local lock acquired for userId {}, metrics: {}",
+            records.getUserId(), metrics);
+        }
+      });
   }
 
   public void createLockWithRetry(int noOfAttempts, CompletableFuture<CheckOutLock> future, LoanAndRelatedRecords records) {
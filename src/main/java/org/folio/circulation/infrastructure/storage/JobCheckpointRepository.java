@@ -0,0 +1,67 @@
+package org.folio.circulation.infrastructure.storage;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.folio.circulation.support.http.CommonResponseInterpreters.noContentRecordInterpreter;
+import static org.folio.circulation.support.http.ResponseMapping.forwardOnFailure;
+import static org.folio.circulation.support.results.Result.succeeded;
+
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.circulation.domain.JobCheckpoint;
+import org.folio.circulation.support.Clients;
+import org.folio.circulation.support.CollectionResourceClient;
+import org.folio.circulation.support.FetchSingleRecord;
+import org.folio.circulation.support.http.client.ResponseInterpreter;
+import org.folio.circulation.support.results.Result;
+
+/**
+ * Stores the checkpoints of scheduled jobs as circulation settings
+ */
+public class JobCheckpointRepository {
+  private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+  private static final String RECORD_TYPE = "job checkpoint";
+
+  private final CollectionResourceClient circulationSettingsStorageClient;
+
+  public JobCheckpointRepository(Clients clients) {
+    circulationSettingsStorageClient = clients.circulationSettingsStorageClient();
+  }
+
+  /**
+   * @return the checkpoint of the job, null when the job has never run
+   */
+  public CompletableFuture<Result<JobCheckpoint>> findByJobName(String jobName) {
+    log.debug("findByJobName:: parameters jobName: {}", jobName);
+
+    return FetchSingleRecord.<JobCheckpoint>forRecord(RECORD_TYPE)
+      .using(circulationSettingsStorageClient)
+      .mapTo(JobCheckpoint::from)
+      .whenNotFound(succeeded(null))
+      .fetch(JobCheckpoint.idOf(jobName));
+  }
+
+  /**
+   * Replaces the stored checkpoint, creates it when the job has never run
+   */
+  public CompletableFuture<Result<JobCheckpoint>> save(JobCheckpoint checkpoint) {
+    log.debug("save:: parameters checkpoint: {}", checkpoint);
+
+    return circulationSettingsStorageClient.put(checkpoint.getId(), checkpoint.asJson())
+      .thenCompose(r -> r.after(response -> response.getStatusCode() == 404
+        ? create(checkpoint)
+        : completedFuture(noContentRecordInterpreter(checkpoint).apply(response))));
+  }
+
+  private CompletableFuture<Result<JobCheckpoint>> create(JobCheckpoint checkpoint) {
+    final ResponseInterpreter<JobCheckpoint> interpreter =
+      new ResponseInterpreter<JobCheckpoint>()
+        .on(201, succeeded(checkpoint))
+        .otherwise(forwardOnFailure());
+
+    return circulationSettingsStorageClient.post(checkpoint.asJson())
+      .thenApply(interpreter::flatMap);
+  }
+}
@@ -0,0 +1,87 @@
+package org.folio.circulation.infrastructure.storage;
+
+import static org.folio.circulation.support.http.ResponseMapping.forwardOnFailure;
+import static org.folio.circulation.support.http.ResponseMapping.mapUsingJson;
+import static org.folio.circulation.support.results.Result.succeeded;
+
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.circulation.domain.ScheduledJobLease;
+import org.folio.circulation.support.Clients;
+import org.folio.circulation.support.CollectionResourceClient;
+import org.folio.circulation.support.FetchSingleRecord;
+import org.folio.circulation.support.http.client.ResponseInterpreter;
+import org.folio.circulation.support.results.Result;
+
+/**
+ * Stores the leases of scheduled jobs as circulation settings
+ */
+public class ScheduledJobLeaseRepository {
+  private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+  private static final String RECORD_TYPE = "scheduled job lease";
+
+  private final CollectionResourceClient circulationSettingsStorageClient;
+
+  public ScheduledJobLeaseRepository(Clients clients) {
+    circulationSettingsStorageClient = clients.circulationSettingsStorageClient();
+  }
+
+  /**
+   * @return the lease of the job, null when there is none
+   */
+  public CompletableFuture<Result<ScheduledJobLease>> findByJobName(String jobName) {
+    log.debug("findByJobName:: parameters jobName: {}", jobName);
+
+    return FetchSingleRecord.<ScheduledJobLease>forRecord(RECORD_TYPE)
+      .using(circulationSettingsStorageClient)
+      .mapTo(ScheduledJobLease::from)
+      .whenNotFound(succeeded(null))
+      .fetch(ScheduledJobLease.idOf(jobName));
+  }
+
+  public CompletableFuture<Result<ScheduledJobLease>> create(ScheduledJobLease lease) {
+    log.debug("create:: parameters lease: {}", lease);
+
+    final ResponseInterpreter<ScheduledJobLease> interpreter =
+      new ResponseInterpreter<ScheduledJobLease>()
+        .flatMapOn(201, mapUsingJson(ScheduledJobLease::from))
+        .otherwise(forwardOnFailure());
+
+    return circulationSettingsStorageClient.post(lease.asJson())
+      .thenApply(interpreter::flatMap);
+  }
+
+  /**
+   * Updates the lease, provided the stored lease has the version it was read with
+   *
+   * @return null when the stored lease has been changed since it was read
+   */
+  public CompletableFuture<Result<ScheduledJobLease>> update(ScheduledJobLease lease) {
+    log.debug("update:: parameters lease: {}", lease);
+
+    final ResponseInterpreter<ScheduledJobLease> interpreter =
+      new ResponseInterpreter<ScheduledJobLease>()
+        .on(204, succeeded(lease))
+        .on(409, succeeded(null))
+        .otherwise(forwardOnFailure());
+
+    return circulationSettingsStorageClient.put(lease.getId(), lease.asJson())
+      .thenApply(interpreter::flatMap);
+  }
+
+  public CompletableFuture<Result<ScheduledJobLease>> delete(ScheduledJobLease lease) {
+    log.debug("delete:: parameters lease: {}", lease);
+
+    final ResponseInterpreter<ScheduledJobLease> interpreter =
+      new ResponseInterpreter<ScheduledJobLease>()
+        .on(204, succeeded(lease))
+        .on(404, succeeded(lease))
+        .otherwise(forwardOnFailure());
+
+    return circulationSettingsStorageClient.delete(lease.getId())
+      .thenApply(interpreter::flatMap);
+  }
+}
@@ -3,8 +3,11 @@ package org.folio.circulation.infrastructure.storage;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static java.util.function.UnaryOperator.identity;
 import static java.util.stream.Collectors.toMap;
+import static org.folio.circulation.support.CqlSortBy.descending;
 import static org.folio.circulation.support.fetching.RecordFetching.findWithMultipleCqlIndexValues;
 import static org.folio.circulation.support.http.client.CqlQuery.exactMatch;
+import static org.folio.circulation.support.http.client.CqlQuery.hasValue;
+import static org.folio.circulation.support.json.JsonPropertyFetcher.getNestedStringProperty;
 import static org.folio.circulation.support.results.Result.ofAsync;
 import static org.folio.circulation.support.results.Result.succeeded;
 import static org.folio.circulation.support.utils.LogUtil.collectionAsString;
@@ -41,8 +44,11 @@ import org.folio.circulation.support.FetchSingleRecord;
 import org.folio.circulation.support.FindWithMultipleCqlIndexValues;
 import org.folio.circulation.support.fetching.MultipleCqlIndexValuesCriteria;
 import org.folio.circulation.support.http.client.CqlQuery;
+import org.folio.circulation.support.http.client.PageLimit;
 import org.folio.circulation.support.results.Result;
 
+import io.vertx.core.json.JsonObject;
+
 public class ServicePointRepository {
   private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
 
@@ -299,10 +305,34 @@ public class ServicePointRepository {
       .thenApply(r -> r.map(MultipleRecords::getRecords));
   }
 
+  /**
+   * Fetches the number of service points and the date the most recently changed one was
+   * updated, which is used to find out whether service points have changed since they
+   * were last fetched
+   */
+  public CompletableFuture<Result<ServicePointsVersion>> fetchServicePointsVersion() {
+    return hasValue("id")
+      .map(query -> query.sortBy(descending("metadata.updatedDate")))
+      .after(query -> servicePointsStorageClient.getMany(query, PageLimit.one()))
+      .thenApply(r -> r.next(response -> MultipleRecords.from(response, identity(),
+        "servicepoints")))
+      .thenApply(r -> r.map(ServicePointsVersion::from));
+  }
+
   private FindWithMultipleCqlIndexValues<ServicePoint> createServicePointsFetcher() {
     final var mapper = new ServicePointMapper();
 
     return findWithMultipleCqlIndexValues(servicePointsStorageClient,
       "servicepoints", mapper::toDomain);
   }
+
+  public record ServicePointsVersion(int totalRecords, String lastUpdatedDate) {
+    private static ServicePointsVersion from(MultipleRecords<JsonObject> lastUpdated) {
+      return new ServicePointsVersion(lastUpdated.getTotalRecords(),
+        lastUpdated.getRecords().stream()
+          .findFirst()
+          .map(servicePoint -> getNestedStringProperty(servicePoint, "metadata", "updatedDate"))
+          .orElse(null));
+    }
+  }
 }
@@ -202,6 +202,14 @@ public class AccountRepository {
       .fetch(id);
   }
 
+  public CompletableFuture<Result<MultipleRecords<Account>>> findByIds(Collection<String> ids) {
+    log.debug("findByIds:: parameters ids: {}", () -> collectionAsString(ids));
+
+    return findWithMultipleCqlIndexValues(accountsStorageClient,
+        ACCOUNTS_COLLECTION_PROPERTY_NAME, Account::from)
+      .findByIds(ids);
+  }
+
   public CompletableFuture<Result<Account>> create(StoredAccount account) {
     log.debug("create:: creating account");
     final ResponseInterpreter<Account> interpreter = new ResponseInterpreter<Account>()
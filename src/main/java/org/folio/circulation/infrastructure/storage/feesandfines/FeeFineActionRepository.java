@@ -2,6 +2,10 @@ package org.folio.circulation.infrastructure.storage.feesandfines;
 
 import static java.util.Objects.isNull;
 import static java.util.concurrent.CompletableFuture.allOf;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
+import static org.folio.circulation.support.fetching.MultipleCqlIndexValuesCriteria.byIndex;
+import static org.folio.circulation.support.fetching.RecordFetching.findWithMultipleCqlIndexValues;
 import static org.folio.circulation.support.http.ResponseMapping.forwardOnFailure;
 import static org.folio.circulation.support.http.ResponseMapping.mapUsingJson;
 import static org.folio.circulation.support.http.client.CqlQuery.exactMatch;
@@ -15,6 +19,8 @@ import static org.folio.circulation.support.utils.LogUtil.resultAsString;
 
 import java.lang.invoke.MethodHandles;
 import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 
 import org.apache.logging.log4j.LogManager;
@@ -87,6 +93,41 @@ public class FeeFineActionRepository {
       .thenApply(mapResult(MultipleRecords::firstOrNull));
   }
 
+  public CompletableFuture<Result<MultipleRecords<FeeFineAction>>> findByIds(
+    Collection<String> ids) {
+
+    log.debug("findByIds:: parameters ids: {}", () -> collectionAsString(ids));
+
+    return findWithMultipleCqlIndexValues(feeFineActionsStorageClient, "feefineactions",
+      FeeFineAction::from)
+      .findByIds(ids);
+  }
+
+  /**
+   * Fetches the charge actions of all the accounts at once,
+   * see {@link #findChargeActionForAccount(Account)}
+   *
+   * @return charge actions by account ID, accounts without a charge action are left out
+   */
+  public CompletableFuture<Result<Map<String, FeeFineAction>>> findChargeActionsForAccounts(
+    Collection<Account> accounts) {
+
+    log.debug("findChargeActionsForAccounts:: parameters accounts: {}",
+      () -> collectionAsString(accounts));
+
+    final Map<String, String> feeFineTypes = accounts.stream()
+      .filter(account -> account.getId() != null && account.getFeeFineType() != null)
+      .collect(toMap(Account::getId, Account::getFeeFineType, (first, second) -> first));
+
+    return findWithMultipleCqlIndexValues(feeFineActionsStorageClient, "feefineactions",
+      FeeFineAction::from)
+      .find(byIndex("accountId", feeFineTypes.keySet()))
+      .thenApply(mapResult(actions -> actions.getRecords().stream()
+        .filter(action -> Objects.equals(action.getActionType(),
+          feeFineTypes.get(action.getAccountId())))
+        .collect(toMap(FeeFineAction::getAccountId, identity(), (first, second) -> first))));
+  }
+
   public CompletableFuture<Result<Void>> createAll(
     Collection<StoredFeeFineAction> feeFineActions) {
 
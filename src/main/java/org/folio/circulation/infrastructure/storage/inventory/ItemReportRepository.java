@@ -1,19 +1,16 @@
 package org.folio.circulation.infrastructure.storage.inventory;
 
+import static org.folio.circulation.support.CqlSortBy.ascending;
 import static org.folio.circulation.support.http.client.CqlQuery.exactMatch;
+import static org.folio.circulation.support.http.client.CqlQuery.greaterThan;
 import static org.folio.circulation.support.http.client.PageLimit.limit;
-import static org.folio.circulation.support.http.client.Offset.offset;
-import static org.folio.circulation.support.utils.LogUtil.resultAsString;
 
 import java.lang.invoke.MethodHandles;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.folio.circulation.domain.Item;
-import org.folio.circulation.domain.ItemsReportFetcher;
 import org.folio.circulation.domain.MultipleRecords;
 import org.folio.circulation.storage.mappers.ItemMapper;
 import org.folio.circulation.support.Clients;
@@ -25,66 +22,32 @@ public class ItemReportRepository {
   private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
   private final GetManyRecordsClient itemsClient;
 
-  private static final int PAGE_LIMIT = 1000;
-
   public ItemReportRepository(Clients clients) {
     itemsClient = clients.itemsStorage();
   }
 
-  public CompletableFuture<Result<ItemsReportFetcher>> getAllItemsByField(String fieldName, String fieldValue) {
-    log.debug("getAllItemsByField:: parameters fieldName: {}, fieldValue: {}", fieldName, fieldValue);
-
-    CompletableFuture<Result<ItemsReportFetcher>> future = new CompletableFuture<>();
-    ItemsReportFetcher itemsReportFetcher = new ItemsReportFetcher(0, new ArrayList<>());
-    fetchNextPage(itemsReportFetcher, future, fieldName, fieldValue);
-    return future;
-  }
-
-  private ItemsReportFetcher fillResultItemContext(ItemsReportFetcher itemsReportFetcher,
-                                                   Result<MultipleRecords<Item>> itemRecords) {
-
-    log.debug("fillResultItemContext:: parameters itemsReportFetcher: {}, itemRecords: {}",
-      () -> itemsReportFetcher, () -> resultAsString(itemRecords));
-    List<Result<MultipleRecords<Item>>> resultListOfItems = itemsReportFetcher.getResultListOfItems();
-    resultListOfItems.add(itemRecords);
-    int newPageNumber = itemsReportFetcher.getCurrPageNumber() + 1;
-    return new ItemsReportFetcher(newPageNumber, resultListOfItems);
-  }
-
-  private void fetchNextPage(ItemsReportFetcher itemsReportFetcher,
-                             CompletableFuture<Result<ItemsReportFetcher>> future,
-                             String fieldName, String fieldValue) {
-
-    log.debug("fetchNextPage:: parameters itemsReportFetcher: {}, fieldName: {}, fieldValue: {}",
-      () -> itemsReportFetcher, () -> fieldName, () -> fieldValue);
-    getItemsByField(itemsReportFetcher, fieldName, fieldValue)
-      .thenApply(itemRecords -> {
-          ItemsReportFetcher reportFetcher = fillResultItemContext(itemsReportFetcher, itemRecords);
-          int totalRecords = itemRecords.value().getTotalRecords();
-
-          if (totalRecords > reportFetcher.getPageOffset(PAGE_LIMIT)) {
-            fetchNextPage(reportFetcher, future, fieldName, fieldValue);
-          } else {
-            future.complete(Result.of(() -> reportFetcher));
-          }
-          return itemRecords;
-        }
-      );
-  }
-
-  private CompletableFuture<Result<MultipleRecords<Item>>> getItemsByField(
-    ItemsReportFetcher itemsReportFetcher, String fieldName, String fieldValue) {
+  /**
+   * Fetches a page of items sorted by ID, starting after the given item, so that all
+   * items can be processed page by page without keeping them in memory
+   *
+   * @param afterItemId ID of the last item of the previous page, null for the first page
+   */
+  public CompletableFuture<Result<MultipleRecords<Item>>> getItemsPageByField(
+    String fieldName, String fieldValue, String afterItemId, int pageSize) {
 
-    log.debug("getItemsByField:: parameters fieldName: {}, fieldValue: {}", fieldName, fieldValue);
+    log.debug("getItemsPageByField:: parameters fieldName: {}, fieldValue: {}, " +
+      "afterItemId: {}, pageSize: {}", fieldName, fieldValue, afterItemId, pageSize);
 
-    final Result<CqlQuery> itemStatusQuery = exactMatch(fieldName, fieldValue);
-    int pageOffset = itemsReportFetcher.getCurrPageNumber() * PAGE_LIMIT;
+    final Result<CqlQuery> fieldQuery = exactMatch(fieldName, fieldValue);
+    final Result<CqlQuery> pageQuery = afterItemId == null
+      ? fieldQuery
+      : fieldQuery.combine(greaterThan("id", afterItemId), CqlQuery::and);
 
     final var mapper = new ItemMapper();
 
-    return itemStatusQuery
-      .after(query -> itemsClient.getMany(query, limit(PAGE_LIMIT),
-        offset(pageOffset)))
+    return pageQuery
+      .map(query -> query.sortBy(ascending("id")))
+      .after(query -> itemsClient.getMany(query, limit(pageSize)))
       .thenApply(result -> result
         .next(response -> MultipleRecords.from(response, mapper::toDomain, "items")));
   }
@@ -98,9 +98,6 @@ public class ItemRepository {
   public CompletableFuture<Result<Item>> updateItem(Item item) {
     log.debug("updateItem:: parameters item: {}", item);
 
-    final String IN_TRANSIT_DESTINATION_SERVICE_POINT_ID = "inTransitDestinationServicePointId";
-    final String TEMPORARY_LOCATION_ID = "temporaryLocationId";
-
     if (item == null) {
       log.info("updateItem:: item is null");
       return ofAsync(() -> null);
@@ -111,10 +108,39 @@ public class ItemRepository {
         "Cannot update item when original representation is not available in identity map")));
     }
 
-    final var updatedItemRepresentation = identityMap.get(item.getItemId());
+    final var originalItemRepresentation = identityMap.get(item.getItemId());
+    final var updatedItemRepresentation = toStorageRepresentation(item,
+      originalItemRepresentation.copy());
+
+    if (updatedItemRepresentation.equals(originalItemRepresentation)) {
+      log.info("updateItem:: item {} has not changed, skipping update", item.getItemId());
+      return ofAsync(item);
+    }
+
+    return (item.isDcbItem() ? circulationItemClient : itemsClient)
+      .put(item.getItemId(), updatedItemRepresentation)
+      .thenApply(noContentRecordInterpreter(item)::flatMap)
+      .thenApply(r -> r.map(notUsed -> {
+        identityMap.add(updatedItemRepresentation);
+        return item;
+      }));
+  }
+
+  private static JsonObject toStorageRepresentation(Item item,
+    JsonObject updatedItemRepresentation) {
+
+    final String IN_TRANSIT_DESTINATION_SERVICE_POINT_ID = "inTransitDestinationServicePointId";
+    final String TEMPORARY_LOCATION_ID = "temporaryLocationId";
+
+    final var currentStatus = updatedItemRepresentation.getJsonObject(STATUS_PROPERTY);
 
-    write(updatedItemRepresentation, STATUS_PROPERTY,
-      new JsonObject().put("name", item.getStatus().getValue()));
+    // keep the status (including its date) when it has not changed
+    if (currentStatus == null
+      || !item.getStatus().getValue().equals(currentStatus.getString("name"))) {
+
+      write(updatedItemRepresentation, STATUS_PROPERTY,
+        new JsonObject().put("name", item.getStatus().getValue()));
+    }
 
     remove(updatedItemRepresentation, IN_TRANSIT_DESTINATION_SERVICE_POINT_ID);
     if (item.isInStatus(IN_TRANSIT)) {
@@ -135,10 +161,7 @@ public class ItemRepository {
       write(updatedItemRepresentation, LAST_CHECK_IN, lastCheckIn.toJson());
     }
 
-    return (item.isDcbItem() ? circulationItemClient : itemsClient)
-      .put(item.getItemId(), updatedItemRepresentation)
-      .thenApply(noContentRecordInterpreter(item)::flatMap)
-      .thenCompose(x -> ofAsync(() -> item));
+    return updatedItemRepresentation;
   }
 
   public CompletableFuture<Result<Item>> getFirstAvailableItemByInstanceId(String instanceId) {
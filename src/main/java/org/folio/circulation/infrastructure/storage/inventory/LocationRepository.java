@@ -18,6 +18,8 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 import org.apache.logging.log4j.LogManager;
@@ -29,6 +31,7 @@ import org.folio.circulation.domain.Library;
 import org.folio.circulation.domain.Location;
 import org.folio.circulation.domain.MultipleRecords;
 import org.folio.circulation.domain.ServicePoint;
+import org.folio.circulation.domain.ServicePointLocationIndex;
 import org.folio.circulation.infrastructure.storage.ServicePointRepository;
 import org.folio.circulation.storage.mappers.CampusMapper;
 import org.folio.circulation.storage.mappers.InstitutionMapper;
@@ -45,11 +48,16 @@ import org.folio.circulation.support.results.Result;
 
 public class LocationRepository {
   private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+  private static final long LOCATION_INDEX_TIME_TO_LIVE_MILLIS = TimeUnit.MINUTES.toMillis(5);
+  private static final Map<LocationIndexKey, CachedLocationIndex> locationIndexes =
+    new ConcurrentHashMap<>();
+
   private final CollectionResourceClient locationsStorageClient;
   private final CollectionResourceClient institutionsStorageClient;
   private final CollectionResourceClient campusesStorageClient;
   private final CollectionResourceClient librariesStorageClient;
   private final ServicePointRepository servicePointRepository;
+  private final String tenantId;
 
   protected LocationRepository(CollectionResourceClient locationsStorageClient,
     CollectionResourceClient institutionsStorageClient,
@@ -57,11 +65,22 @@ public class LocationRepository {
     CollectionResourceClient librariesStorageClient,
     ServicePointRepository servicePointRepository) {
 
+    this(locationsStorageClient, institutionsStorageClient, campusesStorageClient,
+      librariesStorageClient, servicePointRepository, null);
+  }
+
+  private LocationRepository(CollectionResourceClient locationsStorageClient,
+    CollectionResourceClient institutionsStorageClient,
+    CollectionResourceClient campusesStorageClient,
+    CollectionResourceClient librariesStorageClient,
+    ServicePointRepository servicePointRepository, String tenantId) {
+
     this.locationsStorageClient = locationsStorageClient;
     this.institutionsStorageClient = institutionsStorageClient;
     this.campusesStorageClient = campusesStorageClient;
     this.librariesStorageClient = librariesStorageClient;
     this.servicePointRepository = servicePointRepository;
+    this.tenantId = tenantId;
   }
 
   public static LocationRepository using(Clients clients,
@@ -69,13 +88,14 @@ public class LocationRepository {
 
     return new LocationRepository(clients.locationsStorage(),
       clients.institutionsStorage(), clients.campusesStorage(),
-      clients.librariesStorage(), servicePointRepository);
+      clients.librariesStorage(), servicePointRepository, clients.getTenantId());
   }
 
   public static LocationRepository using(Clients clients) {
     return new LocationRepository(clients.locationsStorage(),
       clients.institutionsStorage(), clients.campusesStorage(),
-      clients.librariesStorage(), new ServicePointRepository(clients));
+      clients.librariesStorage(), new ServicePointRepository(clients),
+      clients.getTenantId());
   }
 
   public CompletableFuture<Result<Location>> getEffectiveLocation(Item item) {
@@ -325,6 +345,42 @@ public class LocationRepository {
       .thenApply(r -> r.map(MultipleRecords::getRecords));
   }
 
+  /**
+   * Fetches the locations served by a service point as an index of their location
+   * hierarchy. Indexes are kept for a few minutes per tenant, as locations
+   * rarely change
+   */
+  public CompletableFuture<Result<ServicePointLocationIndex>> fetchLocationIndexForServicePoint(
+    String servicePointId) {
+
+    log.debug("fetchLocationIndexForServicePoint:: parameters servicePointId: {}",
+      servicePointId);
+
+    if (tenantId == null) {
+      return fetchLocationsForServicePoint(servicePointId)
+        .thenApply(r -> r.map(ServicePointLocationIndex::new));
+    }
+
+    final var key = new LocationIndexKey(tenantId, servicePointId);
+    final var cached = locationIndexes.get(key);
+
+    if (cached != null && !cached.isExpired()) {
+      log.debug("fetchLocationIndexForServicePoint:: using cached index");
+      return ofAsync(cached.index());
+    }
+
+    return fetchLocationsForServicePoint(servicePointId)
+      .thenApply(r -> r.map(ServicePointLocationIndex::new))
+      .thenApply(r -> r.map(index -> {
+        locationIndexes.put(key, new CachedLocationIndex(index, System.currentTimeMillis()));
+        return index;
+      }));
+  }
+
+  static void clearLocationIndexes() {
+    locationIndexes.clear();
+  }
+
   private <T, R> Set<R> uniqueSet(Collection<T> collection, Function<T, R> mapper) {
     return collection.stream()
       .filter(Objects::nonNull)
@@ -332,4 +388,12 @@ public class LocationRepository {
       .filter(Objects::nonNull)
       .collect(toSet());
   }
+
+  private record LocationIndexKey(String tenantId, String servicePointId) { }
+
+  private record CachedLocationIndex(ServicePointLocationIndex index, long cachedAt) {
+    private boolean isExpired() {
+      return System.currentTimeMillis() - cachedAt > LOCATION_INDEX_TIME_TO_LIVE_MILLIS;
+    }
+  }
 }
@@ -2,6 +2,7 @@ package org.folio.circulation.infrastructure.storage.loans;
 
 import static java.util.Objects.isNull;
 import static org.folio.circulation.domain.policy.LoanPolicy.unknown;
+import static org.folio.circulation.support.AsyncCoordinationUtil.allResultsOf;
 import static org.folio.circulation.support.fetching.RecordFetching.findWithMultipleCqlIndexValues;
 import static org.folio.circulation.support.results.Result.ofAsync;
 import static org.folio.circulation.support.results.Result.succeeded;
@@ -17,8 +18,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.folio.circulation.domain.Loan;
@@ -130,6 +133,50 @@ public class LoanPolicyRepository extends CirculationPolicyRepository<LoanPolicy
       LoanPolicy::from);
   }
 
+  /**
+   * Applies the circulation rules to each of the loans, fetching every matched policy
+   * (and its schedules) only once. Loans the rules cannot be applied to are left out,
+   * so that the failure can be reported for the individual loan
+   *
+   * @return loan policies by loan ID
+   */
+  public CompletableFuture<Result<Map<String, LoanPolicy>>> lookupPolicies(
+    Collection<Loan> loans) {
+
+    log.debug("lookupPolicies:: parameters loans: {}", loans::size);
+
+    final Map<String, CompletableFuture<Result<LoanPolicy>>> policiesByMatch =
+      new ConcurrentHashMap<>();
+
+    return allResultsOf(loans, loan -> lookupPolicyId(loan.getItem(), loan.getUser())
+        .thenCompose(r -> r.after(match -> policiesByMatch.computeIfAbsent(matchKey(match),
+          key -> lookupPolicy(match.getPolicyId(), match.getAppliedRuleConditions())
+            .thenComposeAsync(p -> p.after(this::lookupSchedules)))))
+        .thenApply(mapResult(policy -> Pair.of(loan.getId(), policy))))
+      .thenApply(results -> {
+        final Map<String, LoanPolicy> policies = results.stream()
+          .filter(Result::succeeded)
+          .map(Result::value)
+          .collect(Collectors.toMap(Pair::getKey, Pair::getValue));
+
+        log.info("lookupPolicies:: found policies for {} of {} loans using {} distinct " +
+          "rule matches", policies::size, loans::size, policiesByMatch::size);
+
+        return succeeded(policies);
+      });
+  }
+
+  private static String matchKey(CirculationRuleMatch match) {
+    final AppliedRuleConditions conditions = match.getAppliedRuleConditions();
+
+    return conditions == null
+      ? match.getPolicyId()
+      : String.join(":", match.getPolicyId(),
+        String.valueOf(conditions.isItemTypePresent()),
+        String.valueOf(conditions.isLoanTypePresent()),
+        String.valueOf(conditions.isPatronGroupPresent()));
+  }
+
   @Override
   public CompletableFuture<Result<LoanPolicy>> lookupPolicy(Loan loan) {
     log.debug("lookupPolicy:: parameters loan: {}", loan);
@@ -1,6 +1,7 @@
 package org.folio.circulation.infrastructure.storage.loans;
 
 import static java.lang.String.format;
+import static java.util.function.Function.identity;
 import static java.util.Objects.nonNull;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.folio.circulation.domain.ItemStatus.IN_TRANSIT;
@@ -36,6 +37,7 @@ import static org.folio.circulation.support.utils.LogUtil.multipleRecordsAsStrin
 import static org.folio.circulation.support.utils.LogUtil.resultAsString;
 
 import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -63,6 +65,9 @@ import org.folio.circulation.support.FetchSingleRecord;
 import org.folio.circulation.support.FindWithMultipleCqlIndexValues;
 import org.folio.circulation.support.RecordNotFoundFailure;
 import org.folio.circulation.support.fetching.GetManyRecordsRepository;
+import org.folio.circulation.support.fetching.KeysetPage;
+import org.folio.circulation.support.fetching.KeysetPageRequest;
+import org.folio.circulation.support.fetching.PageableFetcher;
 import org.folio.circulation.support.http.client.CqlQuery;
 import org.folio.circulation.support.http.client.Offset;
 import org.folio.circulation.support.http.client.PageLimit;
@@ -237,10 +242,15 @@ public class LoanRepository implements GetManyRecordsRepository<Loan> {
 
     log.debug("findLoansToAnonymize:: parameters pageLimit: {}", pageLimit);
 
-    Result<CqlQuery> cqlQuery = getStatusCQLQuery("Closed")
-      .combine(CqlQuery.hasValue(USER_ID), CqlQuery::and);
+    return queryLoanStorage(loansToAnonymizeQuery(), pageLimit);
+  }
 
-    return queryLoanStorage(cqlQuery, pageLimit);
+  /**
+   * @return query for closed loans which have not been anonymized yet
+   */
+  public Result<CqlQuery> loansToAnonymizeQuery() {
+    return getStatusCQLQuery("Closed")
+      .combine(CqlQuery.hasValue(USER_ID), CqlQuery::and);
   }
 
   private CompletableFuture<Result<MultipleRecords<Loan>>> queryLoanStorage(
@@ -268,6 +278,16 @@ public class LoanRepository implements GetManyRecordsRepository<Loan> {
       .thenComposeAsync(loans -> itemRepository.fetchItemsFor(loans, Loan::withItem));
   }
 
+  public CompletableFuture<Result<KeysetPage<Loan>>> findPage(KeysetPageRequest pageRequest) {
+    return pageRequest.cqlQuery()
+      .after(query -> loansStorageClient.getMany(query, pageRequest.fetchLimit()))
+      .thenApply(flatMapResult(this::mapResponseToLoans))
+      .thenApply(r -> r.map(loans -> pageRequest.toPage(loans, Loan::getId)))
+      .thenCompose(r -> r.after(page -> itemRepository.fetchItemsFor(
+          succeeded(page.records()), Loan::withItem)
+        .thenApply(loans -> loans.map(page::withRecords))));
+  }
+
   public CompletableFuture<Result<MultipleRecords<Loan>>> findByIds(Collection<String> loanIds) {
     log.debug("findByIds:: parameters loanIds: {}", () -> collectionAsString(loanIds));
     FindWithMultipleCqlIndexValues<Loan> fetcher =
@@ -380,6 +400,44 @@ public class LoanRepository implements GetManyRecordsRepository<Loan> {
     return queryLoanStorage(statusQuery.combine(itemIdQuery, CqlQuery::and), one());
   }
 
+  /**
+   * Fetches the open loans for several items using batched queries
+   *
+   * @return open loans by item ID, items without an open loan, or with more than one
+   * open loan, are not included
+   */
+  public CompletableFuture<Result<Map<String, Loan>>> findOpenLoansForItems(
+    Collection<Item> items) {
+
+    log.debug("findOpenLoansForItems:: parameters items: {}", items::size);
+
+    final Map<String, Item> itemsById = items.stream()
+      .filter(item -> item.getItemId() != null)
+      .collect(Collectors.toMap(Item::getItemId, identity(), (first, second) -> first));
+
+    if (itemsById.isEmpty()) {
+      return ofAsync(Map.of());
+    }
+
+    final FindWithMultipleCqlIndexValues<Loan> fetcher =
+      findWithMultipleCqlIndexValues(loansStorageClient, RECORDS_PROPERTY_NAME, Loan::from);
+
+    return fetcher.findByIdIndexAndQuery(itemsById.keySet(), ITEM_ID, getStatusCQLQuery("Open"))
+      .thenApply(r -> r.map(loans -> loans.getRecords().stream()
+        .collect(Collectors.groupingBy(Loan::getItemId))
+        .entrySet().stream()
+        .filter(entry -> {
+          if (entry.getValue().size() > 1) {
+            log.info("findOpenLoansForItems:: more than one open loan found for item {}",
+              entry.getKey());
+            return false;
+          }
+          return true;
+        })
+        .collect(Collectors.toMap(Map.Entry::getKey,
+          entry -> entry.getValue().get(0).withItem(itemsById.get(entry.getKey()))))));
+  }
+
   public CompletableFuture<Result<MultipleRecords<Request>>> findOpenLoansFor(
     MultipleRecords<Request> multipleRequests) {
 
@@ -453,6 +511,28 @@ public class LoanRepository implements GetManyRecordsRepository<Loan> {
       .thenComposeAsync(loans -> itemRepository.fetchItemsFor(loans, Loan::withItem));
   }
 
+  /**
+   * Fetches all open loans of a user with their items, page by page, rather than
+   * only up to a page limit
+   */
+  public CompletableFuture<Result<MultipleRecords<Loan>>> findAllOpenLoansByUserIdWithItem(
+    String userId) {
+
+    log.debug("findAllOpenLoansByUserIdWithItem:: parameters userId: {}", userId);
+
+    final List<Loan> loans = new ArrayList<>();
+
+    return getStatusCQLQuery("Open")
+      .combine(exactMatch(USER_ID, userId), CqlQuery::and)
+      .after(query -> new PageableFetcher<>(this).processPagesByKeyset(query, Loan::getId,
+        page -> {
+          loans.addAll(page.getRecords());
+          return emptyAsync();
+        }))
+      .thenApply(r -> r.map(notUsed -> new MultipleRecords<>(loans, loans.size())))
+      .thenComposeAsync(r -> itemRepository.fetchItemsFor(r, Loan::withItem));
+  }
+
   public CompletableFuture<Result<MultipleRecords<Loan>>> findOpenLoansByUserIdWithItemAndHoldings(
     PageLimit loansLimit, String userId) {
 
@@ -4,7 +4,9 @@ import static io.vertx.core.http.HttpMethod.DELETE;
 import static io.vertx.core.http.HttpMethod.GET;
 import static io.vertx.core.http.HttpMethod.POST;
 import static io.vertx.core.http.HttpMethod.PUT;
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static java.util.function.Function.identity;
+import static org.apache.commons.collections4.ListUtils.partition;
 import static org.folio.HttpStatus.HTTP_CREATED;
 import static org.folio.HttpStatus.HTTP_NO_CONTENT;
 import static org.folio.HttpStatus.HTTP_OK;
@@ -16,13 +18,18 @@ import static org.folio.circulation.infrastructure.storage.notices.JsonScheduled
 import static org.folio.circulation.infrastructure.storage.notices.JsonScheduledNoticeMapper.TIMING;
 import static org.folio.circulation.infrastructure.storage.notices.JsonScheduledNoticeMapper.TRIGGERING_EVENT;
 import static org.folio.circulation.infrastructure.storage.notices.JsonScheduledNoticeMapper.mapToJson;
+import static org.folio.circulation.support.AsyncCoordinationUtil.allResultsOf;
+import static org.folio.circulation.support.AsyncCoordinationUtil.mapSequentially;
 import static org.folio.circulation.support.http.CommonResponseInterpreters.noContentRecordInterpreter;
 import static org.folio.circulation.support.http.ResponseMapping.flatMapUsingJson;
 import static org.folio.circulation.support.http.ResponseMapping.forwardOnFailure;
 import static org.folio.circulation.support.http.client.CqlQuery.exactMatch;
 import static org.folio.circulation.support.http.client.CqlQuery.exactMatchAny;
 import static org.folio.circulation.support.logging.PatronNoticeLogHelper.logResponse;
+import static org.folio.circulation.support.results.Result.of;
+import static org.folio.circulation.support.results.Result.succeeded;
 import static org.folio.circulation.support.results.ResultBinding.flatMapResult;
+import static org.folio.circulation.support.results.ResultBinding.mapResult;
 import static org.folio.circulation.support.utils.DateFormatUtil.formatDateTime;
 
 import java.lang.invoke.MethodHandles;
@@ -48,23 +55,31 @@ import org.folio.circulation.support.http.client.Response;
 import org.folio.circulation.support.http.client.ResponseInterpreter;
 import org.folio.circulation.support.results.Result;
 
+import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 
 public class ScheduledNoticesRepository {
   private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
   private static final List<String> UPON_AT_AND_AFTER_TIMING =
     Arrays.asList(UPON_AT.getRepresentation(), AFTER.getRepresentation());
+  private static final String SCHEDULED_NOTICES = "scheduledNotices";
+  private static final int MAX_NOTICES_PER_BATCH = 50;
 
   public static ScheduledNoticesRepository using(Clients clients) {
     return new ScheduledNoticesRepository(
-      clients.scheduledNoticesStorageClient());
+      clients.scheduledNoticesStorageClient(),
+      clients.scheduledNoticesBatchStorageClient());
   }
 
   private final CollectionResourceClient scheduledNoticesStorageClient;
+  private final CollectionResourceClient scheduledNoticesBatchStorageClient;
 
   private ScheduledNoticesRepository(
-    CollectionResourceClient scheduledNoticesStorageClient) {
+    CollectionResourceClient scheduledNoticesStorageClient,
+    CollectionResourceClient scheduledNoticesBatchStorageClient) {
+
     this.scheduledNoticesStorageClient = scheduledNoticesStorageClient;
+    this.scheduledNoticesBatchStorageClient = scheduledNoticesBatchStorageClient;
   }
 
   public CompletableFuture<Result<ScheduledNotice>> create(ScheduledNotice scheduledNotice) {
@@ -100,7 +115,7 @@ public class ScheduledNoticesRepository {
     return scheduledNoticesStorageClient.getMany(cqlQuery, pageLimit)
       .whenComplete((r, t) -> logResponse(r, t, HTTP_OK.toInt(), GET, cqlQuery))
       .thenApply(r -> r.next(response ->
-        MultipleRecords.from(response, identity(), "scheduledNotices")))
+        MultipleRecords.from(response, identity(), SCHEDULED_NOTICES)))
       .thenApply(r -> r.next(records -> records.flatMapRecords(
         JsonScheduledNoticeMapper::mapFromJson)));
   }
@@ -126,6 +141,112 @@ public class ScheduledNoticesRepository {
       .thenApply(flatMapResult(interpreter::apply));
   }
 
+  /**
+   * Updates the notices in batches rather than one by one. The notices of a batch
+   * which could not be updated at once, e.g. because storage does not provide
+   * the batch endpoint, are updated one by one
+   *
+   * @return the notices which have been updated
+   */
+  public CompletableFuture<Result<List<ScheduledNotice>>> updateAll(
+    Collection<ScheduledNotice> scheduledNotices) {
+
+    log.debug("updateAll:: parameters scheduledNotices: {}", scheduledNotices::size);
+
+    if (scheduledNotices.isEmpty()) {
+      return completedFuture(succeeded(List.of()));
+    }
+
+    return mapSequentially(partition(List.copyOf(scheduledNotices), MAX_NOTICES_PER_BATCH),
+        this::updateBatch)
+      .thenApply(mapResult(batches -> batches.stream()
+        .flatMap(List::stream)
+        .toList()));
+  }
+
+  private CompletableFuture<Result<List<ScheduledNotice>>> updateBatch(
+    List<ScheduledNotice> scheduledNotices) {
+
+    final JsonObject batch = new JsonObject().put(SCHEDULED_NOTICES,
+      new JsonArray(scheduledNotices.stream()
+        .map(JsonScheduledNoticeMapper::mapToJson)
+        .toList()));
+
+    final ResponseInterpreter<List<ScheduledNotice>> interpreter =
+      new ResponseInterpreter<List<ScheduledNotice>>()
+        .on(201, of(() -> scheduledNotices))
+        .otherwise(forwardOnFailure());
+
+    return scheduledNoticesBatchStorageClient.post(batch)
+      .thenApply(interpreter::flatMap)
+      .thenCompose(r -> {
+        if (r.succeeded()) {
+          log.info("updateBatch:: updated {} scheduled notices", scheduledNotices.size());
+          return completedFuture(r);
+        }
+
+        log.warn("updateBatch:: failed to update {} scheduled notices at once, " +
+          "updating them one by one: {}", scheduledNotices.size(), r.cause());
+
+        return allResultsOf(scheduledNotices, this::update)
+          .thenApply(ScheduledNoticesRepository::succeededOnly);
+      });
+  }
+
+  /**
+   * Deletes the notices in batches by ID rather than one by one. The notices of a batch
+   * which could not be deleted at once are deleted one by one
+   *
+   * @return the notices which have been deleted
+   */
+  public CompletableFuture<Result<List<ScheduledNotice>>> deleteAll(
+    Collection<ScheduledNotice> scheduledNotices) {
+
+    log.debug("deleteAll:: parameters scheduledNotices: {}", scheduledNotices::size);
+
+    if (scheduledNotices.isEmpty()) {
+      return completedFuture(succeeded(List.of()));
+    }
+
+    return mapSequentially(partition(List.copyOf(scheduledNotices), MAX_NOTICES_PER_BATCH),
+        this::deleteBatch)
+      .thenApply(mapResult(batches -> batches.stream()
+        .flatMap(List::stream)
+        .toList()));
+  }
+
+  private CompletableFuture<Result<List<ScheduledNotice>>> deleteBatch(
+    List<ScheduledNotice> scheduledNotices) {
+
+    final List<String> ids = scheduledNotices.stream()
+      .map(ScheduledNotice::getId)
+      .toList();
+
+    return exactMatchAny("id", ids)
+      .after(this::deleteMany)
+      .thenCompose(r -> {
+        if (r.succeeded()) {
+          log.info("deleteBatch:: deleted {} scheduled notices", scheduledNotices.size());
+          return completedFuture(succeeded(scheduledNotices));
+        }
+
+        log.warn("deleteBatch:: failed to delete {} scheduled notices at once, " +
+          "deleting them one by one: {}", scheduledNotices.size(), r.cause());
+
+        return allResultsOf(scheduledNotices, this::delete)
+          .thenApply(ScheduledNoticesRepository::succeededOnly);
+      });
+  }
+
+  private static Result<List<ScheduledNotice>> succeededOnly(
+    List<Result<ScheduledNotice>> results) {
+
+    return succeeded(results.stream()
+      .filter(Result::succeeded)
+      .map(Result::value)
+      .toList());
+  }
+
   public CompletableFuture<Result<Response>> deleteByLoanIdAndTriggeringEvent(
     String loanId, TriggeringEvent triggeringEvent) {
 
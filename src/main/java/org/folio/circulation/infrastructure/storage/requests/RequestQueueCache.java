@@ -0,0 +1,189 @@
+package org.folio.circulation.infrastructure.storage.requests;
+
+import static org.folio.circulation.support.json.JsonPropertyFetcher.getNestedStringProperty;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.Environment;
+import org.folio.circulation.domain.MultipleRecords;
+import org.folio.circulation.domain.Request;
+import org.folio.circulation.domain.RequestLevel;
+
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Short-lived in-memory cache of open request queues by tenant and the item or instance
+ * the queue is for. Only stored request records are cached, related records (items,
+ * users, loans etc.) are always fetched again.
+ *
+ * Entries are invalidated when requests are written by this module instance and are
+ * revalidated against storage before being used, so that changes made by other
+ * instances are noticed
+ */
+public class RequestQueueCache {
+  private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+
+  private static final RequestQueueCache instance = new RequestQueueCache(
+    TimeUnit.SECONDS.toMillis(Environment.getRequestQueueCacheTtlSeconds()),
+    Environment.getRequestQueueCacheCapacity());
+
+  private final long timeToLiveMillis;
+  private final int capacity;
+  private final Map<QueueKey, Entry> entries = new ConcurrentHashMap<>();
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder staleEntries = new LongAdder();
+  private final LongAdder invalidations = new LongAdder();
+
+  RequestQueueCache(long timeToLiveMillis, int capacity) {
+    this.timeToLiveMillis = timeToLiveMillis;
+    this.capacity = capacity;
+  }
+
+  public static RequestQueueCache getInstance() {
+    return instance;
+  }
+
+  public boolean isEnabled() {
+    return timeToLiveMillis > 0 && capacity > 0;
+  }
+
+  Optional<Entry> get(QueueKey key) {
+    final Entry entry = entries.get(key);
+
+    if (entry == null || entry.isExpired(timeToLiveMillis)) {
+      misses.increment();
+      return Optional.empty();
+    }
+
+    hits.increment();
+    return Optional.of(entry);
+  }
+
+  void put(QueueKey key, MultipleRecords<Request> requests) {
+    final Entry entry = Entry.of(requests);
+
+    if (entry == null) {
+      log.debug("put:: queue {} cannot be revalidated, not caching it", key);
+      return;
+    }
+
+    if (entries.size() >= capacity) {
+      entries.values().removeIf(cached -> cached.isExpired(timeToLiveMillis));
+    }
+
+    if (entries.size() < capacity || entries.containsKey(key)) {
+      entries.put(key, entry);
+    }
+  }
+
+  void stale(QueueKey key) {
+    staleEntries.increment();
+    entries.remove(key);
+  }
+
+  void invalidate(String tenantId, Collection<Request> requests) {
+    if (tenantId == null || entries.isEmpty()) {
+      return;
+    }
+
+    requests.forEach(request -> invalidate(tenantId, request));
+  }
+
+  void invalidate(String tenantId, Request request) {
+    if (tenantId == null || request == null || entries.isEmpty()) {
+      return;
+    }
+
+    final boolean removed = entries.keySet().removeIf(key -> key.contains(tenantId, request));
+
+    if (removed) {
+      invalidations.increment();
+    }
+  }
+
+  public void clear() {
+    entries.clear();
+  }
+
+  public Metrics getMetrics() {
+    return new Metrics(entries.size(), hits.sum(), misses.sum(), staleEntries.sum(),
+      invalidations.sum());
+  }
+
+  public record Metrics(int size, long hits, long misses, long staleEntries,
+    long invalidations) { }
+
+  record QueueKey(String tenantId, String itemId, String instanceId,
+    EnumSet<RequestLevel> requestLevels) {
+
+    private boolean contains(String requestTenantId, Request request) {
+      return Objects.equals(tenantId, requestTenantId)
+        && ((itemId != null && itemId.equals(request.getItemId()))
+        || (instanceId != null && instanceId.equals(request.getInstanceId())));
+    }
+  }
+
+  record Entry(List<JsonObject> requests, int totalRecords, String lastUpdatedDate,
+    long cachedAt) {
+
+    private static Entry of(MultipleRecords<Request> requests) {
+      final List<JsonObject> representations = requests.getRecords().stream()
+        .map(Request::asJson)
+        .toList();
+
+      if (representations.stream().anyMatch(json -> updatedDate(json) == null)) {
+        return null;
+      }
+
+      final String lastUpdatedDate = representations.stream()
+        .map(Entry::updatedDate)
+        .max(String::compareTo)
+        .orElse(null);
+
+      return new Entry(representations, requests.getTotalRecords(), lastUpdatedDate,
+        System.currentTimeMillis());
+    }
+
+    /**
+     * @param lastUpdated the most recently updated request of the queue in storage
+     */
+    boolean isCurrent(MultipleRecords<Request> lastUpdated) {
+      final String storedLastUpdatedDate = lastUpdated.getRecords().stream()
+        .findFirst()
+        .map(Request::asJson)
+        .map(Entry::updatedDate)
+        .orElse(null);
+
+      return Objects.equals(totalRecords, lastUpdated.getTotalRecords())
+        && Objects.equals(lastUpdatedDate, storedLastUpdatedDate);
+    }
+
+    MultipleRecords<Request> toRequests() {
+      return new MultipleRecords<>(requests.stream()
+        .map(JsonObject::copy)
+        .map(Request::from)
+        .toList(), totalRecords);
+    }
+
+    private boolean isExpired(long timeToLiveMillis) {
+      return System.currentTimeMillis() - cachedAt > timeToLiveMillis;
+    }
+
+    private static String updatedDate(JsonObject request) {
+      return getNestedStringProperty(request, "metadata", "updatedDate");
+    }
+  }
+}
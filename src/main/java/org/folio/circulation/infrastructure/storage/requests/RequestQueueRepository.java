@@ -4,9 +4,12 @@ import static java.util.Collections.emptyList;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.folio.circulation.domain.RequestLevel.ITEM;
 import static org.folio.circulation.domain.RequestLevel.TITLE;
+import static org.folio.circulation.support.AsyncCoordinationUtil.allOf;
 import static org.folio.circulation.support.CqlSortBy.ascending;
+import static org.folio.circulation.support.CqlSortBy.descending;
 import static org.folio.circulation.support.http.client.CqlQuery.exactMatch;
 import static org.folio.circulation.support.http.client.CqlQuery.exactMatchAny;
+import static org.folio.circulation.support.http.client.PageLimit.one;
 import static org.folio.circulation.support.http.client.PageLimit.oneThousand;
 import static org.folio.circulation.support.results.Result.ofAsync;
 import static org.folio.circulation.support.results.Result.succeeded;
@@ -18,8 +21,11 @@ import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -32,19 +38,25 @@ import org.folio.circulation.domain.RequestLevel;
 import org.folio.circulation.domain.RequestQueue;
 import org.folio.circulation.domain.RequestStatus;
 import org.folio.circulation.domain.configuration.TlrSettingsConfiguration;
+import org.folio.circulation.infrastructure.storage.requests.RequestQueueCache.QueueKey;
 import org.folio.circulation.resources.context.RenewalContext;
 import org.folio.circulation.support.http.client.CqlQuery;
 import org.folio.circulation.support.http.client.PageLimit;
 import org.folio.circulation.support.results.Result;
 
-import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
 
-@AllArgsConstructor
+@RequiredArgsConstructor
 public class RequestQueueRepository {
   private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
 
   private static final PageLimit MAXIMUM_SUPPORTED_REQUEST_QUEUE_SIZE = oneThousand();
   private final RequestRepository requestRepository;
+  private final RequestQueueCache queueCache;
+
+  public RequestQueueRepository(RequestRepository requestRepository) {
+    this(requestRepository, RequestQueueCache.getInstance());
+  }
 
   public CompletableFuture<Result<LoanAndRelatedRecords>> get(LoanAndRelatedRecords records) {
     log.debug("get:: parameters loanAndRelatedRecords: {}", records);
@@ -79,6 +91,65 @@ public class RequestQueueRepository {
     ).thenApply(result -> result.map(context::withRequestQueue));
   }
 
+  /**
+   * Fetches the request queues for several items at once, falling back to fetching
+   * each queue separately when the combined queues exceed the supported queue size
+   *
+   * @return request queues by item ID
+   */
+  public CompletableFuture<Result<Map<String, RequestQueue>>> getQueues(
+    TlrSettingsConfiguration tlrSettings, Collection<Item> items) {
+
+    boolean isTlrEnabled = tlrSettings != null && tlrSettings.isTitleLevelRequestsFeatureEnabled();
+    log.info("getQueues:: fetching queues for {} items, TLR feature is {}", items::size,
+      () -> isTlrEnabled ? "enabled" : "disabled");
+
+    final Function<Item, String> queueKey = isTlrEnabled ? Item::getInstanceId : Item::getItemId;
+    final Function<Request, String> requestKey = isTlrEnabled
+      ? Request::getInstanceId : Request::getItemId;
+
+    final List<String> keys = items.stream()
+      .map(queueKey)
+      .filter(Objects::nonNull)
+      .distinct()
+      .toList();
+
+    if (keys.isEmpty()) {
+      return ofAsync(items.stream()
+        .collect(Collectors.toMap(Item::getItemId, item -> new RequestQueue(emptyList()),
+          (first, second) -> first)));
+    }
+
+    final List<String> requestLevelStrings = (isTlrEnabled ? EnumSet.of(ITEM, TITLE) : EnumSet.of(ITEM))
+      .stream()
+      .map(RequestLevel::getValue)
+      .toList();
+
+    return exactMatchAny(isTlrEnabled ? "instanceId" : "itemId", keys)
+      .combine(exactMatchAny("status", RequestStatus.openStates()), CqlQuery::and)
+      .combine(exactMatchAny("requestLevel", requestLevelStrings), CqlQuery::and)
+      .map(q -> q.sortBy(ascending("position")))
+      .after(q -> requestRepository.findBy(q, MAXIMUM_SUPPORTED_REQUEST_QUEUE_SIZE))
+      .thenCompose(r -> r.after(requests -> {
+        if (requests.getTotalRecords() > requests.getRecords().size()) {
+          log.info("getQueues:: {} open requests exceed the supported queue size, " +
+            "fetching queues separately", requests::getTotalRecords);
+
+          return allOf(items, Item::getItemId, item -> getQueue(tlrSettings,
+            item.getInstanceId(), item.getItemId()));
+        }
+
+        final Map<String, List<Request>> requestsByKey = requests.getRecords().stream()
+          .filter(request -> requestKey.apply(request) != null)
+          .collect(Collectors.groupingBy(requestKey));
+
+        return ofAsync(items.stream()
+          .collect(Collectors.toMap(Item::getItemId,
+            item -> new RequestQueue(requestsByKey.getOrDefault(queueKey.apply(item), emptyList())),
+            (first, second) -> first)));
+      }));
+  }
+
   public CompletableFuture<Result<RequestQueue>> getByInstanceIdAndItemId(String instanceId,
     String itemId) {
 
@@ -96,6 +167,45 @@ public class RequestQueueRepository {
   private CompletableFuture<Result<RequestQueue>> get(String itemId, String instanceId,
     EnumSet<RequestLevel> requestLevels) {
 
+    return findQueueRequests(itemId, instanceId, requestLevels)
+      .thenCompose(r -> r.after(requestRepository::fetchAdditionalFields))
+      .thenApply(r -> r.map(MultipleRecords::getRecords))
+      .thenApply(r -> r.map(RequestQueue::new));
+  }
+
+  /**
+   * Fetches the item level queue for an item without fetching related records for any
+   * request in it, for reordering, which only changes positions. Requests which change
+   * position are completed before they are written back, see
+   * {@link #updateRequestsWithChangedPositions(RequestQueue)}
+   */
+  public CompletableFuture<Result<RequestQueue>> getQueueWithoutRelatedRecordsByItemId(
+    String itemId) {
+
+    return getWithoutRelatedRecords(itemId, null, EnumSet.of(ITEM));
+  }
+
+  /**
+   * Fetches the unified queue for an instance without fetching related records for any
+   * request in it, see {@link #getQueueWithoutRelatedRecordsByItemId(String)}
+   */
+  public CompletableFuture<Result<RequestQueue>> getQueueWithoutRelatedRecordsByInstanceId(
+    String instanceId) {
+
+    return getWithoutRelatedRecords(null, instanceId, EnumSet.of(ITEM, TITLE));
+  }
+
+  private CompletableFuture<Result<RequestQueue>> getWithoutRelatedRecords(String itemId,
+    String instanceId, EnumSet<RequestLevel> requestLevels) {
+
+    return findQueueRequests(itemId, instanceId, requestLevels)
+      .thenApply(r -> r.map(MultipleRecords::getRecords))
+      .thenApply(r -> r.map(RequestQueue::withoutRelatedRecords));
+  }
+
+  private CompletableFuture<Result<MultipleRecords<Request>>> findQueueRequests(
+    String itemId, String instanceId, EnumSet<RequestLevel> requestLevels) {
+
     Map<String, String> filters = new HashMap<>();
     if (itemId != null) {
       filters.put("itemId", itemId);
@@ -104,8 +214,8 @@ public class RequestQueueRepository {
       filters.put("instanceId", instanceId);
     }
     if (filters.isEmpty()) {
-      log.info("get:: itemId and instanceId are null, returning an empty queue");
-      return ofAsync(new RequestQueue(emptyList()));
+      log.info("findQueueRequests:: itemId and instanceId are null, returning an empty queue");
+      return ofAsync(MultipleRecords.empty());
     }
 
     List<String> requestLevelStrings = requestLevels.stream()
@@ -115,13 +225,112 @@ public class RequestQueueRepository {
     final Result<CqlQuery> statusQuery = exactMatchAny("status", RequestStatus.openStates());
     final Result<CqlQuery> requestLevelQuery = exactMatchAny("requestLevel", requestLevelStrings);
 
+    final QueueKey queueKey = new QueueKey(requestRepository.getTenantId(), itemId, instanceId,
+      requestLevels);
+
     return CqlQuery.exactMatchAny(filters)
       .combine(statusQuery, CqlQuery::and)
       .combine(requestLevelQuery, CqlQuery::and)
-      .map(q -> q.sortBy(ascending("position")))
-      .after(q -> requestRepository.findBy(q, MAXIMUM_SUPPORTED_REQUEST_QUEUE_SIZE))
+      .after(q -> findQueueRequests(queueKey, q));
+  }
+
+  /**
+   * Fetches the requests of a queue without related records, using the queue cache when
+   * it is enabled. Cached queues are only used when neither the number of requests nor
+   * the most recent update of a request in storage has changed since they were cached
+   */
+  private CompletableFuture<Result<MultipleRecords<Request>>> findQueueRequests(
+    QueueKey queueKey, CqlQuery query) {
+
+    if (!queueCache.isEnabled() || queueKey.tenantId() == null) {
+      return fetchQueueRequests(query);
+    }
+
+    return queueCache.get(queueKey)
+      .map(cached -> revalidate(queueKey, query, cached))
+      .orElseGet(() -> fetchAndCacheQueueRequests(queueKey, query));
+  }
+
+  private CompletableFuture<Result<MultipleRecords<Request>>> revalidate(QueueKey queueKey,
+    CqlQuery query, RequestQueueCache.Entry cached) {
+
+    return requestRepository.findByWithoutItems(
+        query.sortBy(descending("metadata.updatedDate")), one())
+      .thenCompose(r -> r.after(lastUpdated -> {
+        if (cached.isCurrent(lastUpdated)) {
+          log.debug("revalidate:: using cached queue {}", queueKey);
+          return ofAsync(cached.toRequests());
+        }
+
+        log.info("revalidate:: cached queue {} is stale, fetching it again", queueKey);
+        queueCache.stale(queueKey);
+
+        return fetchAndCacheQueueRequests(queueKey, query);
+      }));
+  }
+
+  private CompletableFuture<Result<MultipleRecords<Request>>> fetchAndCacheQueueRequests(
+    QueueKey queueKey, CqlQuery query) {
+
+    return fetchQueueRequests(query)
+      .thenApply(r -> r.map(requests -> {
+        queueCache.put(queueKey, requests);
+        return requests;
+      }));
+  }
+
+  private CompletableFuture<Result<MultipleRecords<Request>>> fetchQueueRequests(
+    CqlQuery query) {
+
+    return requestRepository.findByWithoutItems(query.sortBy(ascending("position")),
+      MAXIMUM_SUPPORTED_REQUEST_QUEUE_SIZE);
+  }
+
+  /**
+   * Fetches the item level queue for an item without fetching related records for every
+   * request in it. Related records are only fetched for the requests which check-in and
+   * check-out act upon: the highest priority fulfillable request and open recalls.
+   * Requests which change position are completed before they are written back, see
+   * {@link #updateRequestsWithChangedPositions(RequestQueue)}
+   */
+  public CompletableFuture<Result<RequestQueue>> getLightweightQueueByItemId(String itemId) {
+    log.debug("getLightweightQueueByItemId:: parameters itemId: {}", itemId);
+
+    if (itemId == null) {
+      log.info("getLightweightQueueByItemId:: itemId is null, returning an empty queue");
+      return ofAsync(new RequestQueue(emptyList()));
+    }
+
+    final QueueKey queueKey = new QueueKey(requestRepository.getTenantId(), itemId, null,
+      EnumSet.of(ITEM));
+
+    return exactMatch("itemId", itemId)
+      .combine(exactMatchAny("status", RequestStatus.openStates()), CqlQuery::and)
+      .combine(exactMatch("requestLevel", ITEM.getValue()), CqlQuery::and)
+      .after(q -> findQueueRequests(queueKey, q))
       .thenApply(r -> r.map(MultipleRecords::getRecords))
-      .thenApply(r -> r.map(RequestQueue::new));
+      .thenApply(r -> r.map(RequestQueue::withoutRelatedRecords))
+      .thenCompose(r -> r.after(this::fetchRelatedRecordsForActionableRequests));
+  }
+
+  private CompletableFuture<Result<RequestQueue>> fetchRelatedRecordsForActionableRequests(
+    RequestQueue requestQueue) {
+
+    final List<Request> actionableRequests = Stream.concat(
+        requestQueue.fulfillableRequests().stream().limit(1),
+        requestQueue.getRequests().stream()
+          .filter(request -> request.isRecall() && request.isNotYetFilled()))
+      .distinct()
+      .toList();
+
+    log.info("fetchRelatedRecordsForActionableRequests:: fetching related records for {} " +
+      "of {} requests", actionableRequests::size, requestQueue::size);
+
+    return allOf(actionableRequests, requestRepository::fetchRelatedRecords)
+      .thenApply(r -> r.map(requests -> {
+        requests.forEach(requestQueue::replaceRequestWithRelatedRecords);
+        return requestQueue;
+      }));
   }
 
   public CompletableFuture<Result<RequestQueue>> getRequestQueueWithoutItemLookup(String itemId) {
@@ -137,6 +346,34 @@ public class RequestQueueRepository {
       .thenApply(r -> r.map(RequestQueue::new));
   }
 
+  /**
+   * Fetches the open requests for several items using batched queries, without
+   * fetching related records
+   *
+   * @return request queues by item ID, empty queues for items without open requests
+   */
+  public CompletableFuture<Result<Map<String, RequestQueue>>> getRequestQueuesWithoutItemLookup(
+    Collection<String> itemIds) {
+
+    log.debug("getRequestQueuesWithoutItemLookup:: parameters itemIds: {}", itemIds::size);
+
+    if (itemIds.isEmpty()) {
+      return ofAsync(Map.of());
+    }
+
+    return requestRepository.findOpenRequestsByItemIds(itemIds)
+      .thenApply(r -> r.map(requests -> {
+        final Map<String, List<Request>> requestsByItemId = requests.getRecords().stream()
+          .filter(request -> request.getItemId() != null)
+          .collect(Collectors.groupingBy(Request::getItemId));
+
+        return itemIds.stream()
+          .distinct()
+          .collect(Collectors.toMap(Function.identity(), itemId -> new RequestQueue(
+            requestsByItemId.getOrDefault(itemId, emptyList()))));
+      }));
+  }
+
   public CompletableFuture<Result<RequestQueue>> updateRequestsWithChangedPositions(
     RequestQueue requestQueue) {
 
@@ -150,7 +387,34 @@ public class RequestQueueRepository {
       return completedFuture(succeeded(requestQueue));
     }
 
-    return requestRepository.batchUpdate(requestsWithChangedPosition)
+    return fetchStoredRepresentationRecords(requestQueue, requestsWithChangedPosition)
+      .thenCompose(r -> r.after(requestRepository::batchUpdate))
       .thenApply(r -> r.map(result -> requestQueue));
   }
+
+  private CompletableFuture<Result<Collection<Request>>> fetchStoredRepresentationRecords(
+    RequestQueue requestQueue, Collection<Request> requests) {
+
+    final List<Request> requestsWithoutRelatedRecords = requests.stream()
+      .filter(request -> !requestQueue.hasRelatedRecords(request))
+      .toList();
+
+    if (requestsWithoutRelatedRecords.isEmpty()) {
+      return ofAsync(requests);
+    }
+
+    log.info("fetchStoredRepresentationRecords:: fetching related records for {} requests " +
+      "with changed position", requestsWithoutRelatedRecords::size);
+
+    return requestRepository.fetchStoredRepresentationRecords(new MultipleRecords<>(
+        requestsWithoutRelatedRecords, requestsWithoutRelatedRecords.size()))
+      .thenApply(r -> r.<Collection<Request>>map(completed -> {
+        final Map<String, Request> completedById = completed.toMap(Request::getId);
+
+        // keeps the order of the requests, as it matters when positions are written back
+        return requests.stream()
+          .map(request -> completedById.getOrDefault(request.getId(), request))
+          .toList();
+      }));
+  }
 }
@@ -45,6 +45,8 @@ import org.folio.circulation.support.RecordNotFoundFailure;
 import org.folio.circulation.support.SingleRecordFetcher;
 import org.folio.circulation.support.fetching.CqlIndexValuesFinder;
 import org.folio.circulation.support.fetching.CqlQueryFinder;
+import org.folio.circulation.support.fetching.KeysetPage;
+import org.folio.circulation.support.fetching.KeysetPageRequest;
 import org.folio.circulation.support.http.client.CqlQuery;
 import org.folio.circulation.support.http.client.PageLimit;
 import org.folio.circulation.support.http.client.Response;
@@ -68,6 +70,8 @@ public class RequestRepository {
   private final ServicePointRepository servicePointRepository;
   private final PatronGroupRepository patronGroupRepository;
   private final InstanceRepository instanceRepository;
+  private final String tenantId;
+  private final RequestQueueCache queueCache = RequestQueueCache.getInstance();
 
   /**
    * Public constructor to avoid creating repositories twice
@@ -77,7 +81,7 @@ public class RequestRepository {
     ServicePointRepository servicePointRepository, PatronGroupRepository patronGroupRepository) {
 
     this(new Clients(clients.requestsStorage(), clients.requestsBatchStorage(),
-        clients.cancellationReasonStorage()), itemRepository, userRepository,
+        clients.cancellationReasonStorage(), clients.getTenantId()), itemRepository, userRepository,
       loanRepository, servicePointRepository, patronGroupRepository, new InstanceRepository(clients));
   }
 
@@ -102,6 +106,11 @@ public class RequestRepository {
     this.servicePointRepository = servicePointRepository;
     this.patronGroupRepository = patronGroupRepository;
     this.instanceRepository = instanceRepository;
+    this.tenantId = clients.getTenantId();
+  }
+
+  String getTenantId() {
+    return tenantId;
   }
 
   public static RequestRepository using(
@@ -124,13 +133,23 @@ public class RequestRepository {
       .thenCompose(r -> r.after(this::fetchAdditionalFields));
   }
 
+  public CompletableFuture<Result<KeysetPage<Request>>> findPage(
+    KeysetPageRequest pageRequest) {
+
+    return pageRequest.cqlQuery()
+      .after(query -> findByWithoutItems(query, pageRequest.fetchLimit()))
+      .thenApply(r -> r.map(requests -> pageRequest.toPage(requests, Request::getId)))
+      .thenCompose(r -> r.after(page -> fetchAdditionalFields(page.records())
+        .thenApply(requests -> requests.map(page::withRecords))));
+  }
+
   CompletableFuture<Result<MultipleRecords<Request>>> findBy(CqlQuery query, PageLimit pageLimit) {
     log.debug("findBy:: parameters query: {}, pageLimit: {}", query, pageLimit);
     return findByWithoutItems(query, pageLimit)
       .thenCompose(r -> r.after(this::fetchAdditionalFields));
   }
 
-  private CompletableFuture<Result<MultipleRecords<Request>>> fetchAdditionalFields(
+  CompletableFuture<Result<MultipleRecords<Request>>> fetchAdditionalFields(
     MultipleRecords<Request> requestRecords) {
 
     log.debug("fetchAdditionalFields:: parameters requestRecords: {}", ()-> multipleRecordsAsString(requestRecords));
@@ -203,6 +222,31 @@ public class RequestRepository {
       .thenComposeAsync(this::fetchLoan);
   }
 
+  /**
+   * Fetches the related records of all the requests at once, rather than request by
+   * request as {@link #fetchRelatedRecords(Request)} does
+   */
+  public CompletableFuture<Result<MultipleRecords<Request>>> fetchRelatedRecords(
+    MultipleRecords<Request> requests) {
+
+    return fetchAdditionalFields(requests);
+  }
+
+  /**
+   * Fetches only the records the stored representation of a request is derived from
+   * (item and pickup service point), so that requests fetched without related records
+   * can be written back without losing their search index properties
+   */
+  public CompletableFuture<Result<MultipleRecords<Request>>> fetchStoredRepresentationRecords(
+    MultipleRecords<Request> requests) {
+
+    log.debug("fetchStoredRepresentationRecords:: parameters requests: {}",
+      () -> multipleRecordsAsString(requests));
+
+    return itemRepository.fetchItemsFor(succeeded(requests), Request::withItem)
+      .thenComposeAsync(result -> result.after(servicePointRepository::findServicePointsForRequests));
+  }
+
   private CompletableFuture<Result<Request>> fetchRequest(String id) {
     return createSingleRequestFetcher(new ResponseInterpreter<Request>()
       .flatMapOn(200, mapUsingJson(Request::from))
@@ -232,7 +276,8 @@ public class RequestRepository {
       .otherwise(forwardOnFailure());
 
     return requestsStorageClient.put(request.getId(), representation)
-      .thenApply(interpreter::flatMap);
+      .thenApply(interpreter::flatMap)
+      .whenComplete((result, error) -> queueCache.invalidate(tenantId, request));
   }
 
 
@@ -261,6 +306,7 @@ public class RequestRepository {
 
     return requestsStorageClient.post(representation)
       .thenApply(interpreter::flatMap)
+      .whenComplete((result, error) -> queueCache.invalidate(tenantId, request))
       .thenApply(mapResult(requestAndRelatedRecords::withRequest));
   }
 
@@ -271,7 +317,8 @@ public class RequestRepository {
       .otherwise(forwardOnFailure());
 
     return requestsStorageClient.delete(request.getId())
-      .thenApply(flatMapResult(interpreter::apply));
+      .thenApply(flatMapResult(interpreter::apply))
+      .whenComplete((result, error) -> queueCache.invalidate(tenantId, request));
   }
 
   public CompletableFuture<Result<Request>> loadCancellationReason(Request request) {
@@ -305,7 +352,8 @@ public class RequestRepository {
 
     RequestBatch requestBatch = new RequestBatch(requests);
     return requestsBatchStorageClient.post(requestBatch.toJson())
-      .thenApply(interpreter::flatMap);
+      .thenApply(interpreter::flatMap)
+      .whenComplete((result, error) -> queueCache.invalidate(tenantId, requests));
   }
 
   public CompletableFuture<Result<Collection<Request>>> fetchRequests(Collection<String> requestIds) {
@@ -399,5 +447,6 @@ public class RequestRepository {
     private final CollectionResourceClient requestsStorageClient;
     private final CollectionResourceClient requestsBatchStorageClient;
     private final CollectionResourceClient cancellationReasonStorageClient;
+    private final String tenantId;
   }
 }
@@ -9,9 +9,11 @@ import static org.folio.circulation.support.utils.LogUtil.multipleRecordsAsStrin
 import java.lang.invoke.MethodHandles;
 import java.util.Collection;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import io.vertx.core.json.JsonArray;
@@ -84,6 +86,34 @@ public class AddressTypeRepository {
       .thenApply(r -> user);
   }
 
+  /**
+   * Inserts address type names by address type UUID in the addresses of all the users,
+   * fetching the address types of all the users at once
+   * @param users User objects, possibly with an address array.
+   * @return The User objects with mutated address arrays if any.
+   */
+  public CompletableFuture<Result<Collection<User>>> setAddressTypeNamesOnUsersAddresses(
+    Collection<User> users) {
+
+    log.debug("setAddressTypeNamesOnUsersAddresses:: parameters users: {}", users::size);
+    Set<String> addressTypeIds = users.stream()
+      .map(User::getAddresses)
+      .flatMap(addresses -> IntStream.range(0, addresses.size())
+        .mapToObj(index -> addresses.getJsonObject(index).getString("addressTypeId")))
+      .filter(Objects::nonNull)
+      .collect(Collectors.toSet());
+
+    if (addressTypeIds.isEmpty()) {
+      return ofAsync(() -> users);
+    }
+
+    return getAddressTypesByIds(addressTypeIds)
+      .thenApply(r -> r.map(addressTypes -> {
+        users.forEach(user -> resolveAddressTypesNamesForIds(addressTypes, user.getAddresses()));
+        return users;
+      }));
+  }
+
   private JsonArray resolveAddressTypesNamesForIds(
     MultipleRecords<AddressType> addressTypes, JsonArray addresses) {
     Map<String, AddressType> addressTypeMap = addressTypes.toMap(AddressType::getId);
@@ -124,6 +124,16 @@ public class UserRepository {
     return addressTypeRepository.setAddressTypeNamesOnUserAddresses(user);
   }
 
+  /**
+   * Inserts the names of the address types in the addresses of the users, as is done
+   * for a single user fetched by {@link #getUser(String)}
+   */
+  public CompletableFuture<Result<Collection<User>>> setAddressTypeNames(
+    Collection<User> users) {
+
+    return addressTypeRepository.setAddressTypeNamesOnUsersAddresses(users);
+  }
+
   public CompletableFuture<Result<Loan>> findUserForLoan(Result<Loan> loanResult) {
     log.debug("findUserForLoan:: parameters loanResult: {}", () -> resultAsString(loanResult));
     return loanResult.after(loan -> getUser(loan.getUserId())
@@ -1,15 +1,18 @@
 package org.folio.circulation.resources;
 
 import static java.util.Comparator.comparing;
+import static org.folio.circulation.support.HttpFailureJson.errorsFor;
 import static org.folio.circulation.support.results.Result.failed;
 import static org.folio.circulation.support.results.Result.ofAsync;
 import static org.folio.circulation.support.results.Result.succeeded;
+import static org.folio.circulation.support.json.JsonPropertyWriter.write;
 import static org.folio.circulation.support.utils.LogUtil.asJson;
 import static org.folio.util.UuidUtil.isUuid;
 
 import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -23,6 +26,7 @@ import org.folio.circulation.domain.RequestType;
 import org.folio.circulation.services.AllowedServicePointsService;
 import org.folio.circulation.support.BadRequestFailure;
 import org.folio.circulation.support.Clients;
+import org.folio.circulation.support.RouteRegistration;
 import org.folio.circulation.support.http.server.JsonHttpResponse;
 import org.folio.circulation.support.http.server.WebContext;
 import org.folio.circulation.support.results.CommonFailures;
@@ -37,6 +41,7 @@ import io.vertx.ext.web.RoutingContext;
 
 public class AllowedServicePointsResource extends Resource {
   private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+  private static final int MAXIMUM_BATCH_SIZE = 100;
 
   public AllowedServicePointsResource(HttpClient client) {
     super(client);
@@ -46,6 +51,8 @@ public class AllowedServicePointsResource extends Resource {
   public void register(Router router) {
     router.get("/circulation/requests/allowed-service-points")
       .handler(this::get);
+    new RouteRegistration("/circulation/requests/allowed-service-points/batch", router)
+      .create(this::getForBatch);
   }
 
   private void get(RoutingContext routingContext) {
@@ -62,6 +69,97 @@ public class AllowedServicePointsResource extends Resource {
       .thenAccept(context::writeResultToHttpResponse);
   }
 
+  private void getForBatch(RoutingContext routingContext) {
+    final var context = new WebContext(routingContext);
+    final var clients = Clients.create(context, client);
+
+    ofAsync(() -> routingContext.body().asJsonObject())
+      .thenApply(r -> r.next(AllowedServicePointsResource::buildBatchRequests))
+      .thenCompose(r -> r.after(requests -> new AllowedServicePointsService(
+        clients, requests.get(0).isEcsRequestRouting())
+        .getAllowedServicePoints(requests)
+        .thenApply(ro -> ro.map(outcomes -> toJson(requests, outcomes)))))
+      .thenApply(r -> r.map(JsonHttpResponse::ok))
+      .exceptionally(CommonFailures::failedDueToServerError)
+      .thenAccept(context::writeResultToHttpResponse);
+  }
+
+  private static Result<List<AllowedServicePointsRequest>> buildBatchRequests(JsonObject body) {
+    if (body == null) {
+      return failed(new BadRequestFailure("Request body must be a JSON object"));
+    }
+
+    String requesterId = body.getString("requesterId");
+    String patronGroupId = body.getString("patronGroupId");
+    List<String> instanceIds = stringsIn(body.getJsonArray("instanceIds"));
+    List<String> itemIds = stringsIn(body.getJsonArray("itemIds"));
+    boolean ecsRequestRouting = Boolean.TRUE.equals(body.getValue("ecsRequestRouting"));
+
+    List<String> errors = new ArrayList<>();
+
+    if (requesterId == null && patronGroupId == null) {
+      errors.add("Requester ID or patron group ID is required.");
+    }
+
+    if (requesterId != null && !isUuid(requesterId)) {
+      errors.add(String.format("Requester ID is not a valid UUID: %s.", requesterId));
+    }
+
+    if (patronGroupId != null && !isUuid(patronGroupId)) {
+      errors.add(String.format("Patron Group ID is not a valid UUID: %s.", patronGroupId));
+    }
+
+    instanceIds.stream()
+      .filter(instanceId -> !isUuid(instanceId))
+      .forEach(instanceId -> errors.add(
+        String.format("Instance ID is not a valid UUID: %s.", instanceId)));
+
+    itemIds.stream()
+      .filter(itemId -> !isUuid(itemId))
+      .forEach(itemId -> errors.add(String.format("Item ID is not a valid UUID: %s.", itemId)));
+
+    int batchSize = instanceIds.size() + itemIds.size();
+
+    if (batchSize == 0) {
+      errors.add("At least one instance ID or item ID is required.");
+    }
+
+    if (batchSize > MAXIMUM_BATCH_SIZE) {
+      errors.add(String.format("At most %d instance and item IDs are allowed.",
+        MAXIMUM_BATCH_SIZE));
+    }
+
+    if (!errors.isEmpty()) {
+      String errorMessage = String.join(" ", errors);
+      log.error("buildBatchRequests:: allowed service points request failed: {}", errorMessage);
+      return failed(new BadRequestFailure(errorMessage));
+    }
+
+    List<AllowedServicePointsRequest> requests = new ArrayList<>();
+
+    instanceIds.forEach(instanceId -> requests.add(new AllowedServicePointsRequest(
+      Request.Operation.CREATE, requesterId, patronGroupId, instanceId, null, null, false,
+      ecsRequestRouting)));
+
+    itemIds.forEach(itemId -> requests.add(new AllowedServicePointsRequest(
+      Request.Operation.CREATE, requesterId, patronGroupId, null, itemId, null, false,
+      ecsRequestRouting)));
+
+    log.info("buildBatchRequests:: {} instances, {} items", instanceIds.size(), itemIds.size());
+
+    return succeeded(requests);
+  }
+
+  private static List<String> stringsIn(JsonArray array) {
+    if (array == null) {
+      return List.of();
+    }
+
+    return array.stream()
+      .map(value -> Objects.toString(value, null))
+      .toList();
+  }
+
   private static Result<AllowedServicePointsRequest> buildRequest(RoutingContext routingContext) {
     MultiMap queryParams = routingContext.queryParams();
 
@@ -165,6 +263,35 @@ public class AllowedServicePointsResource extends Resource {
     }
   }
 
+  private static JsonObject toJson(List<AllowedServicePointsRequest> requests,
+    List<Result<Map<RequestType, Set<AllowedServicePoint>>>> outcomes) {
+
+    JsonArray allowedServicePoints = new JsonArray();
+
+    for (int index = 0; index < requests.size(); index++) {
+      AllowedServicePointsRequest request = requests.get(index);
+      Result<Map<RequestType, Set<AllowedServicePoint>>> outcome = outcomes.get(index);
+
+      JsonObject entry = new JsonObject();
+      write(entry, "instanceId", request.getInstanceId());
+      write(entry, "itemId", request.getItemId());
+
+      if (outcome.succeeded()) {
+        entry.put("servicePoints", toJson(outcome.value()));
+      } else {
+        log.info("toJson:: allowed service points not found for instance {}, item {}: {}",
+          request.getInstanceId(), request.getItemId(), outcome.cause());
+        entry.put("errors", errorsFor(outcome.cause()));
+      }
+
+      allowedServicePoints.add(entry);
+    }
+
+    return new JsonObject()
+      .put("allowedServicePoints", allowedServicePoints)
+      .put("totalRecords", allowedServicePoints.size());
+  }
+
   private static JsonObject toJson(Map<RequestType, Set<AllowedServicePoint>> allowedServicePoints) {
     log.debug("toJson:: parameters: allowedServicePoints={}", () -> asJson(allowedServicePoints));
     JsonObject response = new JsonObject();
@@ -178,7 +178,7 @@ class CheckInProcessAdapter {
     log.info("getRequestQueue:: tlrEnabled: {}", tlrEnabled);
 
     if (!tlrEnabled) {
-      return requestQueueRepository.getByItemId(context.getItem().getItemId());
+      return requestQueueRepository.getLightweightQueueByItemId(context.getItem().getItemId());
     }
     else {
       return requestQueueRepository.getByInstanceIdAndItemId(context.getItem().getInstanceId(),
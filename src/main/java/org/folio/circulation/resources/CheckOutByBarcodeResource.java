@@ -62,6 +62,7 @@ import org.folio.circulation.services.CirculationSettingsService;
 import org.folio.circulation.services.EventPublisher;
 import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.RouteRegistration;
+import org.folio.circulation.support.KeyedAsyncLock;
 import org.folio.circulation.support.ValidationErrorFailure;
 import org.folio.circulation.support.http.OkapiPermissions;
 import org.folio.circulation.support.http.server.HttpResponse;
@@ -177,6 +178,7 @@ public class CheckOutByBarcodeResource extends Resource {
       return dryRunCheckOut;
     }
     AtomicReference<String> checkOutLockId = new AtomicReference<>();
+    AtomicReference<KeyedAsyncLock.Permit> localLockPermit = new AtomicReference<>();
 
     return dryRunCheckOut
       .thenApply(r -> r.next(this::setItemLocationIdAtCheckout))
@@ -184,7 +186,7 @@ public class CheckOutByBarcodeResource extends Resource {
       .thenApply(r -> r.map(this::checkOutItem))
       .thenApply(r -> r.map(this::markInUseIfForUseAtLocation))
       .thenCompose(r -> r.after(l -> acquireLockIfNeededOrFail(settingsRepository,
-        checkOutLockRepository, l, checkOutLockId, validators, errorHandler)))
+        checkOutLockRepository, l, checkOutLockId, localLockPermit, validators, errorHandler)))
       .thenComposeAsync(r -> r.after(requestQueueUpdate::onCheckOut))
       .thenComposeAsync(r -> r.after(requestScheduledNoticeService::rescheduleRequestNotices))
       .thenComposeAsync(r -> r.after(loanService::truncateLoanWhenItemRecalled))
@@ -193,18 +195,25 @@ public class CheckOutByBarcodeResource extends Resource {
       .thenComposeAsync(r -> r.after(loanRepository::createLoan))
       .thenComposeAsync(r -> r.after(l -> saveCheckOutSessionRecord(l, patronActionSessionService,
         errorHandler)))
-      .thenApply(r -> deleteCheckOutLock(r, checkOutLockRepository, checkOutLockId.get()))
+      .thenApply(r -> deleteCheckOutLock(r, checkOutLockRepository, checkOutLockId.get(),
+        localLockPermit))
       .thenApplyAsync(r -> r.map(records -> records.withLoggedInUserId(context.getUserId())))
       .thenComposeAsync(r -> r.after(l -> publishItemCheckedOutEvent(l, eventPublisher,
         userRepository, errorHandler)))
       .thenApply(r -> r.next(scheduledNoticeService::scheduleNoticesForLoanDueDate))
-      .thenApply(r -> r.next(reminderFeeScheduledNoticesService::scheduleFirstReminder));
+      .thenApply(r -> r.next(reminderFeeScheduledNoticesService::scheduleFirstReminder))
+      .whenComplete((r, error) -> {
+        if (error != null) {
+          releaseLocalLock(localLockPermit);
+        }
+      });
   }
 
   private CompletableFuture<Result<LoanAndRelatedRecords>> acquireLockIfNeededOrFail(
     SettingsRepository settingsRepository, CheckOutLockRepository checkOutLockRepository,
     LoanAndRelatedRecords loanAndRelatedRecords, AtomicReference<String> checkOutLockId,
-    CheckOutValidators validators, CirculationErrorHandler errorHandler) {
+    AtomicReference<KeyedAsyncLock.Permit> localLockPermit, CheckOutValidators validators,
+    CirculationErrorHandler errorHandler) {
 
     log.debug("acquireLockIfNeededOrFail:: parameters loanAndRelatedRecords: {}",
       () -> loanAndRelatedRecords);
@@ -213,7 +222,7 @@ public class CheckOutByBarcodeResource extends Resource {
       .thenApply(cr -> succeeded(loanAndRelatedRecords).combine(cr,
         LoanAndRelatedRecords::withCheckoutLockConfiguration))
       .thenCompose(r -> r.after(records -> this.acquireLock(records, checkOutLockRepository,
-        checkOutLockId)))
+        checkOutLockId, localLockPermit)))
       .thenCompose(r -> r.after(records -> this.validateItemLimitBasedOnLockFeatureFlag(records,
         validators, errorHandler)));
   }
@@ -230,20 +239,27 @@ public class CheckOutByBarcodeResource extends Resource {
   }
 
   private CompletableFuture<Result<LoanAndRelatedRecords>> acquireLock(LoanAndRelatedRecords records,
-    CheckOutLockRepository checkOutLockRepository, AtomicReference<String> checkOutLockId) {
+    CheckOutLockRepository checkOutLockRepository, AtomicReference<String> checkOutLockId,
+    AtomicReference<KeyedAsyncLock.Permit> localLockPermit) {
 
     log.debug("acquireLock:: Creating checkout lock {} ", records.getCheckoutLockConfiguration());
     if (records.isCheckoutLockFeatureEnabled()) {
-      CompletableFuture<CheckOutLock> future = new CompletableFuture<>();
-      checkOutLockRepository.createLockWithRetry(0, future, records);
-      return future.handle((res, err) -> {
-        if (err != null) {
-          log.error("acquireLock:: Unable to acquire lock for item {} ", records.getItem().getBarcode(), err);
-          return Result.failed(ValidationErrorFailure.singleValidationError("unable to acquire lock", "", ""));
-        }
-        checkOutLockId.set(res.getId());
-        return Result.succeeded(records);
-      });
+      return checkOutLockRepository.acquireLocalLock(records)
+        .thenCompose(permit -> {
+          localLockPermit.set(permit);
+          CompletableFuture<CheckOutLock> future = new CompletableFuture<>();
+          checkOutLockRepository.createLockWithRetry(0, future, records);
+          return future;
+        })
+        .handle((res, err) -> {
+          if (err != null) {
+            log.error("acquireLock:: Unable to acquire lock for item {} ", records.getItem().getBarcode(), err);
+            releaseLocalLock(localLockPermit);
+            return Result.failed(ValidationErrorFailure.singleValidationError("unable to acquire lock", "", ""));
+          }
+          checkOutLockId.set(res.getId());
+          return Result.succeeded(records);
+        });
     }
     return completedFuture(Result.succeeded(records));
   }
@@ -262,17 +278,29 @@ public class CheckOutByBarcodeResource extends Resource {
   }
 
   private Result<LoanAndRelatedRecords> deleteCheckOutLock(Result<LoanAndRelatedRecords> records,
-    CheckOutLockRepository checkOutLockRepository, String checkOutLockId) {
+    CheckOutLockRepository checkOutLockRepository, String checkOutLockId,
+    AtomicReference<KeyedAsyncLock.Permit> localLockPermit) {
 
     log.debug("deleteCheckOutLock:: parameters checkOutLockId: {}", checkOutLockId);
 
     if (StringUtils.isBlank(checkOutLockId)) {
+      releaseLocalLock(localLockPermit);
       return records;
     }
-    checkOutLockRepository.deleteCheckoutLockById(checkOutLockId);
+    // local lock is held until the storage lock is gone, otherwise the next check-out
+    // of the same patron would have to retry creating the storage lock
+    checkOutLockRepository.deleteCheckoutLockById(checkOutLockId)
+      .whenComplete((r, e) -> releaseLocalLock(localLockPermit));
     return records;
   }
 
+  private static void releaseLocalLock(AtomicReference<KeyedAsyncLock.Permit> localLockPermit) {
+    final KeyedAsyncLock.Permit permit = localLockPermit.getAndSet(null);
+    if (permit != null) {
+      permit.release();
+    }
+  }
+
   private CompletableFuture<Result<LoanAndRelatedRecords>> publishItemCheckedOutEvent(
     LoanAndRelatedRecords records, EventPublisher eventPublisher,
     UserRepository userRepository, CirculationErrorHandler errorHandler) {
@@ -419,6 +447,6 @@ public class CheckOutByBarcodeResource extends Resource {
 
     return loanAndRelatedRecords.getTlrSettings().isTitleLevelRequestsFeatureEnabled()
       ? requestQueueRepository.getByInstanceIdAndItemId(item.getInstanceId(), item.getItemId())
-      : requestQueueRepository.getByItemId(item.getItemId());
+      : requestQueueRepository.getLightweightQueueByItemId(item.getItemId());
   }
 }
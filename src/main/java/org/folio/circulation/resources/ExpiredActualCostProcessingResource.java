@@ -15,6 +15,7 @@ import org.folio.circulation.infrastructure.storage.loans.LostItemPolicyReposito
 import org.folio.circulation.infrastructure.storage.users.UserRepository;
 import org.folio.circulation.services.CloseLoanWithLostItemService;
 import org.folio.circulation.services.EventPublisher;
+import org.folio.circulation.services.ScheduledJobLeaseService;
 import org.folio.circulation.services.actualcostrecord.ActualCostRecordExpirationService;
 import org.folio.circulation.support.RouteRegistration;
 import org.folio.circulation.support.http.server.NoContentResponse;
@@ -56,7 +57,9 @@ public class ExpiredActualCostProcessingResource extends Resource {
       closeLoanWithLostItemService, itemRepository, actualCostRecordRepository,
       loanRepository);
 
-    actualCostRecordExpirationService.expireActualCostRecords()
+    new ScheduledJobLeaseService(clients, routingContext.vertx())
+      .runExclusively("actual-cost-expiration-by-timeout",
+        actualCostRecordExpirationService::expireActualCostRecords, null)
       .thenApply(r -> r.map(toFixedValue(NoContentResponse::noContent)))
       .thenAccept(context::writeResultToHttpResponse);
   }
@@ -23,6 +23,7 @@ import org.folio.circulation.infrastructure.storage.sessions.PatronActionSession
 import org.folio.circulation.infrastructure.storage.sessions.PatronExpiredSessionRepository;
 import org.folio.circulation.infrastructure.storage.users.UserRepository;
 import org.folio.circulation.services.CirculationSettingsService;
+import org.folio.circulation.services.ScheduledJobLeaseService;
 import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.RouteRegistration;
 import org.folio.circulation.support.http.server.NoContentResponse;
@@ -68,12 +69,14 @@ public class ExpiredSessionProcessingResource extends Resource {
     final PatronExpiredSessionRepository patronExpiredSessionRepository
       = PatronExpiredSessionRepository.using(clients);
 
-    safelyInitialise(circulationSettingsService::getCheckOutSessionTimeout)
-      .thenCompose(r -> r.after(this::defineExpiredTime))
-      .thenCompose(r -> r.after(inactivityTime ->
-        patronExpiredSessionRepository.findPatronExpiredSessions(ALL, inactivityTime)))
-      .thenCompose(r -> r.after(expiredSessions -> attemptEndSessions(
-        patronSessionService, expiredSessions)))
+    new ScheduledJobLeaseService(clients, routingContext.vertx())
+      .runExclusively("notice-session-expiration-by-timeout",
+        () -> safelyInitialise(circulationSettingsService::getCheckOutSessionTimeout)
+          .thenCompose(r -> r.after(this::defineExpiredTime))
+          .thenCompose(r -> r.after(inactivityTime ->
+            patronExpiredSessionRepository.findPatronExpiredSessions(ALL, inactivityTime)))
+          .thenCompose(r -> r.after(expiredSessions -> attemptEndSessions(
+            patronSessionService, expiredSessions))), null)
       .thenApply(r -> r.map(toFixedValue(NoContentResponse::noContent)))
       .exceptionally(CommonFailures::failedDueToServerError)
       .thenAccept(context::writeResultToHttpResponse);
@@ -1,10 +1,22 @@
 package org.folio.circulation.resources;
 
+import static org.folio.circulation.support.results.Result.failed;
+import static org.folio.circulation.support.results.Result.succeeded;
+import static org.folio.util.UuidUtil.isUuid;
+
+import java.lang.invoke.MethodHandles;
+
+import org.apache.commons.lang3.math.NumberUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.circulation.services.ItemsInTransitReportCache;
 import org.folio.circulation.services.ItemsInTransitReportService;
+import org.folio.circulation.support.BadRequestFailure;
 import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.RouteRegistration;
 import org.folio.circulation.support.http.server.JsonHttpResponse;
 import org.folio.circulation.support.http.server.WebContext;
+import org.folio.circulation.support.results.Result;
 
 import io.vertx.core.http.HttpClient;
 import io.vertx.ext.web.Router;
@@ -12,6 +24,11 @@ import io.vertx.ext.web.RoutingContext;
 
 
 public class ItemsInTransitResource extends Resource {
+  private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+
+  private static final String LIMIT_PARAM = "limit";
+  private static final String CURSOR_PARAM = "cursor";
+
   private final String rootPath;
 
   public ItemsInTransitResource(String rootPath, HttpClient client) {
@@ -29,8 +46,48 @@ public class ItemsInTransitResource extends Resource {
     final WebContext context = new WebContext(routingContext);
     final Clients clients = Clients.create(context, client);
 
-    new ItemsInTransitReportService(clients).buildReport()
+    final String cursor = context.getStringParameter(CURSOR_PARAM);
+    final String limit = context.getStringParameter(LIMIT_PARAM);
+
+    final ItemsInTransitReportService reportService = new ItemsInTransitReportService(clients);
+
+    if (limit == null && cursor == null) {
+      ItemsInTransitReportCache.getInstance()
+        .getReport(clients.getTenantId(), reportService::buildReport)
+        .thenApply(r -> r.map(JsonHttpResponse::ok))
+        .thenAccept(context::writeResultToHttpResponse);
+
+      return;
+    }
+
+    log.info("buildReport:: parameters cursor: {}, limit: {}", cursor, limit);
+
+    validateCursor(cursor)
+      .combine(parseLimit(limit), (validCursor, pageLimit) -> pageLimit)
+      .after(pageLimit -> reportService.buildReportPage(cursor, pageLimit))
       .thenApply(r -> r.map(JsonHttpResponse::ok))
       .thenAccept(context::writeResultToHttpResponse);
   }
+
+  private static Result<String> validateCursor(String cursor) {
+    if (cursor != null && !isUuid(cursor)) {
+      log.warn("validateCursor:: invalid cursor: {}", cursor);
+      return failed(new BadRequestFailure(
+        String.format("Cursor is not a valid UUID: %s", cursor)));
+    }
+
+    return succeeded(cursor);
+  }
+
+  private static Result<Integer> parseLimit(String limit) {
+    final int pageLimit = NumberUtils.toInt(limit, 0);
+
+    if (pageLimit <= 0) {
+      log.warn("parseLimit:: invalid limit: {}", limit);
+      return failed(new BadRequestFailure(
+        String.format("Limit must be a positive integer: %s", limit)));
+    }
+
+    return succeeded(pageLimit);
+  }
 }
@@ -20,6 +20,7 @@ import org.folio.circulation.domain.Loan;
 import org.folio.circulation.domain.LoanAndRelatedRecords;
 import org.folio.circulation.domain.LoanRepresentation;
 import org.folio.circulation.domain.LoanService;
+import org.folio.circulation.domain.MultipleRecords;
 import org.folio.circulation.domain.RequestQueue;
 import org.folio.circulation.domain.UpdateItem;
 import org.folio.circulation.domain.UpdateRequestQueue;
@@ -49,6 +50,7 @@ import org.folio.circulation.services.EventPublisher;
 import org.folio.circulation.services.RequestQueueService;
 import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.ValidationErrorFailure;
+import org.folio.circulation.support.fetching.KeysetPageRequest;
 import org.folio.circulation.support.http.server.JsonHttpResponse;
 import org.folio.circulation.support.http.server.NoContentResponse;
 import org.folio.circulation.support.http.server.WebContext;
@@ -265,17 +267,40 @@ public class LoanCollectionResource extends CollectionResource {
     final var userRepository = new UserRepository(clients);
     final var itemRepository = new ItemRepository(clients);
     final var loanRepository = new LoanRepository(clients, itemRepository, userRepository);
-    final ServicePointRepository servicePointRepository = new ServicePointRepository(clients);
     final LoanRepresentation loanRepresentation = new LoanRepresentation();
+
+    if (KeysetPageRequest.isRequested(context)) {
+      KeysetPageRequest.from(context)
+        .after(loanRepository::findPage)
+        .thenCompose(r -> r.after(page ->
+          fetchRelatedRecords(page.records(), clients, userRepository)
+            .thenApply(loans -> loans.map(page::withRecords))))
+        .thenApply(r -> r.map(page -> page.asJson(loanRepresentation::extendedLoan, "loans")))
+        .thenApply(r -> r.map(JsonHttpResponse::ok))
+        .thenAccept(context::writeResultToHttpResponse);
+
+      return;
+    }
+
+    loanRepository.findBy(routingContext.request().query())
+      .thenCompose(r -> r.after(loans -> fetchRelatedRecords(loans, clients, userRepository)))
+      .thenApply(multipleLoanRecordsResult -> multipleLoanRecordsResult.map(loans ->
+        loans.asJson(loanRepresentation::extendedLoan, "loans")))
+      .thenApply(r -> r.map(JsonHttpResponse::ok))
+      .thenAccept(context::writeResultToHttpResponse);
+  }
+
+  private CompletableFuture<Result<MultipleRecords<Loan>>> fetchRelatedRecords(
+    MultipleRecords<Loan> loans, Clients clients, UserRepository userRepository) {
+
+    final ServicePointRepository servicePointRepository = new ServicePointRepository(clients);
     final LoanPolicyRepository loanPolicyRepository = new LoanPolicyRepository(clients);
     final OverdueFinePolicyRepository overdueFinePolicyRepository = new OverdueFinePolicyRepository(clients);
     final LostItemPolicyRepository lostItemPolicyRepository = new LostItemPolicyRepository(clients);
     final AccountRepository accountRepository = new AccountRepository(clients);
     final PatronGroupRepository patronGroupRepository = new PatronGroupRepository(clients);
 
-    loanRepository.findBy(routingContext.request().query())
-      .thenCompose(multiLoanRecordsResult ->
-        multiLoanRecordsResult.after(accountRepository::findAccountsForLoans))
+    return accountRepository.findAccountsForLoans(loans)
       .thenCompose(multiLoanRecordsResult ->
         multiLoanRecordsResult.after(servicePointRepository::findServicePointsForLoans))
       .thenCompose(multiLoanRecordsResult ->
@@ -287,11 +312,7 @@ public class LoanCollectionResource extends CollectionResource {
       .thenCompose(multiLoanRecordsResult ->
         multiLoanRecordsResult.after(lostItemPolicyRepository::findLostItemPoliciesForLoans))
       .thenCompose(multiLoanRecordsResult ->
-        multiLoanRecordsResult.after(patronGroupRepository::findPatronGroupsByIds))
-      .thenApply(multipleLoanRecordsResult -> multipleLoanRecordsResult.map(loans ->
-        loans.asJson(loanRepresentation::extendedLoan, "loans")))
-      .thenApply(r -> r.map(JsonHttpResponse::ok))
-      .thenAccept(context::writeResultToHttpResponse);
+        multiLoanRecordsResult.after(patronGroupRepository::findPatronGroupsByIds));
   }
 
   @Override
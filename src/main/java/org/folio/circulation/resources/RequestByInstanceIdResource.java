@@ -164,26 +164,27 @@ public class RequestByInstanceIdResource extends Resource {
       return completedFuture(succeeded(null));
     }
 
-    Map<Item, CompletableFuture<Result<Loan>>> itemLoanFuturesMap = new HashMap<>();
-
-    //Find request queues and loan items for each item
-    for (Item item : unsortedUnavailableItems) {
-      itemLoanFuturesMap.put(item, loanRepository.findOpenLoanForItem(item));
-    }
+    //Find open loans for all items at once
+    return loanRepository.findOpenLoansForItems(unsortedUnavailableItems)
+      .thenApply(loansResult -> {
+        if (loansResult.failed()) {
+          log.warn("getLoanItems:: failed to find open loans for items of instance {}",
+            instanceRequestPackage.getInstanceLevelRequest().getInstanceId());
+        }
 
-    final Collection<CompletableFuture<Result<Loan>>> loanFutures = itemLoanFuturesMap.values();
+        final Map<String, Loan> loansByItemId = loansResult.succeeded()
+          ? loansResult.value()
+          : Map.of();
 
-    return CompletableFuture.allOf(loanFutures.toArray(new CompletableFuture[0]))
-      .thenApply(dd -> {
         Map<Item, ZonedDateTime> itemDueDateMap = new HashMap<>();
         List<Item> itemsWithoutLoansList = new ArrayList<>();
 
-        for (Map.Entry<Item, CompletableFuture<Result<Loan>>> entry : itemLoanFuturesMap.entrySet()) {
-          Result<Loan> aLoanResult = entry.getValue().join();
-          if (aLoanResult.succeeded() && aLoanResult.value() != null) {
-            itemDueDateMap.put(aLoanResult.value().getItem(), aLoanResult.value().getDueDate());
+        for (Item item : unsortedUnavailableItems) {
+          final Loan loan = loansByItemId.get(item.getItemId());
+          if (loan != null) {
+            itemDueDateMap.put(loan.getItem(), loan.getDueDate());
           } else {
-            itemsWithoutLoansList.add(entry.getKey());
+            itemsWithoutLoansList.add(item);
           }
         }
         instanceRequestPackage.setItemsWithoutLoans(itemsWithoutLoansList);
@@ -197,31 +198,32 @@ public class RequestByInstanceIdResource extends Resource {
     Collection<Item> items, InstanceRequestRelatedRecords instanceRequestPackage,
     RequestQueueRepository requestQueueRepository) {
 
-    Map<Item, CompletableFuture<Result<RequestQueue>>> itemRequestQueueMap = new HashMap<>();
-
     instanceRequestPackage.setAllUnsortedItems(items);
 
-    for (Item item : items) {
-      itemRequestQueueMap.put(item, requestQueueRepository.getRequestQueueWithoutItemLookup(item.getItemId()));
-    }
+    final List<String> itemIds = items.stream()
+      .map(Item::getItemId)
+      .filter(Objects::nonNull)
+      .toList();
 
-    final Collection<CompletableFuture<Result<RequestQueue>>> requestQueuesFutures = itemRequestQueueMap.values();
+    //Find request queues for all items at once
+    return requestQueueRepository.getRequestQueuesWithoutItemLookup(itemIds)
+      .thenApply(queuesResult -> {
+        final Map<String, RequestQueue> queuesByItemId = queuesResult.succeeded()
+          ? queuesResult.value()
+          : Map.of();
 
-    //Collect the RequestQueue objects once they come back
-    return CompletableFuture.allOf(requestQueuesFutures.toArray(new CompletableFuture[0]))
-      .thenApply(x -> {
         Map<Item, RequestQueue> itemQueueMap = new HashMap<>();
         List<Item> itemsWithoutRequestQueues = new ArrayList<>();
 
-        for (Map.Entry<Item, CompletableFuture<Result<RequestQueue>>> entry : itemRequestQueueMap.entrySet()) {
-          Result<RequestQueue> requestQueueResult = entry.getValue().join();
-          if (requestQueueResult.succeeded()) {
-            itemQueueMap.put(entry.getKey(), requestQueueResult.value());
+        for (Item item : items) {
+          final RequestQueue requestQueue = queuesByItemId.get(item.getItemId());
+          if (requestQueue != null) {
+            itemQueueMap.put(item, requestQueue);
           } else {
-            itemsWithoutRequestQueues.add(entry.getKey());
+            itemsWithoutRequestQueues.add(item);
           }
         }
-        if (itemsWithoutRequestQueues.size() == requestQueuesFutures.size()
+        if (itemsWithoutRequestQueues.size() == items.size()
           && (instanceRequestPackage.getSortedAvailableItems() == null || instanceRequestPackage.getSortedAvailableItems().isEmpty())) {
           //fail the requests when there are no items to make requests from.
           log.error("Failed to find request queues for all items of instanceId {}",
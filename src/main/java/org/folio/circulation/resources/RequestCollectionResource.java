@@ -45,6 +45,7 @@ import org.folio.circulation.services.ItemForTlrService;
 import org.folio.circulation.services.RequestQueueService;
 import org.folio.circulation.storage.ItemByInstanceIdFinder;
 import org.folio.circulation.support.Clients;
+import org.folio.circulation.support.fetching.KeysetPageRequest;
 import org.folio.circulation.support.http.OkapiPermissions;
 import org.folio.circulation.support.http.server.JsonHttpResponse;
 import org.folio.circulation.support.http.server.NoContentResponse;
@@ -236,6 +237,17 @@ public class RequestCollectionResource extends CollectionResource {
     final var requestRepository = RequestRepository.using(clients,
       itemRepository, userRepository, loanRepository);
 
+    if (KeysetPageRequest.isRequested(context)) {
+      final var requestRepresentation = new RequestRepresentation();
+
+      fromFutureResult(KeysetPageRequest.from(context).after(requestRepository::findPage))
+        .map(page -> page.asJson(requestRepresentation::extendedRepresentation, "requests"))
+        .map(JsonHttpResponse::ok)
+        .onComplete(context::write, context::write);
+
+      return;
+    }
+
     fromFutureResult(requestRepository.findBy(routingContext.request().query()))
       .map(this::mapToJson)
       .map(JsonHttpResponse::ok)
@@ -52,6 +52,7 @@ public class RequestQueueResource extends Resource {
   public static final String URI_BASE = "/circulation/requests/queue";
   public static final String INSTANCE_ID_PARAM_NAME = "instanceId";
   public static final String ITEM_ID_PARAM_NAME = "itemId";
+  private static final String INCREMENTAL_PARAM_NAME = "incremental";
 
   public RequestQueueResource(HttpClient client) {
     super(client);
@@ -128,9 +129,17 @@ public class RequestQueueResource extends Resource {
       requestQueueRepository, requestRepository, new ServicePointRepository(clients),
       settingsRepository, RequestQueueService.using(clients), new CalendarRepository(clients));
 
+    final boolean incremental = Boolean.parseBoolean(
+      context.getStringParameter(INCREMENTAL_PARAM_NAME));
+
+    log.info("reorderQueue:: requestQueueType: {}, incremental: {}", requestQueueType,
+      incremental);
+
     validateTlrFeatureStatus(circulationSettingsService, requestQueueType, idParamValue)
-      .thenCompose(r -> r.after(tlrSettings ->
-        getRequestQueueByType(routingContext, requestQueueType, requestQueueRepository)))
+      .thenCompose(r -> r.after(tlrSettings -> incremental
+        ? getRequestQueueWithoutRelatedRecordsByType(routingContext, requestQueueType,
+            requestQueueRepository)
+        : getRequestQueueByType(routingContext, requestQueueType, requestQueueRepository)))
       .thenApply(r -> r.map(reorderContext::withRequestQueue))
       // Validation block
       .thenApply(RequestQueueValidation::queueIsFound)
@@ -222,4 +231,22 @@ public class RequestQueueResource extends Resource {
       return requestQueueRepository.getByItemId(idParamValue);
     }
   }
+
+  /**
+   * Reordering only needs the positions, statuses and types of the requests, related
+   * records are only fetched for the requests which change position, when they are written
+   * back. The response is built from the reordered queue, with the item, requester and
+   * other summaries stored with each request
+   */
+  private CompletableFuture<Result<RequestQueue>> getRequestQueueWithoutRelatedRecordsByType(
+    RoutingContext routingContext, RequestQueueType requestQueueType,
+    RequestQueueRepository requestQueueRepository) {
+
+    String idParamValue = getIdParameterValueByQueueType(routingContext, requestQueueType);
+    if (requestQueueType == FOR_INSTANCE) {
+      return requestQueueRepository.getQueueWithoutRelatedRecordsByInstanceId(idParamValue);
+    } else {
+      return requestQueueRepository.getQueueWithoutRelatedRecordsByItemId(idParamValue);
+    }
+  }
 }
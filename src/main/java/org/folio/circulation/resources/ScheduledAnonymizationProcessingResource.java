@@ -3,11 +3,15 @@ package org.folio.circulation.resources;
 import static org.folio.circulation.support.results.AsynchronousResultBindings.safelyInitialise;
 
 import java.lang.invoke.MethodHandles;
+import java.time.Duration;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.folio.Environment;
+import org.folio.circulation.domain.Loan;
 import org.folio.circulation.domain.anonymization.DefaultLoanAnonymizationService;
+import org.folio.circulation.domain.anonymization.LoanAnonymizationRecords;
+import org.folio.circulation.domain.anonymization.StreamingLoanAnonymizationService;
 import org.folio.circulation.domain.anonymization.service.AnonymizationCheckersService;
 import org.folio.circulation.domain.anonymization.service.LoansForTenantFinder;
 import org.folio.circulation.domain.representations.anonymization.AnonymizeLoansRepresentation;
@@ -18,8 +22,11 @@ import org.folio.circulation.infrastructure.storage.loans.LoanRepository;
 import org.folio.circulation.infrastructure.storage.users.UserRepository;
 import org.folio.circulation.services.CirculationSettingsService;
 import org.folio.circulation.services.EventPublisher;
+import org.folio.circulation.services.ResumableJobRunner;
+import org.folio.circulation.services.ScheduledJobLeaseService;
 import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.RouteRegistration;
+import org.folio.circulation.support.fetching.PageableFetcher;
 import org.folio.circulation.support.http.server.JsonHttpResponse;
 import org.folio.circulation.support.http.server.WebContext;
 import org.folio.circulation.support.results.CommonFailures;
@@ -33,6 +40,8 @@ import io.vertx.ext.web.RoutingContext;
  * Perform automatic loan anonymization based on tenant settings for loan history.
  * This process is intended to run in short intervals.
  *
+ * When a run time budget is configured, closed loans of the whole tenant are checked
+ * page by page and each run carries on where the previous one stopped.
  */
 public class ScheduledAnonymizationProcessingResource extends Resource {
   private final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
@@ -62,14 +71,27 @@ public class ScheduledAnonymizationProcessingResource extends Resource {
 
     final var loansFinder = new LoansForTenantFinder(loanRepository, accountRepository,
       Environment.getScheduledAnonymizationNumberOfLoansToCheck());
+    final int runTimeBudgetSeconds = Environment.getScheduledAnonymizationRunTimeBudgetSeconds();
 
     log.info("Initializing loan anonymization for current tenant");
 
-    safelyInitialise(circulationSettingsService::getLoanAnonymizationSettings)
-      .thenApply(r -> r.map(config -> new DefaultLoanAnonymizationService(
-          new AnonymizationCheckersService(config, ClockUtil::getZonedDateTime),
-          anonymizeStorageLoansRepository, eventPublisher)))
-      .thenCompose(r -> r.after(service -> service.anonymizeLoans(loansFinder::findLoansToAnonymize)))
+    new ScheduledJobLeaseService(clients, routingContext.vertx())
+      .runExclusively(StreamingLoanAnonymizationService.JOB_NAME,
+        () -> safelyInitialise(circulationSettingsService::getLoanAnonymizationSettings)
+          .thenCompose(r -> r.after(config -> {
+            final var checkersService = new AnonymizationCheckersService(config,
+              ClockUtil::getZonedDateTime);
+            final var anonymizationService = new DefaultLoanAnonymizationService(
+              checkersService, anonymizeStorageLoansRepository, eventPublisher);
+
+            return runTimeBudgetSeconds > 0
+              ? new StreamingLoanAnonymizationService(checkersService, anonymizationService,
+                  loanRepository, accountRepository, new ResumableJobRunner<>(clients,
+                    new PageableFetcher<>(loanRepository), Loan::getId))
+                .anonymizeLoans(Duration.ofSeconds(runTimeBudgetSeconds))
+              : anonymizationService.anonymizeLoans(loansFinder::findLoansToAnonymize);
+          })),
+        new LoanAnonymizationRecords())
       .thenApply(AnonymizeLoansRepresentation::from)
       .thenApply(r -> r.map(JsonHttpResponse::ok))
       .exceptionally(CommonFailures::failedDueToServerError)
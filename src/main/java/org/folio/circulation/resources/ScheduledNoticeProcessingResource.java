@@ -1,5 +1,6 @@
 package org.folio.circulation.resources;
 
+import static org.apache.commons.lang3.StringUtils.substringAfterLast;
 import static org.folio.circulation.support.results.AsynchronousResultBindings.safelyInitialise;
 import static org.folio.circulation.support.results.MappingFunctions.toFixedValue;
 
@@ -15,6 +16,8 @@ import org.folio.circulation.infrastructure.storage.requests.RequestRepository;
 import org.folio.circulation.infrastructure.storage.sessions.PatronActionSessionRepository;
 import org.folio.circulation.infrastructure.storage.users.UserRepository;
 import org.folio.circulation.services.CirculationSettingsService;
+import org.folio.circulation.services.ScheduledJobLeaseService;
+import org.folio.circulation.services.ScheduledNoticeRunPacer;
 import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.RouteRegistration;
 import org.folio.circulation.support.http.client.PageLimit;
@@ -59,11 +62,18 @@ public abstract class ScheduledNoticeProcessingResource extends Resource {
     final var patronActionSessionRepository = PatronActionSessionRepository.using(
       clients, loanRepository, userRepository);
 
-    safelyInitialise(circulationSettingsService::getScheduledNoticesProcessingLimit)
-      .thenCompose(r -> r.after(limit -> findNoticesToSend(settingsRepository,
-        scheduledNoticesRepository, patronActionSessionRepository, limit)))
-      .thenCompose(r -> r.after(notices -> handleNotices(clients, requestRepository,
-        loanRepository, notices)))
+    final var leaseService = new ScheduledJobLeaseService(clients, routingContext.vertx());
+    final var pacer = ScheduledNoticeRunPacer.forTenant(context.getTenantId());
+    final String jobName = substringAfterLast(rootPath, "/");
+
+    leaseService.runExclusively(jobName,
+        () -> safelyInitialise(circulationSettingsService::getScheduledNoticesProcessingLimit)
+          .thenApply(r -> r.map(limit -> pacer.startRun(jobName, limit)))
+          .thenCompose(r -> r.after(run -> findNoticesToSend(settingsRepository,
+              scheduledNoticesRepository, patronActionSessionRepository, run.getLimit())
+            .thenCompose(r2 -> r2.after(notices -> handleNotices(clients, requestRepository,
+              loanRepository, notices)))
+            .thenApply(r2 -> r2.map(run::finish)))), null)
       .thenApply(r -> r.map(toFixedValue(NoContentResponse::noContent)))
       .exceptionally(CommonFailures::failedDueToServerError)
       .thenAccept(context::writeResultToHttpResponse);
@@ -7,6 +7,7 @@ import static java.util.stream.Collectors.toMap;
 import static java.util.stream.Collectors.toSet;
 import static org.folio.circulation.support.fetching.RecordFetching.findWithCqlQuery;
 import static org.folio.circulation.support.http.client.CqlQuery.exactMatch;
+import static org.folio.circulation.support.results.Result.emptyAsync;
 import static org.folio.circulation.support.results.Result.ofAsync;
 import static org.folio.circulation.support.utils.LogUtil.collectionAsString;
 import static org.folio.circulation.support.utils.LogUtil.multipleRecordsAsString;
@@ -43,7 +44,9 @@ import org.folio.circulation.services.StaffSlipsRequestFetchService;
 import org.folio.circulation.storage.mappers.LocationMapper;
 import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.RouteRegistration;
+import org.folio.circulation.support.ServerErrorFailure;
 import org.folio.circulation.support.http.client.PageLimit;
+import org.folio.circulation.support.http.server.ChunkedJsonArrayResponse;
 import org.folio.circulation.support.http.server.JsonHttpResponse;
 import org.folio.circulation.support.http.server.WebContext;
 import org.folio.circulation.support.results.Result;
@@ -62,6 +65,8 @@ public abstract class SlipsResource extends Resource {
   private static final String SEARCH_SLIPS_KEY = "searchSlips";
   private static final String SERVICE_POINT_ID_PARAM = "servicePointId";
   private static final String PRIMARY_SERVICE_POINT_KEY = "primaryServicePoint";
+  private static final String STREAM_PARAM = "stream";
+  private static final int STREAMED_REQUESTS_PAGE_SIZE = 200;
 
   private final String rootPath;
   private final String collectionName;
@@ -92,6 +97,12 @@ public abstract class SlipsResource extends Resource {
       routingContext.request().getParam(SERVICE_POINT_ID_PARAM));
     log.info("getMany:: servicePointId: {}", servicePointId);
 
+    if (Boolean.parseBoolean(context.getStringParameter(STREAM_PARAM))) {
+      streamStaffSlips(servicePointId, clients,
+        new ChunkedJsonArrayResponse(routingContext.response(), collectionName));
+      return;
+    }
+
     isStaffSlipsPrintingDisabled(clients)
       .thenCompose(r -> r.after(isPrintingDisabled -> buildStaffSlips(
         servicePointId, clients, isPrintingDisabled)))
@@ -99,6 +110,61 @@ public abstract class SlipsResource extends Resource {
       .thenAccept(context::writeResultToHttpResponse);
   }
 
+  /**
+   * Writes slips while requests are fetched page by page, each page is enriched in batch
+   * and sorted on its own
+   */
+  private void streamStaffSlips(UUID servicePointId, Clients clients,
+    ChunkedJsonArrayResponse response) {
+
+    log.info("streamStaffSlips:: servicePointId: {}", servicePointId);
+
+    isStaffSlipsPrintingDisabled(clients)
+      .thenCompose(r -> r.after(isPrintingDisabled -> {
+        if (isPrintingDisabled) {
+          return emptyAsync();
+        }
+
+        return writeStaffSlips(servicePointId, clients, response);
+      }))
+      .whenComplete((result, throwable) -> {
+        if (throwable != null) {
+          log.error("streamStaffSlips:: failed to write staff slips", throwable);
+          response.fail(new ServerErrorFailure(throwable));
+        } else {
+          response.end(result);
+        }
+      });
+  }
+
+  private CompletableFuture<Result<Void>> writeStaffSlips(UUID servicePointId,
+    Clients clients, ChunkedJsonArrayResponse response) {
+
+    final var repositories = new SlipsRepositories(clients);
+    final var requestFetchService = new StaffSlipsRequestFetchService(clients, requestType, limit);
+
+    return repositories.servicePointRepository().getServicePointById(servicePointId)
+      .thenCompose(r -> r.after(primaryServicePoint ->
+        fetchLocationsForServicePoint(servicePointId, clients)
+          .thenCompose(rl -> rl.after(context -> requestFetchService.fetchRequestsInPages(
+            context, STREAMED_REQUESTS_PAGE_SIZE, requests -> writeStaffSlips(
+              context.withRequests(requests), primaryServicePoint, repositories, response))))));
+  }
+
+  private CompletableFuture<Result<Void>> writeStaffSlips(StaffSlipsContext context,
+    ServicePoint primaryServicePoint, SlipsRepositories repositories,
+    ChunkedJsonArrayResponse response) {
+
+    return enrichRequests(context, repositories)
+      .thenApply(r -> r.map(this::mapResultToJson))
+      .thenApply(r -> r.map(slips ->
+        addPrimaryServicePointNameToStaffSlipContext(slips, primaryServicePoint)))
+      .thenCompose(r -> r.after(slips -> response.write(
+        slips.getJsonArray(collectionName).stream()
+          .map(JsonObject.class::cast)
+          .toList())));
+  }
+
   private CompletableFuture<Result<JsonObject>> buildStaffSlips(UUID servicePointId,
     Clients clients, boolean isPrintingDisabled) {
 
@@ -108,28 +174,31 @@ public abstract class SlipsResource extends Resource {
         .put(TOTAL_RECORDS_KEY, 0));
     }
 
-    final var userRepository = new UserRepository(clients);
-    final var itemRepository = new ItemRepository(clients);
-    final var locationRepository = LocationRepository.using(clients);
-    final var addressTypeRepository = new AddressTypeRepository(clients);
-    final var servicePointRepository = new ServicePointRepository(clients);
-    final var patronGroupRepository = new PatronGroupRepository(clients);
-    final var departmentRepository = new DepartmentRepository(clients);
+    final var repositories = new SlipsRepositories(clients);
     final var requestFetchService = new StaffSlipsRequestFetchService(clients, requestType, limit);
 
     return fetchLocationsForServicePoint(servicePointId, clients)
       .thenCompose(r -> r.after(requestFetchService::fetchRequests))
-      .thenCompose(r -> r.after(ctx -> fetchItemsForRequests(ctx, itemRepository, locationRepository)))
-      .thenCompose(r -> r.after(ctx -> userRepository.findUsersForRequests(ctx.getRequests())))
-      .thenCompose(r -> r.after(patronGroupRepository::findPatronGroupsForRequestsUsers))
-      .thenCompose(r -> r.after(departmentRepository::findDepartmentsForRequestUsers))
-      .thenCompose(r -> r.after(addressTypeRepository::findAddressTypesForRequests))
-      .thenCompose(r -> r.after(servicePointRepository::findServicePointsForRequests))
+      .thenCompose(r -> r.after(ctx -> enrichRequests(ctx, repositories)))
       .thenApplyAsync(r -> r.map(this::mapResultToJson))
-      .thenCompose(r -> r.combineAfter(() -> servicePointRepository.getServicePointById(servicePointId),
+      .thenCompose(r -> r.combineAfter(
+        () -> repositories.servicePointRepository().getServicePointById(servicePointId),
         this::addPrimaryServicePointNameToStaffSlipContext));
   }
 
+  private CompletableFuture<Result<MultipleRecords<Request>>> enrichRequests(
+    StaffSlipsContext context, SlipsRepositories repositories) {
+
+    return fetchItemsForRequests(context, repositories.itemRepository(),
+        repositories.locationRepository())
+      .thenCompose(r -> r.after(ctx -> repositories.userRepository()
+        .findUsersForRequests(ctx.getRequests())))
+      .thenCompose(r -> r.after(repositories.patronGroupRepository()::findPatronGroupsForRequestsUsers))
+      .thenCompose(r -> r.after(repositories.departmentRepository()::findDepartmentsForRequestUsers))
+      .thenCompose(r -> r.after(repositories.addressTypeRepository()::findAddressTypesForRequests))
+      .thenCompose(r -> r.after(repositories.servicePointRepository()::findServicePointsForRequests));
+  }
+
   private CompletableFuture<Result<Boolean>> isStaffSlipsPrintingDisabled(Clients clients) {
     if (SEARCH_SLIPS_KEY.equals(collectionName) && requestType == RequestType.HOLD) {
       log.info("isStaffSlipsPrintingDisabled:: SEARCH_SLIPS_KEY and HOLD requestType condition met");
@@ -252,4 +321,16 @@ public abstract class SlipsResource extends Resource {
       context, servicePoint, collectionName);
   }
 
+  private record SlipsRepositories(UserRepository userRepository, ItemRepository itemRepository,
+    LocationRepository locationRepository, AddressTypeRepository addressTypeRepository,
+    ServicePointRepository servicePointRepository, PatronGroupRepository patronGroupRepository,
+    DepartmentRepository departmentRepository) {
+
+    private SlipsRepositories(Clients clients) {
+      this(new UserRepository(clients), new ItemRepository(clients),
+        LocationRepository.using(clients), new AddressTypeRepository(clients),
+        new ServicePointRepository(clients), new PatronGroupRepository(clients),
+        new DepartmentRepository(clients));
+    }
+  }
 }
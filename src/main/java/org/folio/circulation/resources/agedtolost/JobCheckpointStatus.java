@@ -0,0 +1,45 @@
+package org.folio.circulation.resources.agedtolost;
+
+import java.lang.invoke.MethodHandles;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.circulation.domain.JobCheckpoint;
+import org.folio.circulation.infrastructure.storage.JobCheckpointRepository;
+import org.folio.circulation.support.Clients;
+import org.folio.circulation.support.http.server.JsonHttpResponse;
+import org.folio.circulation.support.http.server.WebContext;
+
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Responds with the progress of a scheduled job from its checkpoint
+ */
+final class JobCheckpointStatus {
+  private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+
+  private static final String NOT_STARTED = "NOT_STARTED";
+
+  private JobCheckpointStatus() { }
+
+  static void respondWithStatus(RoutingContext routingContext, HttpClient client,
+    String jobName) {
+
+    log.debug("respondWithStatus:: parameters jobName: {}", jobName);
+    final WebContext context = new WebContext(routingContext);
+    final var clients = Clients.create(context, client);
+
+    new JobCheckpointRepository(clients).findByJobName(jobName)
+      .thenApply(r -> r.map(checkpoint -> toStatus(jobName, checkpoint)))
+      .thenApply(r -> r.map(JsonHttpResponse::ok))
+      .thenAccept(context::writeResultToHttpResponse);
+  }
+
+  private static JsonObject toStatus(String jobName, JobCheckpoint checkpoint) {
+    return checkpoint == null
+      ? new JsonObject().put("jobName", jobName).put("status", NOT_STARTED)
+      : checkpoint.asStatusJson();
+  }
+}
@@ -10,6 +10,7 @@ import org.apache.logging.log4j.Logger;
 import org.folio.circulation.infrastructure.storage.inventory.ItemRepository;
 import org.folio.circulation.infrastructure.storage.users.UserRepository;
 import org.folio.circulation.resources.Resource;
+import org.folio.circulation.services.ScheduledJobLeaseService;
 import org.folio.circulation.services.agedtolost.ChargeLostFeesWhenAgedToLostService;
 import org.folio.circulation.support.RouteRegistration;
 import org.folio.circulation.support.http.server.NoContentResponse;
@@ -30,6 +31,10 @@ public class ScheduledAgeToLostFeeChargingResource extends Resource {
   public void register(Router router) {
     new RouteRegistration("/circulation/scheduled-age-to-lost-fee-charging", router)
       .create(this::scheduledAgeToLostFeeCharging);
+
+    new RouteRegistration("/circulation/scheduled-age-to-lost-fee-charging/status", router)
+      .getMany(routingContext -> JobCheckpointStatus.respondWithStatus(routingContext, client,
+        ChargeLostFeesWhenAgedToLostService.JOB_NAME));
   }
 
   private void scheduledAgeToLostFeeCharging(RoutingContext routingContext) {
@@ -40,7 +45,9 @@ public class ScheduledAgeToLostFeeChargingResource extends Resource {
       new ChargeLostFeesWhenAgedToLostService(clients, new ItemRepository(clients),
         new UserRepository(clients));
 
-    chargingService.chargeFees()
+    new ScheduledJobLeaseService(clients, routingContext.vertx())
+      .runExclusively(ChargeLostFeesWhenAgedToLostService.JOB_NAME,
+        chargingService::chargeFees, null)
       .thenApply(r -> r.map(toFixedValue(NoContentResponse::noContent)))
       .thenAccept(context::writeResultToHttpResponse);
   }
@@ -10,6 +10,7 @@ import org.folio.circulation.infrastructure.storage.inventory.ItemRepository;
 import org.folio.circulation.infrastructure.storage.loans.LoanRepository;
 import org.folio.circulation.infrastructure.storage.users.UserRepository;
 import org.folio.circulation.resources.Resource;
+import org.folio.circulation.services.ScheduledJobLeaseService;
 import org.folio.circulation.services.agedtolost.MarkOverdueLoansAsAgedLostService;
 import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.RouteRegistration;
@@ -31,6 +32,10 @@ public class ScheduledAgeToLostResource extends Resource {
   public void register(Router router) {
     new RouteRegistration("/circulation/scheduled-age-to-lost", router)
       .create(this::scheduledAgeToLost);
+
+    new RouteRegistration("/circulation/scheduled-age-to-lost/status", router)
+      .getMany(routingContext -> JobCheckpointStatus.respondWithStatus(routingContext, client,
+        MarkOverdueLoansAsAgedLostService.JOB_NAME));
   }
 
   private void scheduledAgeToLost(RoutingContext routingContext) {
@@ -45,7 +50,9 @@ public class ScheduledAgeToLostResource extends Resource {
     final MarkOverdueLoansAsAgedLostService ageToLostService =
       new MarkOverdueLoansAsAgedLostService(clients, itemRepository, loanRepository);
 
-    ageToLostService.processAgeToLost()
+    new ScheduledJobLeaseService(clients, routingContext.vertx())
+      .runExclusively(MarkOverdueLoansAsAgedLostService.JOB_NAME,
+        ageToLostService::processAgeToLost, null)
       .thenApply(r -> r.map(toFixedValue(NoContentResponse::noContent)))
       .thenAccept(context::writeResultToHttpResponse);
   }
@@ -0,0 +1,46 @@
+package org.folio.circulation.resources.renewal;
+
+import java.lang.invoke.MethodHandles;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.circulation.resources.Resource;
+import org.folio.circulation.support.Clients;
+import org.folio.circulation.support.RouteRegistration;
+import org.folio.circulation.support.http.server.JsonHttpResponse;
+import org.folio.circulation.support.http.server.WebContext;
+
+import io.vertx.core.http.HttpClient;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
+
+public class RenewAllDryRunResource extends Resource {
+  private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+
+  private final String rootPath;
+  private final RenewAllResource renewAllResource;
+
+  public RenewAllDryRunResource(String rootPath, HttpClient client,
+    RenewAllResource renewAllResource) {
+
+    super(client);
+    this.rootPath = rootPath;
+    this.renewAllResource = renewAllResource;
+  }
+
+  @Override
+  public void register(Router router) {
+    RouteRegistration routeRegistration = new RouteRegistration(rootPath, router);
+    routeRegistration.create(this::dryRunRenewAll);
+  }
+
+  private void dryRunRenewAll(RoutingContext routingContext) {
+    log.debug("dryRunRenewAll:: body={}", routingContext.body()::asString);
+    final WebContext context = new WebContext(routingContext);
+    final Clients clients = Clients.create(context, client);
+
+    renewAllResource.renewAll(routingContext.body().asJsonObject(), context, clients, true)
+      .thenApply(r -> r.map(JsonHttpResponse::ok))
+      .thenAccept(context::writeResultToHttpResponse);
+  }
+}
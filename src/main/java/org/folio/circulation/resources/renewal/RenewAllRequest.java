@@ -0,0 +1,31 @@
+package org.folio.circulation.resources.renewal;
+
+import static org.apache.commons.lang3.StringUtils.isBlank;
+import static org.folio.circulation.support.json.JsonPropertyFetcher.getProperty;
+import static org.folio.circulation.support.ValidationErrorFailure.failedValidation;
+import static org.folio.circulation.support.results.Result.succeeded;
+
+import org.folio.circulation.support.results.Result;
+
+import io.vertx.core.json.JsonObject;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class RenewAllRequest {
+  static final String USER_ID = "userId";
+
+  private final String userId;
+
+  public static Result<RenewAllRequest> from(JsonObject json) {
+    final String userId = getProperty(json, USER_ID);
+
+    if (isBlank(userId)) {
+      return failedValidation("Renewal request must have a user ID",
+        USER_ID, null);
+    }
+
+    return succeeded(new RenewAllRequest(userId));
+  }
+}
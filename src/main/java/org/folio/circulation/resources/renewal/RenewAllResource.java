@@ -0,0 +1,348 @@
+package org.folio.circulation.resources.renewal;
+
+import static java.util.Collections.emptyList;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.apache.commons.collections4.ListUtils.partition;
+import static org.folio.circulation.domain.validation.CommonFailures.noItemFoundForIdFailure;
+import static org.folio.circulation.resources.handlers.error.CirculationErrorType.ITEM_DOES_NOT_EXIST;
+import static org.folio.circulation.support.AsyncCoordinationUtil.allOf;
+import static org.folio.circulation.support.AsyncCoordinationUtil.mapSequentially;
+import static org.folio.circulation.support.HttpFailureJson.errorsFor;
+import static org.folio.circulation.support.ValidationErrorFailure.singleValidationError;
+import static org.folio.circulation.support.json.JsonPropertyWriter.write;
+import static org.folio.circulation.support.results.Result.ofAsync;
+import static org.folio.circulation.support.results.Result.succeeded;
+import static org.folio.circulation.support.results.ResultBinding.mapResult;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.circulation.StoreLoanAndItem;
+import org.folio.circulation.domain.Item;
+import org.folio.circulation.domain.Loan;
+import org.folio.circulation.domain.LoanRepresentation;
+import org.folio.circulation.domain.MultipleRecords;
+import org.folio.circulation.domain.RequestQueue;
+import org.folio.circulation.domain.notice.schedule.FeeFineScheduledNoticeService;
+import org.folio.circulation.domain.notice.schedule.LoanScheduledNoticeService;
+import org.folio.circulation.domain.notice.schedule.ReminderFeeScheduledNoticeService;
+import org.folio.circulation.domain.policy.LoanPolicy;
+import org.folio.circulation.infrastructure.storage.SettingsRepository;
+import org.folio.circulation.infrastructure.storage.inventory.ItemRepository;
+import org.folio.circulation.infrastructure.storage.loans.LoanPolicyRepository;
+import org.folio.circulation.infrastructure.storage.loans.LoanRepository;
+import org.folio.circulation.infrastructure.storage.loans.OverdueFinePolicyRepository;
+import org.folio.circulation.infrastructure.storage.requests.RequestQueueRepository;
+import org.folio.circulation.infrastructure.storage.requests.RequestRepository;
+import org.folio.circulation.infrastructure.storage.users.UserRepository;
+import org.folio.circulation.resources.LoanNoticeSender;
+import org.folio.circulation.resources.Resource;
+import org.folio.circulation.resources.context.RenewalContext;
+import org.folio.circulation.resources.handlers.error.CirculationErrorHandler;
+import org.folio.circulation.resources.handlers.error.OverridingErrorHandler;
+import org.folio.circulation.services.CirculationSettingsService;
+import org.folio.circulation.services.EventPublisher;
+import org.folio.circulation.support.Clients;
+import org.folio.circulation.support.RouteRegistration;
+import org.folio.circulation.support.http.OkapiPermissions;
+import org.folio.circulation.support.http.server.JsonHttpResponse;
+import org.folio.circulation.support.http.server.WebContext;
+import org.folio.circulation.support.results.Result;
+
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Renews all open loans of a patron. The loans are fetched once, the patron is checked
+ * for blocks once and the policies and request queues are looked up for all of the loans
+ * together. A few loans are then renewed at a time and the outcome is reported for each
+ * of them, a loan which cannot be renewed does not prevent renewal of the others
+ *
+ * Each loan goes through the same checks and steps as a renewal by item ID. Blocks can
+ * be overridden in the same way, the overrides then apply to all of the loans
+ *
+ * Also used by {@link RenewAllDryRunResource} to determine which of the loans could be
+ * renewed, without changing any of them
+ */
+public class RenewAllResource extends Resource {
+  private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+  private static final int MAXIMUM_CONCURRENT_RENEWALS = 5;
+
+  private final String rootPath;
+  // provides the renewal steps for a single loan, it is not registered itself
+  private final RenewalResource singleLoanRenewal;
+
+  public RenewAllResource(HttpClient client) {
+    super(client);
+    this.rootPath = "/circulation/renew-all";
+    this.singleLoanRenewal = new RenewByIdResource(client);
+  }
+
+  @Override
+  public void register(Router router) {
+    RouteRegistration routeRegistration = new RouteRegistration(rootPath, router);
+    routeRegistration.create(this::renew);
+  }
+
+  private void renew(RoutingContext routingContext) {
+    log.debug("renew:: body={}", routingContext.body()::asString);
+    final WebContext webContext = new WebContext(routingContext);
+    final Clients clients = Clients.create(webContext, client);
+
+    renewAll(routingContext.body().asJsonObject(), webContext, clients, false)
+      .thenApply(r -> r.map(JsonHttpResponse::ok))
+      .thenAccept(webContext::writeResultToHttpResponse);
+  }
+
+  /**
+   * Renews all open loans of the patron given in the request
+   *
+   * @param dryRun when true, only the eligibility for renewal and the proposed due date
+   *  are determined for each loan, nothing is stored or published
+   */
+  CompletableFuture<Result<JsonObject>> renewAll(JsonObject bodyAsJson, WebContext webContext,
+    Clients clients, boolean dryRun) {
+
+    final var itemRepository = new ItemRepository(clients);
+    final var userRepository = new UserRepository(clients);
+    final var loanRepository = new LoanRepository(clients, itemRepository, userRepository);
+    final var requestRepository = RequestRepository.using(clients,
+      itemRepository, userRepository, loanRepository);
+    final var requestQueueRepository = new RequestQueueRepository(requestRepository);
+    final var loanPolicyRepository = new LoanPolicyRepository(clients);
+    final var overdueFinePolicyRepository = new OverdueFinePolicyRepository(clients);
+    final var settingsRepository = new SettingsRepository(clients);
+    final var circulationSettingsService = new CirculationSettingsService(clients);
+
+    final var renewals = new PatronRenewals(webContext, clients, bodyAsJson, dryRun,
+      itemRepository, userRepository, loanRepository, requestRepository,
+      loanPolicyRepository, overdueFinePolicyRepository);
+
+    return completedFuture(RenewAllRequest.from(bodyAsJson))
+      .thenCompose(r -> r.after(request -> findOpenLoans(request.getUserId(),
+        userRepository, loanRepository)))
+      .thenComposeAsync(r -> r.after(overdueFinePolicyRepository::findOverdueFinePoliciesForLoans))
+      .thenComposeAsync(r -> r.after(loans -> createRenewalContexts(loans, bodyAsJson,
+        webContext.getUserId(), requestQueueRepository, circulationSettingsService,
+        settingsRepository)))
+      .thenComposeAsync(r -> r.after(renewals::renewAll))
+      .thenApply(r -> r.map(this::toResponse));
+  }
+
+  private CompletableFuture<Result<MultipleRecords<Loan>>> findOpenLoans(String userId,
+    UserRepository userRepository, LoanRepository loanRepository) {
+
+    log.info("findOpenLoans:: userId={}", userId);
+
+    return userRepository.getUser(userId)
+      .thenApply(r -> r.failWhen(user -> succeeded(user == null),
+        user -> singleValidationError("user is not found", RenewAllRequest.USER_ID, userId)))
+      .thenCompose(r -> r.after(user -> loanRepository.findAllOpenLoansByUserIdWithItem(userId)
+        .thenApply(mapResult(loans -> loans.mapRecords(loan -> loan.withUser(user))))));
+  }
+
+  private CompletableFuture<Result<List<RenewalContext>>> createRenewalContexts(
+    MultipleRecords<Loan> loans, JsonObject bodyAsJson, String loggedInUserId,
+    RequestQueueRepository requestQueueRepository,
+    CirculationSettingsService circulationSettingsService,
+    SettingsRepository settingsRepository) {
+
+    log.info("createRenewalContexts:: open loans found: {}", loans.getRecords()::size);
+
+    if (loans.isEmpty()) {
+      return ofAsync(emptyList());
+    }
+
+    final List<Item> items = loans.getRecords().stream()
+      .map(Loan::getItem)
+      .filter(item -> item != null && item.isFound())
+      .toList();
+
+    return circulationSettingsService.getTlrSettings()
+      .thenCompose(r -> r.after(tlrSettings -> requestQueueRepository.getQueues(tlrSettings, items)
+        .thenCompose(q -> q.combineAfter(notUsed -> settingsRepository.lookupTimeZoneSettings(),
+          (queues, timeZone) -> loans.getRecords().stream()
+            .map(loan -> RenewalContext.create(loan, bodyAsJson, loggedInUserId)
+              .withTlrSettings(tlrSettings)
+              .withTimeZone(timeZone)
+              .withRequestQueue(queues.getOrDefault(loan.getItemId(),
+                new RequestQueue(emptyList()))))
+            .toList()))));
+  }
+
+  private static boolean isItemFound(Loan loan) {
+    return loan.getItem() != null && loan.getItem().isFound();
+  }
+
+  private JsonObject toResponse(List<JsonObject> outcomes) {
+    final JsonObject response = new JsonObject();
+
+    write(response, "renewals", new JsonArray(outcomes));
+    write(response, "totalRecords", outcomes.size());
+
+    return response;
+  }
+
+  /**
+   * Repositories and services shared by the renewals of a single request
+   */
+  private class PatronRenewals {
+    private final OkapiPermissions permissions;
+    private final Clients clients;
+    private final JsonObject bodyAsJson;
+    private final boolean dryRun;
+    private final ItemRepository itemRepository;
+    private final UserRepository userRepository;
+    private final LoanRepository loanRepository;
+    private final RequestRepository requestRepository;
+    private final LoanPolicyRepository loanPolicyRepository;
+    private final OverdueFinePolicyRepository overdueFinePolicyRepository;
+    private final StoreLoanAndItem storeLoanAndItem;
+    private final LoanRepresentation loanRepresentation = new LoanRepresentation();
+    private final EventPublisher eventPublisher;
+    private final LoanNoticeSender loanNoticeSender;
+    private final LoanScheduledNoticeService scheduledNoticeService;
+    private final ReminderFeeScheduledNoticeService scheduledRemindersService;
+    private final FeeFineScheduledNoticeService feeFineNoticesService;
+
+    private PatronRenewals(WebContext webContext, Clients clients, JsonObject bodyAsJson,
+      boolean dryRun, ItemRepository itemRepository, UserRepository userRepository,
+      LoanRepository loanRepository, RequestRepository requestRepository,
+      LoanPolicyRepository loanPolicyRepository,
+      OverdueFinePolicyRepository overdueFinePolicyRepository) {
+
+      this.permissions = OkapiPermissions.from(webContext.getHeaders());
+      this.clients = clients;
+      this.bodyAsJson = bodyAsJson;
+      this.dryRun = dryRun;
+      this.itemRepository = itemRepository;
+      this.userRepository = userRepository;
+      this.loanRepository = loanRepository;
+      this.requestRepository = requestRepository;
+      this.loanPolicyRepository = loanPolicyRepository;
+      this.overdueFinePolicyRepository = overdueFinePolicyRepository;
+      this.storeLoanAndItem = new StoreLoanAndItem(loanRepository, itemRepository);
+      this.eventPublisher = new EventPublisher(webContext, clients);
+      this.loanNoticeSender = LoanNoticeSender.using(clients, loanRepository);
+      this.scheduledNoticeService = LoanScheduledNoticeService.using(clients);
+      this.scheduledRemindersService = new ReminderFeeScheduledNoticeService(clients);
+      this.feeFineNoticesService = FeeFineScheduledNoticeService.using(clients);
+    }
+
+    private CompletableFuture<Result<List<JsonObject>>> renewAll(
+      List<RenewalContext> renewals) {
+
+      if (renewals.isEmpty()) {
+        log.info("renewAll:: patron has no open loans");
+        return ofAsync(emptyList());
+      }
+
+      final CirculationErrorHandler patronErrorHandler = new OverridingErrorHandler(permissions);
+
+      final List<Loan> loansWithPolicyFromRules = renewals.stream()
+        .map(RenewalContext::getLoan)
+        .filter(loan -> isItemFound(loan) && !loan.getItem().isDcbItem())
+        .toList();
+
+      return refuseWhenPatronCannotRenew(renewals.get(0), patronErrorHandler)
+        .thenComposeAsync(r -> r.after(notUsed ->
+          loanPolicyRepository.lookupPolicies(loansWithPolicyFromRules)))
+        .thenComposeAsync(r -> r.after(loanPolicies -> mapSequentially(
+          partition(renewals, MAXIMUM_CONCURRENT_RENEWALS), batch -> allOf(batch,
+            renewal -> renewLoan(renewal, loanPolicies, patronErrorHandler)))))
+        .thenApply(mapResult(batches -> batches.stream()
+          .flatMap(Collection::stream)
+          .toList()));
+    }
+
+    private CompletableFuture<Result<RenewalContext>> refuseWhenPatronCannotRenew(
+      RenewalContext renewal, CirculationErrorHandler errorHandler) {
+
+      return singleLoanRenewal.refuseWhenPatronCannotRenew(succeeded(renewal),
+        bodyAsJson, permissions, clients, errorHandler);
+    }
+
+    private CompletableFuture<Result<JsonObject>> renewLoan(RenewalContext renewal,
+      Map<String, LoanPolicy> loanPolicies, CirculationErrorHandler patronErrorHandler) {
+
+      final Loan loan = renewal.getLoan();
+      log.info("renewLoan:: loanId={}", loan::getId);
+
+      // every loan is refused when the patron is blocked, along with its own errors
+      final CirculationErrorHandler errorHandler = new OverridingErrorHandler(permissions);
+      errorHandler.getErrors().putAll(patronErrorHandler.getErrors());
+
+      if (!isItemFound(loan)) {
+        errorHandler.handleValidationError(noItemFoundForIdFailure(loan.getItemId()).get(),
+          ITEM_DOES_NOT_EXIST, renewal);
+      }
+
+      final LoanPolicy loanPolicy = loanPolicies.get(loan.getId());
+
+      final CompletableFuture<Result<RenewalContext>> withLoanPolicy = loanPolicy != null
+        ? ofAsync(renewal.withLoan(loan.withLoanPolicy(loanPolicy)))
+        : singleLoanRenewal.lookupLoanPolicy(renewal, loanPolicyRepository,
+          requestRepository, errorHandler);
+
+      final CompletableFuture<Result<RenewalContext>> renewed = withLoanPolicy
+        .thenComposeAsync(r -> r.after(ctx -> singleLoanRenewal.validateAndRenew(
+          ctx, clients, errorHandler)));
+
+      if (dryRun) {
+        return renewed.thenApply(r -> succeeded(toEligibility(loan, r)));
+      }
+
+      return renewed
+        .thenComposeAsync(r -> r.after(ctx -> singleLoanRenewal.storeRenewal(ctx,
+          clients, storeLoanAndItem, itemRepository, userRepository, loanRepository,
+          overdueFinePolicyRepository)))
+        .thenApplyAsync(r -> r.next(feeFineNoticesService::scheduleOverdueFineNotices))
+        .thenComposeAsync(r -> r.after(eventPublisher::publishDueDateChangedEvent))
+        .thenApply(r -> r.next(scheduledNoticeService::rescheduleDueDateNotices))
+        .thenApply(r -> r.next(scheduledRemindersService::rescheduleFirstReminder))
+        .thenApply(r -> r.next(loanNoticeSender::sendRenewalPatronNotice))
+        .thenApply(r -> succeeded(toOutcome(loan, r)));
+    }
+
+    private JsonObject toOutcome(Loan loan, Result<RenewalContext> result) {
+      final JsonObject outcome = new JsonObject();
+
+      write(outcome, "loanId", loan.getId());
+      write(outcome, "itemId", loan.getItemId());
+      write(outcome, "renewed", result.succeeded());
+
+      if (result.succeeded()) {
+        write(outcome, "loan", loanRepresentation.extendedLoan(result.value()));
+      } else {
+        log.info("toOutcome:: loan {} was not renewed: {}", loan::getId, result::cause);
+        write(outcome, "errors", errorsFor(result.cause()));
+      }
+
+      return outcome;
+    }
+
+    private JsonObject toEligibility(Loan loan, Result<RenewalContext> result) {
+      final JsonObject eligibility = new JsonObject();
+
+      write(eligibility, "loanId", loan.getId());
+      write(eligibility, "itemId", loan.getItemId());
+      write(eligibility, "renewable", result.succeeded());
+
+      if (result.succeeded()) {
+        write(eligibility, "proposedDueDate", result.value().getLoan().getDueDate());
+      } else {
+        write(eligibility, "errors", errorsFor(result.cause()));
+      }
+
+      return eligibility;
+    }
+  }
+}
@@ -135,7 +135,6 @@ public abstract class RenewalResource extends Resource {
     AGED_TO_LOST, DECLARED_LOST);
   private static final EnumSet<ItemStatus> ITEM_STATUSES_NOT_POSSIBLE_TO_RENEW = EnumSet.of(
     CLAIMED_RETURNED);
-  private boolean isRenewalBlockOverrideRequested;
 
   RenewalResource(String rootPath, HttpClient client) {
     super(client);
@@ -179,33 +178,17 @@ public abstract class RenewalResource extends Resource {
 
     final LoanNoticeSender loanNoticeSender = LoanNoticeSender.using(clients, loanRepository);
 
-    final AutomatedPatronBlocksRepository automatedPatronBlocksRepository =
-      new AutomatedPatronBlocksRepository(clients);
     final FeeFineScheduledNoticeService feeFineNoticesService =
       FeeFineScheduledNoticeService.using(clients);
 
     //TODO: Validation check for same user should be in the domain service
     JsonObject bodyAsJson = routingContext.body().asJsonObject();
-    BlockOverrides overrideBlocks = getOverrideBlocks(bodyAsJson);
     OkapiPermissions permissions = OkapiPermissions.from(new WebContext(routingContext).getHeaders());
-    final Validator<RenewalContext> automatedPatronBlocksValidator =
-      createAutomatedPatronBlocksValidator(bodyAsJson, permissions, automatedPatronBlocksRepository);
-    final Validator<RenewalContext> manualPatronBlocksValidator = createManualPatronBlocksValidator(
-      bodyAsJson, permissions, clients);
-    final Validator<RenewalContext> overrideRenewValidator = new OverridingBlockValidator<>(
-      RENEWAL_BLOCK, overrideBlocks, permissions);
-    isRenewalBlockOverrideRequested = overrideBlocks.getRenewalBlockOverride().isRequested() ||
-      overrideBlocks.getRenewalDueDateRequiredBlockOverride().isRequested();
 
     findLoan(bodyAsJson, loanRepository, itemRepository, userRepository, errorHandler)
       .thenApply(r -> r.map(loan -> RenewalContext.create(loan, bodyAsJson, webContext.getUserId())))
-      .thenComposeAsync(r -> refuseWhenPatronIsInactive(r, errorHandler, USER_IS_INACTIVE))
-      .thenComposeAsync(r -> refuseWhenRenewalActionIsBlockedForPatron(
-        manualPatronBlocksValidator, r, errorHandler, USER_IS_BLOCKED_MANUALLY))
-      .thenComposeAsync(r -> refuseWhenRenewalActionIsBlockedForPatron(
-        automatedPatronBlocksValidator, r, errorHandler, USER_IS_BLOCKED_AUTOMATICALLY))
-      .thenComposeAsync(r -> refuseIfNoPermissionsForRenewalOverride(
-        overrideRenewValidator, r, errorHandler))
+      .thenComposeAsync(r -> refuseWhenPatronCannotRenew(r, bodyAsJson, permissions, clients,
+        errorHandler))
       .thenCompose(r -> r.after(ctx -> lookupOverdueFinePolicy(ctx, overdueFinePolicyRepository, errorHandler)))
       .thenComposeAsync(r -> r.after(ctx -> blockRenewalOfItemsWithReminderFees(ctx, errorHandler)))
       .thenCompose(r -> r.after(ctx -> lookupLoanPolicy(ctx, loanPolicyRepository, requestRepository, errorHandler)))
@@ -217,10 +200,9 @@ public abstract class RenewalResource extends Resource {
         RenewalContext::withTimeZone))
       .thenComposeAsync(r -> r.after(context -> renew(context, clients, errorHandler)))
       .thenApply(r -> r.next(errorHandler::failWithValidationErrors))
-      .thenApply(r -> r.map(this::unsetDueDateChangedByRecallIfNoOpenRecallsInQueue))
-      .thenComposeAsync(r -> r.after(storeLoanAndItem::updateLoanAndItemInStorage))
-      .thenComposeAsync(r -> r.after(context -> processFeesFines(context, clients,
-        itemRepository, userRepository, loanRepository, overdueFinePolicyRepository)))
+      .thenComposeAsync(r -> r.after(context -> storeRenewal(context, clients,
+        storeLoanAndItem, itemRepository, userRepository, loanRepository,
+        overdueFinePolicyRepository)))
       .thenApplyAsync(r -> r.next(feeFineNoticesService::scheduleOverdueFineNotices))
       .thenComposeAsync(r -> r.after(eventPublisher::publishDueDateChangedEvent))
       .thenApply(r -> r.next(scheduledNoticeService::rescheduleDueDateNotices))
@@ -231,6 +213,57 @@ public abstract class RenewalResource extends Resource {
       .thenAccept(webContext::writeResultToHttpResponse);
   }
 
+  /**
+   * Refuses renewal when the patron is inactive or blocked, or when renewal blocks are
+   * to be overridden without the permissions needed to do so
+   */
+  CompletableFuture<Result<RenewalContext>> refuseWhenPatronCannotRenew(
+    Result<RenewalContext> result, JsonObject request, OkapiPermissions permissions,
+    Clients clients, CirculationErrorHandler errorHandler) {
+
+    final Validator<RenewalContext> automatedPatronBlocksValidator =
+      createAutomatedPatronBlocksValidator(request, permissions,
+        new AutomatedPatronBlocksRepository(clients));
+    final Validator<RenewalContext> manualPatronBlocksValidator = createManualPatronBlocksValidator(
+      request, permissions, clients);
+    final Validator<RenewalContext> overrideRenewValidator = new OverridingBlockValidator<>(
+      RENEWAL_BLOCK, getOverrideBlocks(request), permissions);
+
+    return refuseWhenPatronIsInactive(result, errorHandler, USER_IS_INACTIVE)
+      .thenComposeAsync(r -> refuseWhenRenewalActionIsBlockedForPatron(
+        manualPatronBlocksValidator, r, errorHandler, USER_IS_BLOCKED_MANUALLY))
+      .thenComposeAsync(r -> refuseWhenRenewalActionIsBlockedForPatron(
+        automatedPatronBlocksValidator, r, errorHandler, USER_IS_BLOCKED_AUTOMATICALLY))
+      .thenComposeAsync(r -> refuseIfNoPermissionsForRenewalOverride(
+        overrideRenewValidator, request, r, errorHandler));
+  }
+
+  /**
+   * Renews the loan of a context which already has its loan policy, request queue
+   * and time zone, unless any of the earlier checks has failed
+   */
+  CompletableFuture<Result<RenewalContext>> validateAndRenew(RenewalContext renewalContext,
+    Clients clients, CirculationErrorHandler errorHandler) {
+
+    return blockRenewalOfItemsWithReminderFees(renewalContext, errorHandler)
+      .thenComposeAsync(r -> r.after(context -> renew(context, clients, errorHandler)))
+      .thenApply(r -> r.next(errorHandler::failWithValidationErrors));
+  }
+
+  /**
+   * Stores the renewed loan and its item, then charges any fees and fines due
+   */
+  CompletableFuture<Result<RenewalContext>> storeRenewal(RenewalContext renewalContext,
+    Clients clients, StoreLoanAndItem storeLoanAndItem, ItemRepository itemRepository,
+    UserRepository userRepository, LoanRepository loanRepository,
+    OverdueFinePolicyRepository overdueFinePolicyRepository) {
+
+    return storeLoanAndItem.updateLoanAndItemInStorage(
+        unsetDueDateChangedByRecallIfNoOpenRecallsInQueue(renewalContext))
+      .thenComposeAsync(r -> r.after(context -> processFeesFines(context, clients,
+        itemRepository, userRepository, loanRepository, overdueFinePolicyRepository)));
+  }
+
   private RenewalContext unsetDueDateChangedByRecallIfNoOpenRecallsInQueue(
     RenewalContext renewalContext) {
 
@@ -258,6 +291,9 @@ public abstract class RenewalResource extends Resource {
     UserRepository userRepository, LoanRepository loanRepository,
     OverdueFinePolicyRepository overdueFinePolicyRepository) {
 
+    final boolean isRenewalBlockOverrideRequested = isRenewalBlockOverrideRequested(
+      renewalContext.getRenewalRequest());
+
     log.info("processFeesFines:: loanId={}, isRenewalBlockOverrideRequested={}",
       renewalContext.getLoan()::getId, () -> isRenewalBlockOverrideRequested);
 
@@ -353,7 +389,7 @@ public abstract class RenewalResource extends Resource {
       .thenApply(r -> errorHandler.handleValidationResult(r, errorType, result)));
   }
 
-  private CompletableFuture<Result<RenewalContext>> lookupLoanPolicy(
+  CompletableFuture<Result<RenewalContext>> lookupLoanPolicy(
     RenewalContext renewalContext, LoanPolicyRepository loanPolicyRepository,
     RequestRepository requestRepository, CirculationErrorHandler errorHandler) {
 
@@ -462,7 +498,7 @@ public abstract class RenewalResource extends Resource {
       return completedFuture(succeeded(renewalContext));
     }
 
-    if (isRenewalBlockOverrideRequested) {
+    if (isRenewalBlockOverrideRequested(renewalContext.getRenewalRequest())) {
       return renewThroughOverride(renewalContext)
         .thenApply(r -> errorHandler.handleValidationResult(r, RENEWAL_VALIDATION_ERROR,
           renewalContext));
@@ -515,11 +551,18 @@ public abstract class RenewalResource extends Resource {
     return BlockOverrides.from(getObjectProperty(request, OVERRIDE_BLOCKS));
   }
 
+  private boolean isRenewalBlockOverrideRequested(JsonObject request) {
+    final BlockOverrides overrideBlocks = getOverrideBlocks(request);
+
+    return overrideBlocks.getRenewalBlockOverride().isRequested() ||
+      overrideBlocks.getRenewalDueDateRequiredBlockOverride().isRequested();
+  }
+
   private CompletableFuture<Result<RenewalContext>> refuseIfNoPermissionsForRenewalOverride(
-    Validator<RenewalContext> validator, Result<RenewalContext> result,
+    Validator<RenewalContext> validator, JsonObject request, Result<RenewalContext> result,
     CirculationErrorHandler errorHandler) {
 
-    return isRenewalBlockOverrideRequested
+    return isRenewalBlockOverrideRequested(request)
       ? result.after(validator::validate)
         .thenApply(r -> errorHandler.handleValidationResult(r, INSUFFICIENT_OVERRIDE_PERMISSIONS,
           result))
@@ -0,0 +1,111 @@
+package org.folio.circulation.services;
+
+import java.lang.invoke.MethodHandles;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.Environment;
+import org.folio.circulation.domain.AllowedServicePoint;
+import org.folio.circulation.infrastructure.storage.ServicePointRepository.ServicePointsVersion;
+
+/**
+ * Short-lived in-memory cache of the pickup service points of a tenant and of the pickup
+ * service points allowed by each request policy.
+ *
+ * Entries are only used while service points in storage are unchanged (same number of
+ * service points and most recent update) and, for request policies, while the policy
+ * allows the same service points
+ */
+public class AllowedServicePointsCache {
+  private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+
+  private static final AllowedServicePointsCache instance = new AllowedServicePointsCache(
+    TimeUnit.SECONDS.toMillis(Environment.getAllowedServicePointsCacheTtlSeconds()));
+
+  private final long timeToLiveMillis;
+  private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+
+  AllowedServicePointsCache(long timeToLiveMillis) {
+    this.timeToLiveMillis = timeToLiveMillis;
+  }
+
+  public static AllowedServicePointsCache getInstance() {
+    return instance;
+  }
+
+  public boolean isEnabled() {
+    return timeToLiveMillis > 0;
+  }
+
+  /**
+   * @param requestPolicyId ID of the request policy, null for all pickup service points
+   * @param allowedServicePointIds IDs of the service points allowed by the policy
+   */
+  Optional<Set<AllowedServicePoint>> get(String tenantId, String indexName,
+    String requestPolicyId, Set<String> allowedServicePointIds, ServicePointsVersion version) {
+
+    final Key key = new Key(tenantId, indexName, requestPolicyId);
+    final Entry entry = entries.get(key);
+
+    if (entry == null) {
+      return Optional.empty();
+    }
+
+    if (entry.isExpired(timeToLiveMillis) || !entry.isCurrent(allowedServicePointIds, version)) {
+      log.info("get:: cached service points {} are stale", key);
+      entries.remove(key, entry);
+      return Optional.empty();
+    }
+
+    // sets of allowed service points are combined by the caller
+    return Optional.of(new HashSet<>(entry.servicePoints()));
+  }
+
+  void put(String tenantId, String indexName, String requestPolicyId,
+    Set<String> allowedServicePointIds, ServicePointsVersion version,
+    Set<AllowedServicePoint> servicePoints) {
+
+    if (version.lastUpdatedDate() == null) {
+      log.debug("put:: service points cannot be revalidated, not caching them");
+      return;
+    }
+
+    entries.values().removeIf(cached -> cached.isExpired(timeToLiveMillis));
+
+    entries.put(new Key(tenantId, indexName, requestPolicyId), new Entry(
+      Set.copyOf(allowedServicePointIds), version, Set.copyOf(servicePoints),
+      System.currentTimeMillis()));
+  }
+
+  public void clear() {
+    entries.clear();
+  }
+
+  int size() {
+    return entries.size();
+  }
+
+  private record Key(String tenantId, String indexName, String requestPolicyId) { }
+
+  private record Entry(Set<String> allowedServicePointIds, ServicePointsVersion version,
+    Set<AllowedServicePoint> servicePoints, long cachedAt) {
+
+    private boolean isCurrent(Set<String> currentAllowedServicePointIds,
+      ServicePointsVersion currentVersion) {
+
+      return Objects.equals(version, currentVersion)
+        && Objects.equals(allowedServicePointIds, currentAllowedServicePointIds);
+    }
+
+    private boolean isExpired(long timeToLiveMillis) {
+      return System.currentTimeMillis() - cachedAt > timeToLiveMillis;
+    }
+  }
+}
@@ -9,6 +9,7 @@ import static org.folio.circulation.domain.RequestType.HOLD;
 import static org.folio.circulation.domain.RequestType.PAGE;
 import static org.folio.circulation.domain.RequestType.RECALL;
 import static org.folio.circulation.support.AsyncCoordinationUtil.allOf;
+import static org.folio.circulation.support.AsyncCoordinationUtil.allResultsOf;
 import static org.folio.circulation.support.results.Result.failed;
 import static org.folio.circulation.support.results.Result.ofAsync;
 import static org.folio.circulation.support.results.Result.succeeded;
@@ -27,6 +28,7 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.BiFunction;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.apache.logging.log4j.LogManager;
@@ -42,6 +44,7 @@ import org.folio.circulation.domain.User;
 import org.folio.circulation.domain.configuration.TlrSettingsConfiguration;
 import org.folio.circulation.domain.policy.RequestPolicy;
 import org.folio.circulation.infrastructure.storage.ServicePointRepository;
+import org.folio.circulation.infrastructure.storage.ServicePointRepository.ServicePointsVersion;
 import org.folio.circulation.infrastructure.storage.inventory.InstanceRepository;
 import org.folio.circulation.infrastructure.storage.inventory.ItemRepository;
 import org.folio.circulation.infrastructure.storage.requests.RequestPolicyRepository;
@@ -68,8 +71,17 @@ public class AllowedServicePointsService {
   private final CirculationSettingsService circulationSettingsService;
   private final InstanceRepository instanceRepository;
   private final String indexName;
+  private final AllowedServicePointsCache cache;
+  private final String tenantId;
+  private CompletableFuture<Result<ServicePointsVersion>> servicePointsVersion;
 
   public AllowedServicePointsService(Clients clients, boolean isEcsRequestRouting) {
+    this(clients, isEcsRequestRouting, AllowedServicePointsCache.getInstance());
+  }
+
+  AllowedServicePointsService(Clients clients, boolean isEcsRequestRouting,
+    AllowedServicePointsCache cache) {
+
     itemRepository = new ItemRepository(clients);
     userRepository = new UserRepository(clients);
     requestRepository = new RequestRepository(clients);
@@ -79,6 +91,9 @@ public class AllowedServicePointsService {
     instanceRepository = new InstanceRepository(clients);
     itemFinder = new ItemByInstanceIdFinder(clients.holdingsStorage(), itemRepository);
     indexName = isEcsRequestRouting ? ECS_REQUEST_ROUTING_INDEX_NAME : PICKUP_LOCATION_INDEX_NAME;
+    this.cache = cache;
+    // routing service points come from another module, they are never cached
+    tenantId = isEcsRequestRouting ? null : clients.getTenantId();
   }
 
   public CompletableFuture<Result<Map<RequestType, Set<AllowedServicePoint>>>>
@@ -94,6 +109,30 @@ public class AllowedServicePointsService {
         patronGroupId)));
   }
 
+  /**
+   * Gets allowed service points for several instances or items requested by the same
+   * patron. The patron is only fetched once and a failure for one of the instances or
+   * items does not affect the others
+   *
+   * @return the outcome for each of the requests, in the same order
+   */
+  public CompletableFuture<Result<List<Result<Map<RequestType, Set<AllowedServicePoint>>>>>>
+  getAllowedServicePoints(List<AllowedServicePointsRequest> requests) {
+
+    log.debug("getAllowedServicePoints:: parameters requests: {}", requests::size);
+
+    if (requests.isEmpty()) {
+      return ofAsync(List.of());
+    }
+
+    return getPatronGroupId(requests.get(0))
+      .thenCompose(r -> r.after(patronGroupId -> allResultsOf(requests,
+          request -> fetchInstance(request)
+            .thenCompose(ri -> ri.after(ignored -> getAllowedServicePoints(request,
+              patronGroupId))))
+        .thenApply(Result::succeeded)));
+  }
+
   private CompletableFuture<Result<AllowedServicePointsRequest>> fetchInstance(
     AllowedServicePointsRequest request) {
 
@@ -291,13 +330,14 @@ public class AllowedServicePointsService {
       .collect(Collectors.toCollection(ArrayList::new)); // collect into a mutable list
 
     // TODO: fetch service points on a later stage, we only need IDs here
-    return fetchServicePoints(requestTypesAllowedByPolicy, servicePointAllowedByPolicy)
+    return fetchServicePoints(requestPolicy, requestTypesAllowedByPolicy,
+      servicePointAllowedByPolicy)
       .thenApply(r -> r.map(servicePoints -> groupAllowedServicePointsByRequestType(
         requestTypesAllowedByPolicyAndStatus, servicePoints, servicePointAllowedByPolicy)));
   }
 
   private CompletableFuture<Result<Set<AllowedServicePoint>>> fetchServicePoints(
-    List<RequestType> requestTypesAllowedByPolicy,
+    RequestPolicy requestPolicy, List<RequestType> requestTypesAllowedByPolicy,
     Map<RequestType, Set<String>> servicePointsAllowedByPolicy) {
 
     Set<String> allowedServicePointsIds = servicePointsAllowedByPolicy.values().stream()
@@ -305,7 +345,8 @@ public class AllowedServicePointsService {
       .collect(Collectors.toSet());
 
     return requestTypesAllowedByPolicy.size() == servicePointsAllowedByPolicy.size()
-      ? fetchPickupLocationServicePointsByIds(allowedServicePointsIds)
+      ? fetchCached(requestPolicy.getId(), allowedServicePointsIds,
+          () -> fetchPickupLocationServicePointsByIds(allowedServicePointsIds))
       : fetchAllowedServicePoints();
   }
 
@@ -371,10 +412,48 @@ public class AllowedServicePointsService {
   }
 
   private CompletableFuture<Result<Set<AllowedServicePoint>>> fetchAllowedServicePoints() {
-    return servicePointRepository.fetchServicePointsByIndexName(indexName)
+    return fetchCached(null, Set.of(), () -> servicePointRepository
+      .fetchServicePointsByIndexName(indexName)
       .thenApply(r -> r.map(servicePoints -> servicePoints.stream()
         .map(AllowedServicePoint::new)
-        .collect(Collectors.toSet())));
+        .collect(Collectors.toSet()))));
+  }
+
+  private CompletableFuture<Result<Set<AllowedServicePoint>>> fetchCached(
+    String requestPolicyId, Set<String> allowedServicePointIds,
+    Supplier<CompletableFuture<Result<Set<AllowedServicePoint>>>> fetcher) {
+
+    if (tenantId == null || !cache.isEnabled()) {
+      return fetcher.get();
+    }
+
+    return getServicePointsVersion()
+      .thenCompose(r -> {
+        if (r.failed()) {
+          log.warn("fetchCached:: cannot revalidate cached service points: {}", r.cause());
+          return fetcher.get();
+        }
+
+        final ServicePointsVersion version = r.value();
+
+        return cache.get(tenantId, indexName, requestPolicyId, allowedServicePointIds, version)
+          .<CompletableFuture<Result<Set<AllowedServicePoint>>>>map(Result::ofAsync)
+          .orElseGet(() -> fetcher.get()
+            .thenApply(fetched -> fetched.map(servicePoints -> {
+              cache.put(tenantId, indexName, requestPolicyId, allowedServicePointIds,
+                version, servicePoints);
+              return servicePoints;
+            })));
+      });
+  }
+
+  private CompletableFuture<Result<ServicePointsVersion>> getServicePointsVersion() {
+    // only fetched once, even when service points are needed for several request policies
+    if (servicePointsVersion == null) {
+      servicePointsVersion = servicePointRepository.fetchServicePointsVersion();
+    }
+
+    return servicePointsVersion;
   }
 
   private CompletableFuture<Result<Set<AllowedServicePoint>>> fetchPickupLocationServicePointsByIds(
@@ -0,0 +1,273 @@
+package org.folio.circulation.services;
+
+import static java.util.Comparator.comparing;
+import static org.apache.commons.collections4.ListUtils.partition;
+import static org.folio.circulation.domain.ItemStatus.AWAITING_PICKUP;
+import static org.folio.circulation.domain.RequestStatus.CLOSED_CANCELLED;
+import static org.folio.circulation.domain.RequestStatus.CLOSED_PICKUP_EXPIRED;
+import static org.folio.circulation.domain.RequestStatus.OPEN_AWAITING_PICKUP;
+import static org.folio.circulation.support.CqlSortBy.descending;
+import static org.folio.circulation.support.http.client.CqlQuery.exactMatch;
+import static org.folio.circulation.support.http.client.CqlQuery.exactMatchAny;
+import static org.folio.circulation.support.http.client.Offset.offset;
+import static org.folio.circulation.support.http.client.PageLimit.limit;
+import static org.folio.circulation.support.results.Result.ofAsync;
+import static org.folio.circulation.support.results.Result.succeeded;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.circulation.domain.Item;
+import org.folio.circulation.domain.MultipleRecords;
+import org.folio.circulation.domain.Request;
+import org.folio.circulation.domain.RequestRepresentation;
+import org.folio.circulation.infrastructure.storage.inventory.ItemReportRepository;
+import org.folio.circulation.infrastructure.storage.inventory.ItemRepository;
+import org.folio.circulation.support.Clients;
+import org.folio.circulation.support.GetManyRecordsClient;
+import org.folio.circulation.support.http.client.CqlQuery;
+import org.folio.circulation.support.results.Result;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Builds the hold shelf clearance report: the most recently closed (pickup expired or
+ * cancelled) request of each item still awaiting pickup at a service point.
+ *
+ * Items awaiting pickup are processed page by page, in order of their IDs, so only the
+ * requests included in the report are kept in memory. When a limit is given, the report
+ * is split into pages and the ID of the last item included in a page is returned as the
+ * cursor for the next one
+ */
+public class HoldShelfClearanceReportService {
+  private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+
+  private static final int ITEMS_PAGE_SIZE = 200;
+
+  /**
+   * The optimal number of identifiers that will not exceed the permissible length
+   * of the URI in according to the RFC 2616
+   */
+  private static final int BATCH_SIZE = 40;
+  private static final int CLOSED_REQUESTS_PAGE_SIZE = 1000;
+
+  private static final String ITEM_ID_KEY = "itemId";
+  private static final String REQUESTS_KEY = "requests";
+  private static final String STATUS_KEY = "status";
+  private static final String STATUS_NAME_KEY = "status.name";
+  private static final String TOTAL_RECORDS_KEY = "totalRecords";
+  private static final String NEXT_CURSOR_KEY = "nextCursor";
+  private static final String REQUEST_CLOSED_DATE_KEY = "awaitingPickupRequestClosedDate";
+
+  private final ItemReportRepository itemReportRepository;
+  private final ItemRepository itemRepository;
+  private final GetManyRecordsClient requestsStorage;
+
+  public HoldShelfClearanceReportService(Clients clients) {
+    this(new ItemReportRepository(clients), new ItemRepository(clients),
+      clients.requestsStorage());
+  }
+
+  HoldShelfClearanceReportService(ItemReportRepository itemReportRepository,
+    ItemRepository itemRepository, GetManyRecordsClient requestsStorage) {
+
+    this.itemReportRepository = itemReportRepository;
+    this.itemRepository = itemRepository;
+    this.requestsStorage = requestsStorage;
+  }
+
+  /**
+   * @param cursor ID of the last item included in the previous page, null for the first page
+   * @param limit maximum number of requests in the page, null for the whole report
+   */
+  public CompletableFuture<Result<JsonObject>> buildReport(String servicePointId,
+    String cursor, Integer limit) {
+
+    log.info("buildReport:: parameters servicePointId: {}, cursor: {}, limit: {}",
+      servicePointId, cursor, limit);
+
+    return collectRequests(servicePointId, cursor, limit, new ArrayList<>())
+      .thenCompose(r -> r.after(page -> fetchItems(page.requests())
+        .thenApply(ri -> ri.map(requests -> toJson(requests, page.nextCursor())))));
+  }
+
+  private CompletableFuture<Result<ReportPage>> collectRequests(String servicePointId,
+    String afterItemId, Integer limit, List<Request> collected) {
+
+    return itemReportRepository.getItemsPageByField(STATUS_NAME_KEY,
+        AWAITING_PICKUP.getValue(), afterItemId, ITEMS_PAGE_SIZE)
+      .thenCompose(r -> r.after(items -> findRequestsToClear(servicePointId, itemIds(items))
+        .thenCompose(rr -> rr.after(requests -> {
+          collected.addAll(requests);
+
+          final boolean lastItemsPage = items.getRecords().size() < ITEMS_PAGE_SIZE;
+
+          if (limit != null && collected.size() >= limit) {
+            final List<Request> page = new ArrayList<>(collected.subList(0, limit));
+            final boolean moreRequests = !lastItemsPage || collected.size() > limit;
+
+            return ofAsync(new ReportPage(page,
+              moreRequests ? page.get(page.size() - 1).getItemId() : null));
+          }
+
+          if (lastItemsPage) {
+            return ofAsync(new ReportPage(collected, null));
+          }
+
+          log.debug("collectRequests:: {} requests collected, fetching next page of items",
+            collected.size());
+
+          return collectRequests(servicePointId, lastItemId(items), limit, collected);
+        }))));
+  }
+
+  /**
+   * @return requests to be cleared from the hold shelf, in order of item ID
+   */
+  private CompletableFuture<Result<List<Request>>> findRequestsToClear(String servicePointId,
+    List<String> itemIds) {
+
+    final List<List<String>> batches = partition(itemIds, BATCH_SIZE);
+    final List<Request> requestsToClear = new ArrayList<>();
+
+    CompletableFuture<Result<List<Request>>> future = ofAsync(requestsToClear);
+
+    for (List<String> batch : batches) {
+      future = future.thenCompose(r -> r.after(ignored -> findRequestsToClearInBatch(batch)
+        .thenApply(rb -> rb.map(requests -> {
+          requests.stream()
+            .filter(request -> Objects.equals(servicePointId,
+              request.getPickupServicePointId()))
+            .forEach(requestsToClear::add);
+
+          return requestsToClear;
+        }))));
+    }
+
+    return future.thenApply(r -> r.map(requests -> {
+      requests.sort(comparing(Request::getItemId));
+      return requests;
+    }));
+  }
+
+  private CompletableFuture<Result<List<Request>>> findRequestsToClearInBatch(
+    List<String> itemIds) {
+
+    return findItemIdsWithAwaitingPickupRequest(itemIds)
+      .thenCompose(r -> r.after(itemIdsWithAwaitingPickupRequest -> {
+        final List<String> itemIdsWithoutAwaitingPickupRequest = itemIds.stream()
+          .filter(itemId -> !itemIdsWithAwaitingPickupRequest.contains(itemId))
+          .toList();
+
+        if (itemIdsWithoutAwaitingPickupRequest.isEmpty()) {
+          return ofAsync(List.<Request>of());
+        }
+
+        return findMostRecentlyClosedRequests(itemIdsWithoutAwaitingPickupRequest, 0,
+          new HashMap<>());
+      }));
+  }
+
+  private CompletableFuture<Result<Set<String>>> findItemIdsWithAwaitingPickupRequest(
+    List<String> itemIds) {
+
+    final Result<CqlQuery> query = exactMatch(STATUS_KEY, OPEN_AWAITING_PICKUP.getValue())
+      .combine(exactMatchAny(ITEM_ID_KEY, itemIds), CqlQuery::and);
+
+    return query
+      .after(q -> requestsStorage.getMany(q, limit(itemIds.size())))
+      .thenApply(r -> r.next(response -> MultipleRecords.from(response, Request::from,
+        REQUESTS_KEY)))
+      .thenApply(r -> r.map(requests -> requests.getRecords().stream()
+        .map(Request::getItemId)
+        .collect(Collectors.toCollection(HashSet::new))));
+  }
+
+  /**
+   * Pages through closed requests for the items, most recently closed first, until the
+   * most recently closed request of every item is found
+   */
+  private CompletableFuture<Result<List<Request>>> findMostRecentlyClosedRequests(
+    List<String> itemIds, int pageOffset, Map<String, Request> mostRecentlyClosed) {
+
+    final Result<CqlQuery> query = exactMatchAny(ITEM_ID_KEY, itemIds)
+      .combine(exactMatchAny(STATUS_KEY, List.of(CLOSED_PICKUP_EXPIRED.getValue(),
+        CLOSED_CANCELLED.getValue())), CqlQuery::and)
+      .combine(CqlQuery.greaterThan(REQUEST_CLOSED_DATE_KEY, StringUtils.EMPTY), CqlQuery::and)
+      .map(q -> q.sortBy(descending(REQUEST_CLOSED_DATE_KEY)));
+
+    return query
+      .after(q -> requestsStorage.getMany(q, limit(CLOSED_REQUESTS_PAGE_SIZE),
+        offset(pageOffset)))
+      .thenApply(r -> r.next(response -> MultipleRecords.from(response, Request::from,
+        REQUESTS_KEY)))
+      .thenCompose(r -> r.after(requests -> {
+        requests.getRecords().stream()
+          .filter(request -> request.getItemId() != null)
+          .forEach(request -> mostRecentlyClosed.putIfAbsent(request.getItemId(), request));
+
+        final int nextOffset = pageOffset + CLOSED_REQUESTS_PAGE_SIZE;
+
+        if (mostRecentlyClosed.size() < itemIds.size()
+          && requests.getTotalRecords() > nextOffset) {
+
+          return findMostRecentlyClosedRequests(itemIds, nextOffset, mostRecentlyClosed);
+        }
+
+        return ofAsync(List.copyOf(mostRecentlyClosed.values()));
+      }));
+  }
+
+  private CompletableFuture<Result<List<Request>>> fetchItems(List<Request> requests) {
+    if (requests.isEmpty()) {
+      return ofAsync(requests);
+    }
+
+    return itemRepository.fetchItemsFor(succeeded(
+        new MultipleRecords<>(requests, requests.size())), Request::withItem)
+      .thenApply(r -> r.map(records -> List.copyOf(records.getRecords())));
+  }
+
+  private JsonObject toJson(List<Request> requests, String nextCursor) {
+    final RequestRepresentation representation = new RequestRepresentation();
+
+    final JsonObject report = new JsonObject()
+      .put(REQUESTS_KEY, new JsonArray(requests.stream()
+        .map(representation::extendedRepresentation)
+        .toList()))
+      .put(TOTAL_RECORDS_KEY, requests.size());
+
+    if (nextCursor != null) {
+      report.put(NEXT_CURSOR_KEY, nextCursor);
+    }
+
+    return report;
+  }
+
+  private static List<String> itemIds(MultipleRecords<Item> items) {
+    return items.getRecords().stream()
+      .map(Item::getItemId)
+      .filter(StringUtils::isNotBlank)
+      .toList();
+  }
+
+  private static String lastItemId(MultipleRecords<Item> items) {
+    final List<Item> records = new ArrayList<>(items.getRecords());
+
+    return records.get(records.size() - 1).getItemId();
+  }
+
+  private record ReportPage(List<Request> requests, String nextCursor) { }
+}
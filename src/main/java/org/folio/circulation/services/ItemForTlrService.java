@@ -1,9 +1,7 @@
 package org.folio.circulation.services;
 
 import static java.lang.String.format;
-import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.toList;
-import static java.util.stream.Collectors.toSet;
 import static org.folio.circulation.domain.RequestType.PAGE;
 import static org.folio.circulation.domain.representations.RequestProperties.ITEM_LOCATION_CODE;
 import static org.folio.circulation.domain.representations.RequestProperties.INSTANCE_ID;
@@ -11,22 +9,16 @@ import static org.folio.circulation.support.ValidationErrorFailure.failedValidat
 import static org.folio.circulation.support.results.Result.of;
 
 import java.lang.invoke.MethodHandles;
-import java.util.Collection;
 import java.util.List;
-import java.util.Map;
-import java.util.Objects;
-import java.util.Optional;
-import java.util.Set;
 import java.util.concurrent.CompletableFuture;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.folio.circulation.domain.Item;
 import org.folio.circulation.domain.ItemStatus;
-import org.folio.circulation.domain.Location;
 import org.folio.circulation.domain.Request;
+import org.folio.circulation.domain.ServicePointLocationIndex;
 import org.folio.circulation.infrastructure.storage.inventory.LocationRepository;
 import org.folio.circulation.support.request.RequestRelatedRepositories;
 import org.folio.circulation.support.results.Result;
@@ -62,8 +54,8 @@ public class ItemForTlrService {
 
     return refusePageRequestWhenNoAvailablePageableItemsExist(request, availablePageableItems)
       .after(items ->
-        locationRepository.fetchLocationsForServicePoint(request.getPickupServicePointId())
-          .thenApply(rl -> rl.map(locations -> pickClosestItem(locations, items)))
+        locationRepository.fetchLocationIndexForServicePoint(request.getPickupServicePointId())
+          .thenApply(ri -> ri.map(index -> pickClosestItem(index, items)))
           .thenApply(ri -> ri.map(request::withItem)));
   }
 
@@ -94,36 +86,10 @@ public class ItemForTlrService {
     }
   }
 
-  private static Item pickClosestItem(Collection<Location> requestedLocations, List<Item> availableItems) {
-    Map<Location, List<Item>> availableItemsByLocation = availableItems.stream()
-      .filter(item -> item.getLocation() != null)
-      .collect(groupingBy(Item::getLocation));
+  private static Item pickClosestItem(ServicePointLocationIndex locationIndex,
+    List<Item> availableItems) {
 
-    return findIntersection(requestedLocations, availableItemsByLocation.keySet())
-      .map(location -> availableItemsByLocation.get(location).get(0))
+    return locationIndex.closestItem(availableItems)
       .orElseGet(() -> availableItems.get(0));
   }
-
-  private static Optional<Location> findIntersection(Collection<Location> requested,
-    Collection<Location> available) {
-
-    return Optional.<Location>empty()
-      .or(() -> findIntersection(requested, available, Location::getId))
-      .or(() -> findIntersection(requested, available, Location::getLibraryId))
-      .or(() -> findIntersection(requested, available, Location::getCampusId))
-      .or(() -> findIntersection(requested, available, Location::getInstitutionId));
-  }
-
-  private static Optional<Location> findIntersection(Collection<Location> requested,
-    Collection<Location> available, Function<Location, String> idExtractor) {
-
-    Set<String> requestedIds = requested.stream()
-      .map(idExtractor)
-      .filter(Objects::nonNull)
-      .collect(toSet());
-
-    return available.stream()
-      .filter(location -> requestedIds.contains(idExtractor.apply(location)))
-      .findFirst();
-  }
 }
@@ -0,0 +1,106 @@
+package org.folio.circulation.services;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.Environment;
+import org.folio.circulation.support.results.Result;
+
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Snapshots of the whole items in transit report of each tenant.
+ *
+ * A snapshot is used until it expires. Once half of its time to live has passed, a new
+ * snapshot is built in the background while the current one is still returned. Only one
+ * report is built at a time for a tenant, concurrent requests share it.
+ *
+ * Snapshots are shared between requests and must not be modified
+ */
+public class ItemsInTransitReportCache {
+  private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+
+  private static final ItemsInTransitReportCache instance = new ItemsInTransitReportCache(
+    TimeUnit.SECONDS.toMillis(Environment.getItemsInTransitReportCacheTtlSeconds()));
+
+  private final long timeToLiveMillis;
+  private final Map<String, Snapshot> snapshots = new ConcurrentHashMap<>();
+  private final Map<String, CompletableFuture<Result<JsonObject>>> reportsInProgress =
+    new ConcurrentHashMap<>();
+
+  ItemsInTransitReportCache(long timeToLiveMillis) {
+    this.timeToLiveMillis = timeToLiveMillis;
+  }
+
+  public static ItemsInTransitReportCache getInstance() {
+    return instance;
+  }
+
+  public CompletableFuture<Result<JsonObject>> getReport(String tenantId,
+    Supplier<CompletableFuture<Result<JsonObject>>> reportBuilder) {
+
+    if (timeToLiveMillis <= 0 || tenantId == null) {
+      return reportBuilder.get();
+    }
+
+    final Snapshot snapshot = snapshots.get(tenantId);
+    final long now = System.currentTimeMillis();
+
+    if (snapshot == null || snapshot.age(now) > timeToLiveMillis) {
+      log.info("getReport:: no current snapshot of the report for tenant {}", tenantId);
+      return buildReport(tenantId, reportBuilder);
+    }
+
+    if (snapshot.age(now) > timeToLiveMillis / 2) {
+      log.info("getReport:: refreshing snapshot of the report for tenant {}", tenantId);
+      buildReport(tenantId, reportBuilder);
+    }
+
+    return CompletableFuture.completedFuture(Result.succeeded(snapshot.report()));
+  }
+
+  private CompletableFuture<Result<JsonObject>> buildReport(String tenantId,
+    Supplier<CompletableFuture<Result<JsonObject>>> reportBuilder) {
+
+    final CompletableFuture<Result<JsonObject>> report = new CompletableFuture<>();
+    final CompletableFuture<Result<JsonObject>> reportInProgress =
+      reportsInProgress.putIfAbsent(tenantId, report);
+
+    if (reportInProgress != null) {
+      log.debug("buildReport:: report for tenant {} is already being built", tenantId);
+      return reportInProgress;
+    }
+
+    reportBuilder.get().whenComplete((result, throwable) -> {
+      if (throwable == null && result.succeeded()) {
+        snapshots.put(tenantId, new Snapshot(result.value(), System.currentTimeMillis()));
+      }
+
+      reportsInProgress.remove(tenantId, report);
+
+      if (throwable != null) {
+        report.completeExceptionally(throwable);
+      } else {
+        report.complete(result);
+      }
+    });
+
+    return report;
+  }
+
+  public void clear() {
+    snapshots.clear();
+  }
+
+  private record Snapshot(JsonObject report, long builtAt) {
+    private long age(long now) {
+      return now - builtAt;
+    }
+  }
+}
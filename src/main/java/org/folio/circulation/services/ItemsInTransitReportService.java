@@ -1,16 +1,20 @@
 package org.folio.circulation.services;
 
+import static java.util.Comparator.comparing;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static java.util.function.Function.identity;
 import static java.util.stream.Collectors.toSet;
+import static org.apache.commons.lang3.StringUtils.EMPTY;
 import static org.folio.circulation.domain.ItemStatus.IN_TRANSIT;
-import static org.folio.circulation.support.results.Result.combineAll;
+import static org.folio.circulation.support.results.Result.combined;
 import static org.folio.circulation.support.results.Result.ofAsync;
 import static org.folio.circulation.support.results.Result.succeeded;
 import static org.folio.circulation.support.results.ResultBinding.mapResult;
 
 import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -59,6 +63,7 @@ public class ItemsInTransitReportService {
   private UserRepository userRepository;
   private PatronGroupRepository patronGroupRepository;
   private final InstanceRepository instanceRepository;
+  private static final int ITEMS_PAGE_SIZE = 200;
   private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
 
   public ItemsInTransitReportService(Clients clients) {
@@ -74,22 +79,111 @@ public class ItemsInTransitReportService {
     this.instanceRepository = new InstanceRepository(clients);
   }
 
+  /**
+   * Builds the whole report, sorted by the name of the check in service point of the loan.
+   * Items are processed page by page, the next page of items is fetched while the records
+   * related to the current one are
+   */
   public CompletableFuture<Result<JsonObject>> buildReport() {
     log.info("buildReport:: building items in transit report");
-    return completedFuture(succeeded(new ItemsInTransitReportContext()))
-      .thenCompose(r -> r.after(this::fetchItems))
-      .thenCompose(r -> r.after(this::fetchHoldingsRecords))
-      .thenCompose(r -> r.after(this::fetchInstances))
-      .thenCompose(r -> r.after(this::fetchLocations))
-      .thenCompose(r -> r.after(this::fetchLoans))
-      .thenCompose(r -> r.after(this::fetchRequests))
-      .thenCompose(r -> r.after(this::fetchUsers))
-      .thenCompose(r -> r.after(this::fetchPatronGroups))
-      .thenCompose(r -> r.after(this::fetchServicePoints))
-      .thenApply(this::mapToJsonObject)
+    return completedFuture(succeeded(new ArrayList<JsonObject>()))
+      .thenCompose(r -> r.after(entries -> collectEntries(fetchItemsPage(null, ITEMS_PAGE_SIZE),
+        entries)))
+      .thenApply(r -> r.map(entries -> {
+        entries.sort(ItemsInTransitReport.byCheckInServicePointName());
+        return ItemsInTransitReport.toJson(entries, null);
+      }))
+      .whenComplete(this::handleResult);
+  }
+
+  /**
+   * Builds a page of the report, sorted by item ID
+   *
+   * @param cursor ID of the last item included in the previous page, null for the first page
+   * @param limit maximum number of items in the page
+   */
+  public CompletableFuture<Result<JsonObject>> buildReportPage(String cursor, int limit) {
+    log.info("buildReportPage:: parameters cursor: {}, limit: {}", cursor, limit);
+
+    // one more item is fetched to find out whether there is a next page
+    return completedFuture(succeeded(cursor))
+      .thenCompose(r -> r.after(afterItemId -> fetchItemsPage(afterItemId, limit + 1)))
+      .thenCompose(r -> r.after(items -> {
+        final List<Item> pageItems = items.stream().limit(limit).toList();
+        final String nextCursor = items.size() > limit
+          ? pageItems.get(pageItems.size() - 1).getItemId()
+          : null;
+
+        return buildEntries(pageItems)
+          .thenApply(re -> re.map(entries -> {
+            entries.sort(comparing(entry -> entry.getString("id", EMPTY)));
+            return ItemsInTransitReport.toJson(entries, nextCursor);
+          }));
+      }))
       .whenComplete(this::handleResult);
   }
 
+  private CompletableFuture<Result<List<JsonObject>>> collectEntries(
+    CompletableFuture<Result<List<Item>>> itemsPage, List<JsonObject> entries) {
+
+    return itemsPage.thenCompose(r -> r.after(items -> {
+      if (items.isEmpty()) {
+        return ofAsync(entries);
+      }
+
+      final CompletableFuture<Result<List<Item>>> nextItemsPage = items.size() < ITEMS_PAGE_SIZE
+        ? null
+        : fetchItemsPage(items.get(items.size() - 1).getItemId(), ITEMS_PAGE_SIZE);
+
+      return buildEntries(items)
+        .thenCompose(re -> re.after(pageEntries -> {
+          entries.addAll(pageEntries);
+          log.info("collectEntries:: {} entries built", entries.size());
+
+          return nextItemsPage == null
+            ? ofAsync(entries)
+            : collectEntries(nextItemsPage, entries);
+        }));
+    }));
+  }
+
+  /**
+   * Records which only depend on the items are fetched concurrently, service points
+   * are fetched once items, loans and requests are known
+   */
+  private CompletableFuture<Result<List<JsonObject>>> buildEntries(Collection<Item> items) {
+    final ItemsInTransitReportContext context = new ItemsInTransitReportContext()
+      .withItems(toMap(items, Item::getItemId));
+
+    final CompletableFuture<Result<ItemsInTransitReportContext>> instances =
+      fetchHoldingsRecords(context)
+        .thenCompose(r -> r.after(this::fetchInstances));
+
+    final CompletableFuture<Result<ItemsInTransitReportContext>> locations =
+      fetchLocations(context);
+
+    final CompletableFuture<Result<ItemsInTransitReportContext>> loans = fetchLoans(context);
+
+    final CompletableFuture<Result<ItemsInTransitReportContext>> requests =
+      fetchRequests(context)
+        .thenCompose(r -> r.after(this::fetchUsers))
+        .thenCompose(r -> r.after(this::fetchPatronGroups));
+
+    return instances
+      .thenCombine(locations, combined((withInstances, withLocations) -> succeeded(
+        withInstances.withLocations(withLocations.getLocations()))))
+      .thenCombine(loans, combined((combinedContext, withLoans) -> succeeded(
+        combinedContext.withLoans(withLoans.getLoans()))))
+      .thenCombine(requests, combined((combinedContext, withRequests) -> succeeded(
+        combinedContext
+          .withRequests(withRequests.getRequests())
+          .withUsers(withRequests.getUsers())
+          .withPatronGroups(withRequests.getPatronGroups()))))
+      .thenCompose(r -> r.after(this::fetchServicePoints))
+      .thenApply(r -> r.map(combinedContext ->
+        new ItemsInTransitReport(combinedContext).buildEntries()));
+  }
+
   private void handleResult(Result<JsonObject> result, Throwable throwable) {
     if (throwable != null) {
       log.error("An exception was caught while building the report", throwable);
@@ -104,18 +198,13 @@ public class ItemsInTransitReportService {
     }
   }
 
-  private CompletableFuture<Result<ItemsInTransitReportContext>> fetchItems(
-    ItemsInTransitReportContext context) {
+  private CompletableFuture<Result<List<Item>>> fetchItemsPage(String afterItemId,
+    int pageSize) {
 
-    log.info("fetchItems:: fetching items in transit");
-    return itemReportRepository.getAllItemsByField("status.name", IN_TRANSIT.getValue())
-      .thenApply(r -> r.next(itemsReportFetcher ->
-        combineAll(itemsReportFetcher.getResultListOfItems())
-          .map(listOfPages -> listOfPages.stream()
-            .flatMap(page -> page.getRecords().stream())
-            .collect(Collectors.toList()))))
-      .thenApply(mapResult(items -> toMap(items, Item::getItemId)))
-      .thenApply(mapResult(context::withItems));
+    log.info("fetchItemsPage:: fetching items in transit after {}", afterItemId);
+    return itemReportRepository.getItemsPageByField("status.name", IN_TRANSIT.getValue(),
+        afterItemId, pageSize)
+      .thenApply(mapResult(items -> List.copyOf(items.getRecords())));
   }
 
   private CompletableFuture<Result<ItemsInTransitReportContext>> fetchHoldingsRecords(
@@ -235,9 +324,4 @@ public class ItemsInTransitReportService {
     return collection.stream()
       .collect(Collectors.toMap(keyMapper, identity(), (left, right) -> left));
   }
-
-  private Result<JsonObject> mapToJsonObject(Result<ItemsInTransitReportContext> context) {
-    return context.map(ItemsInTransitReport::new)
-      .map(ItemsInTransitReport::build);
-  }
 }
@@ -0,0 +1,249 @@
+package org.folio.circulation.services;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.apache.commons.collections4.ListUtils.partition;
+import static org.folio.circulation.support.results.Result.emptyAsync;
+import static org.folio.circulation.support.results.Result.failed;
+import static org.folio.circulation.support.results.Result.succeeded;
+import static org.folio.circulation.support.utils.ClockUtil.getZonedDateTime;
+
+import java.lang.invoke.MethodHandles;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.circulation.domain.JobCheckpoint;
+import org.folio.circulation.domain.MultipleRecords;
+import org.folio.circulation.infrastructure.storage.JobCheckpointRepository;
+import org.folio.circulation.support.Clients;
+import org.folio.circulation.support.ServerErrorFailure;
+import org.folio.circulation.support.fetching.PageProcessor;
+import org.folio.circulation.support.fetching.PageableFetcher;
+import org.folio.circulation.support.http.client.CqlQuery;
+import org.folio.circulation.support.results.Result;
+
+/**
+ * Runs a scheduled job which processes records in pages sorted by id, keeping its
+ * progress in a {@link JobCheckpoint} which is saved after each page.
+ *
+ * A run carries on after the last processed id when the previous run stopped before
+ * processing all records, and starts a new pass from the first record otherwise.
+ * A page which fails does not stop the run, the ids of its records are kept in the
+ * checkpoint and those records are processed again, when they still match the query,
+ * at the start of the next run. The run fails only when a page cannot be fetched.
+ *
+ * A run may be given a time budget, it then stops once a page has been processed after
+ * the budget is used up and the next run carries on from there
+ */
+public class ResumableJobRunner<T> {
+  private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+  private static final int MAX_IDS_PER_RETRY_QUERY = 50;
+
+  private final JobCheckpointRepository checkpointRepository;
+  private final PageableFetcher<T> pageableFetcher;
+  private final Function<T, String> idMapper;
+
+  public ResumableJobRunner(Clients clients, PageableFetcher<T> pageableFetcher,
+    Function<T, String> idMapper) {
+
+    this(new JobCheckpointRepository(clients), pageableFetcher, idMapper);
+  }
+
+  ResumableJobRunner(JobCheckpointRepository checkpointRepository,
+    PageableFetcher<T> pageableFetcher, Function<T, String> idMapper) {
+
+    this.checkpointRepository = checkpointRepository;
+    this.pageableFetcher = pageableFetcher;
+    this.idMapper = idMapper;
+  }
+
+  /**
+   * @param query query for the records, must not be sorted
+   */
+  public CompletableFuture<Result<Void>> run(String jobName, CqlQuery query,
+    PageProcessor<T> pageProcessor) {
+
+    return run(jobName, query, pageProcessor, () -> true);
+  }
+
+  /**
+   * Runs the job for as long as there is time left, a run which stops before processing
+   * all records leaves the checkpoint in progress so that the next run carries on after
+   * the last processed record
+   *
+   * @param query query for the records, must not be sorted
+   * @param hasTimeLeft asked after each page whether to go on with the next one
+   */
+  public CompletableFuture<Result<Void>> run(String jobName, CqlQuery query,
+    PageProcessor<T> pageProcessor, BooleanSupplier hasTimeLeft) {
+
+    final AtomicBoolean outOfTime = new AtomicBoolean(false);
+    final BooleanSupplier shouldContinue = () -> {
+      outOfTime.set(!hasTimeLeft.getAsBoolean());
+      return !outOfTime.get();
+    };
+
+    return checkpointRepository.findByJobName(jobName)
+      .thenApply(r -> r.map(checkpoint -> startOrResume(jobName, checkpoint)))
+      .thenCompose(r -> r.after(checkpoint -> {
+        final AtomicReference<JobCheckpoint> progress = new AtomicReference<>();
+
+        return save(checkpoint, progress)
+          .thenCompose(ignored -> retryFailedRecords(query, pageProcessor, progress))
+          .thenCompose(ignored -> pageableFetcher.processPagesByKeyset(query, idMapper,
+            checkpoint.getLastProcessedId(), shouldContinue,
+            page -> processPage(page, pageProcessor, progress)))
+          .thenCompose(result -> finish(result, outOfTime.get(), progress));
+      }));
+  }
+
+  private static JobCheckpoint startOrResume(String jobName, JobCheckpoint checkpoint) {
+    if (checkpoint == null) {
+      log.info("startOrResume:: starting first pass of job {}", jobName);
+      return JobCheckpoint.start(jobName, getZonedDateTime());
+    }
+
+    if (checkpoint.isCompleted()) {
+      log.info("startOrResume:: starting new pass of job {}, {} failed records to retry",
+        jobName, checkpoint.getFailedRecordIds().size());
+      return checkpoint.startNextPass(getZonedDateTime());
+    }
+
+    log.info("startOrResume:: resuming job {} after record {}, {} records processed so far, " +
+        "{} failed records to retry", jobName, checkpoint.getLastProcessedId(),
+      checkpoint.getProcessedCount(), checkpoint.getFailedRecordIds().size());
+
+    return checkpoint;
+  }
+
+  private CompletableFuture<Result<Void>> retryFailedRecords(CqlQuery query,
+    PageProcessor<T> pageProcessor, AtomicReference<JobCheckpoint> progress) {
+
+    final List<String> failedIds = progress.get().getFailedRecordIds();
+
+    if (failedIds.isEmpty()) {
+      return emptyAsync();
+    }
+
+    log.info("retryFailedRecords:: retrying {} failed records", failedIds.size());
+
+    CompletableFuture<Result<Void>> retries = emptyAsync();
+
+    for (List<String> ids : partition(failedIds, MAX_IDS_PER_RETRY_QUERY)) {
+      retries = retries.thenCompose(ignored -> retry(query, ids, pageProcessor, progress));
+    }
+
+    return retries;
+  }
+
+  private CompletableFuture<Result<Void>> retry(CqlQuery query, List<String> ids,
+    PageProcessor<T> pageProcessor, AtomicReference<JobCheckpoint> progress) {
+
+    return pageableFetcher.processRecordsWithIds(query, ids,
+        page -> processSafely(page, pageProcessor)
+          .thenCompose(processed -> save(processed.succeeded()
+            ? progress.get().failedRecordsRetried(ids, page.size(), getZonedDateTime())
+            : withError(progress.get(), "retry", processed), progress)))
+      // records which cannot be fetched stay failed and are retried by the next run
+      .thenCompose(fetched -> fetched.succeeded()
+        ? completedFuture(fetched)
+        : save(withError(progress.get(), "retry", fetched), progress));
+  }
+
+  private CompletableFuture<Result<Void>> processPage(MultipleRecords<T> page,
+    PageProcessor<T> pageProcessor, AtomicReference<JobCheckpoint> progress) {
+
+    final List<String> ids = page.getRecords().stream()
+      .map(idMapper)
+      .toList();
+
+    if (ids.isEmpty()) {
+      return pageProcessor.processPage(page);
+    }
+
+    final String lastId = ids.get(ids.size() - 1);
+
+    return processSafely(page, pageProcessor)
+      .thenCompose(processed -> {
+        if (processed.succeeded()) {
+          return save(progress.get().pageProcessed(lastId, ids.size(), getZonedDateTime()),
+            progress);
+        }
+
+        log.warn("processPage:: failed to process page of {} records ending with {}, " +
+          "they will be retried by the next run: {}", ids.size(), lastId, processed.cause());
+
+        return save(progress.get().pageFailed(lastId, ids, processed.cause().toString(),
+          getZonedDateTime()), progress);
+      });
+  }
+
+  private CompletableFuture<Result<Void>> finish(Result<Void> result, boolean outOfTime,
+    AtomicReference<JobCheckpoint> progress) {
+
+    final JobCheckpoint checkpoint = progress.get();
+
+    if (result.failed()) {
+      log.warn("finish:: job {} stopped after record {}, it will be resumed by the next run: {}",
+        checkpoint.getJobName(), checkpoint.getLastProcessedId(), result.cause());
+
+      return save(withError(checkpoint, "run", result), progress)
+        .thenApply(ignored -> result);
+    }
+
+    if (outOfTime) {
+      log.info("finish:: job {} ran out of time after record {}, {} records processed so far, " +
+          "it will be resumed by the next run", checkpoint.getJobName(),
+        checkpoint.getLastProcessedId(), checkpoint.getProcessedCount());
+
+      return completedFuture(result);
+    }
+
+    log.info("finish:: job {} completed, {} records processed, {} failed",
+      checkpoint.getJobName(), checkpoint.getProcessedCount(), checkpoint.getFailedCount());
+
+    return save(checkpoint.completed(getZonedDateTime()), progress)
+      .thenApply(ignored -> result);
+  }
+
+  private CompletableFuture<Result<Void>> processSafely(MultipleRecords<T> page,
+    PageProcessor<T> pageProcessor) {
+
+    return succeeded(page)
+      .after(pageProcessor::processPage)
+      .<Result<Void>>handle((result, throwable) -> throwable == null
+        ? result
+        : failed(new ServerErrorFailure(throwable)));
+  }
+
+  private static JobCheckpoint withError(JobCheckpoint checkpoint, String stage,
+    Result<?> result) {
+
+    return checkpoint.failed(stage + " failed: " + result.cause(), getZonedDateTime());
+  }
+
+  /**
+   * A checkpoint which could not be saved does not stop the run, the next run then
+   * processes some records again
+   */
+  private CompletableFuture<Result<Void>> save(JobCheckpoint checkpoint,
+    AtomicReference<JobCheckpoint> progress) {
+
+    progress.set(checkpoint);
+
+    return checkpointRepository.save(checkpoint)
+      .<Result<Void>>handle((result, throwable) -> {
+        if (throwable != null || result.failed()) {
+          log.warn("save:: failed to save checkpoint of job {}: {}", checkpoint.getJobName(),
+            throwable != null ? throwable.getMessage() : result.cause());
+        }
+
+        return succeeded(null);
+      });
+  }
+}
@@ -0,0 +1,269 @@
+package org.folio.circulation.services;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.folio.Environment.getScheduledJobLeaseDurationSeconds;
+import static org.folio.circulation.support.results.CommonFailures.failedDueToServerError;
+import static org.folio.circulation.support.results.Result.emptyAsync;
+import static org.folio.circulation.support.results.Result.ofAsync;
+import static org.folio.circulation.support.results.Result.succeeded;
+import static org.folio.circulation.support.utils.ClockUtil.getZonedDateTime;
+
+import java.lang.invoke.MethodHandles;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.circulation.domain.ScheduledJobLease;
+import org.folio.circulation.infrastructure.storage.ScheduledJobLeaseRepository;
+import org.folio.circulation.support.Clients;
+import org.folio.circulation.support.results.CommonFailures;
+import org.folio.circulation.support.results.Result;
+
+import io.vertx.core.Vertx;
+
+/**
+ * Makes sure that only one run of a scheduled job is active per tenant, whichever instance
+ * of the module the timer has called. A run holds a lease which is renewed while the run
+ * is going on and released when it ends, the lease of a run which ended without releasing
+ * it (e.g. the instance was stopped) is taken over once it has expired.
+ *
+ * A lease is only taken over or renewed if it has not been changed since it was read,
+ * when two runs try to do so at the same time, only one of them succeeds. This relies on
+ * optimistic locking being enabled for circulation settings in storage: a lease which has
+ * been taken over is read back, and when storage has not incremented its version the run
+ * fails rather than risk running the job twice
+ */
+public class ScheduledJobLeaseService {
+  private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+
+  private final ScheduledJobLeaseRepository leaseRepository;
+  private final Vertx vertx;
+  private final Duration leaseDuration;
+
+  public ScheduledJobLeaseService(Clients clients, Vertx vertx) {
+    this(new ScheduledJobLeaseRepository(clients), vertx,
+      Duration.ofSeconds(Math.max(getScheduledJobLeaseDurationSeconds(), 3)));
+  }
+
+  ScheduledJobLeaseService(ScheduledJobLeaseRepository leaseRepository, Vertx vertx,
+    Duration leaseDuration) {
+
+    this.leaseRepository = leaseRepository;
+    this.vertx = vertx;
+    this.leaseDuration = leaseDuration;
+  }
+
+  /**
+   * Runs the job when no other run of it holds the lease, the run is skipped when another
+   * run holds the lease and fails when the lease cannot be acquired
+   *
+   * @param resultWhenAlreadyRunning result of this run when it is skipped
+   */
+  public <T> CompletableFuture<Result<T>> runExclusively(String jobName,
+    Supplier<CompletableFuture<Result<T>>> job, T resultWhenAlreadyRunning) {
+
+    final String ownerId = UUID.randomUUID().toString();
+
+    return acquire(jobName, ownerId)
+      .exceptionally(CommonFailures::failedDueToServerError)
+      .thenCompose(r -> {
+        if (r.failed()) {
+          log.warn("runExclusively:: failed to acquire lease for job {}: {}", jobName,
+            r.cause());
+          return completedFuture(Result.<T>failed(r.cause()));
+        }
+
+        final ScheduledJobLease lease = r.value();
+
+        if (lease == null) {
+          log.info("runExclusively:: job {} is already running, skipping this run", jobName);
+          return ofAsync(resultWhenAlreadyRunning);
+        }
+
+        return runHoldingLease(lease, job);
+      });
+  }
+
+  private <T> CompletableFuture<Result<T>> runHoldingLease(ScheduledJobLease lease,
+    Supplier<CompletableFuture<Result<T>>> job) {
+
+    log.info("runHoldingLease:: lease {} acquired for job {} until {}", lease.getOwnerId(),
+      lease.getJobName(), lease.getExpiresAt());
+
+    final AtomicReference<ScheduledJobLease> heldLease = new AtomicReference<>(lease);
+    final long renewalTimerId = vertx.setPeriodic(leaseDuration.toMillis() / 3,
+      timerId -> renew(heldLease, timerId));
+
+    return runSafely(job)
+      .thenCompose(result -> {
+        vertx.cancelTimer(renewalTimerId);
+
+        return release(heldLease.get())
+          .thenApply(released -> result);
+      });
+  }
+
+  private static <T> CompletableFuture<Result<T>> runSafely(
+    Supplier<CompletableFuture<Result<T>>> job) {
+
+    try {
+      return job.get()
+        .exceptionally(CommonFailures::failedDueToServerError);
+    }
+    catch (Exception e) {
+      log.error("runSafely:: job failed to start", e);
+      return completedFuture(failedDueToServerError(e));
+    }
+  }
+
+  /**
+   * @return the acquired lease, null when another run holds the lease
+   */
+  private CompletableFuture<Result<ScheduledJobLease>> acquire(String jobName, String ownerId) {
+    final var now = getZonedDateTime();
+    final var newLease = ScheduledJobLease.create(jobName, ownerId, now.plus(leaseDuration));
+
+    return leaseRepository.findByJobName(jobName)
+      .thenCompose(r -> r.after(existingLease -> {
+        if (existingLease == null) {
+          return create(newLease);
+        }
+
+        if (!existingLease.hasExpired(now)) {
+          return emptyAsync();
+        }
+
+        log.warn("acquire:: lease {} of job {} expired at {}, taking it over",
+          existingLease.getOwnerId(), jobName, existingLease.getExpiresAt());
+
+        // refused when another run has taken the lease over since it was read
+        return leaseRepository.update(existingLease.takeOver(ownerId, newLease.getExpiresAt()))
+          .thenCompose(r2 -> r2.after(takenOverLease -> takenOverLease == null
+            ? emptyAsync()
+            : confirmTakeOver(takenOverLease)));
+      }));
+  }
+
+  /**
+   * Reads the lease back after it has been taken over
+   *
+   * @return the stored lease, null when another run has taken it over since
+   */
+  private CompletableFuture<Result<ScheduledJobLease>> confirmTakeOver(
+    ScheduledJobLease takenOverLease) {
+
+    return leaseRepository.findByJobName(takenOverLease.getJobName())
+      .thenApply(r -> r.<ScheduledJobLease>next(storedLease -> {
+        if (storedLease == null || heldByOtherRun(storedLease, takenOverLease)) {
+          log.info("confirmTakeOver:: lease of job {} has been taken over by another run",
+            takenOverLease.getJobName());
+          return succeeded(null);
+        }
+
+        if (!isNewerVersion(storedLease, takenOverLease)) {
+          log.error("confirmTakeOver:: version of lease of job {} was not incremented by " +
+            "storage, optimistic locking must be enabled for circulation settings",
+            takenOverLease.getJobName());
+
+          return failedDueToServerError(String.format(
+            "Lease of job %s cannot be taken over safely, optimistic locking is not enabled " +
+              "for circulation settings", takenOverLease.getJobName()));
+        }
+
+        return succeeded(storedLease);
+      }));
+  }
+
+  private CompletableFuture<Result<ScheduledJobLease>> create(ScheduledJobLease newLease) {
+    return leaseRepository.create(newLease)
+      .thenCompose(created -> {
+        if (created.succeeded()) {
+          return completedFuture(created);
+        }
+
+        // the lease cannot be created when another run has just created it
+        return leaseRepository.findByJobName(newLease.getJobName())
+          .thenApply(r -> r.next(storedLease -> heldByOtherRun(storedLease, newLease)
+            ? Result.<ScheduledJobLease>succeeded(null)
+            : created));
+      });
+  }
+
+  private void renew(AtomicReference<ScheduledJobLease> heldLease, long timerId) {
+    final ScheduledJobLease lease = heldLease.get();
+
+    leaseRepository.findByJobName(lease.getJobName())
+      .thenCompose(r -> r.after(storedLease -> {
+        if (storedLease == null || !storedLease.isOwnedBy(lease.getOwnerId())) {
+          log.warn("renew:: lease {} of job {} has been lost, it is no longer renewed",
+            lease.getOwnerId(), lease.getJobName());
+          vertx.cancelTimer(timerId);
+
+          return ofAsync(lease);
+        }
+
+        // refused when another run has taken the lease over since it was read
+        return leaseRepository.update(storedLease.extendUntil(
+            getZonedDateTime().plus(leaseDuration)))
+          .thenApply(r2 -> r2.map(renewedLease -> {
+            if (renewedLease == null) {
+              log.warn("renew:: lease {} of job {} has been taken over, it is no longer renewed",
+                lease.getOwnerId(), lease.getJobName());
+              vertx.cancelTimer(timerId);
+
+              return lease;
+            }
+
+            heldLease.set(renewedLease);
+            log.debug("renew:: lease {} of job {} renewed until {}", renewedLease.getOwnerId(),
+              renewedLease.getJobName(), renewedLease.getExpiresAt());
+            return renewedLease;
+          }));
+      }))
+      .whenComplete((r, t) -> {
+        if (t != null || r.failed()) {
+          log.warn("renew:: failed to renew lease {} of job {}: {}", lease.getOwnerId(),
+            lease.getJobName(), t != null ? t.getMessage() : r.cause());
+        }
+      });
+  }
+
+  /**
+   * Releases the lease unless another run has taken it over, a lease which could not
+   * be released expires
+   */
+  private CompletableFuture<Result<ScheduledJobLease>> release(ScheduledJobLease lease) {
+    return leaseRepository.findByJobName(lease.getJobName())
+      .thenCompose(r -> r.after(storedLease -> storedLease != null
+        && storedLease.isOwnedBy(lease.getOwnerId())
+        ? leaseRepository.delete(lease)
+        : ofAsync(lease)))
+      .whenComplete((r, t) -> {
+        if (t != null || r.failed()) {
+          log.warn("release:: failed to release lease {} of job {}: {}", lease.getOwnerId(),
+            lease.getJobName(), t != null ? t.getMessage() : r.cause());
+        } else {
+          log.info("release:: lease {} of job {} released", lease.getOwnerId(),
+            lease.getJobName());
+        }
+      })
+      .exceptionally(CommonFailures::failedDueToServerError);
+  }
+
+  private static boolean heldByOtherRun(ScheduledJobLease storedLease,
+    ScheduledJobLease lease) {
+
+    return storedLease != null && !storedLease.isOwnedBy(lease.getOwnerId());
+  }
+
+  private static boolean isNewerVersion(ScheduledJobLease storedLease,
+    ScheduledJobLease writtenLease) {
+
+    return storedLease.getVersion() != null && writtenLease.getVersion() != null
+      && storedLease.getVersion() > writtenLease.getVersion();
+  }
+}
@@ -0,0 +1,180 @@
+package org.folio.circulation.services;
+
+import static org.folio.Environment.getScheduledNoticesRunTimeBudgetSeconds;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.circulation.domain.MultipleRecords;
+import org.folio.circulation.support.http.client.PageLimit;
+
+/**
+ * Sizes each run of a scheduled notice job so that it takes about the configured time budget.
+ * The time taken per notice is measured on each run, it grows when storage and other modules
+ * respond slowly, and the number of notices fetched by the next run is the budget divided
+ * by that time.
+ *
+ * The limit from the circulation settings is used for the first run and as long as all due
+ * notices fit in it. The limit may grow to {@value #MAX_LIMIT_FACTOR} times that limit
+ * when there is a backlog, at most doubling from one run to the next, and may shrink to
+ * a {@value #MAX_LIMIT_FACTOR}th of it when notices are processed slowly. When no time
+ * budget is configured, the limit from the settings is always used.
+ *
+ * Each tenant has a pacer of its own, which keeps the measurements of each job of the tenant
+ * in memory, each instance of the module learns them on its own
+ */
+public class ScheduledNoticeRunPacer {
+  private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+
+  static final int MAX_LIMIT_FACTOR = 10;
+  private static final int MAX_GROWTH_PER_RUN = 2;
+  // weight of the latest run in the smoothed time per notice
+  private static final double SMOOTHING = 0.5;
+
+  private static final Map<String, ScheduledNoticeRunPacer> tenantPacers =
+    new ConcurrentHashMap<>();
+
+  private final long timeBudgetMillis;
+  private final LongSupplier nanoTime;
+  private final Map<String, JobPace> jobs = new ConcurrentHashMap<>();
+
+  ScheduledNoticeRunPacer(long timeBudgetMillis, LongSupplier nanoTime) {
+    this.timeBudgetMillis = timeBudgetMillis;
+    this.nanoTime = nanoTime;
+  }
+
+  public static ScheduledNoticeRunPacer forTenant(String tenantId) {
+    return tenantPacers.computeIfAbsent(tenantId, ignored -> new ScheduledNoticeRunPacer(
+      TimeUnit.SECONDS.toMillis(Math.max(getScheduledNoticesRunTimeBudgetSeconds(), 0)),
+      System::nanoTime));
+  }
+
+  /**
+   * Starts a run of the job
+   *
+   * @param configuredLimit limit from the circulation settings
+   */
+  public Run startRun(String jobName, PageLimit configuredLimit) {
+    final JobPace pace = jobs.get(jobName);
+    final int configured = configuredLimit.getLimit();
+
+    final int runLimit = timeBudgetMillis <= 0 || pace == null || pace.nextLimit() <= 0
+      ? configured
+      : bounded(pace.nextLimit(), configured);
+
+    log.info("startRun:: job {} fetches up to {} notices, configured limit {}",
+      jobName, runLimit, configured);
+
+    return new Run(jobName, configured, runLimit, nanoTime.getAsLong());
+  }
+
+  private void finish(Run run, int backlog, int processed) {
+    final long durationMillis = TimeUnit.NANOSECONDS.toMillis(
+      nanoTime.getAsLong() - run.startedAt);
+
+    final JobPace pace = jobs.compute(run.jobName, (jobName, previous) ->
+      nextPace(previous, run, backlog, processed, durationMillis));
+
+    log.info("finish:: {}: {}", run.jobName, pace.metrics());
+  }
+
+  private JobPace nextPace(JobPace previous, Run run, int backlog, int processed,
+    long durationMillis) {
+
+    final double previousMillisPerNotice = previous == null ? 0 : previous.millisPerNotice();
+    final double millisPerNotice = processed == 0
+      ? previousMillisPerNotice
+      : smoothed(previousMillisPerNotice, (double) Math.max(durationMillis, 1) / processed);
+
+    final Metrics metrics = new Metrics(backlog, processed, durationMillis,
+      durationMillis == 0 ? 0 : processed * 1000.0 / durationMillis,
+      nextLimit(run, backlog, millisPerNotice));
+
+    return new JobPace(millisPerNotice, metrics);
+  }
+
+  private int nextLimit(Run run, int backlog, double millisPerNotice) {
+    if (timeBudgetMillis <= 0 || millisPerNotice <= 0) {
+      return run.configuredLimit;
+    }
+
+    final int fittingBudget = (int) Math.min(timeBudgetMillis / millisPerNotice,
+      Integer.MAX_VALUE);
+
+    // there is no point in fetching more notices when all due ones fit in the limit
+    final int needed = backlog > run.limit
+      ? run.limit * MAX_GROWTH_PER_RUN
+      : run.configuredLimit;
+
+    return bounded(Math.min(fittingBudget, needed), run.configuredLimit);
+  }
+
+  private static double smoothed(double previous, double latest) {
+    return previous <= 0 ? latest : SMOOTHING * latest + (1 - SMOOTHING) * previous;
+  }
+
+  private static int bounded(int limit, int configuredLimit) {
+    final int lowest = Math.max(configuredLimit / MAX_LIMIT_FACTOR, 1);
+    final int highest = Math.max(configuredLimit * MAX_LIMIT_FACTOR, lowest);
+
+    return Math.min(Math.max(limit, lowest), highest);
+  }
+
+  /**
+   * A run of a scheduled notice job
+   */
+  public final class Run {
+    private final String jobName;
+    private final int configuredLimit;
+    private final int limit;
+    private final long startedAt;
+
+    private Run(String jobName, int configuredLimit, int limit, long startedAt) {
+      this.jobName = jobName;
+      this.configuredLimit = configuredLimit;
+      this.limit = limit;
+      this.startedAt = startedAt;
+    }
+
+    /**
+     * @return how many notices the run fetches
+     */
+    public PageLimit getLimit() {
+      return PageLimit.limit(limit);
+    }
+
+    /**
+     * Records how long the run took for the notices it fetched, the total number
+     * of records of the notices is the number of notices which were due
+     */
+    public <T> MultipleRecords<T> finish(MultipleRecords<T> notices) {
+      final int totalRecords = Optional.ofNullable(notices.getTotalRecords()).orElse(0);
+      ScheduledNoticeRunPacer.this.finish(this, Math.max(totalRecords, notices.size()),
+        notices.size());
+
+      return notices;
+    }
+  }
+
+  private record JobPace(double millisPerNotice, Metrics metrics) {
+    int nextLimit() {
+      return metrics.nextLimit();
+    }
+  }
+
+  /**
+   * @param backlog number of notices which were due when the last run started
+   * @param processed number of notices processed by the last run
+   * @param durationMillis how long the last run took
+   * @param noticesPerSecond throughput of the last run
+   * @param nextLimit number of notices the next run fetches
+   */
+  private record Metrics(int backlog, int processed, long durationMillis,
+    double noticesPerSecond, int nextLimit) { }
+}
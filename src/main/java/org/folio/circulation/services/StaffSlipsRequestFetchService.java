@@ -1,12 +1,18 @@
 package org.folio.circulation.services;
 
 import static java.util.stream.Collectors.toSet;
+import static org.apache.commons.collections4.ListUtils.partition;
 import static org.apache.commons.lang3.ObjectUtils.allNull;
+import static org.folio.circulation.support.CqlSortBy.ascending;
 import static org.folio.circulation.support.fetching.MultipleCqlIndexValuesCriteria.byIndex;
 import static org.folio.circulation.support.fetching.RecordFetching.findWithCqlQuery;
 import static org.folio.circulation.support.fetching.RecordFetching.findWithMultipleCqlIndexValues;
 import static org.folio.circulation.support.http.client.CqlQuery.exactMatch;
+import static org.folio.circulation.support.http.client.CqlQuery.exactMatchAny;
+import static org.folio.circulation.support.http.client.CqlQuery.greaterThan;
+import static org.folio.circulation.support.http.client.PageLimit.limit;
 import static org.folio.circulation.support.http.client.PageLimit.maximumLimit;
+import static org.folio.circulation.support.results.Result.emptyAsync;
 import static org.folio.circulation.support.results.Result.ofAsync;
 import static org.folio.circulation.support.results.ResultBinding.mapResult;
 
@@ -15,6 +21,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -44,6 +51,13 @@ public class StaffSlipsRequestFetchService {
   private static final String REQUESTS_KEY = "requests";
   private static final String REQUEST_TYPE_KEY = "requestType";
   private static final String REQUEST_LEVEL_KEY = "requestLevel";
+  private static final String ID_KEY = "id";
+
+  /**
+   * The optimal number of identifiers that will not exceed the permissible length
+   * of the URI in according to the RFC 2616
+   */
+  private static final int LOCATION_IDS_BATCH_SIZE = 40;
 
 
   private final RequestType requestType;
@@ -67,6 +81,85 @@ public class StaffSlipsRequestFetchService {
       .thenCompose(r -> r.after(this::fetchRequestsWithoutItems));
   }
 
+  /**
+   * Fetches requests page by page, in order of their IDs, and hands each page over once the
+   * previous one has been handled, so that only one page of requests is kept in memory.
+   * Unlike {@link #fetchRequests(StaffSlipsContext)}, the number of requests is not limited
+   */
+  public CompletableFuture<Result<Void>> fetchRequestsInPages(StaffSlipsContext context,
+    int pageSize, Function<MultipleRecords<Request>, CompletableFuture<Result<Void>>> pageHandler) {
+
+    final List<String> locationIds = List.copyOf(context.getLocations().toKeys(Location::getId));
+    if (locationIds.isEmpty()) {
+      log.info("fetchRequestsInPages:: no locations to search requests for");
+      return emptyAsync();
+    }
+
+    log.info("fetchRequestsInPages:: fetching {} requests in pages of {}", requestType, pageSize);
+
+    final Result<CqlQuery> query = exactMatch(REQUEST_TYPE_KEY, requestType.getValue())
+      .combine(exactMatch(STATUS_KEY, RequestStatus.OPEN_NOT_YET_FILLED.getValue()), CqlQuery::and);
+
+    CompletableFuture<Result<Void>> requestsWithItems = emptyAsync();
+
+    for (List<String> batch : partition(locationIds, LOCATION_IDS_BATCH_SIZE)) {
+      requestsWithItems = requestsWithItems.thenCompose(r -> r.after(ignored -> fetchPages(
+        query.combine(exactMatchAny(ITEM_EFFECTIVE_LOCATION_ID_KEY, batch), CqlQuery::and),
+        null, pageSize, pageHandler)));
+    }
+
+    if (requestType != RequestType.HOLD) {
+      return requestsWithItems;
+    }
+
+    return requestsWithItems.thenCompose(r -> r.after(ignored -> fetchPages(
+      requestsWithoutItemsQuery(), null, pageSize,
+      requests -> processRequestsWithoutItems(context.withRequests(MultipleRecords.empty()),
+          filterOutRequestsWithItems(requests))
+        .thenCompose(rc -> rc.after(relevant -> handleUnlessEmpty(relevant.getRequests(),
+          pageHandler))))));
+  }
+
+  private CompletableFuture<Result<Void>> fetchPages(Result<CqlQuery> query,
+    String afterRequestId, int pageSize,
+    Function<MultipleRecords<Request>, CompletableFuture<Result<Void>>> pageHandler) {
+
+    final Result<CqlQuery> pageQuery = afterRequestId == null
+      ? query
+      : query.combine(greaterThan(ID_KEY, afterRequestId), CqlQuery::and);
+
+    return findWithCqlQuery(requestStorageClient, REQUESTS_KEY, Request::from)
+      .findByQuery(pageQuery.map(q -> q.sortBy(ascending(ID_KEY))), limit(pageSize))
+      .thenCompose(r -> r.after(requests -> {
+        if (requests.isEmpty()) {
+          return emptyAsync();
+        }
+
+        final List<Request> records = List.copyOf(requests.getRecords());
+        final String lastRequestId = records.get(records.size() - 1).getId();
+
+        return pageHandler.apply(requests)
+          .thenCompose(rh -> rh.after(ignored -> {
+            if (records.size() < pageSize) {
+              return emptyAsync();
+            }
+
+            return fetchPages(query, lastRequestId, pageSize, pageHandler);
+          }));
+      }));
+  }
+
+  private static CompletableFuture<Result<Void>> handleUnlessEmpty(
+    MultipleRecords<Request> requests,
+    Function<MultipleRecords<Request>, CompletableFuture<Result<Void>>> pageHandler) {
+
+    if (requests.isEmpty()) {
+      return emptyAsync();
+    }
+
+    return pageHandler.apply(requests);
+  }
+
   private CompletableFuture<Result<StaffSlipsContext>> fetchRequestsWithItems(
     StaffSlipsContext context){
 
@@ -108,18 +201,20 @@ public class StaffSlipsRequestFetchService {
   }
 
   private CompletableFuture<Result<MultipleRecords<Request>>> fetchRequestsWithoutItems() {
-    var query = exactMatch(REQUEST_TYPE_KEY, RequestType.HOLD.getValue())
-      .combine(exactMatch(STATUS_KEY, RequestStatus.OPEN_NOT_YET_FILLED.getValue()), CqlQuery::and)
-      .combine(exactMatch(REQUEST_LEVEL_KEY, RequestLevel.TITLE.getValue()), CqlQuery::and);
-
     return findWithCqlQuery(requestStorageClient, REQUESTS_KEY, Request::from)
-      .findByQuery(query, maximumLimit())
+      .findByQuery(requestsWithoutItemsQuery(), maximumLimit())
       // Title-level holds in status "Open - Not yet filled" are not supposed to be linked to items,
       // but we need to double-check anyway. These requests can be filtered out at DB level using
       // CQL predicate 'not itemId=""', but CQL parser used in tests does not seem to support this construct.
       .thenApply(mapResult(this::filterOutRequestsWithItems));
   }
 
+  private static Result<CqlQuery> requestsWithoutItemsQuery() {
+    return exactMatch(REQUEST_TYPE_KEY, RequestType.HOLD.getValue())
+      .combine(exactMatch(STATUS_KEY, RequestStatus.OPEN_NOT_YET_FILLED.getValue()), CqlQuery::and)
+      .combine(exactMatch(REQUEST_LEVEL_KEY, RequestLevel.TITLE.getValue()), CqlQuery::and);
+  }
+
   private MultipleRecords<Request> filterOutRequestsWithItems(MultipleRecords<Request> requests) {
     return requests.filter(r -> allNull(r.getHoldingsRecordId(), r.getItemId()));
   }
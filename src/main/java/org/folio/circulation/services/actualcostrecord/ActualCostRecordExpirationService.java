@@ -4,6 +4,7 @@ import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
 import static org.folio.circulation.domain.ActualCostRecord.Status.EXPIRED;
 import static org.folio.circulation.support.AsyncCoordinationUtil.allOf;
+import static org.folio.circulation.support.ConcurrencyLimit.forBackgroundJobs;
 import static org.folio.circulation.support.results.AsynchronousResult.fromFutureResult;
 import static org.folio.circulation.support.results.Result.emptyAsync;
 import static org.folio.circulation.support.results.Result.succeeded;
@@ -25,6 +26,7 @@ import org.folio.circulation.infrastructure.storage.ActualCostRecordRepository;
 import org.folio.circulation.infrastructure.storage.inventory.ItemRepository;
 import org.folio.circulation.infrastructure.storage.loans.LoanRepository;
 import org.folio.circulation.services.CloseLoanWithLostItemService;
+import org.folio.circulation.support.ConcurrencyLimit;
 import org.folio.circulation.support.results.Result;
 
 public class ActualCostRecordExpirationService {
@@ -34,6 +36,7 @@ public class ActualCostRecordExpirationService {
   private final ItemRepository itemRepository;
   private final ActualCostRecordRepository actualCostRecordRepository;
   private final LoanRepository loanRepository;
+  private final ConcurrencyLimit concurrencyLimit = forBackgroundJobs();
 
   public ActualCostRecordExpirationService(
     CloseLoanWithLostItemService closeLoanWithLostItemService, ItemRepository itemRepository,
@@ -91,7 +94,7 @@ public class ActualCostRecordExpirationService {
 
     return fromFutureResult(itemRepository.fetchItems(succeeded(expiredLoans))
       .thenApply(r -> r.next(this::excludeLoansWithNonexistentItems)))
-      .flatMapFuture(loans -> allOf(loans.getRecords(),
+      .flatMapFuture(loans -> allOf(loans.getRecords(), concurrencyLimit,
         closeLoanWithLostItemService::closeLoanAsLostAndPaid))
       .toCompletableFuture()
       .thenApply(r -> r.map(ignored -> null));
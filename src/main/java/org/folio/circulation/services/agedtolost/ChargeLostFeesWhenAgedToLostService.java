@@ -11,7 +11,7 @@ import static org.folio.circulation.domain.representations.LoanProperties.DATE_L
 import static org.folio.circulation.domain.representations.LoanProperties.ITEM_STATUS;
 import static org.folio.circulation.domain.representations.LoanProperties.LOST_ITEM_HAS_BEEN_BILLED;
 import static org.folio.circulation.support.AsyncCoordinationUtil.allOf;
-import static org.folio.circulation.support.CqlSortBy.ascending;
+import static org.folio.circulation.support.ConcurrencyLimit.forBackgroundJobs;
 import static org.folio.circulation.support.ValidationErrorFailure.singleValidationError;
 import static org.folio.circulation.support.http.client.CqlQuery.exactMatch;
 import static org.folio.circulation.support.http.client.CqlQuery.lessThanOrEqualTo;
@@ -59,9 +59,11 @@ import org.folio.circulation.infrastructure.storage.users.PatronGroupRepository;
 import org.folio.circulation.infrastructure.storage.users.UserRepository;
 import org.folio.circulation.services.EventPublisher;
 import org.folio.circulation.services.FeeFineFacade;
+import org.folio.circulation.services.ResumableJobRunner;
 import org.folio.circulation.services.actualcostrecord.ActualCostRecordService;
 import org.folio.circulation.services.support.CreateAccountCommand;
 import org.folio.circulation.support.Clients;
+import org.folio.circulation.support.ConcurrencyLimit;
 import org.folio.circulation.support.fetching.PageableFetcher;
 import org.folio.circulation.support.http.client.CqlQuery;
 import org.folio.circulation.support.results.Result;
@@ -69,6 +71,8 @@ import org.folio.circulation.support.results.Result;
 import lombok.val;
 
 public class ChargeLostFeesWhenAgedToLostService {
+  public static final String JOB_NAME = "scheduled-age-to-lost-fee-charging";
+
   private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
   private final LostItemPolicyRepository lostItemPolicyRepository;
   private final FeeFineOwnerRepository feeFineOwnerRepository;
@@ -79,9 +83,10 @@ public class ChargeLostFeesWhenAgedToLostService {
   private final UserRepository userRepository;
   private final StoreLoanAndItem storeLoanAndItem;
   private final EventPublisher eventPublisher;
-  private final PageableFetcher<Loan> loanPageableFetcher;
+  private final ResumableJobRunner<Loan> jobRunner;
   private final FeeFineScheduledNoticeService feeFineScheduledNoticeService;
   private final ActualCostRecordService actualCostRecordService;
+  private final ConcurrencyLimit concurrencyLimit = forBackgroundJobs();
 
   public ChargeLostFeesWhenAgedToLostService(Clients clients,
     ItemRepository itemRepository, UserRepository userRepository) {
@@ -97,7 +102,8 @@ public class ChargeLostFeesWhenAgedToLostService {
     this.storeLoanAndItem = new StoreLoanAndItem(loanRepository,
       itemRepository);
     this.eventPublisher = new EventPublisher(clients);
-    this.loanPageableFetcher = new PageableFetcher<>(loanRepository);
+    this.jobRunner = new ResumableJobRunner<>(clients, new PageableFetcher<>(loanRepository),
+      Loan::getId);
     this.feeFineScheduledNoticeService = FeeFineScheduledNoticeService.using(clients);
     this.actualCostRecordService = new ActualCostRecordService(new ActualCostRecordRepository(clients),
       LocationRepository.using(clients, new ServicePointRepository(clients)),
@@ -107,7 +113,7 @@ public class ChargeLostFeesWhenAgedToLostService {
   public CompletableFuture<Result<Void>> chargeFees() {
     log.info("chargeFees:: starting aged to lost items charging process");
     return loanFetchQuery()
-      .after(query -> loanPageableFetcher.processPages(query, this::chargeFees));
+      .after(query -> jobRunner.run(JOB_NAME, query, this::chargeFees));
   }
 
   public CompletableFuture<Result<Void>> chargeFees(MultipleRecords<Loan> loans) {
@@ -132,7 +138,7 @@ public class ChargeLostFeesWhenAgedToLostService {
     Result<List<LoanToChargeFees>> loansToChargeFeesResult) {
 
     return loansToChargeFeesResult
-      .after(loans -> allOf(loans, this::chargeLostFees))
+      .after(loans -> allOf(loans, concurrencyLimit, this::chargeLostFees))
       .thenApply(Result::mapEmpty);
   }
 
@@ -311,8 +317,7 @@ public class ChargeLostFeesWhenAgedToLostService {
       lostItemHasBeenBilled, "false");
 
     return billingDateQuery.combine(agedToLostQuery, CqlQuery::and)
-      .combine(hasNotBeenBilledQuery, CqlQuery::and)
-      .map(query -> query.sortBy(ascending(billingDateProperty)));
+      .combine(hasNotBeenBilledQuery, CqlQuery::and);
   }
 
   private Result<LoanToChargeFees> validateCanCreateAccountForLoan(LoanToChargeFees loanToChargeFees) {
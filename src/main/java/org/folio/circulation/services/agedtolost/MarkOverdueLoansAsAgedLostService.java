@@ -4,7 +4,7 @@ import static org.folio.circulation.domain.ItemStatus.AGED_TO_LOST;
 import static org.folio.circulation.domain.ItemStatus.CLAIMED_RETURNED;
 import static org.folio.circulation.domain.ItemStatus.DECLARED_LOST;
 import static org.folio.circulation.support.AsyncCoordinationUtil.allOf;
-import static org.folio.circulation.support.CqlSortBy.ascending;
+import static org.folio.circulation.support.ConcurrencyLimit.forBackgroundJobs;
 import static org.folio.circulation.support.http.client.CqlQuery.exactMatch;
 import static org.folio.circulation.support.http.client.CqlQuery.lessThan;
 import static org.folio.circulation.support.http.client.CqlQuery.notEqual;
@@ -28,22 +28,27 @@ import org.folio.circulation.infrastructure.storage.loans.LoanRepository;
 import org.folio.circulation.infrastructure.storage.loans.LostItemPolicyRepository;
 import org.folio.circulation.infrastructure.storage.users.UserRepository;
 import org.folio.circulation.services.EventPublisher;
+import org.folio.circulation.services.ResumableJobRunner;
 import org.folio.circulation.support.Clients;
+import org.folio.circulation.support.ConcurrencyLimit;
 import org.folio.circulation.support.fetching.PageableFetcher;
 import org.folio.circulation.support.http.client.CqlQuery;
 import org.folio.circulation.support.results.Result;
 import org.folio.circulation.support.utils.ClockUtil;
 
 public class MarkOverdueLoansAsAgedLostService {
+  public static final String JOB_NAME = "scheduled-age-to-lost";
+
   private static final Logger log = LogManager.getLogger(MarkOverdueLoansAsAgedLostService.class);
 
   private final LostItemPolicyRepository lostItemPolicyRepository;
   private final ItemRepository itemRepository;
   private final StoreLoanAndItem storeLoanAndItem;
   private final EventPublisher eventPublisher;
-  private final PageableFetcher<Loan> loanPageableFetcher;
+  private final ResumableJobRunner<Loan> jobRunner;
   private final LoanScheduledNoticeService loanScheduledNoticeService;
   private final UserRepository userRepository;
+  private final ConcurrencyLimit concurrencyLimit = forBackgroundJobs();
 
   public MarkOverdueLoansAsAgedLostService(Clients clients,
     ItemRepository itemRepository, LoanRepository loanRepository) {
@@ -52,7 +57,8 @@ public class MarkOverdueLoansAsAgedLostService {
     this.lostItemPolicyRepository = new LostItemPolicyRepository(clients);
     this.storeLoanAndItem = new StoreLoanAndItem(loanRepository, itemRepository);
     this.eventPublisher = new EventPublisher(clients);
-    this.loanPageableFetcher = new PageableFetcher<>(loanRepository);
+    this.jobRunner = new ResumableJobRunner<>(clients, new PageableFetcher<>(loanRepository),
+      Loan::getId);
     this.loanScheduledNoticeService = LoanScheduledNoticeService.using(clients);
     this.userRepository = new UserRepository(clients);
   }
@@ -61,7 +67,7 @@ public class MarkOverdueLoansAsAgedLostService {
     log.info("processAgeToLost:: running mark overdue loans as aged to lost process...");
 
     return loanFetchQuery()
-      .after(query -> loanPageableFetcher.processPages(query, this::processAgeToLost));
+      .after(query -> jobRunner.run(JOB_NAME, query, this::processAgeToLost));
   }
 
   public CompletableFuture<Result<Void>> processAgeToLost(MultipleRecords<Loan> loans) {
@@ -85,7 +91,8 @@ public class MarkOverdueLoansAsAgedLostService {
     Result<List<Loan>> allLoansResult) {
 
     log.debug("publishAgedToLostEvents:: publishing aged to lost events");
-    return allLoansResult.after(allLoans -> allOf(allLoans, eventPublisher::publishAgedToLostEvents))
+    return allLoansResult.after(allLoans -> allOf(allLoans, concurrencyLimit,
+      eventPublisher::publishAgedToLostEvents))
       .thenApply(r -> r.next(ignored -> allLoansResult));
   }
 
@@ -116,7 +123,8 @@ public class MarkOverdueLoansAsAgedLostService {
     log.debug("updateLoansAndItemsInStorage:: updating loans and items in storage");
     return loanRecordsResult
       .map(MultipleRecords::getRecords)
-      .after(loans -> allOf(loans, storeLoanAndItem::updateLoanAndItemInStorage));
+      .after(loans -> allOf(loans, concurrencyLimit,
+        storeLoanAndItem::updateLoanAndItemInStorage));
   }
 
   private Result<MultipleRecords<Loan>> getLoansThatHaveToBeAgedToLost(
@@ -153,8 +161,7 @@ public class MarkOverdueLoansAsAgedLostService {
     return statusQuery.combine(dueDateQuery, CqlQuery::and)
       .combine(claimedReturnedQuery, CqlQuery::and)
       .combine(agedToLostQuery, CqlQuery::and)
-      .combine(declaredLostQuery, CqlQuery::and)
-      .map(query -> query.sortBy(ascending("dueDate")));
+      .combine(declaredLostQuery, CqlQuery::and);
   }
 
   private CompletableFuture<Result<Void>> scheduleAgedToLostNotices(Result<List<Loan>> result) {
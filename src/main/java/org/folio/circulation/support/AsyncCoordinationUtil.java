@@ -1,6 +1,9 @@
 package org.folio.circulation.support;
 
 import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.folio.circulation.support.results.Result.failed;
 import static org.folio.circulation.support.results.Result.succeeded;
 
 import java.util.ArrayList;
@@ -9,9 +12,11 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.apache.commons.lang3.tuple.Pair;
 import org.folio.circulation.support.results.Result;
@@ -48,6 +53,30 @@ public class AsyncCoordinationUtil {
       .thenApply(v -> futures.stream().map(CompletableFuture::join).collect(Collectors.toList()));
   }
 
+  /**
+   * Applies {@code asyncAction} to all the elements in {@code collection} with no more
+   * than {@code limit} actions running at the same time and combines results to list
+   */
+  public static <T, R> CompletableFuture<Result<List<R>>> allOf(
+    Collection<T> collection, ConcurrencyLimit limit,
+    Function<T, CompletableFuture<Result<R>>> asyncAction) {
+
+    return allResultsOf(collection, limit, asyncAction)
+      .thenApply(Result::combineAll);
+  }
+
+  /**
+   * Applies {@code asyncAction} to all the elements in {@code collection} with no more
+   * than {@code limit} actions running at the same time, actions are started in the
+   * order of the collection. Returns a CompletableFuture with a list of all results
+   */
+  public static <T, R> CompletableFuture<List<Result<R>>> allResultsOf(
+    Collection<T> collection, ConcurrencyLimit limit,
+    Function<T, CompletableFuture<Result<R>>> asyncAction) {
+
+    return new BoundedExecution<>(new ArrayList<>(collection), limit, asyncAction).run();
+  }
+
   /**
    * Applies BiFunction {@code asyncAction} to all key-value pairs in {@code map}
    * and combines results to list
@@ -113,4 +142,81 @@ public class AsyncCoordinationUtil {
 
     return future.thenApply(r -> r.map(ignored -> results));
   }
+
+  private static final class BoundedExecution<T, R> {
+    private final List<T> elements;
+    private final ConcurrencyLimit limit;
+    private final Function<T, CompletableFuture<Result<R>>> asyncAction;
+    private final List<CompletableFuture<Result<R>>> results;
+    private final AtomicInteger nextIndex = new AtomicInteger();
+    private final long intervalNanos;
+    private final long startedAt = System.nanoTime();
+
+    private BoundedExecution(List<T> elements, ConcurrencyLimit limit,
+      Function<T, CompletableFuture<Result<R>>> asyncAction) {
+
+      this.elements = elements;
+      this.limit = limit;
+      this.asyncAction = asyncAction;
+      this.results = Stream.generate(CompletableFuture<Result<R>>::new)
+        .limit(elements.size())
+        .toList();
+      this.intervalNanos = limit.isRateLimited()
+        ? SECONDS.toNanos(1) / limit.maxPerSecond()
+        : 0;
+    }
+
+    private CompletableFuture<List<Result<R>>> run() {
+      for (int worker = 0; worker < Math.min(limit.maxConcurrency(), elements.size()); worker++) {
+        runNextActions();
+      }
+
+      return CompletableFuture.allOf(results.toArray(new CompletableFuture[0]))
+        .thenApply(v -> results.stream().map(CompletableFuture::join).toList());
+    }
+
+    private void runNextActions() {
+      // actions which complete synchronously are handled in this loop, so that the stack
+      // does not grow with the number of elements
+      while (true) {
+        final int index = nextIndex.getAndIncrement();
+
+        if (index >= elements.size()) {
+          return;
+        }
+
+        final long delayNanos = startedAt + index * intervalNanos - System.nanoTime();
+
+        if (delayNanos > 0) {
+          CompletableFuture.runAsync(() -> runAction(index)
+              .whenComplete((r, t) -> runNextActions()),
+            CompletableFuture.delayedExecutor(delayNanos, NANOSECONDS));
+
+          return;
+        }
+
+        final CompletableFuture<Result<R>> action = runAction(index);
+
+        if (!action.isDone()) {
+          action.whenComplete((r, t) -> runNextActions());
+          return;
+        }
+      }
+    }
+
+    private CompletableFuture<Result<R>> runAction(int index) {
+      final CompletableFuture<Result<R>> result = results.get(index);
+
+      try {
+        asyncAction.apply(elements.get(index))
+          .whenComplete((r, t) -> result.complete(t == null
+            ? r
+            : failed(new ServerErrorFailure(t))));
+      } catch (Exception e) {
+        result.complete(failed(new ServerErrorFailure(e)));
+      }
+
+      return result;
+    }
+  }
 }
@@ -53,8 +53,10 @@ public class Clients {
   private final CollectionResourceClient patronGroupsStorageClient;
   private final CollectionResourceClient patronNoticePolicesStorageClient;
   private final CollectionResourceClient patronNoticeClient;
+  private final CollectionResourceClient patronNoticeBatchClient;
   private final GetManyRecordsClient configurationStorageClient;
   private final CollectionResourceClient scheduledNoticesStorageClient;
+  private final CollectionResourceClient scheduledNoticesBatchStorageClient;
   private final CollectionResourceClient accountsStorageClient;
   private final CollectionResourceClient feeFineActionsStorageClient;
   private final CollectionResourceClient feeFineOwnerStorageClient;
@@ -82,18 +84,20 @@ public class Clients {
   private final CollectionResourceClient localeClient;
   private final CollectionResourceClient circulationSettingsStorageClient;
   private final CollectionResourceClient printEventsStorageClient;
+  private final String tenantId;
 
 
   public static Clients create(WebContext context, HttpClient httpClient) {
-    return new Clients(context.createHttpClient(httpClient), context);
+    return new Clients(context.createHttpClient(httpClient), context, context.getTenantId());
   }
 
   public static Clients create(WebContext context, HttpClient httpClient, String tenantId) {
-    return new Clients(context.createHttpClient(httpClient, tenantId), context);
+    return new Clients(context.createHttpClient(httpClient, tenantId), context, tenantId);
   }
 
-  private Clients(OkapiHttpClient client, WebContext context) {
+  private Clients(OkapiHttpClient client, WebContext context, String tenantId) {
     try {
+      this.tenantId = tenantId;
       requestsStorageClient = createRequestsStorageClient(client, context);
       requestsBatchStorageClient = createRequestsBatchStorageClient(client, context);
       cancellationReasonStorageClient = createCancellationReasonStorageClient(client, context);
@@ -135,8 +139,10 @@ public class Clients {
       calendarStorageClient = createCalendarStorageClient(client, context);
       patronNoticePolicesStorageClient = createPatronNoticePolicesStorageClient(client, context);
       patronNoticeClient = createPatronNoticeClient(client, context);
+      patronNoticeBatchClient = createPatronNoticeBatchClient(client, context);
       configurationStorageClient = createConfigurationStorageClient(client, context);
       scheduledNoticesStorageClient = createScheduledNoticesStorageClient(client, context);
+      scheduledNoticesBatchStorageClient = createScheduledNoticesBatchStorageClient(client, context);
       accountsStorageClient = createAccountsStorageClient(client, context);
       feeFineActionsStorageClient = createFeeFineActionsStorageClient(client,context);
       feeFineOwnerStorageClient = createFeeFineOwnerStorageClient(client,context);
@@ -171,6 +177,10 @@ public class Clients {
     }
   }
 
+  public String getTenantId() {
+    return tenantId;
+  }
+
   public CollectionResourceClient requestsStorage() {
     return requestsStorageClient;
   }
@@ -339,10 +349,18 @@ public class Clients {
     return patronNoticeClient;
   }
 
+  public CollectionResourceClient patronNoticeBatchClient() {
+    return patronNoticeBatchClient;
+  }
+
   public CollectionResourceClient scheduledNoticesStorageClient() {
     return scheduledNoticesStorageClient;
   }
 
+  public CollectionResourceClient scheduledNoticesBatchStorageClient() {
+    return scheduledNoticesBatchStorageClient;
+  }
+
   public CollectionResourceClient accountsStorageClient() {
     return accountsStorageClient;
   }
@@ -766,6 +784,13 @@ public class Clients {
     return getCollectionResourceClient(client, context, "/patron-notice");
   }
 
+  private CollectionResourceClient createPatronNoticeBatchClient(
+    OkapiHttpClient client, WebContext context)
+    throws MalformedURLException {
+
+    return getCollectionResourceClient(client, context, "/patron-notice/batch");
+  }
+
   private GetManyRecordsClient createConfigurationStorageClient(
     OkapiHttpClient client, WebContext context)
     throws MalformedURLException {
@@ -782,6 +807,14 @@ public class Clients {
       "/scheduled-notice-storage/scheduled-notices");
   }
 
+  private CollectionResourceClient createScheduledNoticesBatchStorageClient(
+    OkapiHttpClient client, WebContext context)
+    throws MalformedURLException {
+
+    return getCollectionResourceClient(client, context,
+      "/scheduled-notice-storage-batch/scheduled-notices");
+  }
+
   private CollectionResourceClient createAccountsStorageClient(
     OkapiHttpClient client, WebContext context)
     throws MalformedURLException {
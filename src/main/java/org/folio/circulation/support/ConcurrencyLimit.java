@@ -0,0 +1,39 @@
+package org.folio.circulation.support;
+
+import static org.folio.Environment.getBackgroundJobMaxActionsPerSecond;
+import static org.folio.Environment.getBackgroundJobMaxConcurrency;
+
+/**
+ * Limits how many asynchronous actions are running at the same time and, optionally,
+ * how many of them are started per second
+ *
+ * @param maxConcurrency maximum number of actions running at the same time
+ * @param maxPerSecond maximum number of actions started per second, 0 for no limit
+ */
+public record ConcurrencyLimit(int maxConcurrency, int maxPerSecond) {
+  public ConcurrencyLimit {
+    if (maxConcurrency < 1) {
+      throw new IllegalArgumentException("Maximum concurrency must be positive");
+    }
+
+    if (maxPerSecond < 0) {
+      throw new IllegalArgumentException("Maximum actions per second must not be negative");
+    }
+  }
+
+  public static ConcurrencyLimit maxConcurrency(int maxConcurrency) {
+    return new ConcurrencyLimit(maxConcurrency, 0);
+  }
+
+  /**
+   * @return the limit for storage requests made by scheduled and other background jobs
+   */
+  public static ConcurrencyLimit forBackgroundJobs() {
+    return new ConcurrencyLimit(Math.max(getBackgroundJobMaxConcurrency(), 1),
+      Math.max(getBackgroundJobMaxActionsPerSecond(), 0));
+  }
+
+  public boolean isRateLimited() {
+    return maxPerSecond > 0;
+  }
+}
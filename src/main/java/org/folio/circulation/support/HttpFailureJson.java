@@ -0,0 +1,32 @@
+package org.folio.circulation.support;
+
+import org.folio.circulation.support.http.server.ValidationError;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Represents a failure as errors in the body of a response, for responses which report
+ * a failure per record rather than failing as a whole
+ */
+public class HttpFailureJson {
+  private HttpFailureJson() { }
+
+  /**
+   * @return the errors of a validation failure, otherwise a single error with the reason
+   * for the failure as message
+   */
+  public static JsonArray errorsFor(HttpFailure failure) {
+    if (failure instanceof ValidationErrorFailure validationFailure) {
+      return new JsonArray(validationFailure.getErrors().stream()
+        .map(ValidationError::toJson)
+        .toList());
+    }
+
+    final String message = failure instanceof ServerErrorFailure serverError
+      ? serverError.getReason()
+      : failure.toString();
+
+    return new JsonArray().add(new JsonObject().put("message", message));
+  }
+}
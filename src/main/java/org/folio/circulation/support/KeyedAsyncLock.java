@@ -0,0 +1,142 @@
+package org.folio.circulation.support;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-process asynchronous lock with a lock of its own for each key, callers locking different
+ * keys never wait for each other. Waiters are queued and granted the lock in FIFO order when
+ * it is released, so no polling is involved. The lock of a key is only kept while it is held,
+ * it is removed once it is released and nobody is waiting for it.
+ *
+ * Only guards callers within a single module instance
+ */
+public class KeyedAsyncLock {
+  private final Map<String, KeyLock> locks = new ConcurrentHashMap<>();
+
+  private final LongAdder acquisitions = new LongAdder();
+  private final LongAdder contendedAcquisitions = new LongAdder();
+  private final LongAdder timeouts = new LongAdder();
+  private final LongAdder totalWaitNanos = new LongAdder();
+  private final LongAccumulator maxWaitNanos = new LongAccumulator(Long::max, 0);
+
+  /**
+   * Acquires the lock for {@code key}
+   *
+   * @param key key to lock, e.g. user ID
+   * @param timeoutMillis how long to wait for the lock before failing
+   * @return future completed with a permit which must be released by the
+   * caller, or failed with {@link java.util.concurrent.TimeoutException}
+   */
+  public CompletableFuture<Permit> acquire(String key, long timeoutMillis) {
+    final long start = System.nanoTime();
+    final CompletableFuture<Permit> waiter = new CompletableFuture<>();
+    final AtomicBoolean acquired = new AtomicBoolean();
+
+    // the lock of a key is only changed within compute, which is atomic for the key
+    final KeyLock lock = locks.compute(key, (ignored, existing) -> {
+      if (existing == null) {
+        acquired.set(true);
+        return new KeyLock(key);
+      }
+
+      existing.waiters.addLast(waiter);
+      return existing;
+    });
+
+    if (acquired.get()) {
+      acquisitions.increment();
+      waiter.complete(new Permit(lock));
+      return waiter;
+    }
+
+    contendedAcquisitions.increment();
+
+    return waiter
+      .orTimeout(timeoutMillis, TimeUnit.MILLISECONDS)
+      .whenComplete((permit, error) -> {
+        if (error != null) {
+          timeouts.increment();
+          removeWaiter(lock, waiter);
+        } else {
+          final long waited = System.nanoTime() - start;
+          acquisitions.increment();
+          totalWaitNanos.add(waited);
+          maxWaitNanos.accumulate(waited);
+        }
+      });
+  }
+
+  public Metrics getMetrics() {
+    return new Metrics(acquisitions.sum(), contendedAcquisitions.sum(), timeouts.sum(),
+      TimeUnit.NANOSECONDS.toMillis(totalWaitNanos.sum()),
+      TimeUnit.NANOSECONDS.toMillis(maxWaitNanos.get()));
+  }
+
+  /**
+   * @return number of keys whose lock is currently held
+   */
+  int numberOfLockedKeys() {
+    return locks.size();
+  }
+
+  private void removeWaiter(KeyLock lock, CompletableFuture<Permit> waiter) {
+    locks.computeIfPresent(lock.key, (ignored, current) -> {
+      current.waiters.remove(waiter);
+      return current;
+    });
+  }
+
+  private void release(KeyLock lock) {
+    while (true) {
+      final AtomicReference<CompletableFuture<Permit>> next = new AtomicReference<>();
+
+      // the lock is removed when nobody is waiting for it
+      locks.computeIfPresent(lock.key, (ignored, current) -> {
+        next.set(current.waiters.pollFirst());
+        return next.get() == null ? null : current;
+      });
+
+      // waiter might have already timed out, then the lock is handed to the next one
+      if (next.get() == null || next.get().complete(new Permit(lock))) {
+        return;
+      }
+    }
+  }
+
+  public record Metrics(long acquisitions, long contendedAcquisitions, long timeouts,
+    long totalWaitMillis, long maxWaitMillis) { }
+
+  public final class Permit {
+    private final KeyLock lock;
+    private final AtomicBoolean released = new AtomicBoolean(false);
+
+    private Permit(KeyLock lock) {
+      this.lock = lock;
+    }
+
+    public void release() {
+      if (released.compareAndSet(false, true)) {
+        KeyedAsyncLock.this.release(lock);
+      }
+    }
+  }
+
+  private static final class KeyLock {
+    private final String key;
+    // only accessed within compute for the key
+    private final Deque<CompletableFuture<Permit>> waiters = new ArrayDeque<>();
+
+    private KeyLock(String key) {
+      this.key = key;
+    }
+  }
+}
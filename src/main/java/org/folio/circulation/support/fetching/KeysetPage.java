@@ -0,0 +1,30 @@
+package org.folio.circulation.support.fetching;
+
+import static org.folio.circulation.support.json.JsonPropertyWriter.write;
+
+import java.util.function.Function;
+
+import org.folio.circulation.domain.MultipleRecords;
+
+import io.vertx.core.json.JsonObject;
+
+/**
+ * A page of a collection fetched using keyset paging, see {@link KeysetPageRequest}
+ *
+ * @param nextPageToken token for fetching the next page, null for the last page
+ */
+public record KeysetPage<T>(MultipleRecords<T> records, String nextPageToken) {
+  private static final String NEXT_PAGE_TOKEN_PROPERTY = "nextPageToken";
+
+  public KeysetPage<T> withRecords(MultipleRecords<T> records) {
+    return new KeysetPage<>(records, nextPageToken);
+  }
+
+  public JsonObject asJson(Function<T, JsonObject> mapper, String recordsPropertyName) {
+    final JsonObject representation = records.asJson(mapper, recordsPropertyName);
+
+    write(representation, NEXT_PAGE_TOKEN_PROPERTY, nextPageToken);
+
+    return representation;
+  }
+}
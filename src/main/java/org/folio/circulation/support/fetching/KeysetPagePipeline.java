@@ -0,0 +1,256 @@
+package org.folio.circulation.support.fetching;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.folio.circulation.support.CqlSortBy.ascending;
+import static org.folio.circulation.support.http.client.CqlQuery.greaterThan;
+import static org.folio.circulation.support.http.client.Offset.noOffset;
+import static org.folio.circulation.support.results.Result.failed;
+import static org.folio.circulation.support.results.Result.succeeded;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.circulation.domain.MultipleRecords;
+import org.folio.circulation.support.ServerErrorFailure;
+import org.folio.circulation.support.http.client.CqlQuery;
+import org.folio.circulation.support.http.client.PageLimit;
+import org.folio.circulation.support.results.Result;
+
+/**
+ * Processes pages of records sorted by id, see
+ * {@link PageableFetcher#processPagesByKeyset(CqlQuery, Function, PageProcessor)}
+ *
+ * The query for a page only depends on the last id of the page before it, so up to
+ * prefetch depth pages are fetched while a page is being processed. At most prefetch
+ * depth + 1 pages are held in memory, a depth of 0 fetches a page only once the page
+ * before it has been processed
+ */
+final class KeysetPagePipeline<T> {
+  private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+
+  private final GetManyRecordsRepository<T> repository;
+  private final CqlQuery query;
+  private final String startAfterId;
+  private final BooleanSupplier shouldContinue;
+  private final Function<T, String> idMapper;
+  private final PageProcessor<T> pageProcessor;
+  private final PageLimit pageSize;
+  private final int prefetchDepth;
+
+  private final Deque<CompletableFuture<Result<FetchedPage<T>>>> pages = new ArrayDeque<>();
+  private final CompletableFuture<Result<Void>> completion = new CompletableFuture<>();
+
+  private int pagesProcessed;
+  private int recordsFetched;
+  private long waitedNanos;
+  private long totalFetchNanos;
+  private long totalWaitNanos;
+  private long totalProcessingNanos;
+
+  /**
+   * @param startAfterId id after which the first page starts, null to start with the
+   *                     first record
+   * @param shouldContinue asked after each page whether to go on with the next one
+   */
+  KeysetPagePipeline(GetManyRecordsRepository<T> repository, CqlQuery query,
+    String startAfterId, BooleanSupplier shouldContinue, Function<T, String> idMapper,
+    PageProcessor<T> pageProcessor, PageLimit pageSize, int prefetchDepth) {
+
+    this.repository = repository;
+    this.query = query;
+    this.startAfterId = startAfterId;
+    this.shouldContinue = shouldContinue;
+    this.idMapper = idMapper;
+    this.pageProcessor = pageProcessor;
+    this.pageSize = pageSize;
+    this.prefetchDepth = Math.max(prefetchDepth, 0);
+  }
+
+  CompletableFuture<Result<Void>> run() {
+    pages.add(fetchPageAfter(startAfterId));
+
+    processRemainingPages();
+
+    return completion;
+  }
+
+  private void processRemainingPages() {
+    // pages which have already been fetched and processed are handled in this loop,
+    // so that the stack does not grow when storage responds synchronously
+    while (true) {
+      final CompletableFuture<Result<FetchedPage<T>>> nextPage = pages.peek();
+
+      if (!nextPage.isDone()) {
+        final long waitStartedAt = System.nanoTime();
+
+        nextPage.thenRun(() -> {
+          waitedNanos = System.nanoTime() - waitStartedAt;
+          processRemainingPages();
+        });
+
+        return;
+      }
+
+      pages.remove();
+
+      final Result<FetchedPage<T>> fetched = nextPage.join();
+
+      if (fetched.failed()) {
+        completion.complete(failed(fetched.cause()));
+        return;
+      }
+
+      final FetchedPage<T> page = fetched.value();
+
+      prefetchPagesAfter(page);
+
+      final long processingStartedAt = System.nanoTime();
+      final CompletableFuture<Result<Void>> processing = processPage(page);
+
+      if (!processing.isDone()) {
+        processing.thenAccept(processed -> {
+          if (hasMorePagesAfter(page, processed, processingStartedAt)) {
+            processRemainingPages();
+          }
+        });
+
+        return;
+      }
+
+      if (!hasMorePagesAfter(page, processing.join(), processingStartedAt)) {
+        return;
+      }
+    }
+  }
+
+  private void prefetchPagesAfter(FetchedPage<T> page) {
+    if (!page.hasMore()) {
+      return;
+    }
+
+    CompletableFuture<Result<FetchedPage<T>>> previousPage = pages.isEmpty()
+      ? completedFuture(succeeded(page))
+      : pages.peekLast();
+
+    while (pages.size() < prefetchDepth) {
+      previousPage = previousPage.thenCompose(r -> r.after(this::fetchPageFollowing));
+      pages.add(previousPage);
+    }
+  }
+
+  private CompletableFuture<Result<Void>> processPage(FetchedPage<T> page) {
+    return succeeded(page.records())
+      .after(pageProcessor::processPage)
+      .<Result<Void>>handle((result, throwable) -> throwable == null
+        ? result
+        : failed(new ServerErrorFailure(throwable)));
+  }
+
+  private boolean hasMorePagesAfter(FetchedPage<T> page, Result<Void> processed,
+    long processingStartedAt) {
+
+    final long processingNanos = System.nanoTime() - processingStartedAt;
+
+    pagesProcessed++;
+    recordsFetched += page.records().size();
+    totalFetchNanos += page.fetchNanos();
+    totalWaitNanos += waitedNanos;
+    totalProcessingNanos += processingNanos;
+
+    log.info("hasMorePagesAfter:: page {} of {} records fetched in {} ms, waited for {} ms, " +
+        "processed in {} ms", pagesProcessed, page.records().size(),
+      NANOSECONDS.toMillis(page.fetchNanos()), NANOSECONDS.toMillis(waitedNanos),
+      NANOSECONDS.toMillis(processingNanos));
+
+    waitedNanos = 0;
+
+    if (processed.failed()) {
+      completion.complete(failed(processed.cause()));
+      return false;
+    }
+
+    if (!page.hasMore()) {
+      log.info("All pages have been fetched, total records fetched {} in {} pages, " +
+          "fetched in {} ms, waited for {} ms, processed in {} ms", recordsFetched,
+        pagesProcessed, NANOSECONDS.toMillis(totalFetchNanos),
+        NANOSECONDS.toMillis(totalWaitNanos), NANOSECONDS.toMillis(totalProcessingNanos));
+
+      completion.complete(succeeded(null));
+      return false;
+    }
+
+    if (!shouldContinue.getAsBoolean()) {
+      log.info("Stopped before all pages have been fetched, total records fetched {} in {} " +
+          "pages, fetched in {} ms, waited for {} ms, processed in {} ms", recordsFetched,
+        pagesProcessed, NANOSECONDS.toMillis(totalFetchNanos),
+        NANOSECONDS.toMillis(totalWaitNanos), NANOSECONDS.toMillis(totalProcessingNanos));
+
+      completion.complete(succeeded(null));
+      return false;
+    }
+
+    if (pages.isEmpty()) {
+      pages.add(fetchPageAfter(page.lastId()));
+    }
+
+    return true;
+  }
+
+  private CompletableFuture<Result<FetchedPage<T>>> fetchPageFollowing(FetchedPage<T> page) {
+    // a page after the last page is never processed
+    return page.hasMore()
+      ? fetchPageAfter(page.lastId())
+      : completedFuture(succeeded(FetchedPage.none()));
+  }
+
+  private CompletableFuture<Result<FetchedPage<T>>> fetchPageAfter(String lastId) {
+    final long fetchStartedAt = System.nanoTime();
+
+    return afterLastId(lastId)
+      .after(pageQuery -> repository.getMany(pageQuery, pageSize, noOffset()))
+      .thenApply(r -> r.map(records -> toFetchedPage(records,
+        System.nanoTime() - fetchStartedAt)))
+      .<Result<FetchedPage<T>>>handle((result, throwable) -> throwable == null
+        ? result
+        : failed(new ServerErrorFailure(throwable)));
+  }
+
+  private Result<CqlQuery> afterLastId(String lastId) {
+    final Result<CqlQuery> pageQuery = lastId == null
+      ? succeeded(query)
+      : greaterThan("id", lastId).map(query::and);
+
+    return pageQuery.map(q -> q.sortBy(ascending("id")));
+  }
+
+  private FetchedPage<T> toFetchedPage(MultipleRecords<T> records, long fetchNanos) {
+    if (records.isEmpty()) {
+      return new FetchedPage<>(records, null, false, fetchNanos);
+    }
+
+    final List<T> recordList = List.copyOf(records.getRecords());
+    final String lastId = idMapper.apply(recordList.get(recordList.size() - 1));
+
+    return new FetchedPage<>(records, lastId, records.size() >= pageSize.getLimit(),
+      fetchNanos);
+  }
+
+  /**
+   * @param hasMore whether there can be more pages after this one
+   */
+  private record FetchedPage<T>(MultipleRecords<T> records, String lastId, boolean hasMore,
+    long fetchNanos) {
+
+    static <T> FetchedPage<T> none() {
+      return new FetchedPage<>(MultipleRecords.empty(), null, false, 0);
+    }
+  }
+}
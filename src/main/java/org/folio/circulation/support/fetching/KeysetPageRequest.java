@@ -0,0 +1,182 @@
+package org.folio.circulation.support.fetching;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+import static org.folio.circulation.support.CqlSortBy.ascending;
+import static org.folio.circulation.support.http.client.CqlQuery.greaterThan;
+import static org.folio.circulation.support.http.client.CqlQuery.hasValue;
+import static org.folio.circulation.support.http.client.CqlQuery.noQuery;
+import static org.folio.circulation.support.http.client.PageLimit.limit;
+import static org.folio.circulation.support.results.Result.failed;
+import static org.folio.circulation.support.results.Result.succeeded;
+import static org.folio.util.UuidUtil.isUuid;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+import org.apache.commons.lang3.math.NumberUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.circulation.domain.MultipleRecords;
+import org.folio.circulation.support.BadRequestFailure;
+import org.folio.circulation.support.http.client.CqlQuery;
+import org.folio.circulation.support.http.client.PageLimit;
+import org.folio.circulation.support.http.server.WebContext;
+import org.folio.circulation.support.results.Result;
+
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * A request for a page of a collection using keyset paging. Records are sorted by id and
+ * a page starts after the last record of the previous page, so fetching a page does not
+ * get slower the further a client pages through a collection, as it does with offsets.
+ *
+ * The first page is requested with keyset=true, further pages with the opaque token
+ * returned as nextPageToken with the previous page. Query and limit can be used as
+ * before and are sent again with each page, sorting and offset cannot be used
+ */
+public class KeysetPageRequest {
+  private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+
+  private static final String KEYSET_PARAMETER = "keyset";
+  private static final String PAGE_TOKEN_PARAMETER = "pageToken";
+  private static final String QUERY_PARAMETER = "query";
+  private static final String LIMIT_PARAMETER = "limit";
+  private static final String OFFSET_PARAMETER = "offset";
+  private static final String LAST_ID_PROPERTY = "lastId";
+
+  private static final int DEFAULT_LIMIT = 10;
+  private static final int MAXIMUM_LIMIT = 10_000;
+  private static final Pattern QUOTED_TERM = Pattern.compile("\"(?:[^\"\\\\]|\\\\.)*\"");
+  // a sort clause ends the query and lists the sort keys, each with optional modifiers
+  private static final Pattern SORT_BY = Pattern.compile(
+    "(?:^|\\s)sortBy(?:\\s+[\\w.]+(?:/[\\w.]+)*)+\\s*$", Pattern.CASE_INSENSITIVE);
+
+  private final String query;
+  private final String lastId;
+  private final int limit;
+
+  private KeysetPageRequest(String query, String lastId, int limit) {
+    this.query = query;
+    this.lastId = lastId;
+    this.limit = limit;
+  }
+
+  public static boolean isRequested(WebContext context) {
+    return Boolean.parseBoolean(context.getStringParameter(KEYSET_PARAMETER))
+      || context.getStringParameter(PAGE_TOKEN_PARAMETER) != null;
+  }
+
+  public static Result<KeysetPageRequest> from(WebContext context) {
+    final String query = context.getStringParameter(QUERY_PARAMETER);
+    final String limit = context.getStringParameter(LIMIT_PARAMETER);
+    final String pageToken = context.getStringParameter(PAGE_TOKEN_PARAMETER);
+
+    log.info("from:: parameters query: {}, limit: {}, pageToken: {}", query, limit, pageToken);
+
+    if (context.getStringParameter(OFFSET_PARAMETER) != null) {
+      return failed(new BadRequestFailure(
+        "Offset cannot be used with keyset paging, use pageToken instead"));
+    }
+
+    if (isSorted(query)) {
+      return failed(new BadRequestFailure(
+        "Query cannot be sorted with keyset paging, records are sorted by id"));
+    }
+
+    return parseLimit(limit)
+      .combine(decodePageToken(pageToken),
+        (pageLimit, lastId) -> new KeysetPageRequest(query, lastId, pageLimit));
+  }
+
+  /**
+   * @return whether the query ends with a sort clause, a sortBy in a quoted term
+   * does not count
+   */
+  static boolean isSorted(String query) {
+    return query != null
+      && SORT_BY.matcher(QUOTED_TERM.matcher(query).replaceAll("\"\"")).find();
+  }
+
+  public Result<CqlQuery> cqlQuery() {
+    final Result<CqlQuery> clientQuery = isBlank(query)
+      ? hasValue("id")
+      : CqlQuery.fromText(query);
+
+    final Result<CqlQuery> afterLastIdQuery = lastId == null
+      ? noQuery()
+      : greaterThan("id", lastId);
+
+    return clientQuery.combine(afterLastIdQuery, CqlQuery::and)
+      .map(q -> q.sortBy(ascending("id")));
+  }
+
+  /**
+   * @return the limit for fetching a page, one more than the page size to find out
+   * whether there is a next page
+   */
+  public PageLimit fetchLimit() {
+    return limit(limit + 1);
+  }
+
+  public <T> KeysetPage<T> toPage(MultipleRecords<T> fetchedRecords,
+    Function<T, String> idMapper) {
+
+    final List<T> records = fetchedRecords.getRecords().stream()
+      .limit(limit)
+      .toList();
+
+    final String nextPageToken = fetchedRecords.size() > limit
+      ? encodePageToken(idMapper.apply(records.get(records.size() - 1)))
+      : null;
+
+    return new KeysetPage<>(new MultipleRecords<>(records, fetchedRecords.getTotalRecords()),
+      nextPageToken);
+  }
+
+  private static Result<Integer> parseLimit(String limit) {
+    if (limit == null) {
+      return succeeded(DEFAULT_LIMIT);
+    }
+
+    final int pageLimit = NumberUtils.toInt(limit, 0);
+
+    if (pageLimit <= 0 || pageLimit > MAXIMUM_LIMIT) {
+      log.warn("parseLimit:: invalid limit: {}", limit);
+      return failed(new BadRequestFailure(String.format(
+        "Limit must be a positive integer no greater than %d: %s", MAXIMUM_LIMIT, limit)));
+    }
+
+    return succeeded(pageLimit);
+  }
+
+  private static String encodePageToken(String lastId) {
+    final String token = new JsonObject().put(LAST_ID_PROPERTY, lastId).encode();
+
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(token.getBytes(UTF_8));
+  }
+
+  private static Result<String> decodePageToken(String pageToken) {
+    if (pageToken == null) {
+      return succeeded(null);
+    }
+
+    try {
+      final String lastId = new JsonObject(new String(
+        Base64.getUrlDecoder().decode(pageToken), UTF_8)).getString(LAST_ID_PROPERTY);
+
+      if (lastId != null && isUuid(lastId)) {
+        return succeeded(lastId);
+      }
+    } catch (IllegalArgumentException | DecodeException | ClassCastException e) {
+      log.warn("decodePageToken:: failed to decode page token {}", pageToken, e);
+    }
+
+    return failed(new BadRequestFailure(
+      String.format("Page token is not valid: %s", pageToken)));
+  }
+}
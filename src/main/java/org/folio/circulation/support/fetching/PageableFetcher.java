@@ -1,13 +1,20 @@
 package org.folio.circulation.support.fetching;
 
 import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.folio.Environment.getPagePrefetchDepth;
+import static org.folio.circulation.support.http.client.CqlQuery.exactMatchAny;
+import static org.folio.circulation.support.http.client.Offset.noOffset;
 import static org.folio.circulation.support.http.client.Offset.zeroOffset;
 import static org.folio.circulation.support.http.client.PageLimit.limit;
 import static org.folio.circulation.support.results.Result.failed;
+import static org.folio.circulation.support.results.Result.succeeded;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.Collection;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
 
 import org.folio.circulation.domain.MultipleRecords;
 import org.folio.circulation.support.ServerErrorFailure;
@@ -29,9 +36,17 @@ public final class PageableFetcher<T> {
   private final GetManyRecordsRepository<T> repository;
   private final PageLimit pageSize;
   private final int maxAllowedRecordsToFetchLimit;
+  private final int prefetchDepth;
 
   public PageableFetcher(GetManyRecordsRepository<T> repository) {
-    this(repository, DEFAULT_PAGE_SIZE_LIMIT, DEFAULT_MAX_ALLOWED_RECORDS_LIMIT);
+    this(repository, DEFAULT_PAGE_SIZE_LIMIT, DEFAULT_MAX_ALLOWED_RECORDS_LIMIT,
+      getPagePrefetchDepth());
+  }
+
+  public PageableFetcher(GetManyRecordsRepository<T> repository, PageLimit pageSize,
+    int maxAllowedRecordsToFetchLimit) {
+
+    this(repository, pageSize, maxAllowedRecordsToFetchLimit, 0);
   }
 
   public CompletableFuture<Result<Void>> processPages(CqlQuery query, PageProcessor<T> pageProcessor) {
@@ -63,6 +78,73 @@ public final class PageableFetcher<T> {
       ));
   }
 
+  /**
+   * Processes pages of records sorted by id, each page starting after the last id of the
+   * previous page rather than at an offset. Records which no longer match the query once
+   * a page has been processed do not cause other records to be skipped, and fetching a
+   * page does not get slower the more pages have been processed.
+   *
+   * Pages are processed in a loop rather than recursively, so the number of records is
+   * not limited. Up to prefetch depth pages are fetched while a page is being processed,
+   * the time taken to fetch, wait for and process each page is logged
+   *
+   * @param query query for the records, must not be sorted
+   * @param idMapper gets the id of a record
+   */
+  public CompletableFuture<Result<Void>> processPagesByKeyset(CqlQuery query,
+    Function<T, String> idMapper, PageProcessor<T> pageProcessor) {
+
+    return processPagesByKeyset(query, idMapper, null, pageProcessor);
+  }
+
+  /**
+   * Processes pages of records sorted by id like
+   * {@link #processPagesByKeyset(CqlQuery, Function, PageProcessor)}, starting with
+   * the first record after the given id, e.g. to carry on where an earlier run stopped
+   *
+   * @param startAfterId id after which processing starts, null to start with the first record
+   */
+  public CompletableFuture<Result<Void>> processPagesByKeyset(CqlQuery query,
+    Function<T, String> idMapper, String startAfterId, PageProcessor<T> pageProcessor) {
+
+    return processPagesByKeyset(query, idMapper, startAfterId, () -> true, pageProcessor);
+  }
+
+  /**
+   * Processes pages of records sorted by id like
+   * {@link #processPagesByKeyset(CqlQuery, Function, String, PageProcessor)}, stopping
+   * once a page has been processed when no more pages should be, e.g. when a time budget
+   * has been used up. Pages which have been fetched ahead are then not processed
+   *
+   * @param shouldContinue asked after each page whether to go on with the next one
+   */
+  public CompletableFuture<Result<Void>> processPagesByKeyset(CqlQuery query,
+    Function<T, String> idMapper, String startAfterId, BooleanSupplier shouldContinue,
+    PageProcessor<T> pageProcessor) {
+
+    return new KeysetPagePipeline<>(repository, query, startAfterId, shouldContinue, idMapper,
+      pageProcessor, pageSize, prefetchDepth).run();
+  }
+
+  /**
+   * Processes the records with the given ids which match the query as a single page,
+   * records which do not match the query any more are left out
+   *
+   * @param ids ids of the records, should be few enough to fit in a single query
+   */
+  public CompletableFuture<Result<Void>> processRecordsWithIds(CqlQuery query,
+    Collection<String> ids, PageProcessor<T> pageProcessor) {
+
+    if (ids.isEmpty()) {
+      return completedFuture(succeeded(null));
+    }
+
+    return exactMatchAny("id", ids)
+      .map(query::and)
+      .after(idsQuery -> repository.getMany(idsQuery, limit(ids.size()), noOffset()))
+      .thenCompose(r -> r.after(pageProcessor::processPage));
+  }
+
   private CompletableFuture<Result<Void>> itemCountLimitHasBeenReached() {
     return completedFuture(failed(new ServerErrorFailure(
       "Maximum allowed item count is set to " + maxAllowedRecordsToFetchLimit
@@ -33,6 +33,17 @@ public class CqlQuery implements QueryParameter {
     return Result.of(() -> new CqlQuery("", none()));
   }
 
+  /**
+   * Builds query from the text of a query provided by a client, in parentheses so that
+   * further conditions can be added to it
+   *
+   * @param text - The text of the query, must not include sorting
+   * @return Result with CqlQuery.
+   */
+  public static Result<CqlQuery> fromText(String text) {
+    return of(() -> new CqlQuery(format("(%s)", text), none()));
+  }
+
   /**
    * Builds query which matches records where the property is defined
    * (i.e. is not null).
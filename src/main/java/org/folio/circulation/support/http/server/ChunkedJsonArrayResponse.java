@@ -0,0 +1,118 @@
+package org.folio.circulation.support.http.server;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.folio.circulation.support.results.Result.failed;
+import static org.folio.circulation.support.results.Result.succeeded;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.circulation.support.HttpFailure;
+import org.folio.circulation.support.ServerErrorFailure;
+import org.folio.circulation.support.results.Result;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Writes a collection in chunks while it is being built, as
+ * {"collectionName": [entries], "totalRecords": number of entries}
+ *
+ * The status code and headers are sent with the first chunk, a failure after that can
+ * only be reported by resetting the connection, so that clients do not take a truncated
+ * collection for a complete one
+ */
+public class ChunkedJsonArrayResponse {
+  private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+
+  private final HttpServerResponse response;
+  private final String collectionName;
+  private boolean started;
+  private int totalRecords;
+
+  public ChunkedJsonArrayResponse(HttpServerResponse response, String collectionName) {
+    this.response = response;
+    this.collectionName = collectionName;
+  }
+
+  /**
+   * @return a future completed once the entries have been written to the connection,
+   * so that the next chunk is only built when the client keeps up
+   */
+  public CompletableFuture<Result<Void>> write(Collection<JsonObject> entries) {
+    if (response.closed()) {
+      log.warn("write:: connection closed after {} entries", totalRecords);
+      return completedFuture(failed(new ServerErrorFailure("Connection closed by client")));
+    }
+
+    final Buffer chunk = Buffer.buffer();
+
+    if (!started) {
+      start(chunk);
+    }
+
+    for (JsonObject entry : entries) {
+      if (totalRecords > 0) {
+        chunk.appendString(",");
+      }
+
+      chunk.appendBuffer(entry.toBuffer());
+      totalRecords++;
+    }
+
+    return response.write(chunk)
+      .toCompletionStage()
+      .toCompletableFuture()
+      .<Result<Void>>handle((ignored, throwable) -> throwable == null
+        ? succeeded((Void) null)
+        : failed(new ServerErrorFailure(throwable)));
+  }
+
+  public void end() {
+    final Buffer chunk = Buffer.buffer();
+
+    if (!started) {
+      start(chunk);
+    }
+
+    log.info("end:: {} entries written", totalRecords);
+
+    response.end(chunk.appendString("],\"totalRecords\":")
+      .appendString(Integer.toString(totalRecords))
+      .appendString("}"));
+  }
+
+  public void fail(HttpFailure failure) {
+    if (!started) {
+      failure.writeTo(response);
+      return;
+    }
+
+    log.warn("fail:: failed after {} entries were written, resetting connection",
+      totalRecords);
+
+    if (!response.closed()) {
+      response.reset();
+    }
+  }
+
+  public void end(Result<Void> result) {
+    result.applySideEffect(ignored -> end(), this::fail);
+  }
+
+  private void start(Buffer chunk) {
+    response.setStatusCode(200);
+    response.putHeader("content-type", "application/json; charset=utf-8");
+    response.setChunked(true);
+
+    chunk.appendString("{\"")
+      .appendString(collectionName)
+      .appendString("\":[");
+
+    started = true;
+  }
+}
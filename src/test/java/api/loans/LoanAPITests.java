@@ -6,6 +6,7 @@ import static api.support.http.AdditionalHttpStatusCodes.UNPROCESSABLE_ENTITY;
 import static api.support.http.CqlQuery.queryFromTemplate;
 import static api.support.http.Limit.limit;
 import static api.support.http.Offset.offset;
+import static api.support.http.api.support.NamedQueryStringParameter.namedParameter;
 import static api.support.matchers.EventMatchers.isValidLoanDueDateChangedEvent;
 import static api.support.matchers.TextDateTimeMatcher.isEquivalentTo;
 import static api.support.matchers.UUIDMatcher.is;
@@ -27,6 +28,7 @@ import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.core.Is.is;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -1413,6 +1415,52 @@ class LoanAPITests extends APITests {
     assertThat(countOfDistinctTitles(secondPage.stream()), is(greaterThan(1)));
   }
 
+  @Test
+  void canPageLoansUsingKeyset() {
+    val user = usersFixture.steve();
+
+    final List<String> loanIdsInPageOrder = Stream.of(
+        itemsFixture.basedUponSmallAngryPlanet(), itemsFixture.basedUponNod(),
+        itemsFixture.basedUponTemeraire(), itemsFixture.basedUponUprooted(),
+        itemsFixture.basedUponInterestingTimes())
+      .map(item -> checkOutFixture.checkOutByBarcode(item, user))
+      .map(loan -> loan.getId().toString())
+      .sorted()
+      .toList();
+
+    final var userQuery = namedParameter("query", "userId==" + user.getId());
+
+    Response firstPage = loansFixture.getLoansPage(List.of(userQuery,
+      namedParameter("keyset", "true"), namedParameter("limit", "3")),
+      HttpURLConnection.HTTP_OK);
+
+    assertThat(loanIdsOf(firstPage), is(loanIdsInPageOrder.subList(0, 3)));
+    assertThat(firstPage.getJson().getString("nextPageToken"), notNullValue());
+
+    Response lastPage = loansFixture.getLoansPage(List.of(userQuery,
+      namedParameter("pageToken", firstPage.getJson().getString("nextPageToken")),
+      namedParameter("limit", "3")), HttpURLConnection.HTTP_OK);
+
+    assertThat(loanIdsOf(lastPage), is(loanIdsInPageOrder.subList(3, 5)));
+    assertThat(lastPage.getJson().getString("nextPageToken"), nullValue());
+
+    Stream.concat(loansOf(firstPage), loansOf(lastPage))
+      .forEach(loan -> loanHasExpectedProperties(loan, user));
+  }
+
+  @Test
+  void cannotPageLoansUsingKeysetWithInvalidParameters() {
+    loansFixture.getLoansPage(List.of(namedParameter("keyset", "true"),
+      namedParameter("offset", "3")), HttpURLConnection.HTTP_BAD_REQUEST);
+
+    loansFixture.getLoansPage(List.of(namedParameter("keyset", "true"),
+      namedParameter("query", "status.name==Open sortBy loanDate")),
+      HttpURLConnection.HTTP_BAD_REQUEST);
+
+    loansFixture.getLoansPage(List.of(namedParameter("pageToken", "not-a-token")),
+      HttpURLConnection.HTTP_BAD_REQUEST);
+  }
+
   @Test
   void canSearchByUserId() {
     val firstUser = usersFixture.steve();
@@ -2004,6 +2052,16 @@ class LoanAPITests extends APITests {
     assertThat(event, isValidLoanDueDateChangedEvent(loanFromStorage.getJson()));
   }
 
+  private static Stream<JsonObject> loansOf(Response page) {
+    return JsonObjectArrayPropertyFetcher.toStream(page.getJson(), "loans");
+  }
+
+  private static List<String> loanIdsOf(Response page) {
+    return loansOf(page)
+      .map(loan -> loan.getString("id"))
+      .toList();
+  }
+
   private void loanHasExpectedProperties(JsonObject loan, UserResource user) {
     loanHasExpectedProperties(loan);
 
@@ -0,0 +1,67 @@
+package api.loans;
+
+import static api.support.http.InterfaceUrls.renewAllDryRunUrl;
+import static api.support.matchers.ValidationErrorMatchers.hasErrorWith;
+import static api.support.matchers.ValidationErrorMatchers.hasMessage;
+import static org.folio.circulation.support.utils.DateFormatUtil.parseDateTime;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import api.support.APITests;
+import api.support.http.IndividualResource;
+import io.vertx.core.json.JsonObject;
+
+class RenewAllDryRunTests extends APITests {
+  @Test
+  void reportsWhichLoansWouldBeRenewedWithoutChangingThem() {
+    final var smallAngryPlanet = itemsFixture.basedUponSmallAngryPlanet();
+    final var nod = itemsFixture.basedUponNod();
+    final var jessica = usersFixture.jessica();
+
+    final var renewableLoan = checkOutFixture.checkOutByBarcode(smallAngryPlanet, jessica);
+    final var loanForMissingItem = checkOutFixture.checkOutByBarcode(nod, jessica);
+
+    itemsClient.delete(nod.getId());
+
+    final JsonObject renewableLoanBefore = storedLoan(renewableLoan);
+    final JsonObject otherLoanBefore = storedLoan(loanForMissingItem);
+    final JsonObject itemBefore = itemsClient.getById(smallAngryPlanet.getId()).getJson();
+
+    final JsonObject response = restAssuredClient.post(
+        new JsonObject().put("userId", jessica.getId().toString()),
+        renewAllDryRunUrl(), 200, "renew-all-dry-run-request")
+      .getJson();
+
+    assertThat(response.getInteger("totalRecords"), is(2));
+
+    final JsonObject renewable = outcomeFor(response, renewableLoan);
+
+    assertThat(renewable.getBoolean("renewable"), is(true));
+    assertThat(parseDateTime(renewable.getString("proposedDueDate"))
+      .isAfter(parseDateTime(renewableLoanBefore.getString("dueDate"))), is(true));
+
+    final JsonObject notRenewable = outcomeFor(response, loanForMissingItem);
+
+    assertThat(notRenewable.getBoolean("renewable"), is(false));
+    assertThat(notRenewable, hasErrorWith(hasMessage(
+      String.format("No item with ID %s exists", nod.getId()))));
+
+    assertThat(storedLoan(renewableLoan), is(renewableLoanBefore));
+    assertThat(storedLoan(loanForMissingItem), is(otherLoanBefore));
+    assertThat(itemsClient.getById(smallAngryPlanet.getId()).getJson(), is(itemBefore));
+  }
+
+  private JsonObject storedLoan(IndividualResource loan) {
+    return loansStorageClient.getById(loan.getId()).getJson();
+  }
+
+  private JsonObject outcomeFor(JsonObject response, IndividualResource loan) {
+    return response.getJsonArray("renewals").stream()
+      .map(JsonObject.class::cast)
+      .filter(outcome -> loan.getId().toString().equals(outcome.getString("loanId")))
+      .findFirst()
+      .orElseThrow();
+  }
+}
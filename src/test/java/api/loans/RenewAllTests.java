@@ -0,0 +1,173 @@
+package api.loans;
+
+import static api.loans.CheckOutByBarcodeTests.INSUFFICIENT_OVERRIDE_PERMISSIONS;
+import static api.support.http.InterfaceUrls.renewAllUrl;
+import static api.support.matchers.TextDateTimeMatcher.isEquivalentTo;
+import static api.support.matchers.ValidationErrorMatchers.hasErrorWith;
+import static api.support.matchers.ValidationErrorMatchers.hasMessage;
+import static api.support.utl.BlockOverridesUtils.OVERRIDE_RENEWAL_PERMISSION;
+import static api.support.utl.BlockOverridesUtils.buildOkapiHeadersWithPermissions;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.time.ZonedDateTime;
+
+import org.folio.circulation.domain.policy.Period;
+import org.folio.circulation.support.utils.ClockUtil;
+import org.junit.jupiter.api.Test;
+
+import api.support.APITests;
+import api.support.builders.LoanPolicyBuilder;
+import api.support.builders.RenewBlockOverrides;
+import api.support.builders.RenewalDueDateRequiredBlockOverrideBuilder;
+import api.support.http.IndividualResource;
+import api.support.http.OkapiHeaders;
+import io.vertx.core.json.JsonObject;
+
+class RenewAllTests extends APITests {
+  private static final String OVERRIDE_COMMENT = "Comment to override";
+
+  @Test
+  void canRenewAllOpenLoansOfPatron() {
+    final var smallAngryPlanet = itemsFixture.basedUponSmallAngryPlanet();
+    final var nod = itemsFixture.basedUponNod();
+    final var jessica = usersFixture.jessica();
+
+    final var firstLoan = checkOutFixture.checkOutByBarcode(smallAngryPlanet, jessica);
+    final var secondLoan = checkOutFixture.checkOutByBarcode(nod, jessica);
+
+    final JsonObject response = renewAll(renewAllRequest(jessica));
+
+    assertThat(response.getInteger("totalRecords"), is(2));
+
+    assertThat(assertRenewed(outcomeFor(response, firstLoan)).getString("action"),
+      is("renewed"));
+    assertThat(assertRenewed(outcomeFor(response, secondLoan)).getString("action"),
+      is("renewed"));
+
+    assertThat(loansStorageClient.getById(firstLoan.getId()).getJson()
+      .getInteger("renewalCount"), is(1));
+    assertThat(loansStorageClient.getById(secondLoan.getId()).getJson()
+      .getInteger("renewalCount"), is(1));
+  }
+
+  @Test
+  void loansWhichCannotBeRenewedDoNotPreventRenewalOfOthers() {
+    final var smallAngryPlanet = itemsFixture.basedUponSmallAngryPlanet();
+    final var nod = itemsFixture.basedUponNod();
+    final var jessica = usersFixture.jessica();
+
+    final var renewableLoan = checkOutFixture.checkOutByBarcode(smallAngryPlanet, jessica);
+    final var loanForMissingItem = checkOutFixture.checkOutByBarcode(nod, jessica);
+
+    itemsClient.delete(nod.getId());
+
+    final JsonObject response = renewAll(renewAllRequest(jessica));
+
+    assertRenewed(outcomeFor(response, renewableLoan));
+
+    final JsonObject failedOutcome = outcomeFor(response, loanForMissingItem);
+
+    assertThat(failedOutcome.getBoolean("renewed"), is(false));
+    assertThat(failedOutcome, hasErrorWith(hasMessage(
+      String.format("No item with ID %s exists", nod.getId()))));
+
+    assertThat(loansStorageClient.getById(loanForMissingItem.getId()).getJson()
+      .getString("dueDate"), is(loanForMissingItem.getJson().getString("dueDate")));
+  }
+
+  @Test
+  void canOverrideRenewalBlocksForAllLoans() {
+    final var smallAngryPlanet = itemsFixture.basedUponSmallAngryPlanet();
+    final var nod = itemsFixture.basedUponNod();
+    final var jessica = usersFixture.jessica();
+
+    use(new LoanPolicyBuilder()
+      .withName("Non Renewable Policy")
+      .rolling(Period.days(2))
+      .notRenewable());
+
+    final var firstLoan = checkOutFixture.checkOutByBarcode(smallAngryPlanet, jessica);
+    final var secondLoan = checkOutFixture.checkOutByBarcode(nod, jessica);
+
+    final ZonedDateTime newDueDate = ClockUtil.getZonedDateTime().plusWeeks(2);
+
+    final JsonObject request = renewAllRequest(jessica)
+      .put("overrideBlocks", new RenewBlockOverrides()
+        .withRenewalDueDateRequiredBlock(new RenewalDueDateRequiredBlockOverrideBuilder()
+          .withDueDate(newDueDate)
+          .create())
+        .withComment(OVERRIDE_COMMENT)
+        .create());
+
+    final JsonObject response = renewAll(request,
+      buildOkapiHeadersWithPermissions(OVERRIDE_RENEWAL_PERMISSION));
+
+    for (IndividualResource loan : new IndividualResource[] { firstLoan, secondLoan }) {
+      final JsonObject renewedLoan = assertRenewed(outcomeFor(response, loan));
+
+      assertThat(renewedLoan.getString("action"), is("renewedThroughOverride"));
+      assertThat(renewedLoan.getString("actionComment"), is(OVERRIDE_COMMENT));
+      assertThat(renewedLoan.getString("dueDate"), isEquivalentTo(newDueDate));
+    }
+  }
+
+  @Test
+  void cannotOverrideRenewalBlocksWithoutPermission() {
+    final var smallAngryPlanet = itemsFixture.basedUponSmallAngryPlanet();
+    final var jessica = usersFixture.jessica();
+
+    use(new LoanPolicyBuilder()
+      .withName("Non Renewable Policy")
+      .rolling(Period.days(2))
+      .notRenewable());
+
+    final var loan = checkOutFixture.checkOutByBarcode(smallAngryPlanet, jessica);
+
+    final JsonObject request = renewAllRequest(jessica)
+      .put("overrideBlocks", new RenewBlockOverrides()
+        .withRenewalDueDateRequiredBlock(new RenewalDueDateRequiredBlockOverrideBuilder()
+          .withDueDate(ClockUtil.getZonedDateTime().plusWeeks(2))
+          .create())
+        .withComment(OVERRIDE_COMMENT)
+        .create());
+
+    final JsonObject outcome = outcomeFor(renewAll(request), loan);
+
+    assertThat(outcome.getBoolean("renewed"), is(false));
+    assertThat(outcome, hasErrorWith(hasMessage(INSUFFICIENT_OVERRIDE_PERMISSIONS)));
+    assertThat(loansStorageClient.getById(loan.getId()).getJson().getString("action"),
+      is("checkedout"));
+  }
+
+  private JsonObject renewAll(JsonObject request) {
+    return restAssuredClient.post(request, renewAllUrl(), 200, "renew-all-request")
+      .getJson();
+  }
+
+  private JsonObject renewAll(JsonObject request, OkapiHeaders okapiHeaders) {
+    return restAssuredClient.post(request, renewAllUrl(), 200, okapiHeaders).getJson();
+  }
+
+  private JsonObject renewAllRequest(IndividualResource user) {
+    return new JsonObject().put("userId", user.getId().toString());
+  }
+
+  private JsonObject outcomeFor(JsonObject response, IndividualResource loan) {
+    return response.getJsonArray("renewals").stream()
+      .map(JsonObject.class::cast)
+      .filter(outcome -> loan.getId().toString().equals(outcome.getString("loanId")))
+      .findFirst()
+      .orElseThrow();
+  }
+
+  private JsonObject assertRenewed(JsonObject outcome) {
+    assertThat(outcome.getBoolean("renewed"), is(true));
+
+    final JsonObject renewedLoan = outcome.getJsonObject("loan");
+
+    assertThat(renewedLoan.getInteger("renewalCount"), is(1));
+
+    return renewedLoan;
+  }
+}
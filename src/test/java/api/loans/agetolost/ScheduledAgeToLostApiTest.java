@@ -190,6 +190,25 @@ class ScheduledAgeToLostApiTest extends SpringApiTest {
     agedToLostActions.forEach(PubsubPublisherTestUtils::assertThatPublishedLoanLogRecordEventsAreValid);
   }
 
+  @ParameterizedTest
+  @EnumSource(value = ChargeAmountType.class)
+  void shouldRecordProgressOfJob(ChargeAmountType costType) {
+    assertThat(scheduledAgeToLostClient.getStatus(), hasJsonPath("status", "NOT_STARTED"));
+
+    initLostItemFeePolicy(costType);
+    checkOutItem();
+    scheduledAgeToLostClient.triggerJob();
+
+    final JsonObject status = scheduledAgeToLostClient.getStatus();
+
+    assertThat(status, allOf(
+      hasJsonPath("jobName", "scheduled-age-to-lost"),
+      hasJsonPath("status", "COMPLETED"),
+      hasJsonPath("lastProcessedId", overdueLoan.getId().toString()),
+      hasJsonPath("processedCount", 1),
+      hasJsonPath("failedCount", 0)));
+  }
+
   private ZonedDateTime getLoanOverdueDate() {
     return ClockUtil.getZonedDateTime().minusWeeks(3);
   }
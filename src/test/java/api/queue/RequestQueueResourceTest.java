@@ -714,6 +714,87 @@ class RequestQueueResourceTest extends APITests {
     verifyQueueUpdatedForInstance(subsequentReorder, subsequentReorderResponse);
   }
 
+  @ParameterizedTest
+  @ArgumentsSource(ReorderQueueTestDataSource.class)
+  void canReorderQueueIncrementally(Integer[] initialState, Integer[] targetState) {
+    checkOutFixture.checkOutByBarcode(item, rebecca);
+
+    IndividualResource firstHoldRequest = holdRequestForDefaultItem(steve);
+    IndividualResource secondHoldRequest = holdRequestForDefaultItem(james);
+    IndividualResource firstRecallRequest = recallRequestForDefaultItem(charlotte);
+    IndividualResource secondRecallRequest = recallRequestForDefaultItem(jessica);
+
+    JsonObject initialReorder = new ReorderQueueBuilder()
+      .addReorderRequest(firstHoldRequest.getId().toString(), initialState[0])
+      .addReorderRequest(secondHoldRequest.getId().toString(), initialState[1])
+      .addReorderRequest(firstRecallRequest.getId().toString(), initialState[2])
+      .addReorderRequest(secondRecallRequest.getId().toString(), initialState[3])
+      .create();
+
+    JsonObject initialReorderResponse = requestQueueFixture
+      .reorderQueueForItemIncrementally(item.getId().toString(), initialReorder);
+
+    verifyQueueUpdatedForItem(initialReorder, initialReorderResponse);
+
+    JsonObject subsequentReorder = new ReorderQueueBuilder()
+      .addReorderRequest(firstHoldRequest.getId().toString(), targetState[0])
+      .addReorderRequest(secondHoldRequest.getId().toString(), targetState[1])
+      .addReorderRequest(firstRecallRequest.getId().toString(), targetState[2])
+      .addReorderRequest(secondRecallRequest.getId().toString(), targetState[3])
+      .create();
+
+    JsonObject subsequentReorderResponse = requestQueueFixture
+      .reorderQueueForItemIncrementally(item.getId().toString(), subsequentReorder);
+
+    verifyQueueUpdatedForItem(subsequentReorder, subsequentReorderResponse);
+
+    subsequentReorderResponse.getJsonArray("requests").stream()
+      .map(JsonObject.class::cast)
+      .forEach(request -> {
+        assertThat(request, hasJsonPath("item.barcode", item.getBarcode()));
+        assertNotNull(request.getJsonObject("requester"));
+      });
+  }
+
+  @ParameterizedTest
+  @ArgumentsSource(ReorderQueueTestDataSource.class)
+  void canReorderUnifiedQueueIncrementally(Integer[] initialState, Integer[] targetState) {
+    reconfigureTlrFeature(TlrFeatureStatus.ENABLED);
+
+    checkOutFixture.checkOutByBarcode(items.get(0), rebecca);
+    checkOutFixture.checkOutByBarcode(items.get(1), rebecca);
+    checkOutFixture.checkOutByBarcode(items.get(2), rebecca);
+
+    IndividualResource holdTlrBySteve = holdTitleLevelRequest(steve);
+    IndividualResource holdIlrByJames = holdRequestForItem(james, items.get(0));
+    IndividualResource recallIlrByCharlotte = recallRequestForItem(charlotte, items.get(1));
+    IndividualResource recallTlrByJessica = recallTitleLevelRequest(jessica);
+
+    JsonObject initialReorder = new ReorderQueueBuilder()
+      .addReorderRequest(holdTlrBySteve.getId().toString(), initialState[0])
+      .addReorderRequest(holdIlrByJames.getId().toString(), initialState[1])
+      .addReorderRequest(recallIlrByCharlotte.getId().toString(), initialState[2])
+      .addReorderRequest(recallTlrByJessica.getId().toString(), initialState[3])
+      .create();
+
+    JsonObject initialReorderResponse = requestQueueFixture
+      .reorderQueueForInstanceIncrementally(instanceId.toString(), initialReorder);
+
+    verifyQueueUpdatedForInstance(initialReorder, initialReorderResponse);
+
+    JsonObject subsequentReorder = new ReorderQueueBuilder()
+      .addReorderRequest(holdTlrBySteve.getId().toString(), targetState[0])
+      .addReorderRequest(holdIlrByJames.getId().toString(), targetState[1])
+      .addReorderRequest(recallIlrByCharlotte.getId().toString(), targetState[2])
+      .addReorderRequest(recallTlrByJessica.getId().toString(), targetState[3])
+      .create();
+
+    JsonObject subsequentReorderResponse = requestQueueFixture
+      .reorderQueueForInstanceIncrementally(instanceId.toString(), subsequentReorder);
+
+    verifyQueueUpdatedForInstance(subsequentReorder, subsequentReorderResponse);
+  }
+
   private IndividualResource pageRequestForDefaultItem(IndividualResource requester) {
     return pageRequestForItem(requester, item);
   }
@@ -1,5 +1,6 @@
 package api.requests;
 
+import static api.support.http.InterfaceUrls.allowedServicePointsBatchUrl;
 import static api.support.http.InterfaceUrls.allowedServicePointsUrl;
 import static api.support.http.api.support.NamedQueryStringParameter.namedParameter;
 import static api.support.matchers.AllowedServicePointsMatchers.allowedServicePointMatcher;
@@ -536,6 +537,55 @@ class AllowedServicePointsAPITests extends APITests {
       String.format("Instance with ID %s was not found", instanceId))));
   }
 
+  @Test
+  void canGetAllowedServicePointsForSeveralInstancesAndItemsInOneCall() {
+    var requesterId = usersFixture.steve().getId().toString();
+    var cd1 = servicePointsFixture.cd1();
+    setRequestPolicyWithAllowedServicePoints(PAGE, Set.of(cd1.getId()));
+
+    var item = itemsFixture.basedUponNod();
+    var instanceId = item.getInstanceId().toString();
+    var missingInstanceId = randomId();
+
+    var response = restAssuredClient.post(new JsonObject()
+        .put("requesterId", requesterId)
+        .put("instanceIds", new JsonArray().add(instanceId).add(missingInstanceId))
+        .put("itemIds", new JsonArray().add(item.getId().toString())),
+      allowedServicePointsBatchUrl(), HttpStatus.SC_OK, "allowed-service-points-batch")
+      .getJson();
+
+    assertThat(response.getInteger("totalRecords"), is(3));
+
+    var outcomes = response.getJsonArray("allowedServicePoints");
+    var expectedServicePoints = Map.of(PAGE, List.of(
+      new AllowedServicePoint(cd1.getId().toString(), cd1.getJson().getString("name"))));
+
+    assertThat(outcomes.getJsonObject(0).getString("instanceId"), is(instanceId));
+    assertThat(outcomes.getJsonObject(0).getJsonObject("servicePoints"),
+      allowedServicePointMatcher(expectedServicePoints));
+
+    assertThat(outcomes.getJsonObject(1).getString("instanceId"), is(missingInstanceId));
+    assertThat(outcomes.getJsonObject(1), hasNoJsonPath("servicePoints"));
+    assertThat(outcomes.getJsonObject(1).getJsonArray("errors").getJsonObject(0)
+      .getString("message"), is(String.format("Instance with ID %s was not found",
+        missingInstanceId)));
+
+    assertThat(outcomes.getJsonObject(2).getString("itemId"), is(item.getId().toString()));
+    assertThat(outcomes.getJsonObject(2).getJsonObject("servicePoints"),
+      allowedServicePointMatcher(expectedServicePoints));
+  }
+
+  @Test
+  void batchFailsWithBadRequestWithoutInstancesOrItems() {
+    var response = restAssuredClient.post(new JsonObject()
+        .put("requesterId", usersFixture.steve().getId().toString()),
+      allowedServicePointsBatchUrl(), HttpStatus.SC_BAD_REQUEST,
+      "allowed-service-points-batch");
+
+    assertThat(response.getBody(),
+      containsString("At least one instance ID or item ID is required."));
+  }
+
   @ParameterizedTest
   @ValueSource(booleans = {true, false})
   void allPickupLocationsAreReturnedForTitleLevelHoldWhenItIsDisabledAndInstanceHasNoItems(
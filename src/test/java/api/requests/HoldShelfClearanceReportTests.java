@@ -1,12 +1,17 @@
 package api.requests;
 
+import static api.support.http.InterfaceUrls.requestReportUrl;
+import static api.support.http.api.support.NamedQueryStringParameter.namedParameter;
 import static api.support.matchers.JsonObjectMatcher.hasJsonPath;
+import static java.net.HttpURLConnection.HTTP_BAD_REQUEST;
 import static java.net.HttpURLConnection.HTTP_OK;
 import static org.folio.circulation.support.StreamToListMapper.toList;
 import static org.folio.circulation.support.json.JsonObjectArrayPropertyFetcher.toStream;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.core.Is.is;
 
+import java.util.Comparator;
 import java.util.List;
 import java.util.UUID;
 
@@ -20,6 +25,7 @@ import api.support.builders.CheckInByBarcodeRequestBuilder;
 import api.support.builders.RequestBuilder;
 import api.support.http.IndividualResource;
 import api.support.http.ItemResource;
+import api.support.http.QueryStringParameter;
 import api.support.http.ResourceClient;
 import api.support.http.UserResource;
 import io.vertx.core.json.JsonObject;
@@ -38,6 +44,7 @@ class HoldShelfClearanceReportTests extends APITests {
   private static final String FIRST_NAME_KEY = "firstName";
   private static final String CLOSED_DATE_KEY = "awaitingPickupRequestClosedDate";
   private static final String CALL_NUMBER_KEY = "callNumber";
+  private static final String NEXT_CURSOR_KEY = "nextCursor";
 
   @Test
   void reportIsEmptyWhenThereAreNoRequests() {
@@ -543,6 +550,84 @@ class HoldShelfClearanceReportTests extends APITests {
     assertThat(response.getJson().getInteger(TOTAL_RECORDS), is(0));
   }
 
+  @Test
+  void reportCanBeFetchedInPages() {
+    final UUID pickupServicePointId = servicePointsFixture.cd1().getId();
+
+    final List<ItemResource> items = List.of(itemsFixture.basedUponSmallAngryPlanet(),
+      itemsFixture.basedUponTemeraire(), itemsFixture.basedUponNod());
+
+    items.forEach(item -> placeExpiredRequest(item, pickupServicePointId));
+
+    final List<String> itemIdsInReportOrder = items.stream()
+      .map(item -> item.getId().toString())
+      .sorted(Comparator.naturalOrder())
+      .toList();
+
+    Response firstPage = getReport(pickupServicePointId,
+      List.of(namedParameter("limit", "2")), HTTP_OK);
+
+    assertThat(firstPage.getJson().getInteger(TOTAL_RECORDS), is(2));
+    assertThat(itemIdsOf(firstPage), is(itemIdsInReportOrder.subList(0, 2)));
+    assertThat(firstPage.getJson().getString(NEXT_CURSOR_KEY),
+      is(itemIdsInReportOrder.get(1)));
+
+    Response lastPage = getReport(pickupServicePointId, List.of(
+      namedParameter("limit", "2"),
+      namedParameter("cursor", firstPage.getJson().getString(NEXT_CURSOR_KEY))), HTTP_OK);
+
+    assertThat(lastPage.getJson().getInteger(TOTAL_RECORDS), is(1));
+    assertThat(itemIdsOf(lastPage), is(itemIdsInReportOrder.subList(2, 3)));
+    assertThat(lastPage.getJson().getString(NEXT_CURSOR_KEY), nullValue());
+
+    Response wholeReport = ResourceClient.forRequestReport().getById(pickupServicePointId);
+
+    assertThat(wholeReport.getJson().getInteger(TOTAL_RECORDS), is(3));
+    assertThat(wholeReport.getJson().getString(NEXT_CURSOR_KEY), nullValue());
+  }
+
+  @Test
+  void reportCannotBeFetchedWithInvalidPagingParameters() {
+    final UUID pickupServicePointId = servicePointsFixture.cd1().getId();
+
+    getReport(pickupServicePointId, List.of(namedParameter("limit", "0")), HTTP_BAD_REQUEST);
+    getReport(pickupServicePointId, List.of(namedParameter("limit", "many")),
+      HTTP_BAD_REQUEST);
+    getReport(pickupServicePointId, List.of(namedParameter("cursor", "not-a-uuid")),
+      HTTP_BAD_REQUEST);
+  }
+
+  private void placeExpiredRequest(ItemResource item, UUID pickupServicePointId) {
+    checkOutFixture.checkOutByBarcode(item, usersFixture.james());
+
+    RequestBuilder requestBuilder = new RequestBuilder()
+      .open()
+      .hold()
+      .withPickupServicePointId(pickupServicePointId)
+      .forItem(item)
+      .by(usersFixture.rebecca());
+
+    IndividualResource request = requestsClient.create(requestBuilder);
+    checkInFixture.checkInByBarcode(item);
+
+    requestsClient.replace(request.getId(),
+      requestBuilder.withStatus(RequestStatus.CLOSED_PICKUP_EXPIRED.getValue()).create()
+        .put(CLOSED_DATE_KEY, "2018-03-11T15:45:23.000+0000"));
+  }
+
+  private Response getReport(UUID servicePointId, List<QueryStringParameter> parameters,
+    int expectedStatusCode) {
+
+    return restAssuredClient.get(requestReportUrl("/" + servicePointId), parameters,
+      expectedStatusCode, "hold-shelf-clearance-report");
+  }
+
+  private static List<String> itemIdsOf(Response response) {
+    return toStream(response.getJson(), REQUESTS_KEY)
+      .map(request -> request.getString("itemId"))
+      .toList();
+  }
+
   private void verifyResponse(ItemResource item, UserResource requester,
     Response response, RequestStatus status) {
 
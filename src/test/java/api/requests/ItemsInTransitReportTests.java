@@ -1,8 +1,12 @@
 package api.requests;
 
 import static api.support.JsonCollectionAssistant.getRecordById;
+import static api.support.http.InterfaceUrls.itemsInTransitReportUrl;
+import static api.support.http.api.support.NamedQueryStringParameter.namedParameter;
 import static api.support.matchers.ItemMatchers.isInTransit;
 import static api.support.matchers.TextDateTimeMatcher.isEquivalentTo;
+import static java.net.HttpURLConnection.HTTP_BAD_REQUEST;
+import static java.net.HttpURLConnection.HTTP_OK;
 import static java.time.ZoneOffset.UTC;
 import static org.folio.circulation.support.StreamToListMapper.toList;
 import static org.folio.circulation.support.json.JsonStringArrayPropertyFetcher.toStream;
@@ -19,10 +23,12 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import org.folio.circulation.domain.ItemStatus;
 import org.folio.circulation.services.ItemsInTransitReportService;
 import org.folio.circulation.support.http.client.Response;
+import org.folio.circulation.support.json.JsonObjectArrayPropertyFetcher;
 import org.folio.circulation.support.json.JsonPropertyFetcher;
 import org.folio.circulation.support.utils.ClockUtil;
 import org.junit.jupiter.api.AfterEach;
@@ -35,6 +41,7 @@ import api.support.builders.RequestBuilder;
 import api.support.fixtures.ItemExamples;
 import api.support.http.IndividualResource;
 import api.support.http.ItemResource;
+import api.support.http.QueryStringParameter;
 import api.support.http.ResourceClient;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
@@ -70,6 +77,7 @@ class ItemsInTransitReportTests extends APITests {
   private static final String SERVICE_POINT_CODE_2 = "cd2";
   private static final String COPY_NUMBER = "copyNumber";
   private static final String EFFECTIVE_CALL_NUMBER_COMPONENTS = "effectiveCallNumberComponents";
+  private static final String NEXT_CURSOR = "nextCursor";
 
   @AfterEach
   public void afterEach() {
@@ -532,10 +540,58 @@ class ItemsInTransitReportTests extends APITests {
     assertThat(itemsInTransitReport.size(), is(0));
   }
 
+  @Test
+  void reportCanBeFetchedInPages() {
+    final UUID checkInServicePointId = servicePointsFixture.cd1().getId();
+
+    final List<String> itemIdsInReportOrder = Stream.of("111", "222", "333")
+      .map(barcode -> checkOutAndCheckInItem(checkInServicePointId, barcode))
+      .map(item -> item.getId().toString())
+      .sorted()
+      .toList();
+
+    Response firstPage = getReport(List.of(namedParameter("limit", "2")), HTTP_OK);
+
+    assertThat(firstPage.getJson().getInteger("totalRecords"), is(2));
+    assertThat(itemIdsOf(firstPage), is(itemIdsInReportOrder.subList(0, 2)));
+    assertThat(firstPage.getJson().getString(NEXT_CURSOR), is(itemIdsInReportOrder.get(1)));
+
+    Response lastPage = getReport(List.of(namedParameter("limit", "2"),
+      namedParameter("cursor", firstPage.getJson().getString(NEXT_CURSOR))), HTTP_OK);
+
+    assertThat(lastPage.getJson().getInteger("totalRecords"), is(1));
+    assertThat(itemIdsOf(lastPage), is(itemIdsInReportOrder.subList(2, 3)));
+    assertNull(lastPage.getJson().getString(NEXT_CURSOR));
+
+    assertThat(ResourceClient.forItemsInTransitReport().getAll().size(), is(3));
+  }
+
+  @Test
+  void reportCannotBeFetchedWithInvalidPagingParameters() {
+    getReport(List.of(namedParameter("limit", "0")), HTTP_BAD_REQUEST);
+    getReport(List.of(namedParameter("limit", "2"), namedParameter("cursor", "not-a-uuid")),
+      HTTP_BAD_REQUEST);
+  }
+
+  private Response getReport(List<QueryStringParameter> parameters, int expectedStatusCode) {
+    return restAssuredClient.get(itemsInTransitReportUrl(""), parameters, expectedStatusCode,
+      "items-in-transit-report");
+  }
+
+  private static List<String> itemIdsOf(Response response) {
+    return JsonObjectArrayPropertyFetcher.toStream(response.getJson(), "items")
+      .map(item -> item.getString("id"))
+      .toList();
+  }
+
   private ItemResource checkOutAndCheckInItem(UUID checkInServicePointId) {
+    return checkOutAndCheckInItem(checkInServicePointId, "111");
+  }
+
+  private ItemResource checkOutAndCheckInItem(UUID checkInServicePointId, String barcode) {
     final UUID forthServicePointLocationId = locationsFixture.fourthServicePoint().getId();
 
-    ItemResource item = createSmallAngryPlanetCopy(forthServicePointLocationId, "111");
+    ItemResource item = createSmallAngryPlanetCopy(forthServicePointLocationId, barcode);
 
     checkOutFixture.checkOutByBarcode(item);
     checkInFixture.checkInByBarcode(new CheckInByBarcodeRequestBuilder()
@@ -11,13 +11,16 @@ import api.support.http.UserResource;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import org.folio.circulation.support.http.client.Response;
+import org.folio.circulation.support.json.JsonObjectArrayPropertyFetcher;
 import org.hamcrest.CoreMatchers;
 import org.junit.jupiter.api.Test;
 
 import java.net.HttpURLConnection;
 import java.time.LocalDate;
 import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static api.support.builders.ItemBuilder.CHECKED_OUT;
 import static api.support.http.CqlQuery.noQuery;
@@ -26,11 +29,14 @@ import static api.support.http.Limit.limit;
 import static api.support.http.Limit.noLimit;
 import static api.support.http.Offset.noOffset;
 import static api.support.http.Offset.offset;
+import static api.support.http.api.support.NamedQueryStringParameter.namedParameter;
 import static api.support.matchers.JsonObjectMatcher.hasJsonPath;
 import static api.support.matchers.JsonObjectMatcher.hasNoJsonPath;
 import static api.support.matchers.TextDateTimeMatcher.isEquivalentTo;
 import static api.support.matchers.UUIDMatcher.is;
 import static java.lang.String.format;
+import static java.net.HttpURLConnection.HTTP_BAD_REQUEST;
+import static java.net.HttpURLConnection.HTTP_OK;
 import static java.time.ZoneOffset.UTC;
 import static java.util.Arrays.asList;
 import static java.util.function.Function.identity;
@@ -600,6 +606,62 @@ class RequestsAPIRetrievalTests extends APITests {
     secondPage.forEach(this::requestHasExpectedProperties);
   }
 
+  @Test
+  void canPageAllRequestsUsingKeyset() {
+    UUID requesterId = usersFixture.charlotte().getId();
+    final UUID pickupServicePointId = servicePointsFixture.cd1().getId();
+
+    final List<String> requestIdsInPageOrder = Stream.of(
+        itemsFixture.basedUponSmallAngryPlanet(ItemBuilder::checkOut),
+        itemsFixture.basedUponNod(ItemBuilder::checkOut),
+        itemsFixture.basedUponInterestingTimes(ItemBuilder::checkOut))
+      .map(item -> requestsFixture.place(new RequestBuilder()
+        .forItem(item)
+        .withPickupServicePointId(pickupServicePointId)
+        .withRequesterId(requesterId)))
+      .map(request -> request.getId().toString())
+      .sorted()
+      .toList();
+
+    Response firstPage = requestsFixture.getRequestsPage(List.of(
+      namedParameter("keyset", "true"), namedParameter("limit", "2")), HTTP_OK);
+
+    assertThat(requestIdsOf(firstPage), is(requestIdsInPageOrder.subList(0, 2)));
+    assertThat(firstPage.getJson().getString("nextPageToken"), notNullValue());
+
+    Response lastPage = requestsFixture.getRequestsPage(List.of(
+      namedParameter("pageToken", firstPage.getJson().getString("nextPageToken")),
+      namedParameter("limit", "2")), HTTP_OK);
+
+    assertThat(requestIdsOf(lastPage), is(requestIdsInPageOrder.subList(2, 3)));
+    assertThat(lastPage.getJson().containsKey("nextPageToken"), is(false));
+
+    Stream.concat(requestsOf(firstPage), requestsOf(lastPage))
+      .forEach(this::requestHasExpectedProperties);
+  }
+
+  @Test
+  void cannotPageRequestsUsingKeysetWithInvalidParameters() {
+    requestsFixture.getRequestsPage(List.of(namedParameter("keyset", "true"),
+      namedParameter("offset", "2")), HTTP_BAD_REQUEST);
+
+    requestsFixture.getRequestsPage(List.of(namedParameter("keyset", "true"),
+      namedParameter("limit", "0")), HTTP_BAD_REQUEST);
+
+    requestsFixture.getRequestsPage(List.of(namedParameter("pageToken", "not-a-token")),
+      HTTP_BAD_REQUEST);
+  }
+
+  private static Stream<JsonObject> requestsOf(Response page) {
+    return JsonObjectArrayPropertyFetcher.toStream(page.getJson(), "requests");
+  }
+
+  private static List<String> requestIdsOf(Response page) {
+    return requestsOf(page)
+      .map(request -> request.getString("id"))
+      .toList();
+  }
+
   @Test
   void canSearchForRequestsByRequesterLastName() {
     UUID firstRequester = usersFixture.steve().getId();
@@ -1,5 +1,6 @@
 package api.requests;
 
+import static api.support.http.api.support.NamedQueryStringParameter.namedParameter;
 import static api.support.matchers.JsonObjectMatcher.hasJsonPath;
 import static api.support.matchers.JsonObjectMatcher.hasNoJsonPath;
 import static api.support.matchers.TextDateTimeMatcher.isEquivalentTo;
@@ -21,6 +22,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.net.URL;
 import java.time.LocalDate;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
@@ -28,6 +30,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -58,6 +61,7 @@ import api.support.builders.LocationBuilder;
 import api.support.builders.RequestBuilder;
 import api.support.fixtures.AddressExamples;
 import api.support.http.IndividualResource;
+import api.support.http.InterfaceUrls;
 import api.support.http.ItemResource;
 import api.support.http.ResourceClient;
 import api.support.http.UserResource;
@@ -1019,6 +1023,78 @@ class StaffSlipsTests extends APITests {
     assertThat(firstDateTime.compareTo(secondDateTime), is(0));
   }
 
+  @ParameterizedTest
+  @EnumSource(value = SlipsType.class)
+  void streamedResponseContainsAllSlipsRegardlessOfLimit(SlipsType slipsType) {
+    circulationSettingsFixture.setPrintHoldRequests(true);
+    UUID circDesk1 = servicePointsFixture.cd1().getId();
+
+    val temeraire = itemsFixture.basedUponTemeraire(
+      holdingBuilder -> holdingBuilder
+        .withPermanentLocation(locationsFixture.secondFloorEconomics())
+        .withNoTemporaryLocation(),
+      itemBuilder -> itemBuilder
+        .withNoPermanentLocation()
+        .withNoTemporaryLocation());
+
+    val planet = itemsFixture.basedUponSmallAngryPlanet(
+      holdingBuilder -> holdingBuilder
+        .withPermanentLocation(locationsFixture.thirdFloor())
+        .withNoTemporaryLocation(),
+      itemBuilder -> itemBuilder
+        .withNoPermanentLocation()
+        .withNoTemporaryLocation());
+
+    val james = usersFixture.james();
+    val charlotte = usersFixture.charlotte();
+
+    if (slipsType == SlipsType.SEARCH_SLIPS) {
+      checkOutFixture.checkOutByBarcode(temeraire);
+      checkOutFixture.checkOutByBarcode(planet);
+    }
+
+    val temeraireRequest = requestsFixture.place(new RequestBuilder()
+      .withStatus(RequestStatus.OPEN_NOT_YET_FILLED.getValue())
+      .withRequestType(slipsType.getRequestType().getValue())
+      .withPickupServicePointId(circDesk1)
+      .forItem(temeraire)
+      .by(james));
+
+    val planetRequest = requestsFixture.place(new RequestBuilder()
+      .withStatus(RequestStatus.OPEN_NOT_YET_FILLED.getValue())
+      .withRequestType(slipsType.getRequestType().getValue())
+      .withPickupServicePointId(circDesk1)
+      .forItem(planet)
+      .by(charlotte));
+
+    StaffSlipsRequestFetchService.setCustomRequestLimit(1);
+
+    assertResponseHasItems(slipsType.get(circDesk1), 1, slipsType);
+
+    val response = getStreamed(slipsType, circDesk1);
+
+    assertThat(response.getStatusCode(), is(HTTP_OK));
+    assertResponseHasItems(response, 2, slipsType);
+    assertResponseContains(response, slipsType, temeraire, temeraireRequest, james);
+    assertResponseContains(response, slipsType, planet, planetRequest, charlotte);
+  }
+
+  @ParameterizedTest
+  @EnumSource(value = SlipsType.class)
+  void streamedResponseContainsNoSlipsWhenThereAreNoRequests(SlipsType slipsType) {
+    circulationSettingsFixture.setPrintHoldRequests(true);
+
+    val response = getStreamed(slipsType, servicePointsFixture.cd1().getId());
+
+    assertThat(response.getStatusCode(), is(HTTP_OK));
+    assertResponseHasItems(response, 0, slipsType);
+  }
+
+  private Response getStreamed(SlipsType slipsType, UUID servicePointId) {
+    return restAssuredClient.get(slipsType.getUrl().apply("/" + servicePointId),
+      List.of(namedParameter("stream", "true")), HTTP_OK, "get-streamed-slips");
+  }
+
   private void assertResponseHasItems(Response response, int itemsCount, SlipsType slipsType) {
     JsonObject responseJson = response.getJson();
     assertThat(responseJson.getJsonArray(slipsType.getCollectionName()).size(), is(itemsCount));
@@ -1114,11 +1190,14 @@ class StaffSlipsTests extends APITests {
 
   @AllArgsConstructor
   private enum SlipsType {
-    PICK_SLIPS(ResourceClient.forPickSlips(), "pickSlips", PAGE),
-    SEARCH_SLIPS(ResourceClient.forSearchSlips(), "searchSlips", HOLD);
+    PICK_SLIPS(ResourceClient.forPickSlips(), InterfaceUrls::pickSlipsUrl, "pickSlips", PAGE),
+    SEARCH_SLIPS(ResourceClient.forSearchSlips(), InterfaceUrls::searchSlipsUrl, "searchSlips",
+      HOLD);
 
     private final ResourceClient client;
     @Getter
+    private final Function<String, URL> url;
+    @Getter
     private final String collectionName;
     @Getter
     private final RequestType requestType;
@@ -7,6 +7,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.ext.web.Router;
 import lombok.Setter;
@@ -38,6 +39,30 @@ public class FakeModNotify {
             .end();
         }
       });
+
+    router.post("/patron-notice/batch")
+      .handler(routingContext -> {
+        JsonArray results = new JsonArray();
+
+        routingContext.body().asJsonObject().getJsonArray("patronNotices").stream()
+          .map(JsonObject.class::cast)
+          .forEach(notice -> {
+            if (failPatronNoticesWithBadRequest) {
+              results.add(new JsonObject()
+                .put("statusCode", HTTP_BAD_REQUEST.toInt())
+                .put("message", "Bad request error message"));
+            }
+            else {
+              sentPatronNotices.add(notice);
+              results.add(new JsonObject().put("statusCode", HTTP_OK.toInt()));
+            }
+          });
+
+        routingContext.response()
+          .setStatusCode(HTTP_OK.toInt())
+          .putHeader("content-type", "application/json")
+          .end(new JsonObject().put("results", results).encode());
+      });
   }
 
   public static void clearSentPatronNotices() {
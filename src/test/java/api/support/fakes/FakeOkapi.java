@@ -319,6 +319,7 @@ public class FakeOkapi extends AbstractVerticle {
       .withCollectionPropertyName("scheduledNotices")
       .withRootPath("/scheduled-notice-storage/scheduled-notices")
       .allowDeleteByQuery()
+      .withBatchUpdate("/scheduled-notice-storage-batch/scheduled-notices")
       .create()
       .register(router);
 
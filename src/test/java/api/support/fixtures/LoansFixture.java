@@ -15,6 +15,7 @@ import static java.net.HttpURLConnection.HTTP_OK;
 
 import java.net.URL;
 import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.UUID;
 
 import org.folio.circulation.support.http.client.Response;
@@ -32,6 +33,7 @@ import api.support.http.IndividualResource;
 import api.support.http.Limit;
 import api.support.http.Offset;
 import api.support.http.OkapiHeaders;
+import api.support.http.QueryStringParameter;
 import io.vertx.core.json.JsonObject;
 
 public class LoansFixture {
@@ -257,6 +259,13 @@ public class LoansFixture {
       "get-loans"), "loans");
   }
 
+  public Response getLoansPage(Collection<QueryStringParameter> parameters,
+    int expectedStatusCode) {
+
+    return restAssuredClient.get(loansUrl(), parameters, expectedStatusCode,
+      "get-loans-page");
+  }
+
   public MultipleJsonRecords getAllLoans() {
     return getLoans(noQuery(), maximumLimit(), noOffset());
   }
@@ -1,5 +1,7 @@
 package api.support.fixtures;
 
+import static api.support.http.InterfaceUrls.incrementallyReorderRequestQueueForInstanceUrl;
+import static api.support.http.InterfaceUrls.incrementallyReorderRequestQueueForItemUrl;
 import static api.support.http.InterfaceUrls.reorderRequestQueueForInstanceUrl;
 import static api.support.http.InterfaceUrls.reorderRequestQueueForItemUrl;
 
@@ -36,6 +38,20 @@ public class RequestQueueFixture {
       200, "reorder-request-queue-for-instance").getJson();
   }
 
+  public JsonObject reorderQueueForItemIncrementally(String itemId, JsonObject reorderQueue) {
+    return restAssuredClient.post(reorderQueue,
+      incrementallyReorderRequestQueueForItemUrl(itemId), 200,
+      "incrementally-reorder-request-queue-for-item").getJson();
+  }
+
+  public JsonObject reorderQueueForInstanceIncrementally(String instanceId,
+    JsonObject reorderQueue) {
+
+    return restAssuredClient.post(reorderQueue,
+      incrementallyReorderRequestQueueForInstanceUrl(instanceId), 200,
+      "incrementally-reorder-request-queue-for-instance").getJson();
+  }
+
   //TODO: Consolidate with similar method in requests fixture
   public JsonObject retrieveQueueForItem(String itemId) {
     return restAssuredClient.get(InterfaceUrls.requestQueueForItemUrl(itemId), 200,
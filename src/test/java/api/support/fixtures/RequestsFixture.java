@@ -14,6 +14,7 @@ import static java.util.function.Function.identity;
 import java.net.URL;
 import java.time.LocalDate;
 import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.UUID;
 
 import org.folio.circulation.domain.MultipleRecords;
@@ -29,6 +30,7 @@ import api.support.http.IndividualResource;
 import api.support.http.ItemResource;
 import api.support.http.Limit;
 import api.support.http.Offset;
+import api.support.http.QueryStringParameter;
 import api.support.http.ResourceClient;
 import io.vertx.core.json.JsonObject;
 
@@ -353,6 +355,13 @@ public class RequestsFixture {
       limit, offset, HTTP_OK, "get-requests"), REQUESTS_COLLECTION_PROPERTY_NAME);
   }
 
+  public Response getRequestsPage(Collection<QueryStringParameter> parameters,
+    int expectedStatusCode) {
+
+    return restAssuredClient.get(requestsUrl(), parameters, expectedStatusCode,
+      "get-requests-page");
+  }
+
   //TODO: Replace return type with MultipleJsonRecords
   public MultipleRecords<JsonObject> getQueueFor(IndividualResource item) {
     return MultipleRecords.from(restAssuredClient.get(
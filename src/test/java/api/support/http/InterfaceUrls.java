@@ -129,11 +129,11 @@ public class InterfaceUrls {
     return circulationModuleUrl("/inventory-reports/items-in-transit" + subPath);
   }
 
-   static URL pickSlipsUrl(String servicePointId) {
+  public static URL pickSlipsUrl(String servicePointId) {
     return circulationModuleUrl("/circulation/pick-slips"  + servicePointId);
   }
 
-  static URL searchSlipsUrl(String servicePointId) {
+  public static URL searchSlipsUrl(String servicePointId) {
     return circulationModuleUrl("/circulation/search-slips"  + servicePointId);
   }
 
@@ -162,6 +162,14 @@ public class InterfaceUrls {
     return circulationModuleUrl("/circulation/renew-by-id");
   }
 
+  public static URL renewAllUrl() {
+    return circulationModuleUrl("/circulation/renew-all");
+  }
+
+  public static URL renewAllDryRunUrl() {
+    return circulationModuleUrl("/circulation/renew-all-dry-run");
+  }
+
   public static URL holdForUseAtLocationUrl() {
     return circulationModuleUrl("/circulation/hold-by-barcode-for-use-at-location");
   }
@@ -278,6 +286,14 @@ public class InterfaceUrls {
     return requestQueueForInstanceUrl(instanceId + "/reorder");
   }
 
+  public static URL incrementallyReorderRequestQueueForItemUrl(String itemId) {
+    return requestQueueForItemUrl(itemId + "/reorder?incremental=true");
+  }
+
+  public static URL incrementallyReorderRequestQueueForInstanceUrl(String instanceId) {
+    return requestQueueForInstanceUrl(instanceId + "/reorder?incremental=true");
+  }
+
   public static URL requestQueueForItemUrl(String itemId) {
     return circulationModuleUrl(String
       .format("/circulation/requests/queue/item/%s", itemId));
@@ -336,6 +352,10 @@ public class InterfaceUrls {
     return circulationModuleUrl("/circulation/requests/allowed-service-points");
   }
 
+  public static URL allowedServicePointsBatchUrl() {
+    return circulationModuleUrl("/circulation/requests/allowed-service-points/batch");
+  }
+
   public static URL actualCostRecordsStorageUrl(String subPath) {
     return APITestContext.viaOkapiModuleUrl("/actual-cost-record-storage/actual-cost-records" + subPath);
   }
@@ -1,9 +1,13 @@
 package api.support.spring.clients;
 
+import static api.support.http.URLHelper.joinPath;
+
 import java.net.URL;
 
 import api.support.RestAssuredClient;
+import io.vertx.core.json.JsonObject;
 import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
 
 @RequiredArgsConstructor
 public class ScheduledJobClient {
@@ -13,4 +17,9 @@ public class ScheduledJobClient {
   public void triggerJob() {
     client.post(baseUrl, 204, "triggering-job", null);
   }
+
+  @SneakyThrows
+  public JsonObject getStatus() {
+    return client.get(joinPath(baseUrl, "/status"), 200, "getting-job-status").getJson();
+  }
 }
@@ -0,0 +1,105 @@
+package org.folio.circulation.domain;
+
+import static java.util.stream.Collectors.toList;
+import static org.folio.circulation.domain.ServicePointLocationIndex.SAME_CAMPUS;
+import static org.folio.circulation.domain.ServicePointLocationIndex.SAME_INSTITUTION;
+import static org.folio.circulation.domain.ServicePointLocationIndex.SAME_LIBRARY;
+import static org.folio.circulation.domain.ServicePointLocationIndex.SAME_LOCATION;
+import static org.folio.circulation.domain.ServicePointLocationIndex.UNRELATED;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import api.support.builders.ItemBuilder;
+
+class ServicePointLocationIndexTest {
+  private final Location servedLocation = location("institution", "campus", "library");
+  private final ServicePointLocationIndex index =
+    new ServicePointLocationIndex(List.of(servedLocation));
+
+  @Test
+  void distanceReflectsClosestSharedLevelOfLocationHierarchy() {
+    assertThat(index.distanceTo(servedLocation), is(SAME_LOCATION));
+    assertThat(index.distanceTo(location("institution", "campus", "library")),
+      is(SAME_LIBRARY));
+    assertThat(index.distanceTo(location("institution", "campus", "other")),
+      is(SAME_CAMPUS));
+    assertThat(index.distanceTo(location("institution", "other", "other")),
+      is(SAME_INSTITUTION));
+    assertThat(index.distanceTo(location("other", "other", "other")), is(UNRELATED));
+    assertThat(index.distanceTo(null), is(UNRELATED));
+  }
+
+  @Test
+  void unknownLocationIsNotRelatedToUnknownServedLocation() {
+    final var unknownLocationIndex = new ServicePointLocationIndex(
+      List.of(Location.unknown()));
+
+    assertThat(unknownLocationIndex.distanceTo(Location.unknown()), is(UNRELATED));
+  }
+
+  @Test
+  void firstItemAtClosestLocationIsChosen() {
+    final Item unrelated = item(location("other", "other", "other"));
+    final Item sameCampus = item(location("institution", "campus", "other"));
+    final Item firstInSameLibrary = item(location("institution", "campus", "library"));
+    final Item secondInSameLibrary = item(location("institution", "campus", "library"));
+
+    assertThat(index.closestItem(List.of(unrelated, sameCampus, firstInSameLibrary,
+      secondInSameLibrary)).orElseThrow(), is(firstInSameLibrary));
+  }
+
+  @Test
+  void firstItemIsChosenWhenNoItemIsRelatedToServedLocations() {
+    final Item first = item(location("other", "other", "other"));
+    final Item withoutLocation = item(null);
+
+    assertThat(index.closestItem(List.of(first, withoutLocation)).orElseThrow(),
+      is(first));
+  }
+
+  @Test
+  void noItemIsChosenFromNoItems() {
+    assertThat(index.closestItem(List.of()).isPresent(), is(false));
+  }
+
+  @Test
+  void closestItemIsFoundAmongManyItems() {
+    final List<Location> servedLocations = IntStream.range(0, 100)
+      .mapToObj(i -> location("institution", "campus-" + i, "library-" + i))
+      .collect(toList());
+
+    final List<Item> items = new ArrayList<>(IntStream.range(0, 5000)
+      .mapToObj(i -> item(location("institution", "other-campus", "other-library")))
+      .collect(toList()));
+
+    final Item sameCampus = item(location("institution", "campus-50", "other-library"));
+    items.add(sameCampus);
+
+    final Item sameLocation = item(servedLocations.get(99));
+    items.add(sameLocation);
+
+    final var manyLocationsIndex = new ServicePointLocationIndex(servedLocations);
+
+    assertThat(manyLocationsIndex.closestItem(items).orElseThrow(), is(sameLocation));
+    items.remove(sameLocation);
+    assertThat(manyLocationsIndex.closestItem(items).orElseThrow(), is(sameCampus));
+  }
+
+  private static Item item(Location location) {
+    return Item.from(new ItemBuilder().withRandomBarcode().create())
+      .withLocation(location);
+  }
+
+  private static Location location(String institutionId, String campusId, String libraryId) {
+    return new Location(UUID.randomUUID().toString(), null, null, null, List.of(), null,
+      false, Institution.unknown(institutionId), Campus.unknown(campusId),
+      Library.unknown(libraryId), ServicePoint.unknown());
+  }
+}
@@ -0,0 +1,179 @@
+package org.folio.circulation.domain.anonymization;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.folio.circulation.domain.anonymization.config.ClosingType.IMMEDIATELY;
+import static org.folio.circulation.domain.anonymization.config.ClosingType.NEVER;
+import static org.folio.circulation.support.http.client.CqlQuery.exactMatch;
+import static org.folio.circulation.support.json.JsonPropertyWriter.write;
+import static org.folio.circulation.support.json.JsonPropertyWriter.writeByPath;
+import static org.folio.circulation.support.results.Result.emptyAsync;
+import static org.folio.circulation.support.results.Result.ofAsync;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.openMocks;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BooleanSupplier;
+
+import org.folio.circulation.domain.Loan;
+import org.folio.circulation.domain.MultipleRecords;
+import org.folio.circulation.domain.anonymization.config.ClosingType;
+import org.folio.circulation.domain.anonymization.config.LoanAnonymizationConfiguration;
+import org.folio.circulation.domain.anonymization.service.AnonymizationCheckersService;
+import org.folio.circulation.infrastructure.storage.feesandfines.AccountRepository;
+import org.folio.circulation.infrastructure.storage.loans.AnonymizeStorageLoansRepository;
+import org.folio.circulation.infrastructure.storage.loans.LoanRepository;
+import org.folio.circulation.services.EventPublisher;
+import org.folio.circulation.services.ResumableJobRunner;
+import org.folio.circulation.support.fetching.PageProcessor;
+import org.folio.circulation.support.http.client.CqlQuery;
+import org.folio.circulation.support.results.Result;
+import org.folio.circulation.support.utils.ClockUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import io.vertx.core.json.JsonObject;
+import lombok.SneakyThrows;
+
+class StreamingLoanAnonymizationServiceTest {
+  @Mock
+  AnonymizeStorageLoansRepository anonymizeStorageLoansRepository;
+  @Mock
+  EventPublisher eventPublisher;
+  @Mock
+  LoanRepository loanRepository;
+  @Mock
+  AccountRepository accountRepository;
+  @Mock
+  ResumableJobRunner<Loan> jobRunner;
+
+  private final CqlQuery query = exactMatch("status.name", "Closed").value();
+
+  @BeforeEach
+  public void beforeEach() {
+    openMocks(this);
+
+    when(loanRepository.loansToAnonymizeQuery()).thenReturn(Result.succeeded(query));
+    when(accountRepository.findAccountsForLoans(any()))
+      .thenAnswer(invocation -> ofAsync(invocation.getArgument(0)));
+    when(anonymizeStorageLoansRepository.postAnonymizeStorageLoans(any()))
+      .thenAnswer(invocation -> ofAsync(invocation.getArgument(0)));
+    when(eventPublisher.publishAnonymizeEvents(any()))
+      .thenAnswer(invocation -> ofAsync(invocation.getArgument(0)));
+  }
+
+  @SneakyThrows
+  @Test
+  void shouldAnonymizeLoansOfEachPage() {
+    final var firstPage = List.of(fakeLoan(), fakeLoan());
+    final var secondPage = List.of(fakeLoan());
+
+    runJobWithPages(firstPage, secondPage);
+
+    final var records = createService(anonymizeLoans(IMMEDIATELY))
+      .anonymizeLoans(Duration.ofSeconds(60))
+      .get(1, SECONDS)
+      .value();
+
+    assertThat(records.getAnonymizedLoanIds(), contains(firstPage.get(0).getId(),
+      firstPage.get(1).getId(), secondPage.get(0).getId()));
+
+    verify(accountRepository, times(2)).findAccountsForLoans(any());
+    verify(anonymizeStorageLoansRepository, times(2)).postAnonymizeStorageLoans(any());
+  }
+
+  @SneakyThrows
+  @Test
+  void shouldStopWhenTimeBudgetIsUsedUp() {
+    runJobWithPages(List.of(fakeLoan()));
+
+    final var records = createService(anonymizeLoans(IMMEDIATELY))
+      .anonymizeLoans(Duration.ZERO)
+      .get(1, SECONDS)
+      .value();
+
+    assertThat(records.getAnonymizedLoanIds(), is(empty()));
+
+    verify(jobRunner).run(eq(StreamingLoanAnonymizationService.JOB_NAME), eq(query), any(),
+      any());
+    verify(accountRepository, never()).findAccountsForLoans(any());
+  }
+
+  @SneakyThrows
+  @Test
+  void shouldNotRunJobWhenLoansAreNeverAnonymized() {
+    final var records = createService(anonymizeLoans(NEVER))
+      .anonymizeLoans(Duration.ofSeconds(60))
+      .get(1, SECONDS)
+      .value();
+
+    assertThat(records.getAnonymizedLoanIds(), is(empty()));
+
+    verify(jobRunner, never()).run(any(), any(), any(), any());
+  }
+
+  /**
+   * Processes the pages for as long as the time budget of the run allows
+   */
+  @SafeVarargs
+  private void runJobWithPages(List<Loan>... pages) {
+    when(jobRunner.run(any(), any(), any(), any())).thenAnswer(invocation -> {
+      final PageProcessor<Loan> processor = invocation.getArgument(2);
+      final BooleanSupplier hasTimeLeft = invocation.getArgument(3);
+
+      CompletableFuture<Result<Void>> run = emptyAsync();
+
+      for (List<Loan> page : pages) {
+        run = run.thenCompose(r -> r.after(ignored -> hasTimeLeft.getAsBoolean()
+          ? processor.processPage(new MultipleRecords<>(page, page.size()))
+          : emptyAsync()));
+      }
+
+      return run;
+    });
+  }
+
+  private Loan fakeLoan() {
+    final var json = new JsonObject();
+
+    write(json, "id", UUID.randomUUID());
+    writeByPath(json, "Closed", "status", "name");
+
+    return Loan.from(json);
+  }
+
+  private LoanAnonymizationConfiguration anonymizeLoans(ClosingType loansClosingType) {
+    final var json = new JsonObject();
+
+    final var closingType = new JsonObject();
+    write(closingType, "loan", loansClosingType.getRepresentation());
+    write(json, "closingType", closingType);
+    write(json, "treatEnabled", false);
+
+    return LoanAnonymizationConfiguration.from(json);
+  }
+
+  private StreamingLoanAnonymizationService createService(
+    LoanAnonymizationConfiguration config) {
+
+    final var anonymizationCheckersService = new AnonymizationCheckersService(config,
+      ClockUtil::getZonedDateTime);
+
+    return new StreamingLoanAnonymizationService(anonymizationCheckersService,
+      new DefaultLoanAnonymizationService(anonymizationCheckersService,
+        anonymizeStorageLoansRepository, eventPublisher),
+      loanRepository, accountRepository, jobRunner);
+  }
+}
@@ -0,0 +1,179 @@
+package org.folio.circulation.domain.notice;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.folio.circulation.domain.notice.NoticeFormat.EMAIL;
+import static org.folio.circulation.domain.notice.NoticeTiming.AFTER;
+import static org.folio.circulation.support.results.Result.succeeded;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.folio.circulation.domain.notice.schedule.ScheduledNoticeConfig;
+import org.folio.circulation.domain.notice.schedule.ScheduledNoticeConfigBuilder;
+import org.folio.circulation.domain.representations.logs.NoticeLogContext;
+import org.folio.circulation.services.PubSubPublishingService;
+import org.folio.circulation.support.Clients;
+import org.folio.circulation.support.CollectionResourceClient;
+import org.folio.circulation.support.HttpFailure;
+import org.folio.circulation.support.http.client.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+class ScheduledPatronNoticeServiceTest {
+
+  private ScheduledPatronNoticeService patronNoticeService;
+  private CollectionResourceClient patronNoticeClient;
+  private CollectionResourceClient patronNoticeBatchClient;
+  private final List<HttpFailure> failures = new ArrayList<>();
+  private final AtomicInteger notSent = new AtomicInteger();
+
+  @BeforeEach
+  void setUp() {
+    Clients clients = mock(Clients.class);
+    PubSubPublishingService pubSubPublishingService = mock(PubSubPublishingService.class);
+    patronNoticeClient = mock(CollectionResourceClient.class);
+    patronNoticeBatchClient = mock(CollectionResourceClient.class);
+
+    when(clients.patronNoticeClient()).thenReturn(patronNoticeClient);
+    when(clients.patronNoticeBatchClient()).thenReturn(patronNoticeBatchClient);
+    when(clients.pubSubPublishingService()).thenReturn(pubSubPublishingService);
+    when(pubSubPublishingService.publishEvent(anyString(), anyString()))
+      .thenReturn(completedFuture(true));
+
+    patronNoticeService = new ScheduledPatronNoticeService(clients);
+  }
+
+  @Test
+  void queuedNoticesAreSentInBatches() {
+    when(patronNoticeBatchClient.post(any(JsonObject.class)))
+      .thenReturn(completedFuture(succeeded(batchResponse(50))))
+      .thenReturn(completedFuture(succeeded(batchResponse(20))));
+
+    queueNotices(70);
+
+    assertTrue(patronNoticeService.sendQueuedNotices().join().succeeded());
+    assertTrue(failures.isEmpty());
+    verify(patronNoticeBatchClient, times(2)).post(any(JsonObject.class));
+    verify(patronNoticeClient, never()).post(any(JsonObject.class));
+  }
+
+  @Test
+  void onlyNoticesWhichCouldNotBeSentAreReportedAsFailed() {
+    JsonObject body = new JsonObject().put("results", new JsonArray()
+      .add(new JsonObject().put("statusCode", 200))
+      .add(new JsonObject().put("statusCode", 400).put("message", "Invalid template"))
+      .add(new JsonObject().put("statusCode", 200)));
+
+    when(patronNoticeBatchClient.post(any(JsonObject.class)))
+      .thenReturn(completedFuture(succeeded(response(200, body.encode()))));
+
+    queueNotices(3);
+
+    assertTrue(patronNoticeService.sendQueuedNotices().join().succeeded());
+    assertEquals(1, failures.size());
+    assertTrue(failures.get(0).toString().contains("Invalid template"));
+  }
+
+  @Test
+  void noticesOfBatchAreNotSentAgainWhenResponseIsUnexpected() {
+    when(patronNoticeBatchClient.post(any(JsonObject.class)))
+      .thenReturn(completedFuture(succeeded(batchResponse(2))));
+
+    queueNotices(3);
+
+    assertTrue(patronNoticeService.sendQueuedNotices().join().succeeded());
+    assertTrue(failures.isEmpty());
+    assertEquals(3, notSent.get());
+    verify(patronNoticeClient, never()).post(any(JsonObject.class));
+  }
+
+  @Test
+  void noticesOfBatchAreNotSentAgainWhenBatchCouldNotBeSent() {
+    when(patronNoticeBatchClient.post(any(JsonObject.class)))
+      .thenReturn(completedFuture(succeeded(response(500, "Internal server error"))))
+      .thenReturn(completedFuture(succeeded(batchResponse(10))));
+
+    queueNotices(60);
+
+    assertTrue(patronNoticeService.sendQueuedNotices().join().succeeded());
+    assertTrue(failures.isEmpty());
+    assertEquals(50, notSent.get());
+    verify(patronNoticeBatchClient, times(2)).post(any(JsonObject.class));
+    verify(patronNoticeClient, never()).post(any(JsonObject.class));
+  }
+
+  @Test
+  void noticesOfBatchAreNotSentAgainWhenBatchRequestFails() {
+    when(patronNoticeBatchClient.post(any(JsonObject.class)))
+      .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Connection reset")));
+
+    queueNotices(3);
+
+    assertTrue(patronNoticeService.sendQueuedNotices().join().succeeded());
+    assertTrue(failures.isEmpty());
+    assertEquals(3, notSent.get());
+    verify(patronNoticeClient, never()).post(any(JsonObject.class));
+  }
+
+  @Test
+  void noticesAreSentOneByOneWhenBatchEndpointIsNotAvailable() {
+    when(patronNoticeBatchClient.post(any(JsonObject.class)))
+      .thenReturn(completedFuture(succeeded(response(404, "Not found"))));
+    when(patronNoticeClient.post(any(JsonObject.class)))
+      .thenReturn(completedFuture(succeeded(response(200, ""))));
+
+    queueNotices(60);
+
+    assertTrue(patronNoticeService.sendQueuedNotices().join().succeeded());
+    assertTrue(failures.isEmpty());
+    verify(patronNoticeBatchClient, times(1)).post(any(JsonObject.class));
+    verify(patronNoticeClient, times(60)).post(any(JsonObject.class));
+  }
+
+  @Test
+  void nothingIsSentWhenNoNoticesAreQueued() {
+    assertTrue(patronNoticeService.sendQueuedNotices().join().succeeded());
+
+    verifyNoInteractions(patronNoticeClient, patronNoticeBatchClient);
+  }
+
+  private void queueNotices(int count) {
+    ScheduledNoticeConfig config = new ScheduledNoticeConfigBuilder()
+      .setTemplateId(UUID.randomUUID().toString())
+      .setTiming(AFTER)
+      .setFormat(EMAIL)
+      .build();
+
+    IntStream.range(0, count).forEach(index -> patronNoticeService.queueNotice(config,
+      UUID.randomUUID().toString(), new JsonObject(), new NoticeLogContext(), failures::add, notSent::incrementAndGet));
+  }
+
+  private static Response batchResponse(int numberOfNotices) {
+    JsonArray results = new JsonArray();
+    IntStream.range(0, numberOfNotices)
+      .forEach(index -> results.add(new JsonObject().put("statusCode", 200)));
+
+    return response(200, new JsonObject().put("results", results).encode());
+  }
+
+  private static Response response(int statusCode, String body) {
+    return new Response(statusCode, body, "application/json");
+  }
+}
@@ -0,0 +1,112 @@
+package org.folio.circulation.infrastructure.storage.feesandfines;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.folio.circulation.domain.Account;
+import org.folio.circulation.domain.FeeFineAction;
+import org.folio.circulation.support.Clients;
+import org.folio.circulation.support.CollectionResourceClient;
+import org.folio.circulation.support.http.client.CqlQuery;
+import org.folio.circulation.support.http.client.PageLimit;
+import org.folio.circulation.support.http.client.Response;
+import org.folio.circulation.support.results.Result;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+class FeeFineActionRepositoryTest {
+
+  private FeeFineActionRepository repository;
+  private CollectionResourceClient feeFineActionsStorageClient;
+
+  @BeforeEach
+  void setUp() {
+    Clients clients = mock(Clients.class);
+    feeFineActionsStorageClient = mock(CollectionResourceClient.class);
+
+    when(clients.feeFineActionsStorageClient()).thenReturn(feeFineActionsStorageClient);
+
+    repository = new FeeFineActionRepository(clients);
+  }
+
+  @Test
+  void findChargeActionsForAccountsFetchesActionsOfAllAccountsAtOnce() {
+    Response response = createMockResponse(
+      action("action-1", "account-1", "Lost item fee"),
+      action("action-2", "account-1", "Paid fully"),
+      action("action-3", "account-2", "Overdue fine"));
+
+    when(feeFineActionsStorageClient.getMany(any(CqlQuery.class), any(PageLimit.class)))
+      .thenReturn(CompletableFuture.completedFuture(Result.succeeded(response)));
+
+    Result<Map<String, FeeFineAction>> result = repository.findChargeActionsForAccounts(
+      List.of(account("account-1", "Lost item fee"), account("account-2", "Overdue fine")))
+      .join();
+
+    assertTrue(result.succeeded());
+    assertEquals(2, result.value().size());
+    assertEquals("action-1", result.value().get("account-1").getId());
+    assertEquals("action-3", result.value().get("account-2").getId());
+    verify(feeFineActionsStorageClient).getMany(any(CqlQuery.class), any(PageLimit.class));
+  }
+
+  @Test
+  void findChargeActionsForAccountsLeavesOutAccountsWithoutChargeAction() {
+    Response response = createMockResponse(
+      action("action-1", "account-1", "Paid fully"));
+
+    when(feeFineActionsStorageClient.getMany(any(CqlQuery.class), any(PageLimit.class)))
+      .thenReturn(CompletableFuture.completedFuture(Result.succeeded(response)));
+
+    Result<Map<String, FeeFineAction>> result = repository.findChargeActionsForAccounts(
+      List.of(account("account-1", "Lost item fee"))).join();
+
+    assertTrue(result.succeeded());
+    assertTrue(result.value().isEmpty());
+  }
+
+  @Test
+  void findChargeActionsForAccountsDoesNotFetchWhenThereAreNoAccounts() {
+    Result<Map<String, FeeFineAction>> result = repository.findChargeActionsForAccounts(
+      List.of()).join();
+
+    assertTrue(result.succeeded());
+    assertTrue(result.value().isEmpty());
+    verifyNoInteractions(feeFineActionsStorageClient);
+  }
+
+  private static Account account(String id, String feeFineType) {
+    return Account.from(new JsonObject()
+      .put("id", id)
+      .put("feeFineType", feeFineType));
+  }
+
+  private static JsonObject action(String id, String accountId, String actionType) {
+    return new JsonObject()
+      .put("id", id)
+      .put("accountId", accountId)
+      .put("typeAction", actionType);
+  }
+
+  private Response createMockResponse(JsonObject... actions) {
+    Response response = mock(Response.class);
+    JsonObject body = new JsonObject()
+      .put("feefineactions", new JsonArray(List.of(actions)))
+      .put("totalRecords", actions.length);
+    when(response.getJson()).thenReturn(body);
+    when(response.getStatusCode()).thenReturn(200);
+    return response;
+  }
+}
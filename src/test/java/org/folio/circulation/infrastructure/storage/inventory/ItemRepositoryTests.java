@@ -10,6 +10,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -136,6 +137,33 @@ class ItemRepositoryTests {
     assertThat(updateResult, succeeded());
   }
 
+  @Test
+  void unchangedItemIsNotWritten() {
+    final var itemsClient = mock(CollectionResourceClient.class);
+    final var repository = createRepository(itemsClient, null);
+
+    final var itemId = UUID.randomUUID().toString();
+
+    final var itemJson = new JsonObject()
+      .put("id", itemId)
+      .put("holdingsRecordId", UUID.randomUUID())
+      .put("effectiveLocationId", UUID.randomUUID())
+      .put("status", new JsonObject()
+        .put("name", "Available")
+        .put("date", "2024-01-01T10:00:00.000Z"));
+
+    mockedClientGet(itemsClient, itemJson.encodePrettily());
+
+    final var fetchedItem = get(repository.fetchById(itemId))
+      .value();
+
+    final var updateResult = get(repository.updateItem(fetchedItem));
+
+    verify(itemsClient, never()).put(any(), any());
+
+    assertThat(updateResult, succeeded());
+  }
+
   private void mockedClientGet(CollectionResourceClient client, String body) {
     when(client.get(anyString())).thenReturn(ofAsync(
       () -> new Response(200, body, "application/json")));
@@ -0,0 +1,109 @@
+package org.folio.circulation.infrastructure.storage.loans;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.stream.Collectors.toList;
+import static org.folio.circulation.support.results.Result.succeeded;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import org.folio.circulation.domain.Item;
+import org.folio.circulation.domain.Loan;
+import org.folio.circulation.infrastructure.storage.inventory.ItemRepository;
+import org.folio.circulation.infrastructure.storage.users.UserRepository;
+import org.folio.circulation.support.Clients;
+import org.folio.circulation.support.CollectionResourceClient;
+import org.folio.circulation.support.http.client.CqlQuery;
+import org.folio.circulation.support.http.client.PageLimit;
+import org.folio.circulation.support.http.client.Response;
+import org.folio.circulation.support.results.Result;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import api.support.builders.LoanBuilder;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+class LoanRepositoryTest {
+  private CollectionResourceClient loansStorageClient;
+  private LoanRepository loanRepository;
+
+  @BeforeEach
+  void setUp() {
+    final Clients clients = mock(Clients.class);
+    loansStorageClient = mock(CollectionResourceClient.class);
+    when(clients.loansStorage()).thenReturn(loansStorageClient);
+
+    loanRepository = new LoanRepository(clients, mock(ItemRepository.class),
+      mock(UserRepository.class));
+  }
+
+  @Test
+  void openLoansForManyItemsAreFetchedWithBatchedQueries() {
+    final List<Item> items = items(80);
+
+    when(loansStorageClient.getMany(any(CqlQuery.class), any(PageLimit.class)))
+      .thenReturn(loansResponse(new JsonArray().add(openLoan(items.get(0)))),
+        loansResponse(new JsonArray().add(openLoan(items.get(79)))));
+
+    final Map<String, Loan> loans = loanRepository.findOpenLoansForItems(items)
+      .join()
+      .value();
+
+    // 50 item IDs per query
+    verify(loansStorageClient, times(2)).getMany(any(CqlQuery.class), any(PageLimit.class));
+    assertThat(loans.size(), is(2));
+    assertThat(loans.get(items.get(0).getItemId()).getItem(), is(items.get(0)));
+    assertThat(loans.get(items.get(79).getItemId()).getItem(), is(items.get(79)));
+  }
+
+  @Test
+  void itemWithMoreThanOneOpenLoanIsLeftOut() {
+    final List<Item> items = items(2);
+
+    when(loansStorageClient.getMany(any(CqlQuery.class), any(PageLimit.class)))
+      .thenReturn(loansResponse(new JsonArray()
+        .add(openLoan(items.get(0)))
+        .add(openLoan(items.get(0)))
+        .add(openLoan(items.get(1)))));
+
+    final Map<String, Loan> loans = loanRepository.findOpenLoansForItems(items)
+      .join()
+      .value();
+
+    assertThat(loans.get(items.get(0).getItemId()), is(nullValue()));
+    assertThat(loans.get(items.get(1).getItemId()).getItemId(), is(items.get(1).getItemId()));
+  }
+
+  private List<Item> items(int numberOfItems) {
+    return IntStream.range(0, numberOfItems)
+      .mapToObj(index -> Item.from(new JsonObject().put("id", UUID.randomUUID().toString())))
+      .collect(toList());
+  }
+
+  private JsonObject openLoan(Item item) {
+    return new LoanBuilder()
+      .withId(UUID.randomUUID())
+      .withItemId(UUID.fromString(item.getItemId()))
+      .open()
+      .create();
+  }
+
+  private CompletableFuture<Result<Response>> loansResponse(JsonArray loans) {
+    return completedFuture(succeeded(new Response(200, new JsonObject()
+      .put("loans", loans)
+      .put("totalRecords", loans.size())
+      .encode(), "application/json")));
+  }
+}
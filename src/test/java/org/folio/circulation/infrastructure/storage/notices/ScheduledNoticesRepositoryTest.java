@@ -0,0 +1,118 @@
+package org.folio.circulation.infrastructure.storage.notices;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.folio.circulation.domain.notice.NoticeFormat.EMAIL;
+import static org.folio.circulation.domain.notice.NoticeTiming.AFTER;
+import static org.folio.circulation.domain.notice.schedule.TriggeringEvent.DUE_DATE;
+import static org.folio.circulation.support.results.Result.succeeded;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import org.folio.circulation.domain.notice.schedule.ScheduledNotice;
+import org.folio.circulation.domain.notice.schedule.ScheduledNoticeConfigBuilder;
+import org.folio.circulation.support.Clients;
+import org.folio.circulation.support.CollectionResourceClient;
+import org.folio.circulation.support.http.client.CqlQuery;
+import org.folio.circulation.support.http.client.Response;
+import org.folio.circulation.support.results.Result;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.json.JsonObject;
+
+class ScheduledNoticesRepositoryTest {
+
+  private ScheduledNoticesRepository repository;
+  private CollectionResourceClient scheduledNoticesStorageClient;
+  private CollectionResourceClient scheduledNoticesBatchStorageClient;
+
+  @BeforeEach
+  void setUp() {
+    Clients clients = mock(Clients.class);
+    scheduledNoticesStorageClient = mock(CollectionResourceClient.class);
+    scheduledNoticesBatchStorageClient = mock(CollectionResourceClient.class);
+
+    when(clients.scheduledNoticesStorageClient()).thenReturn(scheduledNoticesStorageClient);
+    when(clients.scheduledNoticesBatchStorageClient())
+      .thenReturn(scheduledNoticesBatchStorageClient);
+
+    repository = ScheduledNoticesRepository.using(clients);
+  }
+
+  @Test
+  void updateAllUpdatesNoticesInBatches() {
+    when(scheduledNoticesBatchStorageClient.post(any(JsonObject.class)))
+      .thenReturn(completedFuture(succeeded(response(201))));
+
+    Result<List<ScheduledNotice>> result = repository.updateAll(notices(120)).join();
+
+    assertTrue(result.succeeded());
+    assertEquals(120, result.value().size());
+    verify(scheduledNoticesBatchStorageClient, times(3)).post(any(JsonObject.class));
+    verify(scheduledNoticesStorageClient, never()).put(anyString(), any(JsonObject.class));
+  }
+
+  @Test
+  void updateAllUpdatesNoticesOneByOneWhenBatchEndpointIsNotAvailable() {
+    when(scheduledNoticesBatchStorageClient.post(any(JsonObject.class)))
+      .thenReturn(completedFuture(succeeded(response(404))));
+    when(scheduledNoticesStorageClient.put(anyString(), any(JsonObject.class)))
+      .thenReturn(completedFuture(succeeded(response(204))));
+
+    Result<List<ScheduledNotice>> result = repository.updateAll(notices(3)).join();
+
+    assertTrue(result.succeeded());
+    assertEquals(3, result.value().size());
+    verify(scheduledNoticesStorageClient, times(3)).put(anyString(), any(JsonObject.class));
+  }
+
+  @Test
+  void deleteAllDeletesNoticesInBatchesById() {
+    when(scheduledNoticesStorageClient.deleteMany(any(CqlQuery.class)))
+      .thenReturn(completedFuture(succeeded(response(204))));
+
+    Result<List<ScheduledNotice>> result = repository.deleteAll(notices(60)).join();
+
+    assertTrue(result.succeeded());
+    assertEquals(60, result.value().size());
+    verify(scheduledNoticesStorageClient, times(2)).deleteMany(any(CqlQuery.class));
+    verify(scheduledNoticesStorageClient, never()).delete(anyString());
+  }
+
+  @Test
+  void nothingIsWrittenWhenThereAreNoNotices() {
+    assertTrue(repository.updateAll(List.of()).join().succeeded());
+    assertTrue(repository.deleteAll(List.of()).join().succeeded());
+
+    verifyNoInteractions(scheduledNoticesStorageClient, scheduledNoticesBatchStorageClient);
+  }
+
+  private static List<ScheduledNotice> notices(int count) {
+    return IntStream.range(0, count)
+      .mapToObj(index -> new ScheduledNotice(UUID.randomUUID().toString(),
+        UUID.randomUUID().toString(), null, UUID.randomUUID().toString(), null, null,
+        DUE_DATE, ZonedDateTime.now(), new ScheduledNoticeConfigBuilder()
+          .setTemplateId(UUID.randomUUID().toString())
+          .setTiming(AFTER)
+          .setFormat(EMAIL)
+          .build()))
+      .toList();
+  }
+
+  private static Response response(int statusCode) {
+    return new Response(statusCode, "", "application/json");
+  }
+}
@@ -0,0 +1,183 @@
+package org.folio.circulation.infrastructure.storage.requests;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.stream.Collectors.toList;
+import static org.folio.circulation.support.results.Result.succeeded;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import org.folio.circulation.domain.MultipleRecords;
+import org.folio.circulation.domain.Request;
+import org.folio.circulation.domain.RequestQueue;
+import org.folio.circulation.support.http.client.CqlQuery;
+import org.folio.circulation.support.http.client.PageLimit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import api.support.builders.RequestBuilder;
+import io.vertx.core.json.JsonObject;
+
+class RequestQueueCacheTest {
+  private static final String UPDATED_DATE = "2024-03-01T10:00:00.000+00:00";
+
+  private RequestRepository requestRepository;
+  private RequestQueueCache cache;
+  private RequestQueueRepository requestQueueRepository;
+  private final UUID itemId = UUID.randomUUID();
+
+  @BeforeEach
+  void setUp() {
+    requestRepository = mock(RequestRepository.class);
+    cache = new RequestQueueCache(60_000, 10);
+    requestQueueRepository = new RequestQueueRepository(requestRepository, cache);
+
+    when(requestRepository.getTenantId()).thenReturn("test_tenant");
+    when(requestRepository.fetchAdditionalFields(any()))
+      .thenAnswer(invocation -> completedFuture(succeeded(invocation.getArgument(0))));
+  }
+
+  @Test
+  void unchangedQueueIsServedFromCacheAfterRevalidation() {
+    final List<Request> requests = requests(5, UPDATED_DATE);
+    stubQueue(requests);
+    stubLastUpdated(requests.get(4), 5);
+
+    getQueue();
+    final RequestQueue cached = getQueue();
+
+    assertThat(cached.size(), is(5));
+    verify(requestRepository, times(1)).findByWithoutItems(any(CqlQuery.class),
+      eq(PageLimit.oneThousand()));
+    verify(requestRepository, times(1)).findByWithoutItems(any(CqlQuery.class),
+      eq(PageLimit.one()));
+    assertThat(cache.getMetrics().hits(), is(1L));
+  }
+
+  @Test
+  void cachedRequestsAreNotSharedBetweenQueues() {
+    final List<Request> requests = requests(2, UPDATED_DATE);
+    stubQueue(requests);
+    stubLastUpdated(requests.get(1), 2);
+
+    final RequestQueue first = getQueue();
+    first.remove(first.getRequests().iterator().next());
+
+    assertThat(getQueue().getRequests().stream()
+      .map(Request::getPosition)
+      .collect(toList()), is(List.of(1, 2)));
+  }
+
+  @Test
+  void queueIsFetchedAgainWhenRequestHasBeenUpdatedByAnotherInstance() {
+    final List<Request> requests = requests(3, UPDATED_DATE);
+    stubQueue(requests);
+    stubLastUpdated(request(1, "2024-03-01T10:05:00.000+00:00"), 3);
+
+    getQueue();
+    getQueue();
+
+    verify(requestRepository, times(2)).findByWithoutItems(any(CqlQuery.class),
+      eq(PageLimit.oneThousand()));
+    assertThat(cache.getMetrics().staleEntries(), is(1L));
+  }
+
+  @Test
+  void queueIsFetchedAgainWhenRequestHasLeftTheQueue() {
+    final List<Request> requests = requests(3, UPDATED_DATE);
+    stubQueue(requests);
+    stubLastUpdated(requests.get(2), 2);
+
+    getQueue();
+    getQueue();
+
+    verify(requestRepository, times(2)).findByWithoutItems(any(CqlQuery.class),
+      eq(PageLimit.oneThousand()));
+  }
+
+  @Test
+  void writingRequestInvalidatesQueue() {
+    final List<Request> requests = requests(3, UPDATED_DATE);
+    stubQueue(requests);
+    stubLastUpdated(requests.get(2), 3);
+
+    getQueue();
+    cache.invalidate("test_tenant", requests.get(0));
+    getQueue();
+
+    verify(requestRepository, times(2)).findByWithoutItems(any(CqlQuery.class),
+      eq(PageLimit.oneThousand()));
+    assertThat(cache.getMetrics().invalidations(), is(1L));
+  }
+
+  @Test
+  void writingRequestForAnotherTenantDoesNotInvalidateQueue() {
+    final List<Request> requests = requests(3, UPDATED_DATE);
+    stubQueue(requests);
+
+    getQueue();
+    cache.invalidate("other_tenant", requests.get(0));
+
+    assertThat(cache.getMetrics().size(), is(1));
+  }
+
+  @Test
+  void queueWithoutMetadataIsNotCached() {
+    stubQueue(List.of(Request.from(new RequestBuilder()
+      .withId(UUID.randomUUID())
+      .open()
+      .hold()
+      .withItemId(itemId)
+      .withPosition(1)
+      .create())));
+
+    getQueue();
+
+    assertThat(cache.getMetrics().size(), is(0));
+  }
+
+  private RequestQueue getQueue() {
+    return requestQueueRepository.getByItemId(itemId.toString()).join().value();
+  }
+
+  private void stubQueue(List<Request> requests) {
+    when(requestRepository.findByWithoutItems(any(CqlQuery.class), eq(PageLimit.oneThousand())))
+      .thenAnswer(invocation -> completedFuture(succeeded(
+        new MultipleRecords<>(requests.stream()
+          .map(Request::asJson)
+          .map(Request::from)
+          .collect(toList()), requests.size()))));
+  }
+
+  private void stubLastUpdated(Request lastUpdated, int totalRecords) {
+    when(requestRepository.findByWithoutItems(any(CqlQuery.class), eq(PageLimit.one())))
+      .thenReturn(completedFuture(succeeded(
+        new MultipleRecords<>(List.of(lastUpdated), totalRecords))));
+  }
+
+  private List<Request> requests(int numberOfRequests, String updatedDate) {
+    return IntStream.rangeClosed(1, numberOfRequests)
+      .mapToObj(position -> request(position, updatedDate))
+      .collect(toList());
+  }
+
+  private Request request(int position, String updatedDate) {
+    return Request.from(new RequestBuilder()
+      .withId(UUID.randomUUID())
+      .open()
+      .hold()
+      .withItemId(itemId)
+      .withPosition(position)
+      .create()
+      .put("metadata", new JsonObject().put("updatedDate", updatedDate)));
+  }
+}
@@ -0,0 +1,206 @@
+package org.folio.circulation.infrastructure.storage.requests;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.stream.Collectors.toList;
+import static org.folio.circulation.support.results.Result.succeeded;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import org.folio.circulation.domain.MultipleRecords;
+import org.folio.circulation.domain.Request;
+import org.folio.circulation.domain.RequestQueue;
+import org.folio.circulation.support.Clients;
+import org.folio.circulation.support.CollectionResourceClient;
+import org.folio.circulation.support.http.client.CqlQuery;
+import org.folio.circulation.support.http.client.PageLimit;
+import org.folio.circulation.support.http.client.Response;
+import org.folio.circulation.support.results.Result;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import api.support.builders.RequestBuilder;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+class RequestQueueRepositoryTest {
+  private static final int NUMBER_OF_HOLDS = 250;
+
+  private RequestRepository requestRepository;
+  private RequestQueueRepository requestQueueRepository;
+  private final UUID itemId = UUID.randomUUID();
+
+  @BeforeEach
+  void setUp() {
+    requestRepository = mock(RequestRepository.class);
+    requestQueueRepository = new RequestQueueRepository(requestRepository);
+
+    when(requestRepository.fetchRelatedRecords(any(Request.class)))
+      .thenAnswer(invocation -> completedFuture(succeeded(invocation.getArgument(0))));
+    when(requestRepository.fetchStoredRepresentationRecords(any()))
+      .thenAnswer(invocation -> completedFuture(succeeded(invocation.getArgument(0))));
+    when(requestRepository.batchUpdate(any()))
+      .thenAnswer(invocation -> completedFuture(succeeded(invocation.getArgument(0))));
+  }
+
+  @Test
+  void relatedRecordsAreOnlyFetchedForHeadOfLargeQueue() {
+    final List<Request> requests = holds(NUMBER_OF_HOLDS);
+    stubQueue(requests);
+
+    final RequestQueue queue = getLightweightQueue();
+
+    assertThat(queue.size(), is(NUMBER_OF_HOLDS));
+    verify(requestRepository, times(1)).fetchRelatedRecords(any(Request.class));
+    verify(requestRepository, never()).findBy(any(CqlQuery.class), any(PageLimit.class));
+
+    final Request head = queue.fulfillableRequests().get(0);
+    assertThat(queue.hasRelatedRecords(head), is(true));
+    assertThat(queue.hasRelatedRecords(queue.fulfillableRequests().get(1)), is(false));
+  }
+
+  @Test
+  void relatedRecordsAreFetchedForOpenRecalls() {
+    final List<Request> requests = new ArrayList<>(holds(NUMBER_OF_HOLDS));
+    requests.add(request(NUMBER_OF_HOLDS + 1, new RequestBuilder().recall()));
+    requests.add(request(NUMBER_OF_HOLDS + 2, new RequestBuilder().recall()));
+    stubQueue(requests);
+
+    final RequestQueue queue = getLightweightQueue();
+
+    verify(requestRepository, times(3)).fetchRelatedRecords(any(Request.class));
+    assertThat(queue.getRequests().stream()
+      .filter(Request::isRecall)
+      .allMatch(queue::hasRelatedRecords), is(true));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void onlyRequestsWithChangedPositionAreCompletedBeforeBeingWrittenBack() {
+    final List<Request> requests = holds(NUMBER_OF_HOLDS);
+    stubQueue(requests);
+
+    final RequestQueue queue = getLightweightQueue();
+    final Request head = queue.fulfillableRequests().get(0);
+
+    queue.remove(head);
+
+    requestQueueRepository.updateRequestsWithChangedPositions(queue).join();
+
+    final ArgumentCaptor<MultipleRecords<Request>> completed =
+      ArgumentCaptor.forClass(MultipleRecords.class);
+    verify(requestRepository).fetchStoredRepresentationRecords(completed.capture());
+    assertThat(completed.getValue().size(), is(NUMBER_OF_HOLDS - 1));
+
+    final ArgumentCaptor<Collection<Request>> written =
+      ArgumentCaptor.forClass(Collection.class);
+    verify(requestRepository).batchUpdate(written.capture());
+
+    // requests are written back in descending order of position
+    assertThat(written.getValue().stream()
+      .map(Request::getPosition)
+      .limit(2)
+      .collect(toList()), contains(NUMBER_OF_HOLDS - 1, NUMBER_OF_HOLDS - 2));
+  }
+
+  @Test
+  void requestsWithRelatedRecordsAreWrittenBackAsTheyAre() {
+    final RequestQueue queue = new RequestQueue(holds(3));
+
+    queue.remove(queue.fulfillableRequests().get(0));
+
+    requestQueueRepository.updateRequestsWithChangedPositions(queue).join();
+
+    verify(requestRepository, never()).fetchStoredRepresentationRecords(any());
+    verify(requestRepository).batchUpdate(any());
+  }
+
+  @Test
+  void requestQueuesForManyItemsAreFetchedWithBatchedQueries() {
+    final Clients clients = mock(Clients.class);
+    final CollectionResourceClient requestsStorageClient = mock(CollectionResourceClient.class);
+    when(clients.requestsStorage()).thenReturn(requestsStorageClient);
+
+    final List<String> itemIds = IntStream.range(0, 80)
+      .mapToObj(index -> UUID.randomUUID().toString())
+      .collect(toList());
+
+    final JsonObject requestForFirstItem = new RequestBuilder()
+      .withId(UUID.randomUUID())
+      .open()
+      .hold()
+      .withItemId(UUID.fromString(itemIds.get(0)))
+      .withPosition(1)
+      .create();
+
+    when(requestsStorageClient.getMany(any(CqlQuery.class), any(PageLimit.class)))
+      .thenReturn(requestsResponse(new JsonArray().add(requestForFirstItem)),
+        requestsResponse(new JsonArray()));
+
+    final Map<String, RequestQueue> queues = new RequestQueueRepository(
+      new RequestRepository(clients))
+      .getRequestQueuesWithoutItemLookup(itemIds)
+      .join()
+      .value();
+
+    // 50 item IDs per query
+    verify(requestsStorageClient, times(2)).getMany(any(CqlQuery.class), any(PageLimit.class));
+    assertThat(queues.size(), is(80));
+    assertThat(queues.get(itemIds.get(0)).size(), is(1));
+    assertThat(queues.get(itemIds.get(1)).size(), is(0));
+  }
+
+  private CompletableFuture<Result<Response>> requestsResponse(JsonArray requests) {
+    return completedFuture(succeeded(new Response(200, new JsonObject()
+      .put("requests", requests)
+      .put("totalRecords", requests.size())
+      .encode(), "application/json")));
+  }
+
+  private RequestQueue getLightweightQueue() {
+    final Result<RequestQueue> result = requestQueueRepository
+      .getLightweightQueueByItemId(itemId.toString())
+      .join();
+
+    assertThat(result.succeeded(), is(true));
+
+    return result.value();
+  }
+
+  private void stubQueue(List<Request> requests) {
+    when(requestRepository.findByWithoutItems(any(CqlQuery.class), any(PageLimit.class)))
+      .thenReturn(completedFuture(succeeded(
+        new MultipleRecords<>(requests, requests.size()))));
+  }
+
+  private List<Request> holds(int numberOfHolds) {
+    return IntStream.rangeClosed(1, numberOfHolds)
+      .mapToObj(position -> request(position, new RequestBuilder().hold()))
+      .collect(toList());
+  }
+
+  private Request request(int position, RequestBuilder builder) {
+    return Request.from(builder
+      .withId(UUID.randomUUID())
+      .open()
+      .withItemId(itemId)
+      .withPosition(position)
+      .fulfillToHoldShelf()
+      .create());
+  }
+}
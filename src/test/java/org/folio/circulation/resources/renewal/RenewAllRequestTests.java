@@ -0,0 +1,33 @@
+package org.folio.circulation.resources.renewal;
+
+import io.vertx.core.json.JsonObject;
+import org.folio.circulation.support.results.Result;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static api.support.matchers.FailureMatchers.errorResultFor;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class RenewAllRequestTests {
+  @Test
+  void propertiesAreReadFromJson() {
+    final UUID userId = UUID.randomUUID();
+
+    final Result<RenewAllRequest> request = RenewAllRequest.from(
+      new JsonObject()
+        .put("userId", userId.toString()));
+
+    assertThat(request.succeeded(), is(true));
+    assertThat(request.value().getUserId(), is(userId.toString()));
+  }
+
+  @Test
+  void failWhenNoUserId() {
+    final Result<RenewAllRequest> result = RenewAllRequest.from(new JsonObject());
+
+    assertThat(result, errorResultFor("userId",
+      "Renewal request must have a user ID"));
+  }
+}
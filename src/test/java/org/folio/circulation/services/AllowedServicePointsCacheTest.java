@@ -0,0 +1,104 @@
+package org.folio.circulation.services;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.util.Set;
+import java.util.UUID;
+
+import org.folio.circulation.domain.AllowedServicePoint;
+import org.folio.circulation.domain.ServicePoint;
+import org.folio.circulation.infrastructure.storage.ServicePointRepository.ServicePointsVersion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AllowedServicePointsCacheTest {
+  private static final String TENANT_ID = "test_tenant";
+  private static final String INDEX_NAME = "pickupLocation";
+  private static final ServicePointsVersion VERSION =
+    new ServicePointsVersion(2, "2024-03-01T10:00:00.000+00:00");
+
+  private final String requestPolicyId = UUID.randomUUID().toString();
+  private final AllowedServicePoint servicePoint = allowedServicePoint("Circ Desk 1");
+  private final Set<String> allowedServicePointIds = Set.of(servicePoint.getId());
+
+  private AllowedServicePointsCache cache;
+
+  @BeforeEach
+  void setUp() {
+    cache = new AllowedServicePointsCache(60_000);
+    cache.put(TENANT_ID, INDEX_NAME, requestPolicyId, allowedServicePointIds, VERSION,
+      Set.of(servicePoint));
+  }
+
+  @Test
+  void cachedServicePointsAreUsedWhileServicePointsAndPolicyAreUnchanged() {
+    assertThat(cache.get(TENANT_ID, INDEX_NAME, requestPolicyId, allowedServicePointIds,
+      VERSION).orElseThrow(), is(Set.of(servicePoint)));
+  }
+
+  @Test
+  void cachedServicePointsCanBeCombinedByCaller() {
+    cache.get(TENANT_ID, INDEX_NAME, requestPolicyId, allowedServicePointIds, VERSION)
+      .orElseThrow()
+      .add(allowedServicePoint("Circ Desk 2"));
+
+    assertThat(cache.get(TENANT_ID, INDEX_NAME, requestPolicyId, allowedServicePointIds,
+      VERSION).orElseThrow().size(), is(1));
+  }
+
+  @Test
+  void cachedServicePointsAreDroppedWhenServicePointHasChanged() {
+    final var changedVersion = new ServicePointsVersion(2, "2024-03-01T10:05:00.000+00:00");
+
+    assertThat(cache.get(TENANT_ID, INDEX_NAME, requestPolicyId, allowedServicePointIds,
+      changedVersion).isPresent(), is(false));
+    assertThat(cache.size(), is(0));
+  }
+
+  @Test
+  void cachedServicePointsAreDroppedWhenServicePointHasBeenDeleted() {
+    final var changedVersion = new ServicePointsVersion(1, VERSION.lastUpdatedDate());
+
+    assertThat(cache.get(TENANT_ID, INDEX_NAME, requestPolicyId, allowedServicePointIds,
+      changedVersion).isPresent(), is(false));
+  }
+
+  @Test
+  void cachedServicePointsAreDroppedWhenPolicyAllowsOtherServicePoints() {
+    final var changedAllowedIds = Set.of(servicePoint.getId(), UUID.randomUUID().toString());
+
+    assertThat(cache.get(TENANT_ID, INDEX_NAME, requestPolicyId, changedAllowedIds,
+      VERSION).isPresent(), is(false));
+  }
+
+  @Test
+  void servicePointsAreCachedPerTenantAndIndex() {
+    assertThat(cache.get("other_tenant", INDEX_NAME, requestPolicyId, allowedServicePointIds,
+      VERSION).isPresent(), is(false));
+    assertThat(cache.get(TENANT_ID, "ecsRequestRouting", requestPolicyId,
+      allowedServicePointIds, VERSION).isPresent(), is(false));
+  }
+
+  @Test
+  void servicePointsAreNotCachedWhenChangesCannotBeDetected() {
+    cache.clear();
+    cache.put(TENANT_ID, INDEX_NAME, null, Set.of(), new ServicePointsVersion(1, null),
+      Set.of(servicePoint));
+
+    assertThat(cache.size(), is(0));
+  }
+
+  @Test
+  void expiredServicePointsAreNotUsed() {
+    final var expiringCache = new AllowedServicePointsCache(-1);
+    expiringCache.put(TENANT_ID, INDEX_NAME, null, Set.of(), VERSION, Set.of(servicePoint));
+
+    assertThat(expiringCache.get(TENANT_ID, INDEX_NAME, null, Set.of(), VERSION).isPresent(),
+      is(false));
+  }
+
+  private static AllowedServicePoint allowedServicePoint(String name) {
+    return new AllowedServicePoint(ServicePoint.unknown(UUID.randomUUID().toString(), name));
+  }
+}
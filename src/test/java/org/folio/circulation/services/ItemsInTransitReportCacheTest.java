@@ -0,0 +1,101 @@
+package org.folio.circulation.services;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.folio.circulation.support.results.Result.succeeded;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.folio.circulation.support.ServerErrorFailure;
+import org.folio.circulation.support.results.Result;
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.json.JsonObject;
+
+class ItemsInTransitReportCacheTest {
+  private static final String TENANT_ID = "test_tenant";
+
+  private final AtomicInteger reportsBuilt = new AtomicInteger();
+
+  @Test
+  void reportIsBuiltOnceWhileSnapshotIsCurrent() {
+    final var cache = new ItemsInTransitReportCache(60_000);
+
+    cache.getReport(TENANT_ID, this::buildReport).join();
+    final Result<JsonObject> report = cache.getReport(TENANT_ID, this::buildReport).join();
+
+    assertThat(report.value().getInteger("totalRecords"), is(1));
+    assertThat(reportsBuilt.get(), is(1));
+  }
+
+  @Test
+  void reportIsBuiltEveryTimeWhenCacheIsDisabled() {
+    final var cache = new ItemsInTransitReportCache(0);
+
+    cache.getReport(TENANT_ID, this::buildReport).join();
+    cache.getReport(TENANT_ID, this::buildReport).join();
+
+    assertThat(reportsBuilt.get(), is(2));
+  }
+
+  @Test
+  void reportIsBuiltEveryTimeWithoutTenant() {
+    final var cache = new ItemsInTransitReportCache(60_000);
+
+    cache.getReport(null, this::buildReport).join();
+    cache.getReport(null, this::buildReport).join();
+
+    assertThat(reportsBuilt.get(), is(2));
+  }
+
+  @Test
+  void reportsAreCachedPerTenant() {
+    final var cache = new ItemsInTransitReportCache(60_000);
+
+    cache.getReport(TENANT_ID, this::buildReport).join();
+    cache.getReport("other_tenant", this::buildReport).join();
+
+    assertThat(reportsBuilt.get(), is(2));
+  }
+
+  @Test
+  void concurrentRequestsShareReportBeingBuilt() {
+    final var cache = new ItemsInTransitReportCache(60_000);
+    final var report = new CompletableFuture<Result<JsonObject>>();
+    final Supplier<CompletableFuture<Result<JsonObject>>> slowReport = () -> {
+      reportsBuilt.incrementAndGet();
+      return report;
+    };
+
+    final var first = cache.getReport(TENANT_ID, slowReport);
+    final var second = cache.getReport(TENANT_ID, slowReport);
+
+    report.complete(succeeded(new JsonObject().put("totalRecords", 0)));
+
+    assertThat(first.join().value().getInteger("totalRecords"), is(0));
+    assertThat(second.join().value().getInteger("totalRecords"), is(0));
+    assertThat(reportsBuilt.get(), is(1));
+  }
+
+  @Test
+  void failedReportIsNotCached() {
+    final var cache = new ItemsInTransitReportCache(60_000);
+
+    final Result<JsonObject> failedReport = cache.getReport(TENANT_ID,
+      () -> completedFuture(Result.failed(new ServerErrorFailure("failed")))).join();
+
+    assertThat(failedReport.failed(), is(true));
+
+    cache.getReport(TENANT_ID, this::buildReport).join();
+    assertThat(reportsBuilt.get(), is(1));
+  }
+
+  private CompletableFuture<Result<JsonObject>> buildReport() {
+    reportsBuilt.incrementAndGet();
+
+    return completedFuture(succeeded(new JsonObject().put("totalRecords", 1)));
+  }
+}
@@ -0,0 +1,251 @@
+package org.folio.circulation.services;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.stream.IntStream.rangeClosed;
+import static org.folio.circulation.support.http.client.CqlQuery.noQuery;
+import static org.folio.circulation.support.http.client.PageLimit.limit;
+import static org.folio.circulation.support.results.Result.failed;
+import static org.folio.circulation.support.results.Result.ofAsync;
+import static org.folio.circulation.support.results.Result.succeeded;
+import static org.folio.circulation.support.utils.ClockUtil.getZonedDateTime;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.folio.circulation.domain.JobCheckpoint;
+import org.folio.circulation.domain.MultipleRecords;
+import org.folio.circulation.infrastructure.storage.JobCheckpointRepository;
+import org.folio.circulation.support.ServerErrorFailure;
+import org.folio.circulation.support.fetching.GetManyRecordsRepository;
+import org.folio.circulation.support.fetching.PageProcessor;
+import org.folio.circulation.support.fetching.PageableFetcher;
+import org.folio.circulation.support.http.client.CqlQuery;
+import org.folio.circulation.support.http.client.Offset;
+import org.folio.circulation.support.http.client.PageLimit;
+import org.folio.circulation.support.results.Result;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ResumableJobRunnerTest {
+  private static final String JOB_NAME = "scheduled-age-to-lost";
+
+  private final AtomicReference<JobCheckpoint> storedCheckpoint = new AtomicReference<>();
+  private final List<List<String>> processedPages = new ArrayList<>();
+  private RecordRepository recordRepository;
+  private ResumableJobRunner<String> jobRunner;
+
+  @BeforeEach
+  void setUp() {
+    final JobCheckpointRepository checkpointRepository = mock(JobCheckpointRepository.class);
+
+    when(checkpointRepository.findByJobName(JOB_NAME))
+      .thenAnswer(invocation -> ofAsync(storedCheckpoint.get()));
+    when(checkpointRepository.save(any(JobCheckpoint.class)))
+      .thenAnswer(invocation -> {
+        storedCheckpoint.set(invocation.getArgument(0));
+        return ofAsync(storedCheckpoint.get());
+      });
+
+    recordRepository = new RecordRepository(25);
+    jobRunner = new ResumableJobRunner<>(checkpointRepository,
+      new PageableFetcher<>(recordRepository, limit(10), 1000), Function.identity());
+  }
+
+  @Test
+  void firstRunProcessesAllRecords() {
+    final Result<Void> result = run(this::recordPage);
+
+    assertTrue(result.succeeded());
+    assertEquals(ids(1, 25), processedPages.stream().flatMap(List::stream).toList());
+
+    final JobCheckpoint checkpoint = storedCheckpoint.get();
+    assertTrue(checkpoint.isCompleted());
+    assertEquals(id(25), checkpoint.getLastProcessedId());
+    assertEquals(25, checkpoint.getProcessedCount());
+    assertEquals(0, checkpoint.getFailedCount());
+  }
+
+  @Test
+  void runResumesAfterLastProcessedRecordOfPreviousRun() {
+    storedCheckpoint.set(JobCheckpoint.start(JOB_NAME, getZonedDateTime())
+      .pageProcessed(id(10), 10, getZonedDateTime()));
+
+    final Result<Void> result = run(this::recordPage);
+
+    assertTrue(result.succeeded());
+    assertEquals(ids(11, 25), processedPages.stream().flatMap(List::stream).toList());
+    assertEquals(25, storedCheckpoint.get().getProcessedCount());
+    assertTrue(storedCheckpoint.get().isCompleted());
+  }
+
+  @Test
+  void completedRunIsFollowedByNewPass() {
+    storedCheckpoint.set(JobCheckpoint.start(JOB_NAME, getZonedDateTime())
+      .pageProcessed(id(25), 25, getZonedDateTime())
+      .completed(getZonedDateTime()));
+
+    run(this::recordPage);
+
+    assertEquals(ids(1, 25), processedPages.stream().flatMap(List::stream).toList());
+    assertEquals(25, storedCheckpoint.get().getProcessedCount());
+  }
+
+  @Test
+  void failedPageDoesNotStopRunAndIsRetriedByNextRun() {
+    final Result<Void> firstRun = run(page -> page.getRecords().contains(id(15))
+      ? completedFuture(failed(new ServerErrorFailure("Processing failure")))
+      : recordPage(page));
+
+    assertTrue(firstRun.succeeded());
+    assertEquals(ids(11, 20), storedCheckpoint.get().getFailedRecordIds());
+    assertEquals(10, storedCheckpoint.get().getFailedCount());
+    assertEquals(15, storedCheckpoint.get().getProcessedCount());
+    assertTrue(storedCheckpoint.get().getLastError().contains("Processing failure"));
+    assertTrue(storedCheckpoint.get().isCompleted());
+
+    processedPages.clear();
+
+    final Result<Void> secondRun = run(this::recordPage);
+
+    assertTrue(secondRun.succeeded());
+    assertEquals(ids(11, 20), processedPages.get(0));
+    assertTrue(storedCheckpoint.get().getFailedRecordIds().isEmpty());
+  }
+
+  @Test
+  void failedRecordsWhichNoLongerMatchQueryAreNotRetried() {
+    storedCheckpoint.set(JobCheckpoint.start(JOB_NAME, getZonedDateTime())
+      .pageFailed(id(2), List.of(id(1), id(2)), "Processing failure", getZonedDateTime())
+      .completed(getZonedDateTime()));
+
+    recordRepository.removed.add(id(2));
+
+    run(this::recordPage);
+
+    assertEquals(List.of(id(1)), processedPages.get(0));
+    assertTrue(storedCheckpoint.get().getFailedRecordIds().isEmpty());
+  }
+
+  @Test
+  void runFailsAndCanBeResumedWhenPageCannotBeFetched() {
+    recordRepository.failAfterRequests = 1;
+
+    final Result<Void> result = run(this::recordPage);
+
+    assertTrue(result.failed());
+
+    final JobCheckpoint checkpoint = storedCheckpoint.get();
+    assertFalse(checkpoint.isCompleted());
+    assertEquals(id(10), checkpoint.getLastProcessedId());
+    assertNotNull(checkpoint.getLastError());
+
+    processedPages.clear();
+    recordRepository.failAfterRequests = Integer.MAX_VALUE;
+
+    run(this::recordPage);
+
+    assertEquals(ids(11, 25), processedPages.stream().flatMap(List::stream).toList());
+    assertTrue(storedCheckpoint.get().isCompleted());
+  }
+
+  @Test
+  void runOutOfTimeIsResumedByNextRun() {
+    final Result<Void> firstRun = jobRunner.run(JOB_NAME, noQuery().value(), this::recordPage,
+        () -> processedPages.isEmpty())
+      .getNow(failed(new ServerErrorFailure("Time out")));
+
+    assertTrue(firstRun.succeeded());
+    assertEquals(ids(1, 10), processedPages.stream().flatMap(List::stream).toList());
+    assertFalse(storedCheckpoint.get().isCompleted());
+    assertEquals(id(10), storedCheckpoint.get().getLastProcessedId());
+
+    processedPages.clear();
+
+    run(this::recordPage);
+
+    assertEquals(ids(11, 25), processedPages.stream().flatMap(List::stream).toList());
+    assertTrue(storedCheckpoint.get().isCompleted());
+  }
+
+  private Result<Void> run(PageProcessor<String> pageProcessor) {
+    return jobRunner.run(JOB_NAME, noQuery().value(), pageProcessor)
+      .getNow(failed(new ServerErrorFailure("Time out")));
+  }
+
+  private CompletableFuture<Result<Void>> recordPage(MultipleRecords<String> page) {
+    if (!page.isEmpty()) {
+      processedPages.add(List.copyOf(page.getRecords()));
+    }
+
+    return ofAsync(() -> null);
+  }
+
+  private static String id(int value) {
+    return String.format("%06d", value);
+  }
+
+  private static List<String> ids(int first, int last) {
+    return rangeClosed(first, last).mapToObj(ResumableJobRunnerTest::id).toList();
+  }
+
+  /**
+   * Returns the records sorted by id which are after the id or have one of the ids in the
+   * query, records are identified by their zero padded value
+   */
+  private static class RecordRepository implements GetManyRecordsRepository<String> {
+    private static final Pattern AFTER_ID = Pattern.compile("id>\"(\\d+)\"");
+    private static final Pattern ANY_ID = Pattern.compile("id==\\(([^)]*)\\)");
+
+    private final List<String> records;
+    private final Set<String> removed = new HashSet<>();
+    private int requests;
+    private int failAfterRequests = Integer.MAX_VALUE;
+
+    RecordRepository(int totalRecords) {
+      records = ids(1, totalRecords);
+    }
+
+    @Override
+    public CompletableFuture<Result<MultipleRecords<String>>> getMany(CqlQuery cqlQuery,
+      PageLimit pageLimit, Offset offset) {
+
+      requests++;
+
+      if (requests > failAfterRequests) {
+        return completedFuture(failed(new ServerErrorFailure("Fetch failure")));
+      }
+
+      final Matcher afterId = AFTER_ID.matcher(cqlQuery.toString());
+      final String lastId = afterId.find() ? afterId.group(1) : "";
+
+      final Matcher anyId = ANY_ID.matcher(cqlQuery.toString());
+      final Set<String> wantedIds = anyId.find()
+        ? new HashSet<>(Arrays.asList(anyId.group(1).replace("\"", "").split(" or ")))
+        : null;
+
+      final List<String> page = records.stream()
+        .filter(id -> !removed.contains(id))
+        .filter(id -> id.compareTo(lastId) > 0)
+        .filter(id -> wantedIds == null || wantedIds.contains(id))
+        .limit(pageLimit.getLimit())
+        .toList();
+
+      return completedFuture(succeeded(new MultipleRecords<>(page, page.size())));
+    }
+  }
+}
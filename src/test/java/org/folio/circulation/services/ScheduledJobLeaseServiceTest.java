@@ -0,0 +1,259 @@
+package org.folio.circulation.services;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.folio.circulation.support.results.Result.ofAsync;
+import static org.folio.circulation.support.results.Result.succeeded;
+import static org.folio.circulation.support.utils.ClockUtil.getZonedDateTime;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.folio.circulation.domain.ScheduledJobLease;
+import org.folio.circulation.infrastructure.storage.ScheduledJobLeaseRepository;
+import org.folio.circulation.support.ServerErrorFailure;
+import org.folio.circulation.support.results.Result;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+
+class ScheduledJobLeaseServiceTest {
+  private static final String JOB_NAME = "scheduled-age-to-lost";
+
+  private ScheduledJobLeaseRepository leaseRepository;
+  private Vertx vertx;
+  private ScheduledJobLeaseService leaseService;
+  private final AtomicReference<ScheduledJobLease> storedLease = new AtomicReference<>();
+
+  @BeforeEach
+  void setUp() {
+    leaseRepository = mock(ScheduledJobLeaseRepository.class);
+    vertx = mock(Vertx.class);
+
+    when(leaseRepository.findByJobName(JOB_NAME))
+      .thenAnswer(invocation -> ofAsync(storedLease.get()));
+    when(leaseRepository.create(any(ScheduledJobLease.class)))
+      .thenAnswer(invocation -> store(invocation.getArgument(0)));
+    when(leaseRepository.update(any(ScheduledJobLease.class)))
+      .thenAnswer(invocation -> storeNextVersion(invocation.getArgument(0)));
+    when(leaseRepository.delete(any(ScheduledJobLease.class)))
+      .thenAnswer(invocation -> {
+        storedLease.set(null);
+        return ofAsync(invocation.<ScheduledJobLease>getArgument(0));
+      });
+
+    leaseService = new ScheduledJobLeaseService(leaseRepository, vertx, Duration.ofMinutes(2));
+  }
+
+  @Test
+  void jobIsRunWhenThereIsNoLease() {
+    AtomicReference<ScheduledJobLease> leaseDuringRun = new AtomicReference<>();
+
+    Result<String> result = leaseService.runExclusively(JOB_NAME, () -> {
+      leaseDuringRun.set(storedLease.get());
+      return ofAsync("done");
+    }, "skipped").join();
+
+    assertTrue(result.succeeded());
+    assertEquals("done", result.value());
+    assertEquals(JOB_NAME, leaseDuringRun.get().getJobName());
+    assertNull(storedLease.get());
+    verify(vertx).setPeriodic(anyLong(), any());
+    verify(vertx).cancelTimer(anyLong());
+  }
+
+  @Test
+  void jobIsSkippedWhenAnotherRunHoldsTheLease() {
+    storedLease.set(ScheduledJobLease.create(JOB_NAME, "other-run",
+      getZonedDateTime().plusMinutes(1)));
+
+    Result<String> result = leaseService.runExclusively(JOB_NAME,
+      () -> ofAsync("done"), "skipped").join();
+
+    assertTrue(result.succeeded());
+    assertEquals("skipped", result.value());
+    assertEquals("other-run", storedLease.get().getOwnerId());
+    verify(leaseRepository, never()).create(any(ScheduledJobLease.class));
+    verify(leaseRepository, never()).update(any(ScheduledJobLease.class));
+    verify(leaseRepository, never()).delete(any(ScheduledJobLease.class));
+  }
+
+  @Test
+  void expiredLeaseIsTakenOver() {
+    storedLease.set(storedLeaseWithVersion("other-run", getZonedDateTime().minusSeconds(1), 3));
+
+    Result<String> result = leaseService.runExclusively(JOB_NAME,
+      () -> ofAsync("done"), "skipped").join();
+
+    final var takenOverLease = ArgumentCaptor.forClass(ScheduledJobLease.class);
+
+    assertTrue(result.succeeded());
+    assertEquals("done", result.value());
+    verify(leaseRepository).update(takenOverLease.capture());
+    verify(leaseRepository).delete(any(ScheduledJobLease.class));
+    assertNotEquals("other-run", takenOverLease.getValue().getOwnerId());
+    assertEquals(3, takenOverLease.getValue().getVersion().intValue());
+  }
+
+  @Test
+  void jobIsSkippedWhenAnotherRunTookOverTheExpiredLeaseFirst() {
+    storedLease.set(storedLeaseWithVersion("other-run", getZonedDateTime().minusSeconds(1), 3));
+
+    // storage refuses the update as the version of the lease has changed
+    when(leaseRepository.update(any(ScheduledJobLease.class)))
+      .thenReturn(ofAsync(() -> null));
+
+    Result<String> result = leaseService.runExclusively(JOB_NAME,
+      () -> ofAsync("done"), "skipped").join();
+
+    assertTrue(result.succeeded());
+    assertEquals("skipped", result.value());
+    verify(vertx, never()).setPeriodic(anyLong(), any());
+    verify(leaseRepository, never()).delete(any(ScheduledJobLease.class));
+  }
+
+  @Test
+  void jobIsSkippedWhenAnotherRunOverwroteTheTakenOverLease() {
+    storedLease.set(storedLeaseWithVersion("other-run", getZonedDateTime().minusSeconds(1), 3));
+
+    when(leaseRepository.update(any(ScheduledJobLease.class)))
+      .thenAnswer(invocation -> {
+        storeNextVersion(invocation.getArgument(0));
+        storedLease.set(storedLeaseWithVersion("third-run", getZonedDateTime().plusMinutes(1),
+          5));
+        return ofAsync(invocation.<ScheduledJobLease>getArgument(0));
+      });
+
+    Result<String> result = leaseService.runExclusively(JOB_NAME,
+      () -> ofAsync("done"), "skipped").join();
+
+    assertTrue(result.succeeded());
+    assertEquals("skipped", result.value());
+    assertEquals("third-run", storedLease.get().getOwnerId());
+    verify(vertx, never()).setPeriodic(anyLong(), any());
+  }
+
+  @Test
+  void jobFailsWhenStorageDoesNotCheckVersionOfLease() {
+    storedLease.set(storedLeaseWithVersion("other-run", getZonedDateTime().minusSeconds(1), 3));
+
+    // storage without optimistic locking keeps the version it was sent
+    when(leaseRepository.update(any(ScheduledJobLease.class)))
+      .thenAnswer(invocation -> store(invocation.getArgument(0)));
+
+    Result<String> result = leaseService.runExclusively(JOB_NAME,
+      () -> ofAsync("done"), "skipped").join();
+
+    assertTrue(result.failed());
+    assertTrue(result.cause().toString().contains("optimistic locking"));
+    verify(vertx, never()).setPeriodic(anyLong(), any());
+  }
+
+  @Test
+  void jobFailsWhenLeaseCannotBeFetched() {
+    when(leaseRepository.findByJobName(JOB_NAME))
+      .thenReturn(completedFuture(Result.failed(new ServerErrorFailure("unavailable"))));
+
+    Result<String> result = leaseService.runExclusively(JOB_NAME,
+      () -> ofAsync("done"), "skipped").join();
+
+    assertTrue(result.failed());
+    verify(leaseRepository, never()).create(any(ScheduledJobLease.class));
+    verify(vertx, never()).setPeriodic(anyLong(), any());
+  }
+
+  @Test
+  void leaseIsNoLongerRenewedOnceTakenOver() {
+    final var job = new CompletableFuture<Result<String>>();
+    final var run = leaseService.runExclusively(JOB_NAME, () -> job, "skipped");
+
+    @SuppressWarnings("unchecked")
+    final ArgumentCaptor<Handler<Long>> renewal = ArgumentCaptor.forClass(Handler.class);
+    verify(vertx).setPeriodic(anyLong(), renewal.capture());
+
+    when(leaseRepository.update(any(ScheduledJobLease.class)))
+      .thenReturn(ofAsync(() -> null));
+
+    renewal.getValue().handle(1L);
+
+    verify(vertx).cancelTimer(eq(1L));
+
+    job.complete(succeeded("done"));
+
+    assertEquals("done", run.join().value());
+    verify(vertx, times(2)).cancelTimer(anyLong());
+  }
+
+  @Test
+  void jobIsSkippedWhenAnotherRunCreatedTheLeaseAtTheSameTime() {
+    when(leaseRepository.create(any(ScheduledJobLease.class)))
+      .thenAnswer(invocation -> {
+        storedLease.set(ScheduledJobLease.create(JOB_NAME, "other-run",
+          getZonedDateTime().plusMinutes(1)));
+        return completedFuture(Result.failed(new ServerErrorFailure("already exists")));
+      });
+
+    Result<String> result = leaseService.runExclusively(JOB_NAME,
+      () -> ofAsync("done"), "skipped").join();
+
+    assertTrue(result.succeeded());
+    assertEquals("skipped", result.value());
+  }
+
+  @Test
+  void leaseIsReleasedWhenJobFails() {
+    Result<String> result = leaseService.runExclusively(JOB_NAME,
+      () -> CompletableFuture.<Result<String>>failedFuture(new RuntimeException("failed")),
+      "skipped").join();
+
+    assertTrue(result.failed());
+    assertNull(storedLease.get());
+    verify(vertx).cancelTimer(anyLong());
+  }
+
+  private static ScheduledJobLease storedLeaseWithVersion(String ownerId,
+    ZonedDateTime expiresAt, int version) {
+
+    final JsonObject representation = ScheduledJobLease.create(JOB_NAME, ownerId, expiresAt)
+      .asJson()
+      .put("_version", version);
+
+    return ScheduledJobLease.from(representation);
+  }
+
+  /**
+   * Stores the lease as storage with optimistic locking enabled does
+   */
+  private CompletableFuture<Result<ScheduledJobLease>> storeNextVersion(
+    ScheduledJobLease lease) {
+
+    storedLease.set(lease.getVersion() == null
+      ? lease
+      : ScheduledJobLease.from(lease.asJson().put("_version", lease.getVersion() + 1)));
+
+    return completedFuture(succeeded(lease));
+  }
+
+  private CompletableFuture<Result<ScheduledJobLease>> store(ScheduledJobLease lease) {
+    storedLease.set(lease);
+
+    return completedFuture(succeeded(lease));
+  }
+}
@@ -0,0 +1,121 @@
+package org.folio.circulation.services;
+
+import static org.folio.circulation.support.http.client.PageLimit.limit;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.folio.circulation.domain.MultipleRecords;
+import org.folio.circulation.support.http.client.PageLimit;
+import org.junit.jupiter.api.Test;
+
+class ScheduledNoticeRunPacerTest {
+  private static final String JOB_NAME = "loan-scheduled-notices-processing";
+  private static final PageLimit CONFIGURED_LIMIT = limit(100);
+
+  private final AtomicLong nanoTime = new AtomicLong();
+
+  @Test
+  void configuredLimitIsUsedForFirstRun() {
+    ScheduledNoticeRunPacer pacer = pacer(60);
+
+    assertEquals(100, pacer.startRun(JOB_NAME, CONFIGURED_LIMIT)
+      .getLimit().getLimit());
+  }
+
+  @Test
+  void limitGrowsWhenThereIsBacklogAndTimeLeftInBudget() {
+    ScheduledNoticeRunPacer pacer = pacer(60);
+
+    // 100 notices in 10 seconds, 1000 are due
+    run(pacer, 100, 1000, 10);
+
+    assertEquals(200, nextLimit(pacer));
+  }
+
+  @Test
+  void limitShrinksWhenNoticesAreProcessedSlowly() {
+    ScheduledNoticeRunPacer pacer = pacer(60);
+
+    // 100 notices in 300 seconds
+    run(pacer, 100, 1000, 300);
+
+    assertEquals(20, nextLimit(pacer));
+  }
+
+  @Test
+  void limitIsNotGrownWhenAllDueNoticesFit() {
+    ScheduledNoticeRunPacer pacer = pacer(60);
+
+    run(pacer, 40, 40, 1);
+
+    assertEquals(100, nextLimit(pacer));
+  }
+
+  @Test
+  void limitStaysWithinBoundsOfConfiguredLimit() {
+    ScheduledNoticeRunPacer pacer = pacer(60);
+
+    for (int runs = 0; runs < 10; runs++) {
+      int limit = nextLimit(pacer);
+      run(pacer, limit, 1_000_000, 1);
+    }
+
+    assertEquals(100 * ScheduledNoticeRunPacer.MAX_LIMIT_FACTOR, nextLimit(pacer));
+
+    for (int runs = 0; runs < 10; runs++) {
+      run(pacer, 100, 1_000_000, 6000);
+    }
+
+    assertEquals(100 / ScheduledNoticeRunPacer.MAX_LIMIT_FACTOR, nextLimit(pacer));
+  }
+
+  @Test
+  void configuredLimitIsAlwaysUsedWithoutTimeBudget() {
+    ScheduledNoticeRunPacer pacer = pacer(0);
+
+    run(pacer, 100, 1000, 1);
+
+    assertEquals(100, nextLimit(pacer));
+  }
+
+  @Test
+  void eachJobIsPacedOnItsOwn() {
+    ScheduledNoticeRunPacer pacer = pacer(60);
+
+    run(pacer, 100, 1000, 10);
+
+    assertEquals(100, pacer.startRun("request-scheduled-notices-processing", CONFIGURED_LIMIT)
+      .getLimit().getLimit());
+  }
+
+  @Test
+  void eachTenantHasPacerOfItsOwn() {
+    assertSame(ScheduledNoticeRunPacer.forTenant("tenant_a"),
+      ScheduledNoticeRunPacer.forTenant("tenant_a"));
+    assertNotSame(ScheduledNoticeRunPacer.forTenant("tenant_a"),
+      ScheduledNoticeRunPacer.forTenant("tenant_b"));
+  }
+
+  private ScheduledNoticeRunPacer pacer(int timeBudgetSeconds) {
+    return new ScheduledNoticeRunPacer(TimeUnit.SECONDS.toMillis(timeBudgetSeconds),
+      nanoTime::get);
+  }
+
+  private int nextLimit(ScheduledNoticeRunPacer pacer) {
+    return pacer.startRun(JOB_NAME, CONFIGURED_LIMIT).getLimit().getLimit();
+  }
+
+  private void run(ScheduledNoticeRunPacer pacer, int processed, int backlog,
+    int durationSeconds) {
+
+    ScheduledNoticeRunPacer.Run run = pacer.startRun(JOB_NAME, CONFIGURED_LIMIT);
+    nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(durationSeconds));
+
+    run.finish(new MultipleRecords<>(Collections.nCopies(processed, new Object()), backlog));
+  }
+}
@@ -1,8 +1,12 @@
 package org.folio.circulation.support;
 
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.folio.circulation.support.AsyncCoordinationUtil.allOf;
+import static org.folio.circulation.support.AsyncCoordinationUtil.allResultsOf;
 import static org.folio.circulation.support.AsyncCoordinationUtil.mapSequentially;
 import static org.folio.circulation.support.results.Result.succeeded;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -41,4 +45,79 @@ class AsyncCoordinationUtilTest {
     assertEquals(numbers, invocationResults);
   }
 
-}
\ No newline at end of file
+  @Test
+  void allOfWithConcurrencyLimitRunsNoMoreActionsAtTheSameTime() {
+    List<Integer> numbers = IntStream.range(0, 10)
+      .boxed()
+      .collect(Collectors.toList());
+
+    List<CompletableFuture<Result<Integer>>> runningActions = new ArrayList<>();
+
+    CompletableFuture<Result<List<Integer>>> allResults = allOf(numbers,
+      ConcurrencyLimit.maxConcurrency(3), number -> {
+        CompletableFuture<Result<Integer>> action = new CompletableFuture<>();
+        runningActions.add(action);
+        return action;
+      });
+
+    assertEquals(3, runningActions.size());
+
+    runningActions.get(1).complete(succeeded(1));
+
+    assertEquals(4, runningActions.size());
+
+    for (int index = 0; index < numbers.size(); index++) {
+      runningActions.get(index).complete(succeeded(index));
+    }
+
+    assertEquals(numbers, allResults.join().value());
+  }
+
+  @Test
+  void allOfWithConcurrencyLimitDoesNotGrowStackForSynchronousActions() {
+    List<Integer> numbers = IntStream.range(0, 100_000)
+      .boxed()
+      .collect(Collectors.toList());
+
+    Result<List<Integer>> allResults = allOf(numbers, ConcurrencyLimit.maxConcurrency(1),
+      number -> completedFuture(succeeded(number)))
+      .join();
+
+    assertEquals(numbers, allResults.value());
+  }
+
+  @Test
+  void allResultsOfWithConcurrencyLimitReportsFailedActions() {
+    List<Result<Integer>> allResults = allResultsOf(List.of(1, 2, 3),
+      ConcurrencyLimit.maxConcurrency(2), number -> {
+        if (number == 2) {
+          throw new IllegalStateException("Action failed");
+        }
+
+        return completedFuture(succeeded(number));
+      })
+      .join();
+
+    assertEquals(3, allResults.size());
+    assertTrue(allResults.get(0).succeeded());
+    assertTrue(allResults.get(1).failed());
+    assertTrue(allResults.get(2).succeeded());
+  }
+
+  @Test
+  @SneakyThrows
+  void allOfWithRateLimitSpreadsStartOfActions() {
+    List<Integer> numbers = IntStream.range(0, 5)
+      .boxed()
+      .collect(Collectors.toList());
+
+    long startedAt = System.nanoTime();
+
+    Result<List<Integer>> allResults = allOf(numbers, new ConcurrencyLimit(5, 50),
+      number -> completedFuture(succeeded(number)))
+      .get(5, TimeUnit.SECONDS);
+
+    assertEquals(numbers, allResults.value());
+    assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt) >= 80);
+  }
+}
@@ -0,0 +1,129 @@
+package org.folio.circulation.support;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.Test;
+
+import lombok.SneakyThrows;
+
+class KeyedAsyncLockTest {
+
+  @Test
+  @SneakyThrows
+  void uncontendedLockIsAcquiredImmediately() {
+    final var lock = new KeyedAsyncLock();
+
+    final CompletableFuture<KeyedAsyncLock.Permit> permit = lock.acquire("user", 1000);
+
+    assertTrue(permit.isDone());
+    permit.get().release();
+
+    final var metrics = lock.getMetrics();
+    assertEquals(1, metrics.acquisitions());
+    assertEquals(0, metrics.contendedAcquisitions());
+  }
+
+  @Test
+  @SneakyThrows
+  void waitersAreGrantedLockInOrderOfArrival() {
+    final var lock = new KeyedAsyncLock();
+
+    final var first = lock.acquire("user", 1000);
+    final var second = lock.acquire("user", 1000);
+    final var third = lock.acquire("user", 1000);
+
+    assertTrue(first.isDone());
+    assertFalse(second.isDone());
+    assertFalse(third.isDone());
+
+    first.get().release();
+    assertTrue(second.get(1, TimeUnit.SECONDS) != null);
+    assertFalse(third.isDone());
+
+    second.get().release();
+    third.get(1, TimeUnit.SECONDS).release();
+
+    final var metrics = lock.getMetrics();
+    assertEquals(3, metrics.acquisitions());
+    assertEquals(2, metrics.contendedAcquisitions());
+  }
+
+  @Test
+  @SneakyThrows
+  void releasingPermitTwiceDoesNotGrantLockTwice() {
+    final var lock = new KeyedAsyncLock();
+
+    final var first = lock.acquire("user", 1000).get();
+    final var second = lock.acquire("user", 1000);
+    final var third = lock.acquire("user", 1000);
+
+    first.release();
+    first.release();
+
+    assertTrue(second.isDone());
+    assertFalse(third.isDone());
+  }
+
+  @Test
+  @SneakyThrows
+  void differentKeysNeverBlockEachOther() {
+    final var lock = new KeyedAsyncLock();
+
+    final var permits = new ArrayList<KeyedAsyncLock.Permit>();
+    for (int user = 0; user < 10_000; user++) {
+      final var permit = lock.acquire("user-" + user, 1000);
+
+      assertTrue(permit.isDone());
+      permits.add(permit.get());
+    }
+
+    assertEquals(0, lock.getMetrics().contendedAcquisitions());
+    assertEquals(10_000, lock.numberOfLockedKeys());
+
+    permits.forEach(KeyedAsyncLock.Permit::release);
+  }
+
+  @Test
+  @SneakyThrows
+  void lockIsRemovedOnceReleasedWithoutWaiters() {
+    final var lock = new KeyedAsyncLock();
+
+    final var first = lock.acquire("user", 1000).get();
+    final var second = lock.acquire("user", 1000);
+
+    first.release();
+    assertEquals(1, lock.numberOfLockedKeys());
+
+    second.get(1, TimeUnit.SECONDS).release();
+    assertEquals(0, lock.numberOfLockedKeys());
+  }
+
+  @Test
+  @SneakyThrows
+  void waiterFailsWhenLockIsNotReleasedInTime() {
+    final var lock = new KeyedAsyncLock();
+
+    final var first = lock.acquire("user", 1000).get();
+    final var second = lock.acquire("user", 50);
+
+    final var error = assertThrows(ExecutionException.class,
+      () -> second.get(1, TimeUnit.SECONDS));
+    assertTrue(error.getCause() instanceof TimeoutException);
+
+    first.release();
+
+    // lock is available again once the timed out waiter is skipped
+    assertEquals(0, lock.numberOfLockedKeys());
+    assertTrue(lock.acquire("user", 1000).isDone());
+    assertEquals(1, lock.getMetrics().timeouts());
+  }
+}
@@ -0,0 +1,34 @@
+package org.folio.circulation.support.fetching;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class KeysetPageRequestTest {
+  @ParameterizedTest
+  @ValueSource(strings = {
+    "status.name==Open sortBy loanDate",
+    "status.name==Open SORTBY loanDate/sort.descending",
+    "userId==\"sortBy\" sortBy loanDate dueDate/sort.ascending",
+    "cql.allRecords=1 sortBy item.title   "
+  })
+  void queryEndingWithSortClauseIsSorted(String query) {
+    assertThat(KeysetPageRequest.isSorted(query), is(true));
+  }
+
+  @ParameterizedTest
+  @NullAndEmptySource
+  @ValueSource(strings = {
+    "status.name==Open",
+    "requesterNote==\"please sortBy date\"",
+    "item.title==\"sortBy title\"",
+    "requesterNote==\"escaped \\\" sortBy title\"",
+    "notes==sortBy and status.name==Open"
+  })
+  void queryWithoutSortClauseIsNotSorted(String query) {
+    assertThat(KeysetPageRequest.isSorted(query), is(false));
+  }
+}
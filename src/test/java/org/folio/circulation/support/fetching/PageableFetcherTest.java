@@ -19,7 +19,10 @@ import static org.mockito.Mockito.when;
 import static org.mockito.internal.verification.VerificationModeFactory.noInteractions;
 import static org.mockito.internal.verification.VerificationModeFactory.times;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.regex.Pattern;
 
 import org.folio.circulation.domain.MultipleRecords;
 import org.folio.circulation.support.ServerErrorFailure;
@@ -111,6 +114,193 @@ class PageableFetcherTest {
     verify(pageProcessor, times(10)).processPage(any());
   }
 
+  @Test
+  void shouldProcessPagesByKeyset() {
+    final var repository = new KeysetRepository(100);
+    final var processedRecords = new ArrayList<Integer>();
+
+    final var voidResult = processPagesByKeyset(repository, limit(10),
+      records -> {
+        processedRecords.addAll(records.getRecords());
+        return ofAsync(() -> null);
+      });
+
+    assertThat(voidResult.succeeded(), is(true));
+    assertThat(processedRecords, is(range(0, 100).boxed().collect(toList())));
+    // 10 calls to fetch all records + last to make sure everything is fetched
+    assertThat(repository.requests, is(11));
+  }
+
+  @Test
+  void shouldProcessPagesByKeysetStartingAfterId() {
+    final var repository = new KeysetRepository(100);
+    final var processedRecords = new ArrayList<Integer>();
+
+    final var voidResult = new PageableFetcher<>(repository, limit(10), 1000)
+      .processPagesByKeyset(noQuery().value(), KeysetRepository::id, KeysetRepository.id(49),
+        records -> {
+          processedRecords.addAll(records.getRecords());
+          return ofAsync(() -> null);
+        })
+      .getNow(Result.failed(new ServerErrorFailure("Time out")));
+
+    assertThat(voidResult.succeeded(), is(true));
+    assertThat(processedRecords, is(range(50, 100).boxed().collect(toList())));
+  }
+
+  @Test
+  void shouldNotSkipRecordsWhichNoLongerMatchQueryWhenProcessingPagesByKeyset() {
+    final var repository = new KeysetRepository(100);
+    final var processedRecords = new ArrayList<Integer>();
+
+    final var voidResult = processPagesByKeyset(repository, limit(10),
+      records -> {
+        processedRecords.addAll(records.getRecords());
+        repository.records.removeAll(records.getRecords());
+        return ofAsync(() -> null);
+      });
+
+    assertThat(voidResult.succeeded(), is(true));
+    assertThat(processedRecords.size(), is(100));
+  }
+
+  @Test
+  void shouldNotLimitRecordCountWhenProcessingPagesByKeyset() {
+    final var recordCount = 20_000;
+    final var repository = new KeysetRepository(recordCount);
+    final var processedRecords = new ArrayList<Integer>();
+
+    final var voidResult = new PageableFetcher<>(repository, limit(1), 10)
+      .processPagesByKeyset(noQuery().value(), KeysetRepository::id, records -> {
+        processedRecords.addAll(records.getRecords());
+        return ofAsync(() -> null);
+      })
+      .getNow(Result.failed(new ServerErrorFailure("Time out")));
+
+    assertThat(voidResult.succeeded(), is(true));
+    assertThat(processedRecords.size(), is(recordCount));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void shouldAbortProcessingPagesByKeysetWhenPageProcessorRaisedError() {
+    final var failureMessage = "Processing failure";
+    final PageProcessor<Integer> pageProcessor = mock(PageProcessor.class);
+
+    when(pageProcessor.processPage(any()))
+      .thenReturn(completedFuture(failed(new ServerErrorFailure(failureMessage))));
+
+    final var voidResult = processPagesByKeyset(new KeysetRepository(50), limit(10),
+      pageProcessor);
+
+    assertThat(voidResult.failed(), is(true));
+    assertThat(voidResult.cause().toString(), containsString(failureMessage));
+    verify(pageProcessor, times(1)).processPage(any());
+  }
+
+  @Test
+  void shouldAbortProcessingPagesByKeysetWhenPageProcessorThrows() {
+    final var voidResult = processPagesByKeyset(new KeysetRepository(50), limit(10),
+      records -> {
+        throw new IllegalStateException("Unexpected failure");
+      });
+
+    assertThat(voidResult.failed(), is(true));
+    assertThat(voidResult.cause().toString(), containsString("Unexpected failure"));
+  }
+
+  @Test
+  void shouldProcessPagesByKeysetInOrderWhenPrefetching() {
+    final var repository = new KeysetRepository(100);
+    final var processedRecords = new ArrayList<Integer>();
+
+    final var voidResult = processPagesByKeyset(repository, limit(10), 3,
+      records -> {
+        processedRecords.addAll(records.getRecords());
+        return ofAsync(() -> null);
+      }).getNow(Result.failed(new ServerErrorFailure("Time out")));
+
+    assertThat(voidResult.succeeded(), is(true));
+    assertThat(processedRecords, is(range(0, 100).boxed().collect(toList())));
+    assertThat(repository.requests, is(11));
+  }
+
+  @Test
+  void shouldFetchNextPageWhilePageIsBeingProcessed() {
+    final var repository = new KeysetRepository(30);
+    final var pagesBeingProcessed = new ArrayList<CompletableFuture<Result<Void>>>();
+
+    final var processing = processPagesByKeyset(repository, limit(10), 1,
+      records -> {
+        final var pageProcessed = new CompletableFuture<Result<Void>>();
+        pagesBeingProcessed.add(pageProcessed);
+        return pageProcessed;
+      });
+
+    assertThat(pagesBeingProcessed.size(), is(1));
+    assertThat(repository.requests, is(2));
+
+    pagesBeingProcessed.get(0).complete(Result.succeeded(null));
+
+    assertThat(pagesBeingProcessed.size(), is(2));
+    assertThat(repository.requests, is(3));
+    assertThat(processing.isDone(), is(false));
+  }
+
+  @Test
+  void shouldNotFetchMorePagesAheadThanPrefetchDepth() {
+    final var repository = new KeysetRepository(100);
+
+    final var processing = processPagesByKeyset(repository, limit(10), 2,
+      records -> new CompletableFuture<>());
+
+    assertThat(repository.requests, is(3));
+    assertThat(processing.isDone(), is(false));
+  }
+
+  @Test
+  void shouldNotFetchPagesAheadWithoutPrefetchDepth() {
+    final var repository = new KeysetRepository(100);
+
+    processPagesByKeyset(repository, limit(10), 0, records -> new CompletableFuture<>());
+
+    assertThat(repository.requests, is(1));
+  }
+
+  @Test
+  void shouldAbortProcessingPagesByKeysetWhenFailedToPrefetch() {
+    final var repository = new KeysetRepository(100);
+    final var pageProcessed = new CompletableFuture<Result<Void>>();
+
+    repository.failAfterRequests = 1;
+
+    final var processing = processPagesByKeyset(repository, limit(10), 1,
+      records -> pageProcessed);
+
+    pageProcessed.complete(Result.succeeded(null));
+
+    final var voidResult = processing.getNow(
+      Result.failed(new ServerErrorFailure("Time out")));
+
+    assertThat(voidResult.failed(), is(true));
+    assertThat(voidResult.cause().toString(), containsString("Fetch failure"));
+  }
+
+  private Result<Void> processPagesByKeyset(KeysetRepository repository,
+    PageLimit pageLimit, PageProcessor<Integer> processor) {
+
+    return new PageableFetcher<>(repository, pageLimit, 1000)
+      .processPagesByKeyset(noQuery().value(), KeysetRepository::id, processor)
+      .getNow(Result.failed(new ServerErrorFailure("Time out")));
+  }
+
+  private CompletableFuture<Result<Void>> processPagesByKeyset(KeysetRepository repository,
+    PageLimit pageLimit, int prefetchDepth, PageProcessor<Integer> processor) {
+
+    return new PageableFetcher<>(repository, pageLimit, 1000, prefetchDepth)
+      .processPagesByKeyset(noQuery().value(), KeysetRepository::id, processor);
+  }
+
   private <T> Result<Void> processPages(GetManyRecordsRepository<T> repository,
     PageLimit pageLimit, PageProcessor<T> processor) {
 
@@ -136,6 +326,47 @@ class PageableFetcherTest {
     };
   }
 
+  /**
+   * Returns the records sorted by id which are after the id in the query, records are
+   * identified by their zero padded value
+   */
+  private static class KeysetRepository implements GetManyRecordsRepository<Integer> {
+    private static final Pattern AFTER_ID = Pattern.compile("id>\"(\\d+)\"");
+
+    private final List<Integer> records;
+    private int requests;
+    private int failAfterRequests = Integer.MAX_VALUE;
+
+    KeysetRepository(int totalRecords) {
+      records = range(0, totalRecords).boxed().collect(toList());
+    }
+
+    static String id(Integer value) {
+      return String.format("%06d", value);
+    }
+
+    @Override
+    public CompletableFuture<Result<MultipleRecords<Integer>>> getMany(CqlQuery cqlQuery,
+      PageLimit pageLimit, Offset offset) {
+
+      requests++;
+
+      if (requests > failAfterRequests) {
+        return completedFuture(failed(new ServerErrorFailure("Fetch failure")));
+      }
+
+      final var afterId = AFTER_ID.matcher(cqlQuery.toString());
+      final var lastId = afterId.find() ? afterId.group(1) : "";
+
+      final var page = records.stream()
+        .filter(value -> id(value).compareTo(lastId) > 0)
+        .limit(pageLimit.getLimit())
+        .collect(toList());
+
+      return ofAsync(() -> new MultipleRecords<>(page, records.size()));
+    }
+  }
+
   // Mockito can not spy a lambda
   @SuppressWarnings("all")
   private PageProcessor<Integer> dummyProcessor() {